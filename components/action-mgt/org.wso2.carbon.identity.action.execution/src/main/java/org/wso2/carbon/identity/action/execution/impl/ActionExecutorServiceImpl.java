@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.action.execution.impl;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,22 +50,30 @@ import org.wso2.carbon.identity.action.execution.model.SuccessStatus;
 import org.wso2.carbon.identity.action.execution.util.APIClient;
 import org.wso2.carbon.identity.action.execution.util.ActionExecutionDiagnosticLogger;
 import org.wso2.carbon.identity.action.execution.util.ActionExecutorConfig;
+import org.wso2.carbon.identity.action.execution.util.ActionInvocationMetrics;
 import org.wso2.carbon.identity.action.execution.util.AuthMethods;
 import org.wso2.carbon.identity.action.execution.util.OperationComparator;
 import org.wso2.carbon.identity.action.execution.util.RequestFilter;
 import org.wso2.carbon.identity.action.management.exception.ActionMgtException;
 import org.wso2.carbon.identity.action.management.model.Action;
+import org.wso2.carbon.identity.action.management.model.ActionDTO;
 import org.wso2.carbon.identity.action.management.model.AuthProperty;
 import org.wso2.carbon.identity.action.management.model.Authentication;
+import org.wso2.carbon.identity.action.management.service.ActionManagementListener;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
+import org.wso2.carbon.identity.core.ThreadLocalAwareThreadPoolExecutor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -72,15 +81,24 @@ import java.util.stream.Collectors;
  * It is responsible for building the request payload, calling the API, processing the response and
  * returning the status of the action execution.
  */
-public class ActionExecutorServiceImpl implements ActionExecutorService {
+public class ActionExecutorServiceImpl implements ActionExecutorService, ActionManagementListener {
 
     private static final Log LOG = LogFactory.getLog(ActionExecutorServiceImpl.class);
 
     private static final int THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
     private static final ActionExecutorServiceImpl INSTANCE = new ActionExecutorServiceImpl();
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
+    // Object writers are immutable and thread safe, hence shared by all the invocations.
+    private static final ObjectWriter REQUEST_WRITER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY).writer();
+    private static final ObjectWriter RESPONSE_WRITER = new ObjectMapper().writer();
     private final APIClient apiClient;
-    private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final ActionInvocationMetrics actionInvocationMetrics = new ActionInvocationMetrics();
+    private final Map<String, CachedAuthMethod> authMethodCache = new ConcurrentHashMap<>();
+    // Invocations exceeding the bounded queue are rejected and executed by the calling thread.
+    private final ExecutorService executorService = new ThreadLocalAwareThreadPoolExecutor(THREAD_POOL_SIZE,
+            THREAD_POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(ActionExecutorConfig.getInstance().getExecutionQueueSize()));
 
     private ActionExecutorServiceImpl() {
 
@@ -92,6 +110,42 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         return INSTANCE;
     }
 
+    /**
+     * Get the latency and error counters of the action invocations.
+     *
+     * @return Action invocation metrics.
+     */
+    public ActionInvocationMetrics getActionInvocationMetrics() {
+
+        return actionInvocationMetrics;
+    }
+
+    @Override
+    public void onActionUpdated(ActionDTO existingActionDTO, String tenantDomain) {
+
+        evictActionState(existingActionDTO);
+    }
+
+    @Override
+    public void onActionDeleted(ActionDTO deletedActionDTO, String tenantDomain) {
+
+        evictActionState(deletedActionDTO);
+    }
+
+    /**
+     * Remove the metrics, the resolved authentication and the endpoint state kept for an action which is changed.
+     *
+     * @param actionDTO Action as it was before the change.
+     */
+    private void evictActionState(ActionDTO actionDTO) {
+
+        actionInvocationMetrics.clear(actionDTO.getId());
+        authMethodCache.remove(actionDTO.getId());
+        if (actionDTO.getEndpoint() != null) {
+            apiClient.evictEndpoint(actionDTO.getEndpoint().getUri());
+        }
+    }
+
     @Override
     public boolean isExecutionEnabled(ActionType actionType) {
 
@@ -274,13 +328,68 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
                                                                  String payload) throws ActionExecutionException {
 
         String apiEndpoint = action.getEndpoint().getUri();
-        CompletableFuture<ActionInvocationResponse> actionExecutor = CompletableFuture.supplyAsync(
-                () -> apiClient.callAPI(apiEndpoint, authenticationMethod, payload), executorService);
+        long startTime = System.currentTimeMillis();
+        boolean isError = true;
+        // The permit is acquired before handing off the invocation, so that invocations of a saturated endpoint are
+        // rejected at once instead of waiting in the queue of the executor.
+        APIClient.RequestPermit requestPermit = apiClient.acquireRequestPermit(apiEndpoint);
+        try {
+            if (requestPermit == null) {
+                return apiClient.buildConcurrencyLimitReachedResponse();
+            }
+            CompletableFuture<ActionInvocationResponse> actionExecutor;
+            try {
+                // The permit is released by the task itself, as a timed out invocation keeps its connection.
+                actionExecutor = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return apiClient.callAPIWithPermit(apiEndpoint, authenticationMethod, payload);
+                    } finally {
+                        requestPermit.release();
+                    }
+                }, executorService);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Action executor is saturated. Invoking action: " + action.getId() +
+                        " in the calling thread.");
+                try {
+                    ActionInvocationResponse actionInvocationResponse =
+                            apiClient.callAPIWithPermit(apiEndpoint, authenticationMethod, payload);
+                    isError = actionInvocationResponse.isError();
+                    return actionInvocationResponse;
+                } finally {
+                    requestPermit.release();
+                }
+            }
+            ActionInvocationResponse actionInvocationResponse = waitForInvocation(action, actionExecutor);
+            isError = actionInvocationResponse.isError();
+            return actionInvocationResponse;
+        } finally {
+            long latency = System.currentTimeMillis() - startTime;
+            actionInvocationMetrics.recordInvocation(action.getId(), latency, isError);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Action: " + action.getId() + " invoked in " + latency + " ms. Average latency: "
+                        + actionInvocationMetrics.getAverageLatencyInMillis(action.getId()) + " ms, error rate: "
+                        + actionInvocationMetrics.getErrorRate(action.getId()) + ".");
+            }
+        }
+    }
+
+    private ActionInvocationResponse waitForInvocation(Action action,
+                                                       CompletableFuture<ActionInvocationResponse> actionExecutor)
+            throws ActionExecutionException {
+
+        long executionTimeout = ActionExecutorConfig.getInstance().getExecutionTimeoutInMillis();
         try {
-            return actionExecutor.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(),
-                    e);
+            return actionExecutor.get(executionTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            actionExecutor.cancel(true);
+            throw new ActionExecutionException("Action: " + action.getId() + " was not completed within " +
+                    executionTimeout + " ms.", e);
+        } catch (InterruptedException e) {
+            actionExecutor.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(), e);
+        } catch (ExecutionException e) {
+            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(), e);
         }
     }
 
@@ -447,28 +556,22 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
     private String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
 
-        ObjectMapper requestObjectmapper = new ObjectMapper();
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-        return requestObjectmapper.writeValueAsString(request);
+        return REQUEST_WRITER.writeValueAsString(request);
     }
 
     private String serializeSuccessResponse(ActionInvocationSuccessResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeErrorResponse(ActionInvocationErrorResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private String serializeFailureResponse(ActionInvocationFailureResponse response) throws JsonProcessingException {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(response);
+        return RESPONSE_WRITER.writeValueAsString(response);
     }
 
     private List<PerformableOperation> validatePerformableOperations(
@@ -504,9 +607,37 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         return allowedPerformableOperations;
     }
 
+    /**
+     * Get the authentication method of an action endpoint. Resolving the authentication method decrypts the secrets of
+     * the endpoint, hence resolved methods are cached for a short time. A cached method is used only with the same
+     * authentication configuration it was resolved from, so that updating the action takes effect immediately.
+     *
+     * @param actionId       Action id.
+     * @param authentication Authentication configuration of the action endpoint.
+     * @return Authentication method, or null if the endpoint does not require authentication.
+     * @throws ActionMgtException If an error occurs while resolving the authentication method.
+     */
     private AuthMethods.AuthMethod getAuthenticationMethod(String actionId, Authentication authentication)
             throws ActionMgtException {
 
+        int cacheTimeout = ActionExecutorConfig.getInstance().getAuthenticationCacheTimeoutInMillis();
+        if (cacheTimeout <= 0) {
+            return resolveAuthenticationMethod(actionId, authentication);
+        }
+        long currentTime = System.currentTimeMillis();
+        CachedAuthMethod cachedAuthMethod = authMethodCache.get(actionId);
+        if (cachedAuthMethod != null && cachedAuthMethod.authentication == authentication
+                && cachedAuthMethod.expiryTime > currentTime) {
+            return cachedAuthMethod.authMethod;
+        }
+        AuthMethods.AuthMethod authMethod = resolveAuthenticationMethod(actionId, authentication);
+        authMethodCache.put(actionId, new CachedAuthMethod(authentication, authMethod, currentTime + cacheTimeout));
+        return authMethod;
+    }
+
+    private AuthMethods.AuthMethod resolveAuthenticationMethod(String actionId, Authentication authentication)
+            throws ActionMgtException {
+
         List<AuthProperty> authProperties = authentication.getPropertiesWithDecryptedValues(actionId);
 
         switch (authentication.getType()) {
@@ -523,4 +654,21 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
         }
     }
+
+    /**
+     * Authentication method resolved for an action, along with the configuration it was resolved from.
+     */
+    private static class CachedAuthMethod {
+
+        private final Authentication authentication;
+        private final AuthMethods.AuthMethod authMethod;
+        private final long expiryTime;
+
+        CachedAuthMethod(Authentication authentication, AuthMethods.AuthMethod authMethod, long expiryTime) {
+
+            this.authentication = authentication;
+            this.authMethod = authMethod;
+            this.expiryTime = expiryTime;
+        }
+    }
 }
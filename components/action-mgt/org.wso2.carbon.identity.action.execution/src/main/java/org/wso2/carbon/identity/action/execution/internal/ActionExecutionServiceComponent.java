@@ -34,6 +34,7 @@ import org.wso2.carbon.identity.action.execution.ActionExecutorService;
 import org.wso2.carbon.identity.action.execution.impl.ActionExecutionRequestBuilderFactory;
 import org.wso2.carbon.identity.action.execution.impl.ActionExecutionResponseProcessorFactory;
 import org.wso2.carbon.identity.action.execution.impl.ActionExecutorServiceImpl;
+import org.wso2.carbon.identity.action.management.service.ActionManagementListener;
 import org.wso2.carbon.identity.action.management.service.ActionManagementService;
 
 /**
@@ -54,6 +55,8 @@ public class ActionExecutionServiceComponent {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.registerService(ActionExecutorService.class.getName(), ActionExecutorServiceImpl.getInstance(),
                     null);
+            bundleCtx.registerService(ActionManagementListener.class.getName(),
+                    ActionExecutorServiceImpl.getInstance(), null);
             LOG.debug("Action execution bundle is activated.");
         } catch (Throwable e) {
             LOG.error("Error while initializing Action execution service component.", e);
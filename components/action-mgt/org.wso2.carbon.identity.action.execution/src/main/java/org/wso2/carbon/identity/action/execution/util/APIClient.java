@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.action.execution.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
@@ -43,17 +44,42 @@ import org.wso2.carbon.identity.action.execution.model.ActionInvocationSuccessRe
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This class is responsible for making API calls to the external services.
+ * <p>
+ * Each endpoint has a circuit breaker per credentials used to call it and each route a limit of concurrent requests,
+ * so that an unavailable or slow endpoint is not called until it recovers and cannot hold all the connections and
+ * threads used to call the other endpoints.
  */
 public class APIClient {
 
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private static final String ACTION_STATUS = "actionStatus";
+    // Object readers are immutable and thread safe, hence shared by all the invocations.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader SUCCESS_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationSuccessResponse.class);
+    private static final ObjectReader FAILURE_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationFailureResponse.class);
+    private static final ObjectReader ERROR_RESPONSE_READER =
+            OBJECT_MAPPER.readerFor(ActionInvocationErrorResponse.class);
+    private static final String NO_AUTH_CREDENTIAL_IDENTIFIER = "NONE";
     private final CloseableHttpClient httpClient;
+    // Circuit breakers by endpoint URL and then by the credentials used to call the endpoint, so that the callers of
+    // an endpoint using different credentials, e.g. the actions of different tenants, do not share a circuit.
+    private final Map<String, Map<String, EndpointCircuitBreaker>> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> concurrentRequestLimits = new ConcurrentHashMap<>();
 
     public APIClient() {
 
@@ -71,6 +97,10 @@ public class APIClient {
                 .build();
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         connectionManager.setMaxTotal(ActionExecutorConfig.getInstance().getHttpConnectionPoolSize());
+        int maxConcurrentRequestsPerEndpoint = ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint();
+        if (maxConcurrentRequestsPerEndpoint > 0) {
+            connectionManager.setDefaultMaxPerRoute(maxConcurrentRequestsPerEndpoint);
+        }
         httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
                 .build();
     }
@@ -78,10 +108,171 @@ public class APIClient {
     public ActionInvocationResponse callAPI(String url, AuthMethods.AuthMethod authMethod,
                                             String payload) {
 
-        HttpPost httpPost = new HttpPost(url);
-        setRequestEntity(httpPost, payload, authMethod);
+        RequestPermit requestPermit = acquireRequestPermit(url);
+        if (requestPermit == null) {
+            return buildConcurrencyLimitReachedResponse();
+        }
+        try {
+            return callAPIWithPermit(url, authMethod, payload);
+        } finally {
+            requestPermit.release();
+        }
+    }
+
+    /**
+     * Call the API of an endpoint, where the caller already holds a permit of the endpoint acquired through
+     * {@link #acquireRequestPermit(String)}.
+     *
+     * @param url        Endpoint URL.
+     * @param authMethod Authentication method of the endpoint.
+     * @param payload    Request payload.
+     * @return Action invocation response.
+     */
+    public ActionInvocationResponse callAPIWithPermit(String url, AuthMethods.AuthMethod authMethod,
+                                                      String payload) {
+
+        EndpointCircuitBreaker circuitBreaker = getCircuitBreaker(url, authMethod);
+        if (!circuitBreaker.allowRequest()) {
+            LOG.debug("Circuit is open for API: " + url + ". Skipping the request.");
+            return new ActionInvocationResponse.Builder()
+                    .errorLog("Action endpoint is unavailable due to previous failures.").build();
+        }
+
+        // The outcome is recorded for any request allowed by the circuit breaker, so that a request failed while
+        // being built does not leave a trial request of a half open circuit in progress.
+        boolean isEndpointFailure = true;
+        try {
+            HttpPost httpPost = new HttpPost(url);
+            setRequestEntity(httpPost, payload, authMethod);
+
+            RequestOutcome requestOutcome = executeRequest(httpPost);
+            isEndpointFailure = requestOutcome.isEndpointFailure();
+            return requestOutcome.getActionInvocationResponse();
+        } finally {
+            if (isEndpointFailure) {
+                circuitBreaker.recordFailure();
+            } else {
+                circuitBreaker.recordSuccess();
+            }
+        }
+    }
+
+    /**
+     * Acquire a permit to send a request to an endpoint. Permits are limited per route, i.e. per scheme, host and
+     * port, in line with the connections the http client keeps per route.
+     *
+     * @param url Endpoint URL.
+     * @return Permit to be released once the request completes, or null if the maximum number of concurrent
+     * requests for the endpoint is reached.
+     */
+    public RequestPermit acquireRequestPermit(String url) {
+
+        int maxConcurrentRequests = ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint();
+        if (maxConcurrentRequests <= 0) {
+            return RequestPermit.UNLIMITED;
+        }
+        Semaphore concurrentRequestLimit = concurrentRequestLimits.computeIfAbsent(getRoute(url),
+                route -> new Semaphore(maxConcurrentRequests));
+        if (!concurrentRequestLimit.tryAcquire()) {
+            LOG.warn("Maximum number of concurrent requests reached for API: " + url);
+            return null;
+        }
+        return new RequestPermit(concurrentRequestLimit);
+    }
+
+    /**
+     * Build the response returned when a request is rejected as the maximum number of concurrent requests for the
+     * endpoint is reached.
+     *
+     * @return Action invocation response.
+     */
+    public ActionInvocationResponse buildConcurrencyLimitReachedResponse() {
 
-        return executeRequest(httpPost);
+        return new ActionInvocationResponse.Builder()
+                .errorLog("Maximum number of concurrent requests reached for the action endpoint.").build();
+    }
+
+    /**
+     * Get the circuit breaker state of an endpoint called without authentication.
+     *
+     * @param url Endpoint URL.
+     * @return Circuit breaker state.
+     */
+    public EndpointCircuitBreaker.State getCircuitBreakerState(String url) {
+
+        return getCircuitBreakerState(url, null);
+    }
+
+    /**
+     * Get the circuit breaker state of an endpoint called with the given authentication method.
+     *
+     * @param url        Endpoint URL.
+     * @param authMethod Authentication method of the endpoint.
+     * @return Circuit breaker state.
+     */
+    public EndpointCircuitBreaker.State getCircuitBreakerState(String url, AuthMethods.AuthMethod authMethod) {
+
+        Map<String, EndpointCircuitBreaker> endpointCircuitBreakers = circuitBreakers.get(url);
+        EndpointCircuitBreaker circuitBreaker = endpointCircuitBreakers != null ?
+                endpointCircuitBreakers.get(getCredentialIdentifier(authMethod)) : null;
+        return circuitBreaker != null ? circuitBreaker.getState() : EndpointCircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * Remove the circuit breakers and the concurrent request limit kept for an endpoint which is no longer used.
+     * The concurrent request limit of the route is kept while a request holds one of its permits.
+     *
+     * @param url Endpoint URL.
+     */
+    public void evictEndpoint(String url) {
+
+        if (url == null) {
+            return;
+        }
+        circuitBreakers.remove(url);
+        int maxConcurrentRequests = ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint();
+        concurrentRequestLimits.computeIfPresent(getRoute(url), (route, concurrentRequestLimit) ->
+                concurrentRequestLimit.availablePermits() >= maxConcurrentRequests ? null : concurrentRequestLimit);
+    }
+
+    private EndpointCircuitBreaker getCircuitBreaker(String url, AuthMethods.AuthMethod authMethod) {
+
+        return circuitBreakers.computeIfAbsent(url, endpoint -> new ConcurrentHashMap<>())
+                .computeIfAbsent(getCredentialIdentifier(authMethod), credentials -> new EndpointCircuitBreaker(
+                        ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold(),
+                        ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()));
+    }
+
+    private String getCredentialIdentifier(AuthMethods.AuthMethod authMethod) {
+
+        if (authMethod == null || authMethod.getCredentialIdentifier() == null) {
+            return NO_AUTH_CREDENTIAL_IDENTIFIER;
+        }
+        return authMethod.getCredentialIdentifier();
+    }
+
+    /**
+     * Resolve the route of an endpoint as used by the connection manager to limit the connections per route.
+     *
+     * @param url Endpoint URL.
+     * @return Route of the endpoint, or the URL itself if it cannot be parsed.
+     */
+    static String getRoute(String url) {
+
+        try {
+            URI uri = new URI(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return url;
+            }
+            String scheme = uri.getScheme().toLowerCase(Locale.ENGLISH);
+            int port = uri.getPort();
+            if (port < 0) {
+                port = "https".equals(scheme) ? 443 : 80;
+            }
+            return scheme + "://" + uri.getHost().toLowerCase(Locale.ENGLISH) + ":" + port;
+        } catch (URISyntaxException e) {
+            return url;
+        }
     }
 
     private void setRequestEntity(HttpPost httpPost, String jsonRequest, AuthMethods.AuthMethod authMethod) {
@@ -95,7 +286,15 @@ public class APIClient {
         httpPost.setHeader("Content-type", "application/json");
     }
 
-    private ActionInvocationResponse executeRequest(HttpPost request) {
+    /**
+     * Execute a request, retrying it while the endpoint cannot be reached or responds with a retryable server error.
+     * Only such requests are failures of the endpoint. Any other response, including an error response without a
+     * valid payload, is sent by an available endpoint.
+     *
+     * @param request Request.
+     * @return Outcome of the request.
+     */
+    private RequestOutcome executeRequest(HttpPost request) {
 
         int attempts = 0;
         int retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
@@ -105,7 +304,7 @@ public class APIClient {
             try (CloseableHttpResponse response = httpClient.execute(request)) {
                 actionInvocationResponse = handleResponse(response);
                 if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
-                    return actionInvocationResponse;
+                    return new RequestOutcome(actionInvocationResponse, false);
                 }
                 DIAGNOSTIC_LOGGER.logAPICallRetry(request, attempts + 1, retryCount);
                 LOG.debug("API: " + request.getURI() + " seems to be unavailable. Retrying the request. Attempt " +
@@ -122,11 +321,41 @@ public class APIClient {
                 request.releaseConnection();
             }
             attempts++;
+            if (attempts < retryCount && !waitBeforeRetry(attempts)) {
+                break;
+            }
         }
 
         LOG.warn("Maximum retry attempts reached for API: " + request.getURI());
-        return actionInvocationResponse != null ? actionInvocationResponse : new ActionInvocationResponse.Builder()
-                .errorLog("Failed to execute the action request or maximum retry attempts reached.").build();
+        return new RequestOutcome(actionInvocationResponse != null ? actionInvocationResponse :
+                new ActionInvocationResponse.Builder()
+                        .errorLog("Failed to execute the action request or maximum retry attempts reached.").build(),
+                true);
+    }
+
+    /**
+     * Wait before retrying a request. The wait is a random time up to an exponentially growing limit, so that the
+     * retries of requests failed at the same time are not sent at the same time.
+     *
+     * @param attempts Number of attempts made so far.
+     * @return False if the thread was interrupted while waiting.
+     */
+    private boolean waitBeforeRetry(int attempts) {
+
+        int retryBackoff = ActionExecutorConfig.getInstance().getHttpRequestRetryBackoffInMillis();
+        if (retryBackoff <= 0) {
+            return true;
+        }
+        long maxRetryBackoff = Math.max(retryBackoff,
+                ActionExecutorConfig.getInstance().getHttpRequestMaxRetryBackoffInMillis());
+        long backoffLimit = Math.min(maxRetryBackoff, (long) retryBackoff << Math.min(attempts - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffLimit + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     private ActionInvocationResponse handleResponse(HttpResponse response) {
@@ -218,7 +447,7 @@ public class APIClient {
 
         // If an error response is received, return the error response in order to communicate back to the client.
         if (isAcceptablePayload(responseEntity)) {
-            return deserialize(responseEntity, ActionInvocationErrorResponse.class);
+            return deserialize(responseEntity, ERROR_RESPONSE_READER);
         }
         return null;
     }
@@ -241,28 +470,27 @@ public class APIClient {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            // Parse the response once and bind the parsed tree to the response type.
+            JsonNode rootNode = OBJECT_MAPPER.readTree(jsonResponse);
             String actionStatus = rootNode.path(ACTION_STATUS).asText();
             if (actionStatus.isEmpty()) {
                 throw new ActionInvocationException("Reading JSON response failed.");
             }
             if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
-                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
+                return SUCCESS_RESPONSE_READER.readValue(rootNode);
             } else {
-                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
+                return FAILURE_RESPONSE_READER.readValue(rootNode);
             }
         } catch (IOException e) {
             throw new ActionInvocationException("Reading JSON response failed.", e);
         }
     }
 
-    private <T> T deserialize(HttpEntity responseEntity, Class<T> returnType) throws ActionInvocationException {
+    private <T> T deserialize(HttpEntity responseEntity, ObjectReader reader) throws ActionInvocationException {
 
         try {
             String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonResponse, returnType);
+            return reader.readValue(jsonResponse);
         } catch (IOException e) {
             throw new ActionInvocationException("Parsing JSON response failed.", e);
         }
@@ -273,4 +501,55 @@ public class APIClient {
         return responseEntity != null && responseEntity.getContentType() != null &&
                 responseEntity.getContentType().getValue().contains("application/json");
     }
+
+    /**
+     * Outcome of a request, i.e. the response and whether the request failed as the endpoint is unavailable.
+     */
+    private static class RequestOutcome {
+
+        private final ActionInvocationResponse actionInvocationResponse;
+        private final boolean endpointFailure;
+
+        private RequestOutcome(ActionInvocationResponse actionInvocationResponse, boolean endpointFailure) {
+
+            this.actionInvocationResponse = actionInvocationResponse;
+            this.endpointFailure = endpointFailure;
+        }
+
+        private ActionInvocationResponse getActionInvocationResponse() {
+
+            return actionInvocationResponse;
+        }
+
+        private boolean isEndpointFailure() {
+
+            return endpointFailure;
+        }
+    }
+
+    /**
+     * Permit to send a request to an endpoint, released once the request completes.
+     */
+    public static class RequestPermit {
+
+        private static final RequestPermit UNLIMITED = new RequestPermit(null);
+
+        private final Semaphore concurrentRequestLimit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private RequestPermit(Semaphore concurrentRequestLimit) {
+
+            this.concurrentRequestLimit = concurrentRequestLimit;
+        }
+
+        /**
+         * Release the permit. Releasing a permit more than once has no effect.
+         */
+        public void release() {
+
+            if (concurrentRequestLimit != null && released.compareAndSet(false, true)) {
+                concurrentRequestLimit.release();
+            }
+        }
+    }
 }
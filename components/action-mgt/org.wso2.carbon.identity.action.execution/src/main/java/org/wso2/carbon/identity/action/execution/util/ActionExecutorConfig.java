@@ -50,7 +50,26 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_REQUEST_RETRY_BACKOFF_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryBackoff";
+    private static final String HTTP_REQUEST_MAX_RETRY_BACKOFF_PROPERTY =
+            "Actions.HTTPClient.HTTPRequestMaxRetryBackoff";
+    private static final String MAX_CONCURRENT_REQUESTS_PER_ENDPOINT_PROPERTY =
+            "Actions.HTTPClient.MaxConcurrentRequestsPerEndpoint";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.FailureThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY =
+            "Actions.HTTPClient.CircuitBreaker.OpenDuration";
+    private static final String AUTHENTICATION_CACHE_TIMEOUT_PROPERTY = "Actions.AuthenticationCacheTimeout";
+    private static final String EXECUTION_TIMEOUT_PROPERTY = "Actions.ExecutionTimeout";
+    private static final String EXECUTION_QUEUE_SIZE_PROPERTY = "Actions.ExecutionQueueSize";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
+    private static final int DEFAULT_HTTP_REQUEST_RETRY_BACKOFF_IN_MILLIS = 100;
+    private static final int DEFAULT_HTTP_REQUEST_MAX_RETRY_BACKOFF_IN_MILLIS = 1000;
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT = 20;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS = 30000;
+    private static final int DEFAULT_AUTHENTICATION_CACHE_TIMEOUT_IN_MILLIS = 60000;
+    private static final int DEFAULT_EXECUTION_QUEUE_SIZE = 100;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
@@ -136,7 +155,7 @@ public class ActionExecutorConfig {
      */
     public int getHttpReadTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_READ_TIMEOUT_PROPERTY, DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS);
+        return parseIntegerConfig(HTTP_READ_TIMEOUT_PROPERTY, DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS);
     }
 
     /**
@@ -147,7 +166,7 @@ public class ActionExecutorConfig {
      */
     public int getHttpConnectionRequestTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_CONNECTION_REQUEST_TIMEOUT_PROPERTY,
+        return parseIntegerConfig(HTTP_CONNECTION_REQUEST_TIMEOUT_PROPERTY,
                 DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS);
     }
 
@@ -159,22 +178,118 @@ public class ActionExecutorConfig {
      */
     public int getHttpConnectionTimeoutInMillis() {
 
-        return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
+        return parseIntegerConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
-    private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
+    /**
+     * Retrieves the base delay between two attempts of an HTTP request. The delay doubles with each retry, and a
+     * random delay up to that value is used so that retries of concurrent requests are spread out.
+     *
+     * @return The base retry backoff int value in milliseconds.
+     */
+    public int getHttpRequestRetryBackoffInMillis() {
+
+        return parseIntegerConfig(HTTP_REQUEST_RETRY_BACKOFF_PROPERTY, DEFAULT_HTTP_REQUEST_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum delay between two attempts of an HTTP request.
+     *
+     * @return The maximum retry backoff int value in milliseconds.
+     */
+    public int getHttpRequestMaxRetryBackoffInMillis() {
+
+        return parseIntegerConfig(HTTP_REQUEST_MAX_RETRY_BACKOFF_PROPERTY,
+                DEFAULT_HTTP_REQUEST_MAX_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum number of concurrent requests sent to a single action endpoint. Requests exceeding the
+     * limit are rejected instead of waiting for a connection.
+     *
+     * @return The maximum number of concurrent requests per endpoint.
+     */
+    public int getMaxConcurrentRequestsPerEndpoint() {
+
+        return parseIntegerConfig(MAX_CONCURRENT_REQUESTS_PER_ENDPOINT_PROPERTY,
+                DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT);
+    }
+
+    /**
+     * Retrieves the number of consecutive failed requests which opens the circuit of an action endpoint.
+     *
+     * @return The circuit breaker failure threshold, where a value less than one disables the circuit breaker.
+     */
+    public int getCircuitBreakerFailureThreshold() {
+
+        return parseIntegerConfig(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the time the circuit of an action endpoint stays open before a trial request is sent.
+     *
+     * @return The circuit breaker open duration int value in milliseconds.
+     */
+    public int getCircuitBreakerOpenDurationInMillis() {
+
+        return parseIntegerConfig(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the time the resolved authentication of an action endpoint is reused for.
+     *
+     * @return The authentication cache timeout int value in milliseconds, where a value less than one disables caching.
+     */
+    public int getAuthenticationCacheTimeoutInMillis() {
+
+        return parseIntegerConfig(AUTHENTICATION_CACHE_TIMEOUT_PROPERTY,
+                DEFAULT_AUTHENTICATION_CACHE_TIMEOUT_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum time to wait for the invocation of an action endpoint. By default, it is the time needed
+     * for all the attempts of the request to time out, along with the maximum delays between the attempts.
+     *
+     * @return The action execution timeout long value in milliseconds.
+     */
+    public long getExecutionTimeoutInMillis() {
+
+        int retryCount = Math.max(1, getHttpRequestRetryCount());
+        long attemptTimeout = (long) getHttpConnectionRequestTimeoutInMillis() + getHttpConnectionTimeoutInMillis()
+                + getHttpReadTimeoutInMillis();
+        long defaultExecutionTimeout = retryCount * attemptTimeout +
+                (retryCount - 1L) * Math.max(getHttpRequestRetryBackoffInMillis(),
+                        getHttpRequestMaxRetryBackoffInMillis());
+        int executionTimeout = parseIntegerConfig(EXECUTION_TIMEOUT_PROPERTY, -1);
+        return executionTimeout > 0 ? executionTimeout : defaultExecutionTimeout;
+    }
+
+    /**
+     * Retrieves the maximum number of action invocations waiting for a thread of the action executor. Invocations
+     * exceeding the limit are executed by the calling thread.
+     *
+     * @return The action execution queue size.
+     */
+    public int getExecutionQueueSize() {
+
+        return Math.max(1, parseIntegerConfig(EXECUTION_QUEUE_SIZE_PROPERTY, DEFAULT_EXECUTION_QUEUE_SIZE));
+    }
+
+    private int parseIntegerConfig(String propertyName, int defaultValue) {
 
-        int timeoutPropertyValue = defaultTimeout;
-        String timeoutValue = (String) IdentityConfigParser.getInstance().getConfiguration().get(timeoutTypeName);
-        if (StringUtils.isNotBlank(timeoutValue)) {
+        int propertyValue = defaultValue;
+        String value = (String) IdentityConfigParser.getInstance().getConfiguration().get(propertyName);
+        if (StringUtils.isNotBlank(value)) {
             try {
-                timeoutPropertyValue = Integer.parseInt(timeoutValue);
+                propertyValue = Integer.parseInt(value);
             } catch (NumberFormatException e) {
-                LOG.debug("Failed to read " + timeoutTypeName + " property in identity.xml." +
-                        " Expects a number. Using the default value: " + defaultTimeout, e);
+                LOG.debug("Failed to read " + propertyName + " property in identity.xml." +
+                        " Expects a number. Using the default value: " + defaultValue, e);
             }
         }
-        return timeoutPropertyValue;
+        return propertyValue;
     }
 
     private boolean isActionTypeEnabled(String actionTypePropertyName) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency and error counters of the invocations of each action.
+ */
+public class ActionInvocationMetrics {
+
+    private final Map<String, Counters> countersByActionId = new ConcurrentHashMap<>();
+
+    /**
+     * Records an invocation of an action.
+     *
+     * @param actionId        Id of the action.
+     * @param latencyInMillis Time taken by the invocation, including retries.
+     * @param isError         Whether the invocation ended with an error.
+     */
+    public void recordInvocation(String actionId, long latencyInMillis, boolean isError) {
+
+        Counters counters = countersByActionId.computeIfAbsent(actionId, id -> new Counters());
+        counters.invocationCount.incrementAndGet();
+        counters.totalLatencyInMillis.addAndGet(latencyInMillis);
+        counters.maxLatencyInMillis.accumulateAndGet(latencyInMillis, Math::max);
+        if (isError) {
+            counters.errorCount.incrementAndGet();
+        }
+    }
+
+    public long getInvocationCount(String actionId) {
+
+        Counters counters = countersByActionId.get(actionId);
+        return counters == null ? 0 : counters.invocationCount.get();
+    }
+
+    public long getErrorCount(String actionId) {
+
+        Counters counters = countersByActionId.get(actionId);
+        return counters == null ? 0 : counters.errorCount.get();
+    }
+
+    /**
+     * Get the ratio of the invocations of an action which ended with an error.
+     *
+     * @param actionId Id of the action.
+     * @return Error rate between 0 and 1.
+     */
+    public double getErrorRate(String actionId) {
+
+        long invocationCount = getInvocationCount(actionId);
+        return invocationCount == 0 ? 0 : (double) getErrorCount(actionId) / invocationCount;
+    }
+
+    public long getAverageLatencyInMillis(String actionId) {
+
+        Counters counters = countersByActionId.get(actionId);
+        if (counters == null || counters.invocationCount.get() == 0) {
+            return 0;
+        }
+        return counters.totalLatencyInMillis.get() / counters.invocationCount.get();
+    }
+
+    public long getMaxLatencyInMillis(String actionId) {
+
+        Counters counters = countersByActionId.get(actionId);
+        return counters == null ? 0 : counters.maxLatencyInMillis.get();
+    }
+
+    /**
+     * Removes the counters of an action.
+     *
+     * @param actionId Id of the action.
+     */
+    public void clear(String actionId) {
+
+        countersByActionId.remove(actionId);
+    }
+
+    private static class Counters {
+
+        private final AtomicLong invocationCount = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicLong totalLatencyInMillis = new AtomicLong();
+        private final AtomicLong maxLatencyInMillis = new AtomicLong();
+    }
+}
@@ -23,6 +23,8 @@ import org.wso2.carbon.identity.action.management.model.AuthProperty;
 import org.wso2.carbon.identity.action.management.model.Authentication;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.List;
 
@@ -44,6 +46,17 @@ public final class AuthMethods {
         void applyAuth(HttpPost httpPost);
 
         String getAuthType();
+
+        /**
+         * Get an identifier of the credentials applied by the authentication method, which does not reveal the
+         * credentials. Authentication methods applying the same credentials have the same identifier.
+         *
+         * @return Identifier of the credentials.
+         */
+        default String getCredentialIdentifier() {
+
+            return getAuthType();
+        }
     }
 
     /**
@@ -52,6 +65,7 @@ public final class AuthMethods {
     public static final class BearerAuth implements AuthMethod {
 
         private String token;
+        private final String credentialIdentifier;
 
         public BearerAuth(List<AuthProperty> authPropertyList) {
 
@@ -60,6 +74,7 @@ public final class AuthMethods {
                             equals(authProperty.getName()))
                     .findFirst()
                     .ifPresent(authProperty -> this.token = authProperty.getValue());
+            this.credentialIdentifier = getAuthType() + ":" + digest(token);
         }
 
         @Override
@@ -73,6 +88,12 @@ public final class AuthMethods {
 
             return Authentication.Type.BEARER.getName();
         }
+
+        @Override
+        public String getCredentialIdentifier() {
+
+            return credentialIdentifier;
+        }
     }
 
     /**
@@ -82,6 +103,7 @@ public final class AuthMethods {
 
         private String username;
         private String password;
+        private final String credentialIdentifier;
 
         public BasicAuth(List<AuthProperty> authPropertyList) {
 
@@ -92,6 +114,7 @@ public final class AuthMethods {
                     this.password = authProperty.getValue();
                 }
             });
+            this.credentialIdentifier = getAuthType() + ":" + username + ":" + digest(password);
         }
 
         @Override
@@ -108,6 +131,12 @@ public final class AuthMethods {
 
             return Authentication.Type.BASIC.getName();
         }
+
+        @Override
+        public String getCredentialIdentifier() {
+
+            return credentialIdentifier;
+        }
     }
 
     /**
@@ -117,6 +146,7 @@ public final class AuthMethods {
 
         private String apiHeader;
         private String apiKey;
+        private final String credentialIdentifier;
 
         public APIKeyAuth(List<AuthProperty> authPropertyList) {
 
@@ -127,6 +157,7 @@ public final class AuthMethods {
                     this.apiKey = authProperty.getValue();
                 }
             });
+            this.credentialIdentifier = getAuthType() + ":" + apiHeader + ":" + digest(apiKey);
         }
 
         @Override
@@ -140,5 +171,31 @@ public final class AuthMethods {
 
             return Authentication.Type.API_KEY.getName();
         }
+
+        @Override
+        public String getCredentialIdentifier() {
+
+            return credentialIdentifier;
+        }
+    }
+
+    /**
+     * Digest a secret, so that credentials can be told apart without keeping them in the clear.
+     *
+     * @param secret Secret.
+     * @return Base64 encoded SHA-256 digest of the secret.
+     */
+    private static String digest(String secret) {
+
+        if (secret == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+/**
+ * Circuit breaker of an external action endpoint.
+ * <p>
+ * The circuit opens after a configured number of consecutive failed calls, and calls to the endpoint are rejected
+ * without being sent while the circuit is open. Once the open duration elapses a single trial call is let through,
+ * and the circuit closes if it succeeds or opens again if it fails.
+ */
+public class EndpointCircuitBreaker {
+
+    /**
+     * States of the circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationInMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialCallInProgress;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param failureThreshold     Number of consecutive failures which opens the circuit. The circuit never opens if
+     *                             this is not positive.
+     * @param openDurationInMillis Time the circuit stays open before a trial call is let through.
+     */
+    public EndpointCircuitBreaker(int failureThreshold, long openDurationInMillis) {
+
+        this.failureThreshold = failureThreshold;
+        this.openDurationInMillis = Math.max(0, openDurationInMillis);
+    }
+
+    /**
+     * Checks whether a call can be sent to the endpoint.
+     *
+     * @return True if the call is allowed, false if the circuit is open.
+     */
+    public synchronized boolean allowRequest() {
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && currentTimeMillis() - openedAt >= openDurationInMillis) {
+            state = State.HALF_OPEN;
+            trialCallInProgress = false;
+        }
+        if (state == State.HALF_OPEN && !trialCallInProgress) {
+            trialCallInProgress = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a successful call to the endpoint.
+     */
+    public synchronized void recordSuccess() {
+
+        consecutiveFailures = 0;
+        trialCallInProgress = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Records a failed call to the endpoint.
+     */
+    public synchronized void recordFailure() {
+
+        if (failureThreshold <= 0) {
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = currentTimeMillis();
+            trialCallInProgress = false;
+        }
+    }
+
+    public synchronized State getState() {
+
+        return state;
+    }
+
+    long currentTimeMillis() {
+
+        return System.currentTimeMillis();
+    }
+}
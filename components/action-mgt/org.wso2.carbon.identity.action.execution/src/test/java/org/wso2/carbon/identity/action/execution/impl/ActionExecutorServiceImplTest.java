@@ -62,6 +62,7 @@ import org.wso2.carbon.identity.action.execution.util.ActionExecutorConfig;
 import org.wso2.carbon.identity.action.execution.util.RequestFilter;
 import org.wso2.carbon.identity.action.management.exception.ActionMgtException;
 import org.wso2.carbon.identity.action.management.model.Action;
+import org.wso2.carbon.identity.action.management.model.ActionDTO;
 import org.wso2.carbon.identity.action.management.model.Authentication;
 import org.wso2.carbon.identity.action.management.model.EndpointConfig;
 import org.wso2.carbon.identity.action.management.service.ActionManagementService;
@@ -76,15 +77,21 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
 
 public class ActionExecutorServiceImplTest {
 
@@ -114,7 +121,10 @@ public class ActionExecutorServiceImplTest {
         ActionExecutorConfig actionExecutorConfig = mock(ActionExecutorConfig.class);
         actionExecutorConfigStatic.when(ActionExecutorConfig::getInstance).thenReturn(actionExecutorConfig);
         when(actionExecutorConfig.getHttpConnectionPoolSize()).thenReturn(20);
+        when(actionExecutorConfig.getExecutionQueueSize()).thenReturn(10);
+        when(actionExecutorConfig.getExecutionTimeoutInMillis()).thenReturn(10000L);
         MockitoAnnotations.openMocks(this);
+        when(apiClient.acquireRequestPermit(any())).thenReturn(mock(APIClient.RequestPermit.class));
         ActionExecutionServiceComponentHolder actionExecutionServiceComponentHolder =
                 ActionExecutionServiceComponentHolder.getInstance();
         actionExecutionServiceComponentHolder.setActionManagementService(actionManagementService);
@@ -360,7 +370,7 @@ public class ActionExecutorServiceImplTest {
 
         // Mock APIClient response
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
 
         // Execute
         actionExecutorService.execute(actionType, eventContext, "tenantDomain");
@@ -399,7 +409,7 @@ public class ActionExecutorServiceImplTest {
 
         // Mock APIClient response
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
 
         // Execute
         actionExecutorService.execute(actionType, eventContext, "tenantDomain");
@@ -437,7 +447,7 @@ public class ActionExecutorServiceImplTest {
 
         // Mock APIClient response
         ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
 
         // Configure response processor
         ActionExecutionStatus expectedStatus = new SuccessStatus.Builder().build();
@@ -484,7 +494,7 @@ public class ActionExecutorServiceImplTest {
 
         // Mock APIClient response
         ActionInvocationResponse actionInvocationResponse = createFailureActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
 
         // Configure response processor
         ActionExecutionStatus expectedStatus = new FailedStatus(new Failure("Error_reason",
@@ -538,7 +548,7 @@ public class ActionExecutorServiceImplTest {
 
         // Mock APIClient response
         ActionInvocationResponse actionInvocationResponse = createActionInvocationResponseWithoutAPIResponse();
-        when(apiClient.callAPI(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
 
         // Execute and assert
         actionExecutorService.execute(actionType, eventContext, "tenantDomain");
@@ -573,7 +583,7 @@ public class ActionExecutorServiceImplTest {
 
         // Mock APIClient response
         ActionInvocationResponse actionInvocationResponse = createErrorActionInvocationResponse();
-        when(apiClient.callAPI(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
 
         // Configure response processor
         ActionExecutionStatus expectedStatus = new ErrorStatus(new Error("Error_message",
@@ -595,6 +605,135 @@ public class ActionExecutorServiceImplTest {
         assertEquals(actionExecutionStatusWithActionIds.getStatus(), expectedStatus.getStatus());
     }
 
+    @Test
+    public void testEndpointAuthenticationIsResolvedOncePerConfiguration() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Map<String, Object> eventContext = Collections.emptyMap();
+        when(ActionExecutorConfig.getInstance().getAuthenticationCacheTimeoutInMillis()).thenReturn(60000);
+
+        Action action = createAction();
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(
+                Collections.singletonList(action));
+        actionExecutionRequestBuilderFactory.when(
+                        () -> ActionExecutionRequestBuilderFactory.getActionExecutionRequestBuilder(any()))
+                .thenReturn(actionExecutionRequestBuilder);
+        actionExecutionResponseProcessorFactory.when(() -> ActionExecutionResponseProcessorFactory
+                        .getActionExecutionResponseProcessor(any()))
+                .thenReturn(actionExecutionResponseProcessor);
+        when(actionExecutionRequestBuilder.getSupportedActionType()).thenReturn(actionType);
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(eventContext)).thenReturn(
+                mock(ActionExecutionRequest.class));
+        ActionInvocationResponse actionInvocationResponse = createErrorActionInvocationResponse();
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenReturn(actionInvocationResponse);
+        when(actionExecutionResponseProcessor.processErrorResponse(any(), any(), any())).thenReturn(
+                new ErrorStatus(new Error("Error_message", "Error_description")));
+
+        Authentication authentication = action.getEndpoint().getAuthentication();
+        actionExecutorService.execute(actionType, eventContext, "tenantDomain");
+        actionExecutorService.execute(actionType, eventContext, "tenantDomain");
+        verify(authentication, times(1)).getPropertiesWithDecryptedValues(any());
+
+        // Updating the action replaces the authentication configuration, which is resolved again.
+        Authentication updatedAuthentication = mock(Authentication.class);
+        when(updatedAuthentication.getPropertiesWithDecryptedValues(any())).thenReturn(
+                new Authentication.BearerAuthBuilder("token").build().getProperties());
+        when(updatedAuthentication.getType()).thenReturn(Authentication.Type.BEARER);
+        when(action.getEndpoint().getAuthentication()).thenReturn(updatedAuthentication);
+        actionExecutorService.execute(actionType, eventContext, "tenantDomain");
+        verify(updatedAuthentication, times(1)).getPropertiesWithDecryptedValues(any());
+        verify(authentication, times(1)).getPropertiesWithDecryptedValues(any());
+    }
+
+    @Test
+    public void testActionRejectedWhenConcurrentRequestLimitReached() throws Exception {
+
+        actionExecutorService.getActionInvocationMetrics().clear("actionId");
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Map<String, Object> eventContext = Collections.emptyMap();
+        mockActionExecution(actionType, eventContext);
+        when(apiClient.acquireRequestPermit("http://example.com")).thenReturn(null);
+        ActionInvocationResponse actionInvocationResponse = createActionInvocationResponseWithoutAPIResponse();
+        when(apiClient.buildConcurrencyLimitReachedResponse()).thenReturn(actionInvocationResponse);
+
+        try {
+            actionExecutorService.execute(actionType, eventContext, "tenantDomain");
+            fail("Expected the action execution to fail as the concurrent request limit is reached.");
+        } catch (ActionExecutionException e) {
+            assertEquals(e.getMessage(), "Received an invalid or unexpected response for action type: " +
+                    "PRE_ISSUE_ACCESS_TOKEN action ID: actionId");
+        }
+        verify(apiClient, never()).callAPIWithPermit(any(), any(), any());
+        assertEquals(actionExecutorService.getActionInvocationMetrics().getErrorCount("actionId"), 1);
+    }
+
+    @Test
+    public void testActionExecutionTimesOut() throws Exception {
+
+        actionExecutorService.getActionInvocationMetrics().clear("actionId");
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Map<String, Object> eventContext = Collections.emptyMap();
+        mockActionExecution(actionType, eventContext);
+        when(ActionExecutorConfig.getInstance().getExecutionTimeoutInMillis()).thenReturn(100L);
+        APIClient.RequestPermit requestPermit = mock(APIClient.RequestPermit.class);
+        when(apiClient.acquireRequestPermit("http://example.com")).thenReturn(requestPermit);
+        CountDownLatch invocationLatch = new CountDownLatch(1);
+        ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
+        when(apiClient.callAPIWithPermit(any(), any(), any())).thenAnswer(invocation -> {
+            invocationLatch.await(10, TimeUnit.SECONDS);
+            return actionInvocationResponse;
+        });
+
+        try {
+            actionExecutorService.execute(actionType, eventContext, "tenantDomain");
+            fail("Expected the action execution to time out.");
+        } catch (ActionExecutionException e) {
+            assertEquals(e.getMessage(), "Action: actionId was not completed within 100 ms.");
+            // The permit is held until the invocation completes.
+            verify(requestPermit, never()).release();
+        } finally {
+            invocationLatch.countDown();
+        }
+        verify(requestPermit, timeout(5000)).release();
+        assertEquals(actionExecutorService.getActionInvocationMetrics().getErrorCount("actionId"), 1);
+    }
+
+    @Test
+    public void testActionStateEvictedWhenActionIsChanged() {
+
+        ActionDTO actionDTO = mock(ActionDTO.class);
+        when(actionDTO.getId()).thenReturn("actionId");
+        EndpointConfig endpointConfig = mock(EndpointConfig.class);
+        when(endpointConfig.getUri()).thenReturn("http://example.com");
+        when(actionDTO.getEndpoint()).thenReturn(endpointConfig);
+        actionExecutorService.getActionInvocationMetrics().recordInvocation("actionId", 100, true);
+
+        actionExecutorService.onActionUpdated(actionDTO, "tenantDomain");
+        assertEquals(actionExecutorService.getActionInvocationMetrics().getInvocationCount("actionId"), 0);
+        verify(apiClient).evictEndpoint("http://example.com");
+
+        actionExecutorService.getActionInvocationMetrics().recordInvocation("actionId", 100, true);
+        actionExecutorService.onActionDeleted(actionDTO, "tenantDomain");
+        assertEquals(actionExecutorService.getActionInvocationMetrics().getInvocationCount("actionId"), 0);
+        verify(apiClient, times(2)).evictEndpoint("http://example.com");
+    }
+
+    private void mockActionExecution(ActionType actionType, Map<String, Object> eventContext) throws Exception {
+
+        Action action = createAction();
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(
+                Collections.singletonList(action));
+        actionExecutionRequestBuilderFactory.when(
+                        () -> ActionExecutionRequestBuilderFactory.getActionExecutionRequestBuilder(any()))
+                .thenReturn(actionExecutionRequestBuilder);
+        actionExecutionResponseProcessorFactory.when(() -> ActionExecutionResponseProcessorFactory
+                        .getActionExecutionResponseProcessor(any()))
+                .thenReturn(actionExecutionResponseProcessor);
+        when(actionExecutionRequestBuilder.getSupportedActionType()).thenReturn(actionType);
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(eventContext)).thenReturn(
+                mock(ActionExecutionRequest.class));
+    }
+
     private String getJSONRequestPayload(ActionExecutionRequest actionExecutionRequest) throws JsonProcessingException {
 
         ObjectMapper requestObjectmapper = new ObjectMapper();
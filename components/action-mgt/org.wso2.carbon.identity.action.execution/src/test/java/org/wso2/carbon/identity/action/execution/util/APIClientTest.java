@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.action.execution.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.client.ClientProtocolException;
@@ -47,12 +48,15 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 
 import java.io.ByteArrayInputStream;
 import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -63,6 +67,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class APIClientTest {
 
@@ -419,6 +424,185 @@ public class APIClientTest {
                 "Failed to execute the action request or maximum retry attempts reached.");
     }
 
+    @Test
+    public void testCircuitOpensForUnavailableEndpoint() throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(2);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        AtomicInteger requestCount = new AtomicInteger();
+        HttpServer stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/action", exchange -> {
+            requestCount.incrementAndGet();
+            exchange.sendResponseHeaders(HttpStatus.SC_SERVICE_UNAVAILABLE, -1);
+            exchange.close();
+        });
+        stubServer.start();
+        try {
+            String url = "http://localhost:" + stubServer.getAddress().getPort() + "/action";
+            APIClient client = new APIClient();
+
+            for (int i = 0; i < 2; i++) {
+                ActionInvocationResponse apiResponse = client.callAPI(url, null, "{}");
+                assertTrue(apiResponse.isError());
+                assertTrue(apiResponse.isRetry());
+            }
+            assertEquals(requestCount.get(), 4);
+            assertEquals(client.getCircuitBreakerState(url), EndpointCircuitBreaker.State.OPEN);
+
+            // Requests are not sent to the endpoint while the circuit is open.
+            ActionInvocationResponse apiResponse = client.callAPI(url, null, "{}");
+            assertTrue(apiResponse.isError());
+            assertFalse(apiResponse.isRetry());
+            assertEquals(apiResponse.getErrorLog(), "Action endpoint is unavailable due to previous failures.");
+            assertEquals(requestCount.get(), 4);
+        } finally {
+            stubServer.stop(0);
+        }
+    }
+
+    @Test
+    public void testFailureRecordedWhenRequestCannotBeBuilt() {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(0);
+        AuthMethods.AuthMethod authMethod = mock(AuthMethods.AuthMethod.class);
+        doThrow(new IllegalStateException("Invalid credentials.")).when(authMethod).applyAuth(any(HttpPost.class));
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                apiClient.callAPI("http://example.com/action", authMethod, "{}");
+                fail("Expected the request to fail while applying the authentication.");
+            } catch (IllegalStateException e) {
+                // The failure is recorded, hence the trial request after the open duration is allowed.
+                assertEquals(apiClient.getCircuitBreakerState("http://example.com/action"),
+                        EndpointCircuitBreaker.State.OPEN);
+            }
+        }
+        verify(authMethod, times(2)).applyAuth(any(HttpPost.class));
+    }
+
+    @DataProvider(name = "responsesOfAvailableEndpoint")
+    public Object[][] responsesOfAvailableEndpoint() {
+
+        return new Object[][]{
+                {HttpStatus.SC_BAD_REQUEST},
+                {HttpStatus.SC_UNAUTHORIZED},
+                {HttpStatus.SC_NOT_FOUND}
+        };
+    }
+
+    @Test(dataProvider = "responsesOfAvailableEndpoint")
+    public void testErrorResponseWithoutPayloadIsNotEndpointFailure(int statusCode) throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        when(httpClient.execute(any(HttpPost.class))).thenReturn(httpResponse);
+        when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(statusCode);
+        InputStreamEntity entity =
+                new InputStreamEntity(new ByteArrayInputStream("Denied".getBytes(StandardCharsets.UTF_8)));
+        entity.setContentType(ContentType.DEFAULT_TEXT.getMimeType());
+        when(httpResponse.getEntity()).thenReturn(entity);
+
+        for (int i = 0; i < 2; i++) {
+            ActionInvocationResponse apiResponse = apiClient.callAPI("http://example.com", null, "{}");
+            assertTrue(apiResponse.isError());
+            assertNull(apiResponse.getResponse());
+        }
+        assertEquals(apiClient.getCircuitBreakerState("http://example.com"), EndpointCircuitBreaker.State.CLOSED);
+        verify(httpClient, times(2)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void testCircuitIsKeptPerCredentials() throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ClientProtocolException("Unexpected error."));
+        String url = "http://example.com/action";
+        AuthMethods.AuthMethod tenantAuth = buildBearerAuth("tenantToken");
+        AuthMethods.AuthMethod otherTenantAuth = buildBearerAuth("otherTenantToken");
+
+        apiClient.callAPI(url, tenantAuth, "{}");
+        assertEquals(apiClient.getCircuitBreakerState(url, tenantAuth), EndpointCircuitBreaker.State.OPEN);
+        assertEquals(apiClient.getCircuitBreakerState(url, buildBearerAuth("tenantToken")),
+                EndpointCircuitBreaker.State.OPEN);
+        assertEquals(apiClient.getCircuitBreakerState(url, otherTenantAuth), EndpointCircuitBreaker.State.CLOSED);
+
+        // Requests with other credentials are still sent to the endpoint.
+        apiClient.callAPI(url, otherTenantAuth, "{}");
+        verify(httpClient, times(2)).execute(any(HttpPost.class));
+        apiClient.callAPI(url, tenantAuth, "{}");
+        verify(httpClient, times(2)).execute(any(HttpPost.class));
+
+        apiClient.evictEndpoint(url);
+        assertEquals(apiClient.getCircuitBreakerState(url, tenantAuth), EndpointCircuitBreaker.State.CLOSED);
+        assertEquals(apiClient.getCircuitBreakerState(url, otherTenantAuth), EndpointCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testConcurrentRequestLimitIsSharedByRoute() {
+
+        when(ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint()).thenReturn(1);
+
+        APIClient.RequestPermit requestPermit = apiClient.acquireRequestPermit("http://example.com/action1");
+        assertNotNull(requestPermit);
+        assertNull(apiClient.acquireRequestPermit("http://EXAMPLE.com:80/action2"));
+        assertNotNull(apiClient.acquireRequestPermit("https://example.com/action1"));
+
+        ActionInvocationResponse apiResponse = apiClient.callAPI("http://example.com/action2", null, "{}");
+        assertTrue(apiResponse.isError());
+        assertEquals(apiResponse.getErrorLog(),
+                "Maximum number of concurrent requests reached for the action endpoint.");
+
+        requestPermit.release();
+        requestPermit.release();
+        APIClient.RequestPermit nextRequestPermit = apiClient.acquireRequestPermit("http://example.com/action2");
+        assertNotNull(nextRequestPermit);
+        assertNull(apiClient.acquireRequestPermit("http://example.com/action1"));
+    }
+
+    @Test
+    public void testEvictEndpoint() throws Exception {
+
+        when(ActionExecutorConfig.getInstance().getMaxConcurrentRequestsPerEndpoint()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerFailureThreshold()).thenReturn(1);
+        when(ActionExecutorConfig.getInstance().getCircuitBreakerOpenDurationInMillis()).thenReturn(60000);
+        when(httpClient.execute(any(HttpPost.class))).thenThrow(new ClientProtocolException("Unexpected error."));
+        String url = "http://example.com/action";
+
+        apiClient.callAPI(url, null, "{}");
+        assertEquals(apiClient.getCircuitBreakerState(url), EndpointCircuitBreaker.State.OPEN);
+
+        // The concurrent request limit is kept while a request holds a permit of the route.
+        APIClient.RequestPermit requestPermit = apiClient.acquireRequestPermit(url);
+        apiClient.evictEndpoint(url);
+        assertEquals(apiClient.getCircuitBreakerState(url), EndpointCircuitBreaker.State.CLOSED);
+        assertNull(apiClient.acquireRequestPermit(url));
+
+        requestPermit.release();
+        apiClient.evictEndpoint(url);
+        assertNotNull(apiClient.acquireRequestPermit(url));
+    }
+
+    @Test
+    public void testGetRoute() {
+
+        assertEquals(APIClient.getRoute("https://Example.com/action?x=1"), "https://example.com:443");
+        assertEquals(APIClient.getRoute("http://example.com:8080/action"), "http://example.com:8080");
+        assertEquals(APIClient.getRoute("not a url"), "not a url");
+    }
+
+    private AuthMethods.AuthMethod buildBearerAuth(String token) {
+
+        AuthProperty authProperty = new AuthProperty.AuthPropertyBuilder()
+                .name("accessToken")
+                .value(token)
+                .isConfidential(true)
+                .build();
+        return new AuthMethods.BearerAuth(Collections.singletonList(authProperty));
+    }
+
     private void setField(Object target, String fieldName, Object value) throws Exception {
 
         Field field = target.getClass().getDeclaredField(fieldName);
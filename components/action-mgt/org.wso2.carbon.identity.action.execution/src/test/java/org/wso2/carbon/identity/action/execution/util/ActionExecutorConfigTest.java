@@ -378,4 +378,29 @@ public class ActionExecutorConfigTest {
         when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
         Assert.assertEquals(2, actionExecutorConfig.getHttpRequestRetryCount());
     }
+
+    @Test
+    public void testGetCircuitBreakerConfigs() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.CircuitBreaker.FailureThreshold", "3");
+        configMap.put("Actions.HTTPClient.CircuitBreaker.OpenDuration", "10000");
+        configMap.put("Actions.HTTPClient.MaxConcurrentRequestsPerEndpoint", "50");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(3, actionExecutorConfig.getCircuitBreakerFailureThreshold());
+        Assert.assertEquals(10000, actionExecutorConfig.getCircuitBreakerOpenDurationInMillis());
+        Assert.assertEquals(50, actionExecutorConfig.getMaxConcurrentRequestsPerEndpoint());
+    }
+
+    @Test
+    public void testGetHttpRequestRetryBackoffForInvalidConfig() {
+
+        //If the server configuration values are not numbers, the default retry backoff values are parsed
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestRetryBackoff", "value");
+        configMap.put("Actions.HTTPClient.HTTPRequestMaxRetryBackoff", "value");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(100, actionExecutorConfig.getHttpRequestRetryBackoffInMillis());
+        Assert.assertEquals(1000, actionExecutorConfig.getHttpRequestMaxRetryBackoffInMillis());
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class ActionInvocationMetricsTest {
+
+    private static final String ACTION_ID = "action-1";
+    private static final String OTHER_ACTION_ID = "action-2";
+
+    private ActionInvocationMetrics actionInvocationMetrics;
+
+    @BeforeMethod
+    public void setUp() {
+
+        actionInvocationMetrics = new ActionInvocationMetrics();
+    }
+
+    @Test
+    public void testMetricsOfActionWithoutInvocations() {
+
+        assertEquals(actionInvocationMetrics.getInvocationCount(ACTION_ID), 0);
+        assertEquals(actionInvocationMetrics.getErrorCount(ACTION_ID), 0);
+        assertEquals(actionInvocationMetrics.getErrorRate(ACTION_ID), 0.0);
+        assertEquals(actionInvocationMetrics.getAverageLatencyInMillis(ACTION_ID), 0);
+        assertEquals(actionInvocationMetrics.getMaxLatencyInMillis(ACTION_ID), 0);
+    }
+
+    @Test
+    public void testRecordInvocation() {
+
+        actionInvocationMetrics.recordInvocation(ACTION_ID, 100, false);
+        actionInvocationMetrics.recordInvocation(ACTION_ID, 300, true);
+        actionInvocationMetrics.recordInvocation(ACTION_ID, 200, false);
+        actionInvocationMetrics.recordInvocation(ACTION_ID, 400, true);
+        actionInvocationMetrics.recordInvocation(OTHER_ACTION_ID, 1000, true);
+
+        assertEquals(actionInvocationMetrics.getInvocationCount(ACTION_ID), 4);
+        assertEquals(actionInvocationMetrics.getErrorCount(ACTION_ID), 2);
+        assertEquals(actionInvocationMetrics.getErrorRate(ACTION_ID), 0.5);
+        assertEquals(actionInvocationMetrics.getAverageLatencyInMillis(ACTION_ID), 250);
+        assertEquals(actionInvocationMetrics.getMaxLatencyInMillis(ACTION_ID), 400);
+        assertEquals(actionInvocationMetrics.getInvocationCount(OTHER_ACTION_ID), 1);
+        assertEquals(actionInvocationMetrics.getErrorRate(OTHER_ACTION_ID), 1.0);
+    }
+
+    @Test
+    public void testClear() {
+
+        actionInvocationMetrics.recordInvocation(ACTION_ID, 100, true);
+        actionInvocationMetrics.recordInvocation(OTHER_ACTION_ID, 200, false);
+
+        actionInvocationMetrics.clear(ACTION_ID);
+
+        assertEquals(actionInvocationMetrics.getInvocationCount(ACTION_ID), 0);
+        assertEquals(actionInvocationMetrics.getErrorCount(ACTION_ID), 0);
+        assertEquals(actionInvocationMetrics.getMaxLatencyInMillis(ACTION_ID), 0);
+        assertEquals(actionInvocationMetrics.getInvocationCount(OTHER_ACTION_ID), 1);
+
+        actionInvocationMetrics.recordInvocation(ACTION_ID, 50, false);
+        assertEquals(actionInvocationMetrics.getInvocationCount(ACTION_ID), 1);
+        assertEquals(actionInvocationMetrics.getMaxLatencyInMillis(ACTION_ID), 50);
+    }
+}
@@ -34,6 +34,8 @@ import java.util.List;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
 
 public class AuthMethodsTest {
 
@@ -63,6 +65,16 @@ public class AuthMethodsTest {
 
         bearerAuth.applyAuth(httpPost);
         verify(httpPost).setHeader("Authorization", "Bearer testToken");
+
+        // The credential identifier tells the tokens apart without revealing them.
+        assertFalse(bearerAuth.getCredentialIdentifier().contains("testToken"));
+        assertEquals(new AuthMethods.BearerAuth(authProperties).getCredentialIdentifier(),
+                bearerAuth.getCredentialIdentifier());
+        assertNotEquals(new AuthMethods.BearerAuth(Collections.singletonList(new AuthProperty.AuthPropertyBuilder()
+                        .name(Authentication.Property.ACCESS_TOKEN.getName())
+                        .isConfidential(true)
+                        .value("otherToken")
+                        .build())).getCredentialIdentifier(), bearerAuth.getCredentialIdentifier());
     }
 
     @Test
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class EndpointCircuitBreakerTest {
+
+    private static final long OPEN_DURATION = 1000;
+
+    private long currentTime;
+    private EndpointCircuitBreaker circuitBreaker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        currentTime = 0;
+        circuitBreaker = new EndpointCircuitBreaker(3, OPEN_DURATION) {
+            @Override
+            long currentTimeMillis() {
+
+                return currentTime;
+            }
+        };
+    }
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+
+        circuitBreaker.recordFailure();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testCircuitClosesAfterSuccessfulTrialRequest() {
+
+        openCircuit();
+        currentTime += OPEN_DURATION;
+
+        // Only a single trial request is allowed once the open duration elapses.
+        assertTrue(circuitBreaker.allowRequest());
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.recordSuccess();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testCircuitReopensAfterFailedTrialRequest() {
+
+        openCircuit();
+        currentTime += OPEN_DURATION;
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordFailure();
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest());
+
+        currentTime += OPEN_DURATION;
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testSingleTrialRequestAllowedForConcurrentCallers() throws Exception {
+
+        openCircuit();
+        currentTime += OPEN_DURATION;
+        int callerCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger allowedRequests = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < callerCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    if (circuitBreaker.allowRequest()) {
+                        allowedRequests.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(allowedRequests.get(), 1);
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    public void testCircuitStaysOpenUntilOpenDurationElapses() {
+
+        openCircuit();
+        currentTime += OPEN_DURATION - 1;
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+
+        currentTime += 1;
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    public void testCircuitBreakerDisabled() {
+
+        EndpointCircuitBreaker disabledCircuitBreaker = new EndpointCircuitBreaker(0, OPEN_DURATION);
+        for (int i = 0; i < 10; i++) {
+            disabledCircuitBreaker.recordFailure();
+        }
+        assertEquals(disabledCircuitBreaker.getState(), EndpointCircuitBreaker.State.CLOSED);
+        assertTrue(disabledCircuitBreaker.allowRequest());
+    }
+
+    private void openCircuit() {
+
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+        assertEquals(circuitBreaker.getState(), EndpointCircuitBreaker.State.OPEN);
+    }
+}
@@ -31,6 +31,7 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.action.management.dao.impl.ActionDTOModelResolverFactory;
 import org.wso2.carbon.identity.action.management.service.ActionConverter;
 import org.wso2.carbon.identity.action.management.service.ActionDTOModelResolver;
+import org.wso2.carbon.identity.action.management.service.ActionManagementListener;
 import org.wso2.carbon.identity.action.management.service.ActionManagementService;
 import org.wso2.carbon.identity.action.management.service.impl.ActionConverterFactory;
 import org.wso2.carbon.identity.action.management.service.impl.CacheBackedActionManagementService;
@@ -122,6 +123,31 @@ public class ActionMgtServiceComponent {
         ActionDTOModelResolverFactory.unregisterActionDTOModelResolver(actionDTOModelResolver);
     }
 
+    @Reference(
+            name = "action.management.listener",
+            service = ActionManagementListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetActionManagementListener"
+    )
+    protected void setActionManagementListener(ActionManagementListener actionManagementListener) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Registering ActionManagementListener: " + actionManagementListener.getClass().getName() +
+                    " in the ActionMgtServiceComponent.");
+        }
+        ActionMgtServiceComponentHolder.getInstance().addActionManagementListener(actionManagementListener);
+    }
+
+    protected void unsetActionManagementListener(ActionManagementListener actionManagementListener) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Unregistering ActionManagementListener: " + actionManagementListener.getClass().getName() +
+                    " in the ActionMgtServiceComponent.");
+        }
+        ActionMgtServiceComponentHolder.getInstance().removeActionManagementListener(actionManagementListener);
+    }
+
     @Reference(
             name = "org.wso2.carbon.identity.secret.mgt.core.SecretManager",
             service = SecretManager.class,
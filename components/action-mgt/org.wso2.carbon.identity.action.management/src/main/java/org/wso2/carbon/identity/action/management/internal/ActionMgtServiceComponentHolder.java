@@ -18,9 +18,13 @@
 
 package org.wso2.carbon.identity.action.management.internal;
 
+import org.wso2.carbon.identity.action.management.service.ActionManagementListener;
 import org.wso2.carbon.identity.secret.mgt.core.SecretManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManager;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Service component Holder for the Action management.
  */
@@ -28,6 +32,7 @@ public class ActionMgtServiceComponentHolder {
 
     private SecretManager secretManager;
     private SecretResolveManager secretResolveManager;
+    private final List<ActionManagementListener> actionManagementListeners = new CopyOnWriteArrayList<>();
 
     public static final ActionMgtServiceComponentHolder INSTANCE = new ActionMgtServiceComponentHolder();
 
@@ -84,4 +89,34 @@ public class ActionMgtServiceComponentHolder {
 
         this.secretResolveManager = secretResolveManager;
     }
+
+    /**
+     * Get the listeners notified after an action is changed.
+     *
+     * @return List of ActionManagementListener instances.
+     */
+    public List<ActionManagementListener> getActionManagementListeners() {
+
+        return actionManagementListeners;
+    }
+
+    /**
+     * Add a listener notified after an action is changed.
+     *
+     * @param actionManagementListener ActionManagementListener instance.
+     */
+    public void addActionManagementListener(ActionManagementListener actionManagementListener) {
+
+        actionManagementListeners.add(actionManagementListener);
+    }
+
+    /**
+     * Remove a listener notified after an action is changed.
+     *
+     * @param actionManagementListener ActionManagementListener instance.
+     */
+    public void removeActionManagementListener(ActionManagementListener actionManagementListener) {
+
+        actionManagementListeners.remove(actionManagementListener);
+    }
 }
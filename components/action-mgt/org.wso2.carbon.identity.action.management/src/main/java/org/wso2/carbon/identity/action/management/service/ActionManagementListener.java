@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.management.service;
+
+import org.wso2.carbon.identity.action.management.model.ActionDTO;
+
+/**
+ * Listener notified by the Action Management Service after an action is changed.
+ * Components which keep runtime state per action, such as the action execution, use it to release that state.
+ */
+public interface ActionManagementListener {
+
+    /**
+     * Invoked after an action is updated.
+     *
+     * @param existingActionDTO Action as it was before the update.
+     * @param tenantDomain      Tenant domain.
+     */
+    default void onActionUpdated(ActionDTO existingActionDTO, String tenantDomain) {
+
+    }
+
+    /**
+     * Invoked after an action is deleted.
+     *
+     * @param deletedActionDTO Deleted action.
+     * @param tenantDomain     Tenant domain.
+     */
+    default void onActionDeleted(ActionDTO deletedActionDTO, String tenantDomain) {
+
+    }
+}
@@ -26,11 +26,13 @@ import org.wso2.carbon.identity.action.management.dao.impl.ActionManagementDAOFa
 import org.wso2.carbon.identity.action.management.dao.impl.ActionManagementDAOImpl;
 import org.wso2.carbon.identity.action.management.exception.ActionMgtClientException;
 import org.wso2.carbon.identity.action.management.exception.ActionMgtException;
+import org.wso2.carbon.identity.action.management.internal.ActionMgtServiceComponentHolder;
 import org.wso2.carbon.identity.action.management.model.Action;
 import org.wso2.carbon.identity.action.management.model.ActionDTO;
 import org.wso2.carbon.identity.action.management.model.Authentication;
 import org.wso2.carbon.identity.action.management.model.EndpointConfig;
 import org.wso2.carbon.identity.action.management.service.ActionConverter;
+import org.wso2.carbon.identity.action.management.service.ActionManagementListener;
 import org.wso2.carbon.identity.action.management.service.ActionManagementService;
 import org.wso2.carbon.identity.action.management.util.ActionDTOBuilder;
 import org.wso2.carbon.identity.action.management.util.ActionManagementAuditLogger;
@@ -158,6 +160,16 @@ public class ActionManagementServiceImpl implements ActionManagementService {
 
         DAO_FACADE.updateAction(updatingActionDTO, existingActionDTO, IdentityTenantUtil.getTenantId(tenantDomain));
         auditLogger.printAuditLog(ActionManagementAuditLogger.Operation.UPDATE, updatingActionDTO);
+        for (ActionManagementListener listener :
+                ActionMgtServiceComponentHolder.getInstance().getActionManagementListeners()) {
+            // The action is already updated, hence a failing listener should not fail the update.
+            try {
+                listener.onActionUpdated(existingActionDTO, tenantDomain);
+            } catch (RuntimeException e) {
+                LOG.error("Error while notifying the listener: " + listener.getClass().getName() +
+                        " of the update of action: " + actionId, e);
+            }
+        }
         return getActionByActionId(actionType, actionId, tenantDomain);
     }
 
@@ -180,6 +192,15 @@ public class ActionManagementServiceImpl implements ActionManagementService {
         if (existingActionDTO != null) {
             DAO_FACADE.deleteAction(existingActionDTO, IdentityTenantUtil.getTenantId(tenantDomain));
             auditLogger.printAuditLog(ActionManagementAuditLogger.Operation.DELETE, actionType, actionId);
+            for (ActionManagementListener listener :
+                    ActionMgtServiceComponentHolder.getInstance().getActionManagementListeners()) {
+                try {
+                    listener.onActionDeleted(existingActionDTO, tenantDomain);
+                } catch (RuntimeException e) {
+                    LOG.error("Error while notifying the listener: " + listener.getClass().getName() +
+                            " of the deletion of action: " + actionId, e);
+                }
+            }
         }
     }
 
@@ -44,7 +44,10 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.identity.action.management.util.TestUtil.PRE_ISSUE_ACCESS_TOKEN_PATH;
 import static org.wso2.carbon.identity.action.management.util.TestUtil.TENANT_DOMAIN;
@@ -212,8 +215,21 @@ public class ActionManagementServiceImplTest {
                 TEST_ACTION_DESCRIPTION_UPDATED,
                 TEST_ACTION_URI,
                 TestUtil.buildMockAPIKeyAuthentication(TEST_API_KEY_HEADER, TEST_API_KEY_VALUE));
-        Action result = actionManagementService.updateAction(PRE_ISSUE_ACCESS_TOKEN_PATH, sampleAction.getId(),
-                updatingAction, TENANT_DOMAIN);
+        ActionManagementListener failingListener = mock(ActionManagementListener.class);
+        doThrow(new RuntimeException("Listener failure.")).when(failingListener).onActionUpdated(any(), any());
+        ActionManagementListener listener = mock(ActionManagementListener.class);
+        ActionMgtServiceComponentHolder.getInstance().addActionManagementListener(failingListener);
+        ActionMgtServiceComponentHolder.getInstance().addActionManagementListener(listener);
+        Action result;
+        try {
+            // A failing listener neither fails the update nor stops the other listeners from being notified.
+            result = actionManagementService.updateAction(PRE_ISSUE_ACCESS_TOKEN_PATH, sampleAction.getId(),
+                    updatingAction, TENANT_DOMAIN);
+            verify(listener).onActionUpdated(any(), eq(TENANT_DOMAIN));
+        } finally {
+            ActionMgtServiceComponentHolder.getInstance().removeActionManagementListener(failingListener);
+            ActionMgtServiceComponentHolder.getInstance().removeActionManagementListener(listener);
+        }
 
         Assert.assertEquals(result.getId(), sampleAction.getId());
         Assert.assertEquals(result.getName(), updatingAction.getName());
@@ -303,7 +319,18 @@ public class ActionManagementServiceImplTest {
     @Test(priority = 13)
     public void testDeleteAction() throws ActionMgtException {
 
-        actionManagementService.deleteAction(PRE_ISSUE_ACCESS_TOKEN_PATH, sampleAction.getId(), TENANT_DOMAIN);
+        ActionManagementListener failingListener = mock(ActionManagementListener.class);
+        doThrow(new RuntimeException("Listener failure.")).when(failingListener).onActionDeleted(any(), any());
+        ActionManagementListener listener = mock(ActionManagementListener.class);
+        ActionMgtServiceComponentHolder.getInstance().addActionManagementListener(failingListener);
+        ActionMgtServiceComponentHolder.getInstance().addActionManagementListener(listener);
+        try {
+            actionManagementService.deleteAction(PRE_ISSUE_ACCESS_TOKEN_PATH, sampleAction.getId(), TENANT_DOMAIN);
+            verify(listener).onActionDeleted(any(), eq(TENANT_DOMAIN));
+        } finally {
+            ActionMgtServiceComponentHolder.getInstance().removeActionManagementListener(failingListener);
+            ActionMgtServiceComponentHolder.getInstance().removeActionManagementListener(listener);
+        }
         Assert.assertNull(actionManagementService.getActionByActionId(PRE_ISSUE_ACCESS_TOKEN_PATH, sampleAction.getId(),
                 TENANT_DOMAIN));
         Map<String, Integer> actions = actionManagementService.getActionsCountPerType(TENANT_DOMAIN);
@@ -18,10 +18,13 @@
 
 package org.wso2.carbon.identity.api.resource.mgt;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.api.resource.mgt.constant.APIResourceManagementConstants;
 import org.wso2.carbon.identity.api.resource.mgt.dao.impl.APIResourceManagementDAOImpl;
 import org.wso2.carbon.identity.api.resource.mgt.dao.impl.CacheBackedAPIResourceMgtDAO;
+import org.wso2.carbon.identity.api.resource.mgt.internal.APIResourceManagementServiceComponentHolder;
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
 import org.wso2.carbon.identity.api.resource.mgt.model.APIResourceSearchResult;
 import org.wso2.carbon.identity.api.resource.mgt.publisher.APIResourceManagerEventPublisherProxy;
 import org.wso2.carbon.identity.api.resource.mgt.util.APIResourceManagementUtil;
@@ -148,6 +151,10 @@ public class APIResourceManagerImpl implements APIResourceManager {
         publisherProxy.publishPreDeleteAPIResourceByIdWithException(apiResourceId, tenantDomain);
         CACHE_BACKED_DAO.deleteAPIResourceById(apiResourceId, IdentityTenantUtil.getTenantId(tenantDomain));
         publisherProxy.publishPostDeleteAPIResourceById(apiResourceId, tenantDomain);
+        for (APIResourceManagementListener listener :
+                APIResourceManagementServiceComponentHolder.getInstance().getAPIResourceManagementListeners()) {
+            listener.onAPIResourceDeleted(apiResourceId, tenantDomain);
+        }
     }
 
     @Override
@@ -159,6 +166,9 @@ public class APIResourceManagerImpl implements APIResourceManager {
         CACHE_BACKED_DAO.updateAPIResource(apiResource, addedScopes, removedScopes,
                 IdentityTenantUtil.getTenantId(tenantDomain));
         publisherProxy.publishPostUpdateAPIResource(apiResource, addedScopes, removedScopes, tenantDomain);
+        if (CollectionUtils.isNotEmpty(addedScopes) || CollectionUtils.isNotEmpty(removedScopes)) {
+            notifyScopesChanged(apiResource.getId(), tenantDomain);
+        }
     }
 
     @Override
@@ -193,6 +203,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
         publisherProxy.publishPreDeleteAPIScopesByIdWithException(apiResourceId, tenantDomain);
         CACHE_BACKED_DAO.deleteAllScopes(apiResourceId, IdentityTenantUtil.getTenantId(tenantDomain));
         publisherProxy.publishPostDeleteAPIScopesById(apiResourceId, tenantDomain);
+        notifyScopesChanged(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -203,6 +214,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
         publisherProxy.publishPreDeleteAPIScopeByScopeNameWithException(apiResourceId, scopeName, tenantDomain);
         CACHE_BACKED_DAO.deleteScope(apiResourceId, scopeName, IdentityTenantUtil.getTenantId(tenantDomain));
         publisherProxy.publishPostDeleteAPIScopeByScopeName(apiResourceId, scopeName, tenantDomain);
+        notifyScopesChanged(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -213,6 +225,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
         publisherProxy.publishPrePutScopesWithException(apiResourceId, currentScopes, scopes, tenantDomain);
         CACHE_BACKED_DAO.putScopes(apiResourceId, currentScopes, scopes, IdentityTenantUtil.getTenantId(tenantDomain));
         publisherProxy.publishPostPutScopes(apiResourceId, currentScopes, scopes, tenantDomain);
+        notifyScopesChanged(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -320,4 +333,12 @@ public class APIResourceManagerImpl implements APIResourceManager {
             setExpressionNodeList(node.getRightNode(), expression);
         }
     }
+
+    private void notifyScopesChanged(String apiResourceId, String tenantDomain) {
+
+        for (APIResourceManagementListener listener :
+                APIResourceManagementServiceComponentHolder.getInstance().getAPIResourceManagementListeners()) {
+            listener.onAPIResourceScopesChanged(apiResourceId, tenantDomain);
+        }
+    }
 }
@@ -30,6 +30,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManager;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManagerImpl;
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
 import org.wso2.carbon.identity.api.resource.mgt.util.APIResourceManagementUtil;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
@@ -127,4 +128,24 @@ public class APIResourceManagementServiceComponent {
         LOG.debug("IdentityEventService unset in API Resource Management bundle.");
     }
 
+    @Reference(
+            name = "api.resource.management.listener",
+            service = APIResourceManagementListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetAPIResourceManagementListener"
+    )
+    protected void setAPIResourceManagementListener(APIResourceManagementListener apiResourceManagementListener) {
+
+        APIResourceManagementServiceComponentHolder.getInstance()
+                .addAPIResourceManagementListener(apiResourceManagementListener);
+        LOG.debug("APIResourceManagementListener set in API Resource Management bundle.");
+    }
+
+    protected void unsetAPIResourceManagementListener(APIResourceManagementListener apiResourceManagementListener) {
+
+        APIResourceManagementServiceComponentHolder.getInstance()
+                .removeAPIResourceManagementListener(apiResourceManagementListener);
+        LOG.debug("APIResourceManagementListener unset in API Resource Management bundle.");
+    }
 }
@@ -18,9 +18,13 @@
 
 package org.wso2.carbon.identity.api.resource.mgt.internal;
 
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Service component holder for the API resource management.
  */
@@ -28,6 +32,7 @@ public class APIResourceManagementServiceComponentHolder {
 
     private IdentityEventService identityEventService;
     private OrganizationManager organizationManager;
+    private final List<APIResourceManagementListener> apiResourceManagementListeners = new CopyOnWriteArrayList<>();
 
     private static final APIResourceManagementServiceComponentHolder instance =
             new APIResourceManagementServiceComponentHolder();
@@ -85,4 +90,34 @@ public class APIResourceManagementServiceComponentHolder {
 
         this.organizationManager = organizationManager;
     }
+
+    /**
+     * Get the listeners notified after the scopes of API resources are changed.
+     *
+     * @return List of APIResourceManagementListener instances.
+     */
+    public List<APIResourceManagementListener> getAPIResourceManagementListeners() {
+
+        return apiResourceManagementListeners;
+    }
+
+    /**
+     * Add a listener notified after the scopes of API resources are changed.
+     *
+     * @param apiResourceManagementListener APIResourceManagementListener instance.
+     */
+    public void addAPIResourceManagementListener(APIResourceManagementListener apiResourceManagementListener) {
+
+        apiResourceManagementListeners.add(apiResourceManagementListener);
+    }
+
+    /**
+     * Remove a listener notified after the scopes of API resources are changed.
+     *
+     * @param apiResourceManagementListener APIResourceManagementListener instance.
+     */
+    public void removeAPIResourceManagementListener(APIResourceManagementListener apiResourceManagementListener) {
+
+        apiResourceManagementListeners.remove(apiResourceManagementListener);
+    }
 }
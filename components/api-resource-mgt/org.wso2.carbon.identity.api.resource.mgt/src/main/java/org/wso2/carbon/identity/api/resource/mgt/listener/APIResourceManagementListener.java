@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.resource.mgt.listener;
+
+/**
+ * Listener notified by the API Resource Manager after the scopes of API resources are changed.
+ * Components which keep state derived from the scopes, such as the permissions of roles, use it to release that state.
+ */
+public interface APIResourceManagementListener {
+
+    /**
+     * Invoked after an API resource is deleted, together with its scopes.
+     *
+     * @param apiResourceId API resource id.
+     * @param tenantDomain  Tenant domain.
+     */
+    default void onAPIResourceDeleted(String apiResourceId, String tenantDomain) {
+
+    }
+
+    /**
+     * Invoked after scopes are added to, removed from or replaced in an API resource.
+     *
+     * @param apiResourceId API resource id.
+     * @param tenantDomain  Tenant domain.
+     */
+    default void onAPIResourceScopesChanged(String apiResourceId, String tenantDomain) {
+
+    }
+}
@@ -112,6 +112,18 @@ public class ApplicationConstants {
     public static final String TRUSTED_APP_MAX_THUMBPRINT_COUNT_PROPERTY =
             "ApplicationMgt.TrustedAppMaxThumbprintCount";
 
+    // Application cache warm up configurations.
+    public static final String CACHE_WARM_UP_ENABLE_PROPERTY = "ApplicationMgt.CacheWarmUp.Enable";
+    public static final String CACHE_WARM_UP_TENANTS_PROPERTY = "ApplicationMgt.CacheWarmUp.Tenants";
+    public static final String CACHE_WARM_UP_PAGE_SIZE_PROPERTY = "ApplicationMgt.CacheWarmUp.PageSize";
+    public static final String CACHE_WARM_UP_CONCURRENCY_PROPERTY = "ApplicationMgt.CacheWarmUp.Concurrency";
+    public static final String CACHE_WARM_UP_MAX_APPLICATIONS_PROPERTY =
+            "ApplicationMgt.CacheWarmUp.MaxApplicationsPerTenant";
+    public static final String CACHE_WARM_UP_ALL_TENANTS = "*";
+    public static final int DEFAULT_CACHE_WARM_UP_PAGE_SIZE = 100;
+    public static final int DEFAULT_CACHE_WARM_UP_CONCURRENCY = 4;
+    public static final int DEFAULT_CACHE_WARM_UP_MAX_APPLICATIONS = 10000;
+
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
     // Console and My Account application names.
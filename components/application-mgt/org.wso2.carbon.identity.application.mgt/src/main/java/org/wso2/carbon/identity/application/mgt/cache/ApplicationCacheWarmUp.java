@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.apache.commons.lang.NotImplementedException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
+import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
+import org.wso2.carbon.identity.application.mgt.dao.PaginatableFilterableApplicationDAO;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Populates the application caches of tenants ahead of the first logins.
+ * <p>
+ * The application ids of a tenant are read page by page, newest application first, and each page is loaded with the
+ * bulk loader of the given cache backed {@link ApplicationDAO}, which adds the loaded applications to the name, id,
+ * resource id and inbound auth key caches. Pages are loaded in parallel by a bounded number of workers, while tenants
+ * are warmed up one at a time. When the application DAO does not implement
+ * {@link ApplicationDAO#getApplicationIds(int, int, int)}, the ids are read with the offset based listing of
+ * {@link PaginatableFilterableApplicationDAO} instead.
+ */
+public class ApplicationCacheWarmUp {
+
+    private static final Log log = LogFactory.getLog(ApplicationCacheWarmUp.class);
+
+    private final ApplicationDAO applicationDAO;
+    private final int pageSize;
+    private final int concurrency;
+    private final int maxApplicationsPerTenant;
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+
+    private final AtomicLong warmedApplicationCount = new AtomicLong();
+    private final AtomicLong failedPageCount = new AtomicLong();
+    private final AtomicInteger pendingTenantCount = new AtomicInteger();
+    private final Map<String, Long> timeToWarmByTenant = new ConcurrentHashMap<>();
+    private final Map<String, Integer> warmedApplicationsByTenant = new ConcurrentHashMap<>();
+    private volatile boolean keysetListingSupported = true;
+
+    /**
+     * Creates a cache warm up.
+     *
+     * @param applicationDAO           Cache backed application DAO used to load the applications.
+     * @param pageSize                 Number of applications loaded at a time.
+     * @param concurrency              Maximum number of pages loaded in parallel.
+     * @param maxApplicationsPerTenant Maximum number of applications warmed up per tenant.
+     */
+    public ApplicationCacheWarmUp(ApplicationDAO applicationDAO, int pageSize, int concurrency,
+                                  int maxApplicationsPerTenant) {
+
+        this.applicationDAO = applicationDAO;
+        this.pageSize = Math.max(1, pageSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.maxApplicationsPerTenant = Math.max(0, maxApplicationsPerTenant);
+        this.coordinator = Executors.newSingleThreadExecutor(new WarmUpThreadFactory("ApplicationCacheWarmUp"));
+        this.workers = Executors.newFixedThreadPool(this.concurrency,
+                new WarmUpThreadFactory("ApplicationCacheWarmUpWorker"));
+    }
+
+    /**
+     * Schedules the warm up of the application caches of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Future of the number of applications warmed up.
+     */
+    public Future<Integer> scheduleWarmUp(String tenantDomain) {
+
+        pendingTenantCount.incrementAndGet();
+        return coordinator.submit(() -> {
+            try {
+                return warmUp(tenantDomain);
+            } catch (RuntimeException e) {
+                log.error("Error while warming up the application caches of tenant: " + tenantDomain, e);
+                throw e;
+            } finally {
+                pendingTenantCount.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Warms up the application caches of a tenant and waits until all the pages are loaded.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of applications warmed up.
+     */
+    public int warmUp(String tenantDomain) {
+
+        long startTime = System.currentTimeMillis();
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        AtomicInteger warmedCount = new AtomicInteger();
+        warmedApplicationsByTenant.put(tenantDomain, 0);
+        Semaphore inFlightPages = new Semaphore(concurrency);
+        List<Future<?>> results = new ArrayList<>();
+        int beforeId = Integer.MAX_VALUE;
+        int scheduledCount = 0;
+        try {
+            while (scheduledCount < maxApplicationsPerTenant) {
+                List<Integer> page = getApplicationIds(tenantDomain, tenantId, beforeId, scheduledCount,
+                        Math.min(pageSize, maxApplicationsPerTenant - scheduledCount));
+                if (page.isEmpty()) {
+                    break;
+                }
+                beforeId = page.get(page.size() - 1);
+                scheduledCount += page.size();
+                // Do not read ahead more pages than the workers can load.
+                inFlightPages.acquire();
+                results.add(workers.submit(() -> {
+                    try {
+                        int count = loadPage(tenantDomain, page);
+                        warmedApplicationCount.addAndGet(count);
+                        warmedApplicationsByTenant.put(tenantDomain, warmedCount.addAndGet(count));
+                    } finally {
+                        inFlightPages.release();
+                    }
+                }));
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (IdentityApplicationManagementException e) {
+            log.error("Error while reading the applications of tenant: " + tenantDomain + " to warm up the " +
+                    "application caches.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Application cache warm up of tenant: " + tenantDomain + " was interrupted.");
+        } catch (ExecutionException e) {
+            log.error("Error while warming up the application caches of tenant: " + tenantDomain, e.getCause());
+        }
+
+        long timeToWarm = System.currentTimeMillis() - startTime;
+        timeToWarmByTenant.put(tenantDomain, timeToWarm);
+        log.info("Warmed up the caches of " + warmedCount.get() + " applications of tenant: " + tenantDomain
+                + " in " + timeToWarm + " ms.");
+        return warmedCount.get();
+    }
+
+    /**
+     * Stops the warm up and releases the worker threads.
+     */
+    public void shutdown() {
+
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public long getWarmedApplicationCount() {
+
+        return warmedApplicationCount.get();
+    }
+
+    public long getFailedPageCount() {
+
+        return failedPageCount.get();
+    }
+
+    /**
+     * Returns the number of tenants scheduled for warm up, including the tenant being warmed up.
+     *
+     * @return Number of pending tenants.
+     */
+    public int getPendingTenantCount() {
+
+        return pendingTenantCount.get();
+    }
+
+    /**
+     * Returns the number of applications warmed up so far for a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of applications warmed up, or -1 if the tenant was not warmed up.
+     */
+    public int getWarmedApplicationCount(String tenantDomain) {
+
+        return warmedApplicationsByTenant.getOrDefault(tenantDomain, -1);
+    }
+
+    /**
+     * Returns the time taken by the last completed warm up of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Time to warm in milliseconds, or -1 if the warm up of the tenant has not completed.
+     */
+    public long getTimeToWarm(String tenantDomain) {
+
+        return timeToWarmByTenant.getOrDefault(tenantDomain, -1L);
+    }
+
+    private List<Integer> getApplicationIds(String tenantDomain, int tenantId, int beforeId, int offset, int limit)
+            throws IdentityApplicationManagementException {
+
+        if (keysetListingSupported) {
+            try {
+                return applicationDAO.getApplicationIds(tenantId, beforeId, limit);
+            } catch (NotImplementedException e) {
+                keysetListingSupported = false;
+                log.warn("Application DAO: " + applicationDAO.getClass().getName() + " does not list the " +
+                        "application ids by pages. Falling back to the offset based listing to warm up the " +
+                        "application caches.");
+            }
+        }
+        if (!(applicationDAO instanceof PaginatableFilterableApplicationDAO)) {
+            throw new IdentityApplicationManagementException("Application DAO: " +
+                    applicationDAO.getClass().getName() + " does not support the paginated listing of applications.");
+        }
+        ApplicationBasicInfo[] applicationBasicInfos;
+        try {
+            ApplicationMgtUtil.startTenantFlow(tenantDomain);
+            applicationBasicInfos = ((PaginatableFilterableApplicationDAO) applicationDAO)
+                    .getApplicationBasicInfo(offset, limit);
+        } catch (UnsupportedOperationException e) {
+            throw new IdentityApplicationManagementException("Application DAO: " +
+                    applicationDAO.getClass().getName() + " does not support the paginated listing of applications.",
+                    e);
+        } finally {
+            ApplicationMgtUtil.endTenantFlow();
+        }
+        List<Integer> applicationIds = new ArrayList<>();
+        if (applicationBasicInfos != null) {
+            for (ApplicationBasicInfo applicationBasicInfo : applicationBasicInfos) {
+                applicationIds.add(applicationBasicInfo.getApplicationId());
+            }
+        }
+        return applicationIds;
+    }
+
+    private int loadPage(String tenantDomain, List<Integer> applicationIds) {
+
+        try {
+            ApplicationMgtUtil.startTenantFlow(tenantDomain);
+            return applicationDAO.getApplications(applicationIds).size();
+        } catch (IdentityApplicationManagementException e) {
+            failedPageCount.incrementAndGet();
+            log.error("Error while warming up the caches of " + applicationIds.size() + " applications of tenant: "
+                    + tenantDomain, e);
+            return 0;
+        } finally {
+            ApplicationMgtUtil.endTenantFlow();
+        }
+    }
+
+    private static class WarmUpThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        WarmUpThreadFactory(String name) {
+
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -64,6 +64,43 @@ public interface ApplicationDAO {
      */
     ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException;
 
+    /**
+     * Get the service providers of the given application ids. Implementations may load the applications in bulk with
+     * fewer database round trips than loading them one by one.
+     *
+     * @param applicationIds The application ids.
+     * @return Service providers of the existing applications, in the order of the given ids.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the service providers.
+     */
+    default List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplication(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.add(serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Get a page of the application ids of a tenant, in the descending order of the ids. Use the last id of a page as
+     * the {@code beforeId} of the next page.
+     *
+     * @param tenantId The tenant id.
+     * @param beforeId Only the ids lower than this id are returned.
+     * @param limit    Maximum number of ids to return.
+     * @return Application ids.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the application ids.
+     */
+    default List<Integer> getApplicationIds(int tenantId, int beforeId, int limit)
+            throws IdentityApplicationManagementException {
+
+        throw new NotImplementedException();
+    }
+
     /**
      * @return
      * @throws IdentityApplicationManagementException
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.mgt.dao;
 
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.core.model.CursorPage;
 
 /**
  * This interface defines the data access layer API for application pagination and filtering.
@@ -67,6 +68,26 @@ public interface PaginatableFilterableApplicationDAO extends ApplicationDAO {
         return null;
     }
 
+    /**
+     * Get a page of the basic application information using a cursor instead of an offset. Applications are listed
+     * in the descending order of their ids and each page is read by seeking past the id encoded in the cursor, so
+     * deep pages cost the same as the first one.
+     *
+     * @param cursor               Cursor of the page returned with the previous page, or null for the first page.
+     * @param limit                Maximum number of applications in the page.
+     * @param excludeSystemPortals Exclude system portals.
+     * @param includeCount         Include the total application count in the page.
+     * @return A page of {@link ApplicationBasicInfo} instances.
+     * @throws IdentityApplicationManagementException Error in retrieving basic application information.
+     */
+    default CursorPage<ApplicationBasicInfo> getApplicationBasicInfo(String cursor, int limit,
+                                                                     Boolean excludeSystemPortals,
+                                                                     boolean includeCount)
+            throws IdentityApplicationManagementException {
+
+        return null;
+    }
+
     /**
      * Get all basic application information for a matching filter that falls under the given page number.
      *
@@ -86,6 +86,7 @@ import org.wso2.carbon.identity.certificate.management.exception.CertificateMgtE
 import org.wso2.carbon.identity.certificate.management.model.Certificate;
 import org.wso2.carbon.identity.core.CertificateRetrievingException;
 import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterData;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
@@ -229,6 +230,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String AUDIT_FAIL = "Fail";
     private static final String ASTERISK = "*";
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    // Number of applications loaded with a single multi-row query. Kept well below the bind parameter limits.
+    private static final int BULK_LOAD_CHUNK_SIZE = 100;
 
     private List<String> standardInboundAuthTypes;
     public static final String USE_DOMAIN_IN_ROLES = "USE_DOMAIN_IN_ROLES";
@@ -296,6 +299,43 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    /**
+     * Get the properties of the given service providers with a single query.
+     *
+     * @param dbConnection database connection
+     * @param spIds        SP Ids
+     * @return service provider properties by SP Id
+     */
+    private Map<Integer, List<ServiceProviderProperty>> getServicePropertiesBySpIds(Connection dbConnection,
+                                                                                 Collection<Integer> spIds)
+            throws SQLException {
+
+        Map<Integer, List<ServiceProviderProperty>> spProperties = new HashMap<>();
+        if (spIds.isEmpty()) {
+            return spProperties;
+        }
+        try {
+            String query = isH2DB() ? ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                    ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS;
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(String.format(query,
+                    getInClausePlaceholders(spIds.size())))) {
+                setIntParameters(prepStmt, spIds);
+                try (ResultSet rs = prepStmt.executeQuery()) {
+                    while (rs.next()) {
+                        ServiceProviderProperty property = new ServiceProviderProperty();
+                        property.setName(rs.getString("NAME"));
+                        property.setValue(rs.getString("VALUE"));
+                        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                        spProperties.computeIfAbsent(rs.getInt("SP_ID"), id -> new ArrayList<>()).add(property);
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for " + spIds.size() + " SPs.", e);
+        }
+        return spProperties;
+    }
+
     /**
      * Add Service provider properties
      *
@@ -2235,86 +2275,189 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             }
             int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
             List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
-
-            serviceProvider.setJwksUri(getJwksUri(propertyList));
-            serviceProvider.setTemplateId(getTemplateId(propertyList));
-            serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
-            serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
-            serviceProvider.setManagementApp(getIsManagementApp(propertyList));
-            serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
-            serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
-            ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
-            clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
-            clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
-            clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
-            if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
-                    && clientAttestationMetaData.isAttestationEnabled()) {
-                clientAttestationMetaData.setAndroidAttestationServiceCredentials
-                        (getAndroidAttestationServiceCredentials(serviceProvider));
-            }
-            serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
-            serviceProvider.setTrustedAppMetadata(
-                    getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
-
-            // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
-            PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
-            serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
-
+            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection, tenantID);
             RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
                     applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
+            return populateApplication(serviceProvider, propertyList, roleMappings, requestPathAuthenticators,
+                    getInboundAuthenticationConfig(applicationId, connection, tenantID),
+                    getClaimMappingsOfApplication(applicationId, connection, tenantID), connection);
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
 
-            serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
-            serviceProvider.setCertificateContent(getCertificateContent(propertyList));
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
 
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
-            // Will be supported with 'Advance Consent Management Feature'.
-            /*
-            ConsentConfig consentConfig = serviceProvider.getConsentConfig();
-            if (isNull(consentConfig)) {
-                consentConfig = new ConsentConfig();
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return serviceProviders;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int start = 0; start < applicationIds.size(); start += BULK_LOAD_CHUNK_SIZE) {
+                List<Integer> chunk = applicationIds.subList(start,
+                        Math.min(applicationIds.size(), start + BULK_LOAD_CHUNK_SIZE));
+                Map<Integer, ServiceProvider> basicData = getBasicApplicationData(chunk, connection);
+                Map<Integer, List<ServiceProviderProperty>> properties = getServicePropertiesBySpIds(connection,
+                        basicData.keySet());
+                Map<Integer, List<RoleMapping>> roleMappings = new HashMap<>();
+                Map<Integer, List<RequestPathAuthenticatorConfig>> requestPathAuthenticators = new HashMap<>();
+                getRoleMappingsAndRequestPathAuthenticators(connection, basicData, roleMappings,
+                        requestPathAuthenticators);
+                Map<Integer, InboundAuthenticationConfig> inboundAuthConfigs =
+                        getInboundAuthenticationConfigs(connection, basicData);
+                Map<Integer, List<ClaimMapping>> claimMappings = getClaimMappings(connection, basicData);
+                for (Integer applicationId : chunk) {
+                    ServiceProvider serviceProvider = basicData.get(applicationId);
+                    if (serviceProvider == null) {
+                        continue;
+                    }
+                    List<RequestPathAuthenticatorConfig> authenticators = requestPathAuthenticators.getOrDefault(
+                            applicationId, Collections.emptyList());
+                    serviceProviders.add(populateApplication(serviceProvider,
+                            properties.getOrDefault(applicationId, new ArrayList<>()),
+                            roleMappings.getOrDefault(applicationId, new ArrayList<>()),
+                            authenticators.toArray(new RequestPathAuthenticatorConfig[0]),
+                            inboundAuthConfigs.get(applicationId),
+                            claimMappings.getOrDefault(applicationId, new ArrayList<>()), connection));
+                }
             }
-            consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
-            serviceProvider.setConsentConfig(consentConfig);
-            */
-
-            String serviceProviderName = serviceProvider.getApplicationName();
-            loadApplicationPermissions(serviceProviderName, serviceProvider);
-            return serviceProvider;
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + serviceProviders.size() + " of " + applicationIds.size()
+                        + " requested applications.");
+            }
+            return serviceProviders;
         } catch (SQLException | CertificateRetrievingException e) {
-            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
-                    e);
+            throw new IdentityApplicationManagementException("Failed to get service providers of " +
+                    applicationIds.size() + " application ids.", e);
+        }
+    }
+
+    @Override
+    public List<Integer> getApplicationIds(int tenantId, int beforeId, int limit)
+            throws IdentityApplicationManagementException {
+
+        List<Integer> applicationIds = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_APP_IDS_BY_TENANT)) {
+            prepStmt.setInt(1, tenantId);
+            prepStmt.setInt(2, beforeId);
+            prepStmt.setMaxRows(limit);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next() && applicationIds.size() < limit) {
+                    applicationIds.add(resultSet.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while retrieving the application ids of " +
+                    "tenant: " + tenantId, e);
+        }
+        return applicationIds;
+    }
+
+    /**
+     * Populate the configurations of an application on top of its basic data.
+     *
+     * @param serviceProvider           Service provider with the basic application data.
+     * @param propertyList              Service provider properties.
+     * @param roleMappings              Role mappings of the application.
+     * @param requestPathAuthenticators Request path authenticators of the application.
+     * @param inboundAuthConfig         Inbound authentication configuration of the application.
+     * @param claimMappings             Claim mappings of the application.
+     * @param connection                Database connection.
+     * @return Populated service provider.
+     */
+    private ServiceProvider populateApplication(ServiceProvider serviceProvider,
+                                                List<ServiceProviderProperty> propertyList,
+                                                List<RoleMapping> roleMappings,
+                                                RequestPathAuthenticatorConfig[] requestPathAuthenticators,
+                                                InboundAuthenticationConfig inboundAuthConfig,
+                                                List<ClaimMapping> claimMappings,
+                                                Connection connection)
+            throws SQLException, CertificateRetrievingException, IdentityApplicationManagementException {
+
+        int applicationId = serviceProvider.getApplicationID();
+        int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
+
+        serviceProvider.setJwksUri(getJwksUri(propertyList));
+        serviceProvider.setTemplateId(getTemplateId(propertyList));
+        serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
+        serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
+        serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+        serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
+        serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
+        ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
+        clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
+        clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
+        clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
+        if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
+                && clientAttestationMetaData.isAttestationEnabled()) {
+            clientAttestationMetaData.setAndroidAttestationServiceCredentials
+                    (getAndroidAttestationServiceCredentials(serviceProvider));
+        }
+        serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
+        serviceProvider.setTrustedAppMetadata(
+                getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
+        serviceProvider.setInboundAuthenticationConfig(inboundAuthConfig);
+        serviceProvider
+                .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
+                        applicationId, connection, tenantID, propertyList));
+
+        serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
+                applicationId, connection, tenantID));
+
+        serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
+                applicationId, connection, tenantID));
+
+        // Load Claim Mapping
+        serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, claimMappings, connection, tenantID));
+
+        // Set Role Mappings
+        PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+        permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+        serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+
+        serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
+
+        serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
+        serviceProvider.setCertificateContent(getCertificateContent(propertyList));
+
+        // Set role associations. The allowed audience is already available in the loaded properties.
+        serviceProvider.setAssociatedRolesConfig(getAssociatedRoles(serviceProvider.getApplicationResourceId(),
+                getPropertyValue(propertyList, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME), connection, tenantID));
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = serviceProvider.getConsentConfig();
+        if (isNull(consentConfig)) {
+            consentConfig = new ConsentConfig();
         }
+        consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        String serviceProviderName = serviceProvider.getApplicationName();
+        loadApplicationPermissions(serviceProviderName, serviceProvider);
+        return serviceProvider;
     }
 
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
-        AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
-        List<String> associatedRoleIds = new ArrayList<>();
         String allowedAudience =
                 getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
+        return getAssociatedRoles(applicationId, allowedAudience, connection, tenantID);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, String allowedAudience,
+                                                     Connection connection, int tenantID)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
+        AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
+        List<String> associatedRoleIds = new ArrayList<>();
         if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
             try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
                     ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
@@ -2610,6 +2753,15 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 .orElse(StringUtils.EMPTY);
     }
 
+    private String getPropertyValue(List<ServiceProviderProperty> propertyList, String propertyName) {
+
+        return propertyList.stream()
+                .filter(property -> propertyName.equals(property.getName()))
+                .findFirst()
+                .map(ServiceProviderProperty::getValue)
+                .orElse(StringUtils.EMPTY);
+    }
+
     private boolean getTrustedAppConsent(List<ServiceProviderProperty> propertyList) {
 
         String consent = propertyList.stream()
@@ -2646,88 +2798,121 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+                serviceProvider = buildBasicApplicationData(rs);
+            }
 
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
+            return serviceProvider;
+        } finally {
+            IdentityApplicationManagementUtil.closeResultSet(rs);
+            IdentityApplicationManagementUtil.closeStatement(prepStmt);
+        }
+    }
 
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+    /**
+     * Load the basic application data of the given applications with a single query.
+     *
+     * @param appIds     Application ids.
+     * @param connection Database connection.
+     * @return Basic application data by application id.
+     */
+    private Map<Integer, ServiceProvider> getBasicApplicationData(List<Integer> appIds, Connection connection)
+            throws SQLException, IdentityApplicationManagementException {
 
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(String.format(
+                ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS, getInClausePlaceholders(appIds.size())))) {
+            setIntParameters(prepStmt, appIds);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProvider serviceProvider = buildBasicApplicationData(rs);
+                    serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+                }
+            }
+        }
+        return serviceProviders;
+    }
 
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
+    private ServiceProvider buildBasicApplicationData(ResultSet rs)
+            throws SQLException, IdentityApplicationManagementException {
 
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+        try {
+            ServiceProvider serviceProvider = new ServiceProvider();
+            serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+            serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+            serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+            serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+            serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+            serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+            serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+            if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+                serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                        rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+            }
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+            if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+                String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                    serviceProvider.setAccessUrl(consoleAccessUrl);
+                }
+            }
+            if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+                String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                    serviceProvider.setAccessUrl(myAccountAccessUrl);
                 }
             }
 
+            serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+
+            User owner = new User();
+            owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+            owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+            owner.setTenantDomain(getUserTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                    rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                            rs.getString(ApplicationTableColumns.USERNAME)));
+            serviceProvider.setOwner(owner);
+            serviceProvider.setTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+            ClaimConfig claimConfig = new ClaimConfig();
+            claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+            claimConfig.setLocalClaimDialect(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+            claimConfig.setAlwaysSendMappedLocalSubjectId(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+            serviceProvider.setClaimConfig(claimConfig);
+
+            LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                    new LocalAndOutboundAuthenticationConfig();
+            localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+            localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+            localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                    rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+            serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+            serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+
+            // Will be supported with 'Advance Consent Management Feature'.
+            /*
+            ConsentConfig consentConfig = new ConsentConfig();
+            consentConfig.setEnabled("1".equals(rs.getString(18)));
+            serviceProvider.setConsentConfig(consentConfig);
+            */
+
+            if (log.isDebugEnabled()) {
+                log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                        + " ApplicationName: " + serviceProvider.getApplicationName()
+                        + " UserName: " + serviceProvider.getOwner().getUserName()
+                        + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+            }
             return serviceProvider;
         } catch (URLBuilderException e) {
             throw new IdentityApplicationManagementException(
                     "Error occurred when resolving origin of the access URL with placeholders", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeResultSet(rs);
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
     }
 
@@ -2979,51 +3164,121 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                String authKey = resultSet.getString(1);
-                //this is done to handle empty string added to oracle database as null.
-                if (authKey == null) {
-                    authKey = new String();
-                }
-                String authType = resultSet.getString(2);
-                String propName = resultSet.getString(3);
-                String propValue = resultSet.getString(4);
-                String configType = resultSet.getString(5);
-
-                String mapKey = authType + ":" + authKey;
+                addInboundAuthenticationRequestProperty(resultSet, 1, inboundAuthenticationRequestConfigMap);
+            }
+        } finally {
+            IdentityApplicationManagementUtil.closeStatement(getClientInfo);
+            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+        }
+        return buildInboundAuthenticationConfig(inboundAuthenticationRequestConfigMap);
+    }
 
-                InboundAuthenticationRequestConfig inboundAuthRequest = null;
-                if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
-                    inboundAuthRequest = new InboundAuthenticationRequestConfig();
-                }
-                inboundAuthRequest.setInboundAuthKey(authKey);
-                inboundAuthRequest.setInboundAuthType(authType);
-                inboundAuthRequest.setInboundConfigType(configType);
-
-                boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
-                AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
-                        .getInboundAuthenticatorConfig(authType + ":" + configType);
-                if (isCustomAuthenticator && customAuthenticator != null) {
-                    inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
-                }
-                if (propName != null) {
-                    Property prop = new Property();
-                    prop.setName(propName);
-                    prop.setValue(propValue);
-                    if (isCustomAuthenticator && customAuthenticator != null) {
-                        Property mappedProperty = getMappedProperty(customAuthenticator, propName);
-                        if (mappedProperty != null) {
-                            prop.setDisplayName(mappedProperty.getDisplayName());
+    /**
+     * Read the inbound authentication configurations of the given applications, with one query for all of them.
+     *
+     * @param connection   Database connection.
+     * @param applications Applications by application id.
+     * @return Inbound authentication configurations by application id.
+     * @throws SQLException If an error occurs while reading the inbound authentication configurations.
+     */
+    private Map<Integer, InboundAuthenticationConfig> getInboundAuthenticationConfigs(
+            Connection connection, Map<Integer, ServiceProvider> applications) throws SQLException {
+
+        Map<Integer, Map<String, InboundAuthenticationRequestConfig>> inboundAuthenticationRequestConfigs =
+                new HashMap<>();
+        if (!applications.isEmpty()) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(String.format(
+                    ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_IDS,
+                    getInClausePlaceholders(applications.size())))) {
+                setIntParameters(prepStmt, applications.keySet());
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        int applicationId = resultSet.getInt(1);
+                        if (!isOfApplicationTenant(applications.get(applicationId), resultSet.getInt(2))) {
+                            continue;
                         }
+                        addInboundAuthenticationRequestProperty(resultSet, 3, inboundAuthenticationRequestConfigs
+                                .computeIfAbsent(applicationId, id -> new HashMap<>()));
                     }
-                    inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
-                            inboundAuthRequest.getProperties())));
                 }
-                inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
             }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getClientInfo);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
         }
+        Map<Integer, InboundAuthenticationConfig> inboundAuthenticationConfigs = new HashMap<>();
+        for (Integer applicationId : applications.keySet()) {
+            inboundAuthenticationConfigs.put(applicationId, buildInboundAuthenticationConfig(
+                    inboundAuthenticationRequestConfigs.getOrDefault(applicationId, new HashMap<>())));
+        }
+        return inboundAuthenticationConfigs;
+    }
+
+    /**
+     * Add an inbound authentication property read from a row of SP_INBOUND_AUTH to the inbound authentication
+     * request configuration it belongs to.
+     *
+     * @param resultSet                             Result set positioned at the row.
+     * @param firstColumn                           Index of the INBOUND_AUTH_KEY column, followed by the
+     *                                              INBOUND_AUTH_TYPE, PROP_NAME, PROP_VALUE and INBOUND_CONFIG_TYPE
+     *                                              columns.
+     * @param inboundAuthenticationRequestConfigMap Inbound authentication request configurations by type and key.
+     * @throws SQLException If an error occurs while reading the row.
+     */
+    private void addInboundAuthenticationRequestProperty(ResultSet resultSet, int firstColumn,
+                                                         Map<String, InboundAuthenticationRequestConfig>
+                                                                 inboundAuthenticationRequestConfigMap)
+            throws SQLException {
+
+        String authKey = resultSet.getString(firstColumn);
+        //this is done to handle empty string added to oracle database as null.
+        if (authKey == null) {
+            authKey = new String();
+        }
+        String authType = resultSet.getString(firstColumn + 1);
+        String propName = resultSet.getString(firstColumn + 2);
+        String propValue = resultSet.getString(firstColumn + 3);
+        String configType = resultSet.getString(firstColumn + 4);
+
+        String mapKey = authType + ":" + authKey;
+
+        InboundAuthenticationRequestConfig inboundAuthRequest = null;
+        if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
+            inboundAuthRequest = new InboundAuthenticationRequestConfig();
+        }
+        inboundAuthRequest.setInboundAuthKey(authKey);
+        inboundAuthRequest.setInboundAuthType(authType);
+        inboundAuthRequest.setInboundConfigType(configType);
+
+        boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
+        AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
+                .getInboundAuthenticatorConfig(authType + ":" + configType);
+        if (isCustomAuthenticator && customAuthenticator != null) {
+            inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
+        }
+        if (propName != null) {
+            Property prop = new Property();
+            prop.setName(propName);
+            prop.setValue(propValue);
+            if (isCustomAuthenticator && customAuthenticator != null) {
+                Property mappedProperty = getMappedProperty(customAuthenticator, propName);
+                if (mappedProperty != null) {
+                    prop.setDisplayName(mappedProperty.getDisplayName());
+                }
+            }
+            inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
+                    inboundAuthRequest.getProperties())));
+        }
+        inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+    }
+
+    /**
+     * Build the inbound authentication configuration of an application from its inbound authentication request
+     * configurations, completing them with the properties of the registered custom inbound authenticators.
+     *
+     * @param inboundAuthenticationRequestConfigMap Inbound authentication request configurations by type and key.
+     * @return Inbound authentication configuration.
+     */
+    private InboundAuthenticationConfig buildInboundAuthenticationConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) {
+
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = new HashMap<>
                 (ApplicationManagementServiceComponentHolder.getAllInboundAuthenticatorConfig());
         for (Map.Entry<String, InboundAuthenticationRequestConfig> entry : inboundAuthenticationRequestConfigMap
@@ -3372,12 +3627,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
      * @return
      * @throws IdentityApplicationManagementException
      */
-    private ClaimConfig getClaimConfiguration(int applicationId, Connection connection, int tenantID)
+    private List<ClaimMapping> getClaimMappingsOfApplication(int applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
-        ClaimConfig claimConfig = new ClaimConfig();
         ArrayList<ClaimMapping> claimMappingList = new ArrayList<ClaimMapping>();
-        List<String> spDialectList = new ArrayList<String>();
 
         if (log.isDebugEnabled()) {
             log.debug("Reading Claim Mappings of Application " + applicationId);
@@ -3393,61 +3646,128 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = get.executeQuery();
 
             while (resultSet.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-                Claim localClaim = new Claim();
-                Claim remoteClaim = new Claim();
-
-                localClaim.setClaimUri(resultSet.getString(1));
-                remoteClaim.setClaimUri(resultSet.getString(2));
+                claimMappingList.add(buildClaimMapping(resultSet, 1));
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
+        } finally {
+            IdentityApplicationManagementUtil.closeStatement(get);
+            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+        }
+        return claimMappingList;
+    }
 
-                String requested = resultSet.getString(3);
+    /**
+     * Read the claim mappings of the given applications, with one query for all of them.
+     *
+     * @param connection   Database connection.
+     * @param applications Applications by application id.
+     * @return Claim mappings by application id.
+     * @throws IdentityApplicationManagementException If an error occurs while reading the claim mappings.
+     */
+    private Map<Integer, List<ClaimMapping>> getClaimMappings(Connection connection,
+                                                              Map<Integer, ServiceProvider> applications)
+            throws IdentityApplicationManagementException {
 
-                if ("1".equalsIgnoreCase(requested)) {
-                    claimMapping.setRequested(true);
-                } else {
-                    claimMapping.setRequested(false);
+        Map<Integer, List<ClaimMapping>> claimMappings = new HashMap<>();
+        if (applications.isEmpty()) {
+            return claimMappings;
+        }
+        try (PreparedStatement prepStmt = connection.prepareStatement(String.format(
+                ApplicationMgtDBQueries.LOAD_CLAIM_MAPPINGS_BY_APP_IDS,
+                getInClausePlaceholders(applications.size())))) {
+            setIntParameters(prepStmt, applications.keySet());
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    int applicationId = resultSet.getInt(1);
+                    if (!isOfApplicationTenant(applications.get(applicationId), resultSet.getInt(2))) {
+                        continue;
+                    }
+                    claimMappings.computeIfAbsent(applicationId, id -> new ArrayList<>())
+                            .add(buildClaimMapping(resultSet, 3));
                 }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while retrieving claim mappings of " +
+                    applications.size() + " applications.", e);
+        }
+        return claimMappings;
+    }
 
-                String mandatory = resultSet.getString(4);
+    /**
+     * Build a claim mapping from a row of SP_CLAIM_MAPPING.
+     *
+     * @param resultSet   Result set positioned at the row.
+     * @param firstColumn Index of the IDP_CLAIM column, followed by the SP_CLAIM, IS_REQUESTED, IS_MANDATORY and
+     *                    DEFAULT_VALUE columns.
+     * @return Claim mapping.
+     * @throws SQLException If an error occurs while reading the row.
+     */
+    private ClaimMapping buildClaimMapping(ResultSet resultSet, int firstColumn) throws SQLException {
 
-                if ("1".equalsIgnoreCase(mandatory)) {
-                    claimMapping.setMandatory(true);
-                } else {
-                    claimMapping.setMandatory(false);
-                }
+        ClaimMapping claimMapping = new ClaimMapping();
+        Claim localClaim = new Claim();
+        Claim remoteClaim = new Claim();
 
-                if (remoteClaim.getClaimUri() == null
-                        || remoteClaim.getClaimUri().trim().length() == 0) {
-                    remoteClaim.setClaimUri(localClaim.getClaimUri());
-                }
+        localClaim.setClaimUri(resultSet.getString(firstColumn));
+        remoteClaim.setClaimUri(resultSet.getString(firstColumn + 1));
 
-                if (localClaim.getClaimUri() == null
-                        || localClaim.getClaimUri().trim().length() == 0) {
-                    localClaim.setClaimUri(remoteClaim.getClaimUri());
-                }
+        String requested = resultSet.getString(firstColumn + 2);
 
-                claimMapping.setDefaultValue(resultSet.getString(5));
+        if ("1".equalsIgnoreCase(requested)) {
+            claimMapping.setRequested(true);
+        } else {
+            claimMapping.setRequested(false);
+        }
 
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(remoteClaim);
+        String mandatory = resultSet.getString(firstColumn + 3);
 
-                claimMappingList.add(claimMapping);
+        if ("1".equalsIgnoreCase(mandatory)) {
+            claimMapping.setMandatory(true);
+        } else {
+            claimMapping.setMandatory(false);
+        }
 
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
-                            + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
-                }
-            }
+        if (remoteClaim.getClaimUri() == null
+                || remoteClaim.getClaimUri().trim().length() == 0) {
+            remoteClaim.setClaimUri(localClaim.getClaimUri());
+        }
 
-            claimConfig.setClaimMappings(claimMappingList.toArray(new ClaimMapping[claimMappingList
-                    .size()]));
-        } catch (SQLException e) {
-            throw new IdentityApplicationManagementException("Error while retrieving all application", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+        if (localClaim.getClaimUri() == null
+                || localClaim.getClaimUri().trim().length() == 0) {
+            localClaim.setClaimUri(remoteClaim.getClaimUri());
         }
 
+        claimMapping.setDefaultValue(resultSet.getString(firstColumn + 4));
+
+        claimMapping.setLocalClaim(localClaim);
+        claimMapping.setRemoteClaim(remoteClaim);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
+                    + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
+        }
+        return claimMapping;
+    }
+
+    /**
+     * Get the claim configuration of an application with its already read claim mappings.
+     *
+     * @param applicationId Application id.
+     * @param claimMappings Claim mappings of the application.
+     * @param connection    Database connection.
+     * @param tenantID      Tenant id.
+     * @return Claim configuration.
+     * @throws IdentityApplicationManagementException If an error occurs while reading the claim configuration.
+     */
+    private ClaimConfig getClaimConfiguration(int applicationId, List<ClaimMapping> claimMappings,
+                                              Connection connection, int tenantID)
+            throws IdentityApplicationManagementException {
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(claimMappings.toArray(new ClaimMapping[0]));
+        List<String> spDialectList = new ArrayList<String>();
+
         PreparedStatement loadClaimConfigsPrepStmt = null;
         ResultSet loadClaimConfigsResultSet = null;
 
@@ -3785,6 +4105,85 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return roleMappingList;
     }
 
+    /**
+     * Read the role mappings and the request path authenticators of the given applications, with one query for each
+     * section.
+     *
+     * @param connection                Database connection.
+     * @param applications              Applications by application id.
+     * @param roleMappings              Role mappings by application id.
+     * @param requestPathAuthenticators Request path authenticators by application id.
+     */
+    private void getRoleMappingsAndRequestPathAuthenticators(Connection connection,
+                                                             Map<Integer, ServiceProvider> applications,
+                                                             Map<Integer, List<RoleMapping>> roleMappings,
+                                                             Map<Integer, List<RequestPathAuthenticatorConfig>>
+                                                                     requestPathAuthenticators)
+            throws IdentityApplicationManagementException {
+
+        if (applications.isEmpty()) {
+            return;
+        }
+        String placeholders = getInClausePlaceholders(applications.size());
+        try {
+            try (PreparedStatement prepStmt = connection.prepareStatement(String.format(
+                    ApplicationMgtDBQueries.LOAD_ROLE_MAPPINGS_BY_APP_IDS, placeholders))) {
+                setIntParameters(prepStmt, applications.keySet());
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        int applicationId = resultSet.getInt(1);
+                        if (!isOfApplicationTenant(applications.get(applicationId), resultSet.getInt(2))) {
+                            continue;
+                        }
+                        RoleMapping roleMapping = new RoleMapping();
+                        LocalRole localRole = new LocalRole();
+                        localRole.setLocalRoleName(resultSet.getString(3));
+                        roleMapping.setLocalRole(localRole);
+                        roleMapping.setRemoteRole(resultSet.getString(4));
+                        roleMappings.computeIfAbsent(applicationId, id -> new ArrayList<>()).add(roleMapping);
+                    }
+                }
+            }
+            try (PreparedStatement prepStmt = connection.prepareStatement(String.format(
+                    ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS, placeholders))) {
+                setIntParameters(prepStmt, applications.keySet());
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        int applicationId = resultSet.getInt(1);
+                        if (!isOfApplicationTenant(applications.get(applicationId), resultSet.getInt(2))) {
+                            continue;
+                        }
+                        RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
+                        reqAuth.setName(resultSet.getString(3));
+                        requestPathAuthenticators.computeIfAbsent(applicationId, id -> new ArrayList<>())
+                                .add(reqAuth);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while retrieving role mappings and request " +
+                    "path authenticators of " + applications.size() + " applications.", e);
+        }
+    }
+
+    private boolean isOfApplicationTenant(ServiceProvider serviceProvider, int tenantId) {
+
+        return serviceProvider != null && IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain()) == tenantId;
+    }
+
+    private String getInClausePlaceholders(int count) {
+
+        return IntStream.range(0, count).mapToObj(i -> "?").collect(Collectors.joining(", "));
+    }
+
+    private void setIntParameters(PreparedStatement prepStmt, Collection<Integer> values) throws SQLException {
+
+        int index = 1;
+        for (Integer value : values) {
+            prepStmt.setInt(index++, value);
+        }
+    }
+
     /**
      * Get count of applications for user
      *
@@ -4255,6 +4654,52 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return appInfo.toArray(new ApplicationBasicInfo[0]);
     }
 
+    @Override
+    public CursorPage<ApplicationBasicInfo> getApplicationBasicInfo(String cursor, int limit,
+                                                                    Boolean excludeSystemPortals,
+                                                                    boolean includeCount)
+            throws IdentityApplicationManagementException {
+
+        validateAttributesForPagination(0, limit);
+        int beforeId;
+        try {
+            beforeId = CursorPage.decodeCursor(cursor, Integer.MAX_VALUE);
+        } catch (IllegalArgumentException e) {
+            throw new IdentityApplicationManagementClientException(INVALID_REQUEST.getCode(),
+                    "Invalid cursor requested for application pagination.", e);
+        }
+        int tenantID = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String sqlQuery = String.format(ApplicationMgtDBQueries.LOAD_APP_NAMES_BY_TENANT_BEFORE_ID,
+                populateSystemPortalsExcludeQuery(excludeSystemPortals, false));
+        List<ApplicationBasicInfo> appInfo = new ArrayList<>();
+        boolean hasMore = false;
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(sqlQuery)) {
+            prepStmt.setInt(1, tenantID);
+            prepStmt.setString(2, LOCAL_SP);
+            prepStmt.setInt(3, beforeId);
+            // Read one extra row to find out whether there is a next page.
+            prepStmt.setMaxRows(limit + 1);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    if (appInfo.size() == limit) {
+                        hasMore = true;
+                        break;
+                    }
+                    appInfo.add(buildApplicationBasicInfo(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while loading applications from DB: " +
+                    e.getMessage(), e);
+        }
+
+        String nextCursor = hasMore ?
+                CursorPage.encodeCursor(appInfo.get(appInfo.size() - 1).getApplicationId()) : null;
+        Integer totalCount = includeCount ? getCountOfApplications(null, excludeSystemPortals) : null;
+        return new CursorPage<>(appInfo, nextCursor, totalCount);
+    }
+
     /**
      * Set values to the prepare statement for listing application names
      *
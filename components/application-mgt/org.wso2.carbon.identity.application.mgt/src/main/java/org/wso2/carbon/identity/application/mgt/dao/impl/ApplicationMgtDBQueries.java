@@ -116,6 +116,10 @@ public class ApplicationMgtDBQueries {
             "UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM SP_APP WHERE TENANT_ID = ? AND " +
             "APP_NAME != ? %s ORDER BY ID DESC LIMIT ?, ?";
 
+    public static final String LOAD_APP_NAMES_BY_TENANT_BEFORE_ID = "SELECT ID, APP_NAME, VERSION, DESCRIPTION, " +
+            "UUID, IMAGE_URL, ACCESS_URL, USERNAME, USER_STORE, TENANT_ID FROM SP_APP WHERE TENANT_ID = ? AND " +
+            "APP_NAME != ? %s AND ID < ? ORDER BY ID DESC";
+
     public static final String LOAD_APP_NAMES_BY_TENANT_AND_FILTER_MYSQL = "SELECT DISTINCT SP_APP.ID," +
             " SP_APP.APP_NAME, SP_APP.VERSION, SP_APP.DESCRIPTION, SP_APP.UUID, SP_APP.IMAGE_URL," +
             " SP_APP.ACCESS_URL, SP_APP.USERNAME, SP_APP.USER_STORE, SP_APP.TENANT_ID FROM SP_APP LEFT" +
@@ -216,10 +220,23 @@ public class ApplicationMgtDBQueries {
             "ACCESS_URL, IS_DISCOVERABLE " +
             "FROM SP_APP WHERE ID = ?";
 
+    public static final String LOAD_BASIC_APP_INFO_BY_APP_IDS = "SELECT ID, TENANT_ID, APP_NAME, VERSION, " +
+            "USER_STORE, USERNAME, DESCRIPTION, ROLE_CLAIM, AUTH_TYPE, PROVISIONING_USERSTORE_DOMAIN, " +
+            "IS_LOCAL_CLAIM_DIALECT, IS_SEND_LOCAL_SUBJECT_ID, IS_SEND_AUTH_LIST_OF_IDPS, " +
+            "IS_USE_TENANT_DOMAIN_SUBJECT, IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, " +
+            "SUBJECT_CLAIM_URI, IS_SAAS_APP, UUID, IMAGE_URL, " +
+            "ACCESS_URL, IS_DISCOVERABLE " +
+            "FROM SP_APP WHERE ID IN (%s)";
+
+    public static final String LOAD_APP_IDS_BY_TENANT = "SELECT ID FROM SP_APP WHERE TENANT_ID = ? AND ID < ? " +
+            "ORDER BY ID DESC";
+
     public static final String LOAD_AUTH_TYPE_BY_APP_ID = "SELECT AUTH_TYPE FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_APP_NAME_BY_APP_ID = "SELECT APP_NAME FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_CLIENTS_INFO_BY_APP_ID = "SELECT INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, PROP_NAME, " +
             "PROP_VALUE,INBOUND_CONFIG_TYPE FROM  SP_INBOUND_AUTH WHERE APP_ID = ? AND TENANT_ID = ?";
+    public static final String LOAD_CLIENTS_INFO_BY_APP_IDS = "SELECT APP_ID, TENANT_ID, INBOUND_AUTH_KEY, " +
+            "INBOUND_AUTH_TYPE, PROP_NAME, PROP_VALUE, INBOUND_CONFIG_TYPE FROM SP_INBOUND_AUTH WHERE APP_ID IN (%s)";
     public static final String LOAD_STEPS_INFO_BY_APP_ID = "SELECT STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, " +
             "IS_ATTRIBUTE_STEP "
             + "FROM SP_AUTH_STEP INNER JOIN SP_FEDERATED_IDP "
@@ -232,6 +249,8 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_CLAIM_MAPPING_BY_APP_ID = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
             "IS_MANDATORY, DEFAULT_VALUE " +
             "FROM SP_CLAIM_MAPPING WHERE APP_ID = ? AND TENANT_ID = ?";
+    public static final String LOAD_CLAIM_MAPPINGS_BY_APP_IDS = "SELECT APP_ID, TENANT_ID, IDP_CLAIM, SP_CLAIM, " +
+            "IS_REQUESTED, IS_MANDATORY, DEFAULT_VALUE FROM SP_CLAIM_MAPPING WHERE APP_ID IN (%s)";
     public static final String LOAD_CLAIM_MAPPING_BY_APP_NAME = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED," +
             " IS_MANDATORY, DEFAULT_VALUE "
             + "FROM SP_CLAIM_MAPPING WHERE APP_ID = (SELECT ID FROM SP_APP WHERE APP_NAME = ? AND TENANT_ID = ?)";
@@ -239,6 +258,9 @@ public class ApplicationMgtDBQueries {
             "SELECT IDP_ROLE, SP_ROLE FROM SP_ROLE_MAPPING WHERE APP_ID" +
                     " = ? AND TENANT_ID = ?";
 
+    public static final String LOAD_ROLE_MAPPINGS_BY_APP_IDS =
+            "SELECT APP_ID, TENANT_ID, IDP_ROLE, SP_ROLE FROM SP_ROLE_MAPPING WHERE APP_ID IN (%s)";
+
     public static final String LOAD_CLAIM_CONIFG_BY_APP_ID = "SELECT ROLE_CLAIM, IS_LOCAL_CLAIM_DIALECT, " +
             "IS_SEND_LOCAL_SUBJECT_ID FROM SP_APP WHERE TENANT_ID= ? AND ID = ?";
 
@@ -256,6 +278,8 @@ public class ApplicationMgtDBQueries {
             " FROM SP_AUTH_SCRIPT WHERE APP_ID = ?";
     public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_ID = "SELECT AUTHENTICATOR_NAME FROM " +
             "SP_REQ_PATH_AUTHENTICATOR WHERE APP_ID = ? AND TENANT_ID = ?";
+    public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS = "SELECT APP_ID, TENANT_ID, " +
+            "AUTHENTICATOR_NAME FROM SP_REQ_PATH_AUTHENTICATOR WHERE APP_ID IN (%s)";
     public static final String LOAD_PRO_PROPERTIES_BY_APP_ID =
             "SELECT PROVISIONING_USERSTORE_DOMAIN, IS_DUMB_MODE FROM " +
                     "SP_APP WHERE TENANT_ID= ? AND ID = ?";
@@ -317,6 +341,12 @@ public class ApplicationMgtDBQueries {
     public static final String GET_SP_METADATA_BY_SP_ID_H2 = "SELECT ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
             "SP_METADATA WHERE SP_ID = ?";
 
+    public static final String GET_SP_METADATA_BY_SP_IDS = "SELECT SP_ID, NAME, VALUE, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (%s)";
+
+    public static final String GET_SP_METADATA_BY_SP_IDS_H2 = "SELECT SP_ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (%s)";
+
     public static final String GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY = "SELECT VALUE FROM SP_METADATA WHERE " +
             "SP_ID=:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_ID + "; AND " +
             "NAME=:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_NAME + ";";
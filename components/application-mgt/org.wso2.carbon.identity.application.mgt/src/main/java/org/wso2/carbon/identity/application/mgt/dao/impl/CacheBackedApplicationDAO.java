@@ -57,6 +57,7 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderRe
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppByPlatformTypeCache;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheKey;
+import org.wso2.carbon.identity.core.model.CursorPage;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -132,6 +133,45 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return serviceProvider;
     }
 
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        List<Integer> cacheMissedIds = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(applicationId, serviceProvider);
+            } else {
+                cacheMissedIds.add(applicationId);
+            }
+        }
+        if (!cacheMissedIds.isEmpty()) {
+            for (ServiceProvider serviceProvider : appDAO.getApplications(cacheMissedIds)) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+                serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+
+        List<ServiceProvider> result = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = serviceProviders.get(applicationId);
+            if (serviceProvider != null) {
+                result.add(serviceProvider);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Integer> getApplicationIds(int tenantId, int beforeId, int limit)
+            throws IdentityApplicationManagementException {
+
+        return appDAO.getApplicationIds(tenantId, beforeId, limit);
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -297,6 +337,22 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return getApplicationBasicInfo(offset, limit, false);
     }
 
+    @Override
+    public CursorPage<ApplicationBasicInfo> getApplicationBasicInfo(String cursor, int limit,
+                                                                    Boolean excludeSystemPortals,
+                                                                    boolean includeCount)
+            throws IdentityApplicationManagementException {
+
+        if (appDAO instanceof PaginatableFilterableApplicationDAO) {
+            // No need to cache the returned page.
+            return ((PaginatableFilterableApplicationDAO) appDAO).getApplicationBasicInfo(cursor, limit,
+                    excludeSystemPortals, includeCount);
+        } else {
+            throw new UnsupportedOperationException("This operation only supported in" +
+                    " PaginatableFilterableApplicationDAO only.");
+        }
+    }
+
     @Override
     public ApplicationBasicInfo[] getApplicationBasicInfo(int offset, int limit, Boolean excludeSystemPortals)
             throws IdentityApplicationManagementException {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.internal;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.core.ServerStartupObserver;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
+import org.wso2.carbon.identity.application.mgt.cache.ApplicationCacheWarmUp;
+import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Set;
+
+/**
+ * Triggers the application cache warm up of the configured tenants. The listed tenants are warmed up once the server
+ * startup is completed. When all tenants are configured, the super tenant is warmed up at startup and every other
+ * tenant when it is loaded.
+ */
+public class ApplicationCacheWarmUpObserver extends AbstractAxis2ConfigurationContextObserver
+        implements ServerStartupObserver {
+
+    private final ApplicationCacheWarmUp cacheWarmUp;
+    private final Set<String> tenantDomains;
+
+    public ApplicationCacheWarmUpObserver(ApplicationCacheWarmUp cacheWarmUp, Set<String> tenantDomains) {
+
+        this.cacheWarmUp = cacheWarmUp;
+        this.tenantDomains = tenantDomains;
+    }
+
+    @Override
+    public void completingServerStartup() {
+        // Do nothing.
+    }
+
+    @Override
+    public void completedServerStartup() {
+
+        if (isAllTenantsEnabled()) {
+            cacheWarmUp.scheduleWarmUp(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            return;
+        }
+        for (String tenantDomain : tenantDomains) {
+            cacheWarmUp.scheduleWarmUp(tenantDomain);
+        }
+    }
+
+    @Override
+    public void createdConfigurationContext(ConfigurationContext configurationContext) {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (isAllTenantsEnabled() && StringUtils.isNotBlank(tenantDomain)
+                && !MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain)) {
+            cacheWarmUp.scheduleWarmUp(tenantDomain);
+        }
+    }
+
+    private boolean isAllTenantsEnabled() {
+
+        return tenantDomains.contains(ApplicationConstants.CACHE_WARM_UP_ALL_TENANTS);
+    }
+}
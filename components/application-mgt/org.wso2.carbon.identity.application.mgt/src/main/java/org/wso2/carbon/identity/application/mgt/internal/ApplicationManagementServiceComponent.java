@@ -38,6 +38,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.core.ServerStartupObserver;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManager;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
@@ -48,6 +49,7 @@ import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
 import org.wso2.carbon.identity.application.mgt.AuthorizedAPIManagementService;
 import org.wso2.carbon.identity.application.mgt.AuthorizedAPIManagementServiceImpl;
 import org.wso2.carbon.identity.application.mgt.DiscoverableApplicationManager;
+import org.wso2.carbon.identity.application.mgt.cache.ApplicationCacheWarmUp;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtService;
 import org.wso2.carbon.identity.application.mgt.defaultsequence.DefaultAuthSeqMgtServiceImpl;
 import org.wso2.carbon.identity.application.mgt.inbound.protocol.ApplicationInboundAuthConfigHandler;
@@ -70,6 +72,7 @@ import org.wso2.carbon.identity.certificate.management.service.ApplicationCertif
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.listener.ClaimMetadataMgtListener;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManagementInitialize;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -80,15 +83,19 @@ import org.wso2.carbon.identity.secret.mgt.core.SecretManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManager;
 import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * OSGI Service component for Application (aka Service Provider) management.
@@ -101,6 +108,7 @@ public class ApplicationManagementServiceComponent {
     private static Log log = LogFactory.getLog(ApplicationManagementServiceComponent.class);
     private static BundleContext bundleContext;
     private static Map<String, ServiceProvider> fileBasedSPs = new HashMap<String, ServiceProvider>();
+    private static ApplicationCacheWarmUp cacheWarmUp;
 
     public static Map<String, ServiceProvider> getFileBasedSPs() {
         return fileBasedSPs;
@@ -159,6 +167,7 @@ public class ApplicationManagementServiceComponent {
             // Register the Authorized API Management Listener.
             bundleContext.registerService(AuthorizedAPIManagementListener.class, new ConsoleAuthorizedAPIListener(),
                     null);
+            registerCacheWarmUp();
 
             if (log.isDebugEnabled()) {
                 log.debug("Identity ApplicationManagementComponent bundle is activated");
@@ -168,8 +177,57 @@ public class ApplicationManagementServiceComponent {
         }
     }
 
+    private void registerCacheWarmUp() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ApplicationConstants.CACHE_WARM_UP_ENABLE_PROPERTY))) {
+            return;
+        }
+        Set<String> tenantDomains = new HashSet<>();
+        String tenants = IdentityUtil.getProperty(ApplicationConstants.CACHE_WARM_UP_TENANTS_PROPERTY);
+        if (StringUtils.isBlank(tenants)) {
+            tenantDomains.add(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        } else {
+            for (String tenant : tenants.split(",")) {
+                if (StringUtils.isNotBlank(tenant)) {
+                    tenantDomains.add(tenant.trim());
+                }
+            }
+        }
+        cacheWarmUp = new ApplicationCacheWarmUp(ApplicationMgtSystemConfig.getInstance().getApplicationDAO(),
+                getIntProperty(ApplicationConstants.CACHE_WARM_UP_PAGE_SIZE_PROPERTY,
+                        ApplicationConstants.DEFAULT_CACHE_WARM_UP_PAGE_SIZE),
+                getIntProperty(ApplicationConstants.CACHE_WARM_UP_CONCURRENCY_PROPERTY,
+                        ApplicationConstants.DEFAULT_CACHE_WARM_UP_CONCURRENCY),
+                getIntProperty(ApplicationConstants.CACHE_WARM_UP_MAX_APPLICATIONS_PROPERTY,
+                        ApplicationConstants.DEFAULT_CACHE_WARM_UP_MAX_APPLICATIONS));
+        ApplicationCacheWarmUpObserver observer = new ApplicationCacheWarmUpObserver(cacheWarmUp, tenantDomains);
+        bundleContext.registerService(ServerStartupObserver.class.getName(), observer, null);
+        bundleContext.registerService(Axis2ConfigurationContextObserver.class.getName(), observer, null);
+        if (log.isDebugEnabled()) {
+            log.debug("Application cache warm up is enabled for tenants: " + tenantDomains);
+        }
+    }
+
+    private int getIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default " +
+                        "value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        if (cacheWarmUp != null) {
+            cacheWarmUp.shutdown();
+            cacheWarmUp = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity ApplicationManagementComponent bundle is deactivated");
         }
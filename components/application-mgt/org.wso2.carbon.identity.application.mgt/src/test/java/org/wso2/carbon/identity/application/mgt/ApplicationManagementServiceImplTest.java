@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.application.mgt;
 
+import org.apache.commons.lang.NotImplementedException;
 import org.apache.commons.lang.StringUtils;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -61,6 +62,9 @@ import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty
 import org.wso2.carbon.identity.application.common.model.SpTrustedAppMetadata;
 import org.wso2.carbon.identity.application.common.model.TrustedApp;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.PlatformType;
+import org.wso2.carbon.identity.application.mgt.cache.ApplicationCacheWarmUp;
+import org.wso2.carbon.identity.application.mgt.dao.impl.ApplicationDAOImpl;
+import org.wso2.carbon.identity.application.mgt.dao.impl.CacheBackedApplicationDAO;
 import org.wso2.carbon.identity.application.mgt.inbound.dto.ApplicationDTO;
 import org.wso2.carbon.identity.application.mgt.inbound.dto.InboundProtocolConfigurationDTO;
 import org.wso2.carbon.identity.application.mgt.inbound.dto.InboundProtocolsDTO;
@@ -105,6 +109,7 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.nio.file.Paths;
 import java.sql.Connection;
@@ -112,10 +117,14 @@ import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.mockito.ArgumentMatchers.any;
@@ -1037,6 +1046,117 @@ public class ApplicationManagementServiceImplTest {
         applicationManagementService.deleteApplications(SUPER_TENANT_ID);
     }
 
+    @Test
+    public void testGetApplicationsInBulk() throws IdentityApplicationManagementException, JAXBException {
+
+        ServiceProvider inputSP1 = new ServiceProvider();
+        inputSP1.setApplicationName(APPLICATION_NAME_1);
+        addApplicationConfigurations(inputSP1);
+        ServiceProvider inputSP2 = new ServiceProvider();
+        inputSP2.setApplicationName(APPLICATION_NAME_2);
+
+        // Adding applications.
+        String resourceId1 = applicationManagementService.createApplication(inputSP1, SUPER_TENANT_DOMAIN_NAME,
+                USERNAME_1);
+        String resourceId2 = applicationManagementService.createApplication(inputSP2, SUPER_TENANT_DOMAIN_NAME,
+                USERNAME_1);
+        int applicationId1 = applicationManagementService.getApplicationByResourceId(resourceId1,
+                SUPER_TENANT_DOMAIN_NAME).getApplicationID();
+        int applicationId2 = applicationManagementService.getApplicationByResourceId(resourceId2,
+                SUPER_TENANT_DOMAIN_NAME).getApplicationID();
+
+        // Retrieving applications in bulk, including a non existing application id.
+        ApplicationDAOImpl applicationDAO = new ApplicationDAOImpl();
+        List<ServiceProvider> actual = applicationDAO.getApplications(Arrays.asList(applicationId2, -1,
+                applicationId1));
+
+        Assert.assertEquals(actual.size(), 2);
+        Assert.assertEquals(actual.get(0).getApplicationResourceId(), resourceId2);
+        Assert.assertEquals(actual.get(1).getApplicationResourceId(), resourceId1);
+        for (ServiceProvider bulkLoaded : actual) {
+            ServiceProvider expected = applicationDAO.getApplication(bulkLoaded.getApplicationID());
+            // The whole service provider, as exported, is the same as the one loaded on its own.
+            Assert.assertEquals(marshalServiceProvider(bulkLoaded), marshalServiceProvider(expected));
+            Assert.assertEquals(bulkLoaded.getApplicationResourceId(), expected.getApplicationResourceId());
+            Assert.assertEquals(bulkLoaded.getTenantDomain(), expected.getTenantDomain());
+            Assert.assertEquals(bulkLoaded.getOwner().getUserName(), expected.getOwner().getUserName());
+            Assert.assertEquals(getSpPropertyValues(bulkLoaded), getSpPropertyValues(expected));
+        }
+        ServiceProvider bulkLoadedSP1 = actual.get(1);
+        Assert.assertEquals(bulkLoadedSP1.getInboundAuthenticationConfig()
+                .getInboundAuthenticationRequestConfigs()[0].getInboundAuthKey(), "auth key");
+        Assert.assertEquals(bulkLoadedSP1.getClaimConfig().getClaimMappings()[0].getRemoteClaim().getClaimUri(),
+                "Remote claim uri");
+        Assert.assertEquals(bulkLoadedSP1.getClaimConfig().getRoleClaimURI(), "Role claim uri");
+        Assert.assertTrue(applicationDAO.getApplications(Collections.emptyList()).isEmpty());
+
+        // Deleting all added application.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testApplicationCacheWarmUp() throws IdentityApplicationManagementException {
+
+        ServiceProvider inputSP1 = new ServiceProvider();
+        inputSP1.setApplicationName(APPLICATION_NAME_1);
+        ServiceProvider inputSP2 = new ServiceProvider();
+        inputSP2.setApplicationName(APPLICATION_NAME_2);
+        applicationManagementService.createApplication(inputSP1, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+        applicationManagementService.createApplication(inputSP2, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+
+        // Warm up with a page size of one to load the applications in parallel pages.
+        ApplicationCacheWarmUp cacheWarmUp = new ApplicationCacheWarmUp(
+                new CacheBackedApplicationDAO(new ApplicationDAOImpl()), 1, 2, 100);
+        try {
+            Assert.assertEquals(cacheWarmUp.getTimeToWarm(SUPER_TENANT_DOMAIN_NAME), -1L);
+            int warmedCount = cacheWarmUp.warmUp(SUPER_TENANT_DOMAIN_NAME);
+
+            Assert.assertTrue(warmedCount >= 2);
+            Assert.assertEquals(cacheWarmUp.getWarmedApplicationCount(), warmedCount);
+            Assert.assertEquals(cacheWarmUp.getWarmedApplicationCount(SUPER_TENANT_DOMAIN_NAME), warmedCount);
+            Assert.assertEquals(cacheWarmUp.getFailedPageCount(), 0);
+            Assert.assertTrue(cacheWarmUp.getTimeToWarm(SUPER_TENANT_DOMAIN_NAME) >= 0);
+        } finally {
+            cacheWarmUp.shutdown();
+        }
+
+        // Deleting all added application.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testApplicationCacheWarmUpWithoutKeysetListing() throws IdentityApplicationManagementException {
+
+        ServiceProvider inputSP1 = new ServiceProvider();
+        inputSP1.setApplicationName(APPLICATION_NAME_1);
+        ServiceProvider inputSP2 = new ServiceProvider();
+        inputSP2.setApplicationName(APPLICATION_NAME_2);
+        applicationManagementService.createApplication(inputSP1, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+        applicationManagementService.createApplication(inputSP2, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+
+        // A custom DAO which does not implement the keyset listing of the application ids.
+        ApplicationCacheWarmUp cacheWarmUp = new ApplicationCacheWarmUp(
+                new CacheBackedApplicationDAO(new ApplicationDAOImpl() {
+                    @Override
+                    public List<Integer> getApplicationIds(int tenantId, int beforeId, int limit) {
+
+                        throw new NotImplementedException();
+                    }
+                }), 1, 2, 100);
+        try {
+            int warmedCount = cacheWarmUp.warmUp(SUPER_TENANT_DOMAIN_NAME);
+
+            Assert.assertTrue(warmedCount >= 2);
+            Assert.assertEquals(cacheWarmUp.getWarmedApplicationCount(SUPER_TENANT_DOMAIN_NAME), warmedCount);
+            Assert.assertEquals(cacheWarmUp.getFailedPageCount(), 0);
+        } finally {
+            cacheWarmUp.shutdown();
+        }
+
+        // Deleting all added application.
+        applicationManagementService.deleteApplications(SUPER_TENANT_ID);
+    }
+
     @DataProvider(name = "testAddApplicationWithIsManagementApplicationData")
     public Object[][] testAddApplicationWithIsManagementApplicationData() {
 
@@ -1813,6 +1933,22 @@ public class ApplicationManagementServiceImplTest {
         permissionsAndRoleConfig.setRoleMappings(roleMappings);
     }
 
+    private String marshalServiceProvider(ServiceProvider serviceProvider) throws JAXBException {
+
+        StringWriter writer = new StringWriter();
+        JAXBContext.newInstance(ServiceProvider.class).createMarshaller().marshal(serviceProvider, writer);
+        return writer.toString();
+    }
+
+    private Map<String, String> getSpPropertyValues(ServiceProvider serviceProvider) {
+
+        Map<String, String> spPropertyValues = new HashMap<>();
+        for (ServiceProviderProperty spProperty : serviceProvider.getSpProperties()) {
+            spPropertyValues.put(spProperty.getName(), spProperty.getValue());
+        }
+        return spPropertyValues;
+    }
+
     private void setApplicationInboundAuthConfigs(ServiceProvider serviceProvider, String authKey, String authType) {
 
         InboundAuthenticationConfig inboundAuthenticationConfig = new InboundAuthenticationConfig();
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.application.authentication.framework;
 
+import java.util.List;
+
 /**
  * Defines the session management service operations.
  */
@@ -31,4 +33,16 @@ public interface ServerSessionManagementService {
      */
     boolean removeSession(String sessionId);
 
+    /**
+     * Terminate the sessions related to the given session IDs.
+     *
+     * @param sessionIds   - Session ids of the sessions to be terminated.
+     * @param tenantDomain - Tenant domain of the users of the sessions.
+     */
+    default void removeSessions(List<String> sessionIds, String tenantDomain) {
+
+        for (String sessionId : sessionIds) {
+            removeSession(sessionId);
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.application.authentication.framework;
 
 import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementException;
+import org.wso2.carbon.identity.application.authentication.framework.model.BulkSessionTerminationResult;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
@@ -170,4 +171,35 @@ public interface UserSessionManagementService {
 
         return Optional.empty();
     }
+
+    /**
+     * Terminates the active sessions of the given users. The session ids are resolved and the sessions are
+     * terminated in pages of users, so that a large number of users can be processed at once. Only the sessions
+     * created in the given tenant are terminated.
+     *
+     * @param userIds      Unique IDs of the users.
+     * @param tenantDomain Tenant domain of the users.
+     * @return Summary of the terminated sessions. In the default method, null is returned.
+     * @throws SessionManagementException if the session termination fails.
+     */
+    default BulkSessionTerminationResult terminateSessionsOfUsers(List<String> userIds, String tenantDomain)
+            throws SessionManagementException {
+
+        return null;
+    }
+
+    /**
+     * Terminates the active sessions of all the users in the given userstore domain. The users are read from the
+     * userstore, or from the session store for federated users, in bounded pages.
+     *
+     * @param userStoreDomain Userstore domain of the users.
+     * @param tenantDomain    Tenant domain of the users.
+     * @return Summary of the terminated sessions. In the default method, null is returned.
+     * @throws SessionManagementException if the session termination fails.
+     */
+    default BulkSessionTerminationResult terminateSessionsOfUserStore(String userStoreDomain, String tenantDomain)
+            throws SessionManagementException {
+
+        return null;
+    }
 }
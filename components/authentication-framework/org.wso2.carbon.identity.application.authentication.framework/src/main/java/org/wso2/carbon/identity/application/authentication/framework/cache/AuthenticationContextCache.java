@@ -31,6 +31,10 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is used to cache the data about the
@@ -43,6 +47,13 @@ public class AuthenticationContextCache extends
     private static final Log log = LogFactory.getLog(AuthenticationContextCache.class);
     private static volatile AuthenticationContextCache instance;
     private final boolean isTemporarySessionDataPersistEnabled;
+    // Session data store reads in progress, by the context id. Concurrent misses of the same context wait for the
+    // read in progress instead of reading the session data store again.
+    private final Map<String, CompletableFuture<AuthenticationContextCacheEntry>> inFlightLoads =
+            new ConcurrentHashMap<>();
+    private final AtomicLong storeLoadCount = new AtomicLong();
+    private final AtomicLong coalescedLoadCount = new AtomicLong();
+    private final AtomicLong skippedContextLoadCount = new AtomicLong();
 
     /**
      * Private constructor which will not allow to create objects of this class from outside.
@@ -104,6 +115,7 @@ public class AuthenticationContextCache extends
                     log.debug("Authentication context is stored with details " + message);
                 }
                 if (entry.getContext() != null) {
+                    entry.setContextLoaded(false);
                     try {
                         AuthenticationContextLoader.getInstance().optimizeAuthenticationContext(entry.getContext());
                     } catch (SessionDataStorageOptimizationClientException e) {
@@ -128,6 +140,7 @@ public class AuthenticationContextCache extends
                         entry, tenantId);
                 try {
                     AuthenticationContextLoader.getInstance().loadAuthenticationContext(entry.getContext());
+                    entry.setContextLoaded(true);
                 } catch (SessionDataStorageOptimizationClientException e) {
                     if (log.isDebugEnabled()) {
                         log.debug("Client error occurred while loading optimized authentication context"
@@ -159,40 +172,140 @@ public class AuthenticationContextCache extends
                     key.getContextId() + " from the cache. ");
         }
         if (entry == null && isTemporarySessionDataPersistEnabled) {
-            entry = (AuthenticationContextCacheEntry) SessionDataStore.getInstance().
-                    getSessionData(key.getContextId(), AUTHENTICATION_CONTEXT_CACHE_NAME);
-            if (log.isDebugEnabled()) {
-                log.debug("Found a valid AuthenticationContextCacheEntry corresponding to the session data key : " +
-                        key.getContextId() + " from the data store. ");
-            }
-
-            // Update the cache again with the new value.
-            super.addToCache(key, entry);
+            return getValueFromSessionDataStore(key);
         }
         if (entry != null) {
+            if (entry.isContextLoaded()) {
+                skippedContextLoadCount.incrementAndGet();
+                return entry;
+            }
+            entry = loadAuthenticationContext(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Retrieves a cache entry from the session data store. Only one read of a context is made at a time in this node.
+     * Concurrent requests for the same context wait for the read in progress and get the same entry.
+     *
+     * @param key CacheKey
+     * @return Cache entry with the loaded authentication context.
+     */
+    private AuthenticationContextCacheEntry getValueFromSessionDataStore(AuthenticationContextCacheKey key) {
+
+        String contextId = key.getContextId();
+        CompletableFuture<AuthenticationContextCacheEntry> load = new CompletableFuture<>();
+        CompletableFuture<AuthenticationContextCacheEntry> inFlightLoad = inFlightLoads.putIfAbsent(contextId, load);
+        if (inFlightLoad != null) {
+            coalescedLoadCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Waiting for the session data store read in progress for the context id: " + contextId
+                        + ". Coalesced reads: " + coalescedLoadCount.get());
+            }
             try {
-                AuthenticationContextLoader.getInstance().loadAuthenticationContext(entry.getContext());
-            } catch (SessionDataStorageOptimizationClientException e) {
+                return inFlightLoad.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while waiting for the authentication context with context id: " + contextId
+                        + " to be read from the session data store.", e);
+                return null;
+            } catch (ExecutionException e) {
                 if (log.isDebugEnabled()) {
-                    log.debug("Client error occurred while loading optimized authentication context " +
-                            "with context id: " + entry.getContext().getContextIdentifier(), e);
+                    log.debug("Session data store read in progress for the context id: " + contextId
+                            + " failed. Reading the context again.", e);
                 }
-                entry = null;
-            } catch (SessionDataStorageOptimizationServerException e) {
-                log.error("Server error occurred while loading optimized authentication context " +
+                return readFromSessionDataStore(key);
+            }
+        }
+
+        try {
+            AuthenticationContextCacheEntry entry = readFromSessionDataStore(key);
+            load.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(contextId, load);
+        }
+    }
+
+    private AuthenticationContextCacheEntry readFromSessionDataStore(AuthenticationContextCacheKey key) {
+
+        storeLoadCount.incrementAndGet();
+        AuthenticationContextCacheEntry entry = (AuthenticationContextCacheEntry) SessionDataStore.getInstance().
+                getSessionData(key.getContextId(), AUTHENTICATION_CONTEXT_CACHE_NAME);
+        if (entry == null) {
+            return null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Found a valid AuthenticationContextCacheEntry corresponding to the session data key : " +
+                    key.getContextId() + " from the data store. ");
+        }
+        entry = loadAuthenticationContext(entry);
+        if (entry != null) {
+            // Update the cache again with the loaded value, so the context is not loaded again in this node.
+            super.addToCache(key, entry);
+        }
+        return entry;
+    }
+
+    private AuthenticationContextCacheEntry loadAuthenticationContext(AuthenticationContextCacheEntry entry) {
+
+        try {
+            AuthenticationContextLoader.getInstance().loadAuthenticationContext(entry.getContext());
+            entry.setContextLoaded(true);
+        } catch (SessionDataStorageOptimizationClientException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Client error occurred while loading optimized authentication context " +
                         "with context id: " + entry.getContext().getContextIdentifier(), e);
-                entry = null;
-            } catch (SessionDataStorageOptimizationException e) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Error occurred while loading optimized authentication context " +
-                            "with context id: " + entry.getContext().getContextIdentifier(), e);
-                }
-                entry = null;
             }
+            entry = null;
+        } catch (SessionDataStorageOptimizationServerException e) {
+            log.error("Server error occurred while loading optimized authentication context " +
+                    "with context id: " + entry.getContext().getContextIdentifier(), e);
+            entry = null;
+        } catch (SessionDataStorageOptimizationException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error occurred while loading optimized authentication context " +
+                        "with context id: " + entry.getContext().getContextIdentifier(), e);
+            }
+            entry = null;
         }
         return entry;
     }
 
+    /**
+     * Get the number of authentication contexts read from the session data store.
+     *
+     * @return Session data store read count.
+     */
+    public long getStoreLoadCount() {
+
+        return storeLoadCount.get();
+    }
+
+    /**
+     * Get the number of cache misses which waited for a session data store read in progress instead of reading the
+     * session data store again.
+     *
+     * @return Coalesced read count.
+     */
+    public long getCoalescedLoadCount() {
+
+        return coalescedLoadCount.get();
+    }
+
+    /**
+     * Get the number of cache hits which returned an already loaded authentication context.
+     *
+     * @return Skipped context load count.
+     */
+    public long getSkippedContextLoadCount() {
+
+        return skippedContextLoadCount.get();
+    }
+
     /**
      * Clears a cache entry.
      *
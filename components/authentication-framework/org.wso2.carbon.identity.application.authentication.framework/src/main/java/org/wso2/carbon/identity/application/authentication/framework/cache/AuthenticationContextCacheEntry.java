@@ -30,6 +30,7 @@ public class AuthenticationContextCacheEntry extends CacheEntry {
 
     AuthenticationContext context;
     String loggedInUser;
+    private transient volatile boolean contextLoaded;
 
     public AuthenticationContextCacheEntry(AuthenticationContext authenticationContext) {
         this.context = authenticationContext;
@@ -50,4 +51,18 @@ public class AuthenticationContextCacheEntry extends CacheEntry {
     public void setLoggedInUser(String loggedInUser) {
         this.loggedInUser = loggedInUser;
     }
+
+    /**
+     * Whether the optimized references of the context are already loaded in this node. The flag is not serialized,
+     * so entries read from the session data store or a distributed cache are loaded again.
+     *
+     * @return True if the context is loaded.
+     */
+    boolean isContextLoaded() {
+        return contextLoaded;
+    }
+
+    void setContextLoaded(boolean contextLoaded) {
+        this.contextLoaded = contextLoaded;
+    }
 }
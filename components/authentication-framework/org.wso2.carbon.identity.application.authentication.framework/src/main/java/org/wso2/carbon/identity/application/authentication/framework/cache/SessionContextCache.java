@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.getLoginTenantDomainFromContext;
@@ -295,6 +296,25 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
 
     }
 
+    /**
+     * Clears the cache entries of the given session context keys. The session data of the keys are removed from the
+     * session data store in a single batch.
+     *
+     * @param sessionContextKeys Keys of the session contexts.
+     * @param loginTenantDomain  Login tenant domain of the session contexts.
+     */
+    public void clearCacheEntries(List<String> sessionContextKeys, String loginTenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clear " + sessionContextKeys.size() + " session contexts in tenant " + loginTenantDomain);
+        }
+        String resolvedLoginTenantDomain = resolveLoginTenantDomain(loginTenantDomain);
+        for (String sessionContextKey : sessionContextKeys) {
+            super.clearCacheEntry(new SessionContextCacheKey(sessionContextKey), resolvedLoginTenantDomain);
+        }
+        SessionDataStore.getInstance().clearSessionData(sessionContextKeys, SESSION_CONTEXT_CACHE_NAME);
+    }
+
     /**
      * Check whether the given session context is valid according to idle session timeout restrictions.
      *
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Context;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of pre-initialized GraalJS polyglot contexts.
+ * <p>
+ * Contexts are created ahead of time by a background thread with the host access, resource limits and the default
+ * bindings already applied, so a request only has to take one from the pool. A borrowed context is never returned
+ * to the pool. It is closed after the script execution as before, and the background thread creates a replacement.
+ * This way no script state such as global variables or modified prototypes can leak from one tenant or request to
+ * another. When the pool is empty a fresh context is created in the calling thread.
+ */
+public class GraalContextPool {
+
+    private static final Log LOG = LogFactory.getLog(GraalContextPool.class);
+
+    private final Supplier<Context> contextFactory;
+    private final BlockingQueue<Context> contexts;
+    private final ExecutorService refillExecutor;
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+    private final AtomicLong borrowTimeNanos = new AtomicLong();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private volatile boolean active = true;
+
+    /**
+     * Creates the pool and starts filling it in the background.
+     *
+     * @param contextFactory Creates a new pre-initialized context.
+     * @param size           Maximum number of contexts kept in the pool.
+     */
+    public GraalContextPool(Supplier<Context> contextFactory, int size) {
+
+        this.contextFactory = contextFactory;
+        this.contexts = new ArrayBlockingQueue<>(size);
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GraalJSContextPoolRefill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        requestRefill();
+    }
+
+    /**
+     * Take a pre-initialized context from the pool, or create a new one if the pool is empty.
+     *
+     * @return Polyglot context which is owned by the caller.
+     */
+    public Context borrow() {
+
+        long startTime = System.nanoTime();
+        Context context = contexts.poll();
+        if (context == null) {
+            fallbackCount.incrementAndGet();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("GraalJS context pool is exhausted. Creating a new context.");
+            }
+            context = contextFactory.get();
+        }
+        borrowCount.incrementAndGet();
+        borrowTimeNanos.addAndGet(System.nanoTime() - startTime);
+        requestRefill();
+        return context;
+    }
+
+    /**
+     * Stop refilling the pool and close the pooled contexts.
+     */
+    public void shutdown() {
+
+        active = false;
+        refillExecutor.shutdownNow();
+        Context context;
+        while ((context = contexts.poll()) != null) {
+            context.close();
+        }
+    }
+
+    public int getAvailableCount() {
+
+        return contexts.size();
+    }
+
+    public long getBorrowCount() {
+
+        return borrowCount.get();
+    }
+
+    public long getFallbackCount() {
+
+        return fallbackCount.get();
+    }
+
+    /**
+     * Get the average time taken to borrow a context, including the creation of fallback contexts.
+     *
+     * @return Average borrow latency in nanoseconds.
+     */
+    public long getAverageBorrowTime() {
+
+        long count = borrowCount.get();
+        return count == 0 ? 0 : borrowTimeNanos.get() / count;
+    }
+
+    private void requestRefill() {
+
+        if (!active || contexts.remainingCapacity() == 0 || !refillScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            refillScheduled.set(false);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("GraalJS context pool refill is rejected as the pool is shutting down.", e);
+            }
+        }
+    }
+
+    private void refill() {
+
+        try {
+            while (active && contexts.remainingCapacity() > 0) {
+                Context context = contextFactory.get();
+                if (!contexts.offer(context)) {
+                    context.close();
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Error while creating a GraalJS context for the context pool.", e);
+        } finally {
+            refillScheduled.set(false);
+        }
+    }
+}
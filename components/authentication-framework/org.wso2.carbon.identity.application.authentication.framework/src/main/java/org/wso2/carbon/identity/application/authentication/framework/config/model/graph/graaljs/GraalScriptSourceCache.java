@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Source;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Cache of GraalJS {@link Source} objects.
+ * <p>
+ * When the polyglot contexts share a single engine, evaluating the same {@link Source} object again reuses the code
+ * already parsed and compiled by the engine. Application scripts are cached per tenant and application, and the
+ * cached source is replaced when the script of the application changes. Helper code and the sources of serialized
+ * functions are cached by their content.
+ */
+public class GraalScriptSourceCache {
+
+    private static final Log LOG = LogFactory.getLog(GraalScriptSourceCache.class);
+    private static final GraalScriptSourceCache INSTANCE = new GraalScriptSourceCache();
+    private static final int MAX_CONTENT_SOURCE_COUNT = 10000;
+
+    private final Map<String, Source> applicationSources = new ConcurrentHashMap<>();
+    private final Map<String, Source> contentSources = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evalCount = new AtomicLong();
+    private final AtomicLong evalTimeNanos = new AtomicLong();
+
+    private GraalScriptSourceCache() {
+
+    }
+
+    public static GraalScriptSourceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the source of the authentication script of the given application.
+     *
+     * @param tenantDomain    Tenant domain of the application.
+     * @param applicationName Name of the application.
+     * @param script          Authentication script of the application.
+     * @return Cached source if the script is not changed, a new source otherwise.
+     * @throws IOException If an error occurs while building the source.
+     */
+    public Source getApplicationSource(String tenantDomain, String applicationName, String script)
+            throws IOException {
+
+        String key = tenantDomain + ":" + applicationName;
+        Source source = applicationSources.get(key);
+        if (source != null && source.getCharacters().toString().equals(script)) {
+            hitCount.incrementAndGet();
+            return source;
+        }
+        missCount.incrementAndGet();
+        if (source != null && LOG.isDebugEnabled()) {
+            LOG.debug("Authentication script of the application: " + applicationName + " in tenant: " +
+                    tenantDomain + " is changed. Replacing the cached script source.");
+        }
+        source = buildSource(script);
+        applicationSources.put(key, source);
+        return source;
+    }
+
+    /**
+     * Get the source of the given code, such as helper functions or a serialized function.
+     *
+     * @param code Javascript code.
+     * @return Cached source of the code.
+     * @throws IOException If an error occurs while building the source.
+     */
+    public Source getSource(String code) throws IOException {
+
+        if (code == null) {
+            return buildSource(null);
+        }
+        Source source = contentSources.get(code);
+        if (source != null) {
+            hitCount.incrementAndGet();
+            return source;
+        }
+        missCount.incrementAndGet();
+        if (contentSources.size() >= MAX_CONTENT_SOURCE_COUNT) {
+            contentSources.clear();
+        }
+        source = buildSource(code);
+        contentSources.put(code, source);
+        return source;
+    }
+
+    /**
+     * Remove the cached script sources of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        applicationSources.keySet().removeIf(key -> key.startsWith(tenantDomain + ":"));
+    }
+
+    /**
+     * Remove the cached script source of the given application.
+     *
+     * @param tenantDomain    Tenant domain of the application.
+     * @param applicationName Name of the application.
+     */
+    public void invalidate(String tenantDomain, String applicationName) {
+
+        applicationSources.remove(tenantDomain + ":" + applicationName);
+    }
+
+    /**
+     * Record the time taken to evaluate a script.
+     *
+     * @param startTimeNanos Time at which the evaluation started, from {@link System#nanoTime()}.
+     */
+    public void recordEvaluation(long startTimeNanos) {
+
+        long elapsed = System.nanoTime() - startTimeNanos;
+        evalCount.incrementAndGet();
+        evalTimeNanos.addAndGet(elapsed);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Script evaluated in %d us. Source cache hits: %d, misses: %d.",
+                    elapsed / 1000, hitCount.get(), missCount.get()));
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvaluationCount() {
+
+        return evalCount.get();
+    }
+
+    /**
+     * Get the average time taken to evaluate a script.
+     *
+     * @return Average evaluation time in nanoseconds.
+     */
+    public long getAverageEvaluationTime() {
+
+        long count = evalCount.get();
+        return count == 0 ? 0 : evalTimeNanos.get() / count;
+    }
+
+    private Source buildSource(String code) throws IOException {
+
+        return Source.newBuilder(POLYGLOT_LANGUAGE, code, POLYGLOT_SOURCE).build();
+    }
+}
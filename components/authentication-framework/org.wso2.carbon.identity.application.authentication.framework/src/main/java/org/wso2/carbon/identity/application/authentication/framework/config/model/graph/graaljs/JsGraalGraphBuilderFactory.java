@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -46,7 +47,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_CONTEXT_POOL_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -61,11 +64,61 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static final String OPTION_WARN_INTERPRETER_ONLY = "engine.WarnInterpreterOnly";
     private int javascriptResourceLimit = 0;
+    /*
+     * The host access and resource limits are built once and shared by all the contexts. Contexts on a shared engine
+     * can only reuse the host access data of each other when they are created with the same host access instance.
+     */
+    private final HostAccess hostAccess = buildHostAccess();
+    private volatile ResourceLimits resourceLimits = buildResourceLimits();
+    private Engine sharedEngine;
+    private GraalContextPool contextPool;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        resourceLimits = buildResourceLimits();
+        String sharedEngineEnabled = IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE);
+        if (sharedEngineEnabled == null || Boolean.parseBoolean(sharedEngineEnabled)) {
+            /*
+             * Contexts created on a shared engine reuse the code parsed and compiled by the other contexts for the
+             * same Source objects, which are cached in the GraalScriptSourceCache.
+             */
+            sharedEngine = Engine.newBuilder()
+                    .option(OPTION_WARN_INTERPRETER_ONLY, "false")
+                    .build();
+        }
+        int contextPoolSize = getContextPoolSize();
+        if (contextPoolSize > 0) {
+            LOG.info("GraalJS context pool is enabled with size: " + contextPoolSize);
+            contextPool = new GraalContextPool(this::createContext, contextPoolSize);
+        }
+    }
+
+    /**
+     * Stop the context pool, if enabled, close the pooled contexts and close the shared engine.
+     */
+    public void shutdown() {
+
+        if (contextPool != null) {
+            contextPool.shutdown();
+        }
+        if (sharedEngine != null) {
+            // Cancel the scripts still running on the engine, as the framework is going down.
+            sharedEngine.close(true);
+            sharedEngine = null;
+        }
+    }
+
+    /**
+     * Get the pool of pre-initialized contexts.
+     *
+     * @return Context pool, or null if the pool is not enabled.
+     */
+    public GraalContextPool getContextPool() {
+
+        return contextPool;
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +159,23 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
-                .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+        if (contextPool != null) {
+            return contextPool.borrow();
+        }
+        return createContext();
+    }
+
+    private Context createContext() {
+
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
+                .allowHostAccess(hostAccess)
+                .resourceLimits(resourceLimits);
+        if (sharedEngine != null) {
+            contextBuilder.engine(sharedEngine);
+        } else {
+            contextBuilder.option(OPTION_WARN_INTERPRETER_ONLY, "false");
+        }
+        Context context = contextBuilder.build();
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -120,12 +185,22 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public ResourceLimits getResourceLimits() {
 
+        return resourceLimits;
+    }
+
+    public HostAccess getHostAccess() {
+
+        return hostAccess;
+    }
+
+    private ResourceLimits buildResourceLimits() {
+
         ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
         resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
         return resourceLimitsBuilder.build();
     }
 
-    public HostAccess getHostAccess() {
+    private static HostAccess buildHostAccess() {
 
         /*
          * We need to map the graaljs proxy objects be exposed as their abstract classes to be able to use the current
@@ -176,6 +251,20 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
                 currentNode);
     }
 
+    private int getContextPoolSize() {
+
+        String contextPoolSize = IdentityUtil.getProperty(GRAALJS_CONTEXT_POOL_SIZE);
+        if (contextPoolSize == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(contextPoolSize.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Error while parsing the GraalJS context pool size. Context pool will not be enabled.", e);
+            return 0;
+        }
+    }
+
     private void setJavascriptResourceLimit() {
 
         /*
@@ -66,6 +66,7 @@ import org.wso2.carbon.utils.DiagnosticLog;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -73,11 +74,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.RETRIEVE_REQUESTED_CLAIMS_ONLY;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SEND_ONLY_LOCALLY_MAPPED_ROLES_OF_IDP;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.getLocalGroupsClaimURI;
 
@@ -92,6 +95,14 @@ public class DefaultClaimHandler implements ClaimHandler {
     private static volatile DefaultClaimHandler instance;
     private static boolean returnOnlyMappedLocalRoles = false;
 
+    /*
+     * Local claims required by each application, keyed by the service provider instance. A service provider is
+     * replaced in the application cache when it is updated, hence the entry of the old instance is never reused and
+     * is garbage collected with it.
+     */
+    private final Map<ServiceProvider, Set<String>> requiredLocalClaimsOfApps =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     static {
         if (IdentityUtil.getProperty(SEND_ONLY_LOCALLY_MAPPED_ROLES_OF_IDP) != null) {
             returnOnlyMappedLocalRoles = Boolean
@@ -768,7 +779,12 @@ public class DefaultClaimHandler implements ClaimHandler {
         Map<String, String> spRequestedClaims = new HashMap<>();
 
         // Retrieve all non-null user claim values against local claim uris.
-        allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore);
+        Set<String> requiredLocalClaimURIs = null;
+        if (isRetrieveRequestedClaimsOnly(context)) {
+            requiredLocalClaimURIs = getRequiredLocalClaimURIs(spStandardDialect, context);
+        }
+        allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore,
+                requiredLocalClaimURIs);
 
         boolean useAppAssociatedRoles = isAppRoleResolverExists() || !CarbonConstants.ENABLE_LEGACY_AUTHZ_RUNTIME;
         boolean isRoleClaimRequested = (requestedClaimMappings.get(FrameworkConstants.ROLES_CLAIM) != null);
@@ -946,9 +962,74 @@ public class DefaultClaimHandler implements ClaimHandler {
         return spToLocalClaimMappings;
     }
 
+    /**
+     * Resolve the local claims needed to build the claims of the application. These are the requested, mandatory,
+     * subject and role claims of the application, the role and group claims, and the claims needed to identify JIT
+     * provisioned users. For OpenID requests all the claims mapped by the application are needed, since the claims
+     * are filtered by the requested scopes afterwards.
+     *
+     * @param spStandardDialect Standard dialect of the application, or null.
+     * @param context           Authentication context.
+     * @return Local claim URIs required by the application.
+     * @throws FrameworkException If an error occurs while resolving the standard dialect claim mappings.
+     */
+    protected Set<String> getRequiredLocalClaimURIs(String spStandardDialect, AuthenticationContext context)
+            throws FrameworkException {
+
+        ApplicationConfig appConfig = context.getSequenceConfig().getApplicationConfig();
+        ServiceProvider serviceProvider = appConfig.getServiceProvider();
+        Set<String> requiredLocalClaimURIs = new HashSet<>();
+        if (serviceProvider == null) {
+            requiredLocalClaimURIs.addAll(resolveRequiredLocalClaimURIsOfApp(appConfig));
+        } else {
+            requiredLocalClaimURIs.addAll(requiredLocalClaimsOfApps.computeIfAbsent(serviceProvider,
+                    sp -> resolveRequiredLocalClaimURIsOfApp(appConfig)));
+        }
+
+        boolean isOpenIdRequest = FrameworkConstants.RequestType.CLAIM_TYPE_OPENID.equals(context.getRequestType());
+        if (StringUtils.isNotBlank(spStandardDialect) && !StringUtils.equals(spStandardDialect,
+                ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT)) {
+            Map<String, String> standardToLocalClaimMappings = getStandardDialectToCarbonMapping(spStandardDialect,
+                    context, new HashMap<>(), context.getTenantDomain());
+            if (isOpenIdRequest) {
+                requiredLocalClaimURIs.addAll(standardToLocalClaimMappings.values());
+            } else if (StringUtils.isNotBlank(appConfig.getSubjectClaimUri())
+                    && standardToLocalClaimMappings.get(appConfig.getSubjectClaimUri()) != null) {
+                requiredLocalClaimURIs.add(standardToLocalClaimMappings.get(appConfig.getSubjectClaimUri()));
+            }
+        } else if (isOpenIdRequest && appConfig.getClaimMappings() != null) {
+            requiredLocalClaimURIs.addAll(appConfig.getClaimMappings().values());
+        }
+        requiredLocalClaimURIs.remove(null);
+        return requiredLocalClaimURIs;
+    }
+
+    private Set<String> resolveRequiredLocalClaimURIsOfApp(ApplicationConfig appConfig) {
+
+        Set<String> requiredLocalClaimURIs = new HashSet<>();
+        if (appConfig.getRequestedClaimMappings() != null) {
+            requiredLocalClaimURIs.addAll(appConfig.getRequestedClaimMappings().values());
+        }
+        if (appConfig.getMandatoryClaimMappings() != null) {
+            requiredLocalClaimURIs.addAll(appConfig.getMandatoryClaimMappings().values());
+        }
+        Map<String, String> spToLocalClaimMappings = appConfig.getClaimMappings() != null ?
+                appConfig.getClaimMappings() : new HashMap<>();
+        for (String spClaimURI : new String[]{appConfig.getSubjectClaimUri(), appConfig.getRoleClaim()}) {
+            if (StringUtils.isNotBlank(spClaimURI)) {
+                requiredLocalClaimURIs.add(spToLocalClaimMappings.getOrDefault(spClaimURI, spClaimURI));
+            }
+        }
+        requiredLocalClaimURIs.add(FrameworkConstants.ROLES_CLAIM);
+        requiredLocalClaimURIs.add(getLocalGroupsClaimURI());
+        requiredLocalClaimURIs.add(FrameworkConstants.IDP_TYPE_CLAIM);
+        requiredLocalClaimURIs.remove(null);
+        return Collections.unmodifiableSet(requiredLocalClaimURIs);
+    }
+
     private Map<String, String> retrieveAllNunNullUserClaimValues(AuthenticatedUser authenticatedUser,
             ClaimManager claimManager, ApplicationConfig appConfig,
-            AbstractUserStoreManager userStore) throws FrameworkException {
+            AbstractUserStoreManager userStore, Set<String> requiredLocalClaimURIs) throws FrameworkException {
 
         String tenantDomain = authenticatedUser.getTenantDomain();
 
@@ -960,7 +1041,13 @@ public class DefaultClaimHandler implements ClaimHandler {
             List<String> localClaimURIs = new ArrayList<>();
             for (org.wso2.carbon.user.api.ClaimMapping mapping : claimMappings) {
                 String claimURI = mapping.getClaim().getClaimUri();
-                localClaimURIs.add(claimURI);
+                if (requiredLocalClaimURIs == null || requiredLocalClaimURIs.contains(claimURI)) {
+                    localClaimURIs.add(claimURI);
+                }
+            }
+            if (requiredLocalClaimURIs != null && log.isDebugEnabled()) {
+                log.debug("Retrieving " + localClaimURIs.size() + " of " + claimMappings.length + " local claims of "
+                        + "user: " + authenticatedUser.getLoggableUserId() + " required by the application.");
             }
             allLocalClaims = userStore.getUserClaimValuesWithID(authenticatedUser.getUserId(),
                     localClaimURIs.toArray(new String[0]), null);
@@ -1302,6 +1389,31 @@ public class DefaultClaimHandler implements ClaimHandler {
                   " map property set to " + sb.toString());
     }
 
+    /**
+     * Checks if a configuration is available indicating to retrieve only the local claims required by the
+     * application instead of all the local claims of the user.
+     * <p>
+     * The retrieved claims are also stored as the unfiltered local claim values of the context, which then hold only
+     * the claims required by the application. All the claims are still retrieved when the sequence has an adaptive
+     * authentication script, since the script can read any local claim of the user, and when the application does
+     * not request any claim, since the post authentication handlers then send all the local claims of the user.
+     *
+     * @param context Authentication context.
+     * @return True if only the required claims should be retrieved.
+     */
+    private boolean isRetrieveRequestedClaimsOnly(AuthenticationContext context) {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(RETRIEVE_REQUESTED_CLAIMS_ONLY))) {
+            return false;
+        }
+        SequenceConfig sequenceConfig = context.getSequenceConfig();
+        if (sequenceConfig == null || sequenceConfig.getAuthenticationGraph() != null) {
+            return false;
+        }
+        ApplicationConfig appConfig = sequenceConfig.getApplicationConfig();
+        return appConfig != null && MapUtils.isNotEmpty(appConfig.getRequestedClaimMappings());
+    }
+
     /**
      * Checks if a configuration is available indicating to use the local claim
      * dialect instead of the federated authenticator's dialect when a custom dialect
@@ -1023,7 +1023,8 @@ public class JITProvisioningPostAuthenticationHandler extends AbstractPostAuthnH
         IdentityProviderManager idpManager = IdentityProviderManager.getInstance();
         IdentityProvider residentIdP = null;
         try {
-            residentIdP = idpManager.getResidentIdP(tenantDomain);
+            // The resident IdP of the snapshot is shared, and is only read here.
+            residentIdP = idpManager.getResidentIdPSnapshot(tenantDomain).getIdentityProvider();
         } catch (IdentityProviderManagementException e) {
             handleExceptions(String.format(ErrorMessages.ERROR_WHILE_SETTING_IDP_DATA.getMessage(), tenantDomain),
                     ErrorMessages.ERROR_WHILE_SETTING_IDP_DATA.getCode(), e);
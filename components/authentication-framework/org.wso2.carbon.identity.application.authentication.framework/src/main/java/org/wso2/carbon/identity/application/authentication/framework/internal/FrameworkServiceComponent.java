@@ -51,6 +51,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsFunctionRegistryImpl;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.CacheBackedLongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.LongWaitStatusDAOImpl;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
@@ -78,6 +79,7 @@ import org.wso2.carbon.identity.application.authentication.framework.internal.im
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.ServerSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.UserSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.listener.AuthenticationEndpointTenantActivityListener;
+import org.wso2.carbon.identity.application.authentication.framework.listener.GraalScriptSourceCacheAppMgtListener;
 import org.wso2.carbon.identity.application.authentication.framework.listener.SessionContextMgtListener;
 import org.wso2.carbon.identity.application.authentication.framework.services.PostAuthenticationMgtService;
 import org.wso2.carbon.identity.application.authentication.framework.servlet.CommonAuthenticationServlet;
@@ -86,6 +88,7 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -99,6 +102,7 @@ import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfi
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.model.RequestPathAuthenticatorConfig;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
@@ -307,6 +311,8 @@ public class FrameworkServiceComponent {
         bundleContext.registerService(IdentityProviderMgtListener.class.getName(),
                 jitProvisioningIDPMgtListener, null);
         bundleContext.registerService(ClaimFilter.class.getName(), new DefaultClaimFilter(), null);
+        bundleContext.registerService(ApplicationMgtListener.class.getName(),
+                new GraalScriptSourceCacheAppMgtListener(), null);
 
         // This is done to load SessionDataStore and PushedAuthDataStore classes and start the cleanup tasks.
         SessionDataStore.getInstance();
@@ -362,7 +368,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -375,6 +381,30 @@ public class FrameworkServiceComponent {
         // to make sure the server doesn't start up if any activation failures
     }
 
+    /**
+     * Get the session serializer configured to be used when no serializer is registered as a service.
+     *
+     * @return Compact session serializer if configured, Java session serializer otherwise.
+     */
+    private SessionSerializer getDefaultSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty(FrameworkConstants.Config.SESSION_SERIALIZER_TYPE);
+        if (!FrameworkConstants.Config.COMPACT_SESSION_SERIALIZER.equalsIgnoreCase(serializerType)) {
+            return new JavaSessionSerializer();
+        }
+        String compressionThreshold =
+                IdentityUtil.getProperty(FrameworkConstants.Config.SESSION_SERIALIZER_COMPRESSION_THRESHOLD);
+        if (StringUtils.isNotBlank(compressionThreshold)) {
+            try {
+                return new CompactSessionSerializer(Integer.parseInt(compressionThreshold.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid session serializer compression threshold: " + compressionThreshold +
+                        ". Default threshold will be used.");
+            }
+        }
+        return new CompactSessionSerializer();
+    }
+
     private void setAdaptiveAuthExecutionSupervisor() {
 
         String isEnabled = IdentityUtil.getProperty(
@@ -438,6 +468,11 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        if (FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory()
+                instanceof JsGraalGraphBuilderFactory) {
+            ((JsGraalGraphBuilderFactory) FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory())
+                    .shutdown();
+        }
     }
 
     @Reference(
@@ -572,7 +607,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
@@ -35,6 +35,9 @@ import org.wso2.carbon.identity.application.authentication.framework.util.Sessio
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A service to terminate the sessions of federated users.
  */
@@ -57,6 +60,34 @@ public class ServerSessionManagementServiceImpl implements ServerSessionManageme
         return true;
     }
 
+    @Override
+    public void removeSessions(List<String> sessionIds, String tenantDomain) {
+
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        if (isSessionEventPublishingEnabled()) {
+            // The session contexts are needed to publish the session termination events.
+            for (String sessionId : sessionIds) {
+                removeSession(sessionId);
+            }
+            return;
+        }
+        List<String> validSessionIds = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            if (StringUtils.isNotBlank(sessionId)) {
+                validSessionIds.add(sessionId);
+            }
+        }
+        SessionContextCache.getInstance().clearCacheEntries(validSessionIds, tenantDomain);
+        String initiator = CarbonContext.getThreadLocalCarbonContext().getUsername();
+        String traceId = FrameworkUtils.getCorrelation();
+        long terminatedTimestamp = System.currentTimeMillis();
+        for (String sessionId : validSessionIds) {
+            addAuditLogs(sessionId, initiator, null, tenantDomain, traceId, terminatedTimestamp);
+        }
+    }
+
     /**
      * Terminate the session by sessionId.
      *
@@ -66,8 +97,7 @@ public class ServerSessionManagementServiceImpl implements ServerSessionManageme
     private void terminateSession(SessionContext sessionContext, String sessionId) {
 
         AuthenticatedUser authenticatedUser = new AuthenticatedUser();
-        if (FrameworkServiceDataHolder.getInstance().getAuthnDataPublisherProxy() != null && FrameworkServiceDataHolder
-                .getInstance().getAuthnDataPublisherProxy().isEnabled(null) && sessionContext != null) {
+        if (isSessionEventPublishingEnabled() && sessionContext != null) {
 
             Object authenticatedUserObj = sessionContext.getProperty(FrameworkConstants.AUTHENTICATED_USER);
             if (authenticatedUserObj != null) {
@@ -93,6 +123,12 @@ public class ServerSessionManagementServiceImpl implements ServerSessionManageme
                 System.currentTimeMillis());
     }
 
+    private boolean isSessionEventPublishingEnabled() {
+
+        return FrameworkServiceDataHolder.getInstance().getAuthnDataPublisherProxy() != null &&
+                FrameworkServiceDataHolder.getInstance().getAuthnDataPublisherProxy().isEnabled(null);
+    }
+
     private void addAuditLogs(String sessionKey, String initiator, String authenticatedUser, String userTenantDomain,
                               String traceId, Long terminatedTimestamp) {
 
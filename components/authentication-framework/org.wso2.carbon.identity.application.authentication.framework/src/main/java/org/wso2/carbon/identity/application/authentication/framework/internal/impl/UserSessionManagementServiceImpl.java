@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.authentication.framework.exception.s
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementServerException;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceComponent;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.application.authentication.framework.model.BulkSessionTerminationResult;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
 import org.wso2.carbon.identity.application.authentication.framework.services.SessionManagementService;
 import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
@@ -53,7 +54,11 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,6 +68,7 @@ import java.util.stream.Collectors;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.CURRENT_SESSION_IDENTIFIER;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.PRESERVE_LOGGED_IN_SESSION_AT_PASSWORD_UPDATE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_FORBIDDEN_ACTION;
+import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_DATA;
 import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_SESSION;
 import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_INVALID_USER;
 import static org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants.ErrorMessages.ERROR_CODE_UNABLE_TO_AUTHORIZE_USER;
@@ -74,6 +80,11 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 public class UserSessionManagementServiceImpl implements UserSessionManagementService {
 
     private static final Log log = LogFactory.getLog(UserSessionManagementServiceImpl.class);
+    private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
+    private static final String WILDCARD_CHARACTER = "*";
+    // Number of users whose sessions are resolved with a single query. Kept well below the bind parameter limits.
+    private static final int BULK_TERMINATION_USER_PAGE_SIZE = 100;
+    private static final int BULK_TERMINATION_DELETE_BATCH_SIZE = 1000;
     private SessionManagementService sessionManagementService = new SessionManagementService();
 
     @Override
@@ -503,6 +514,248 @@ public class UserSessionManagementServiceImpl implements UserSessionManagementSe
         }
     }
 
+    @Override
+    public BulkSessionTerminationResult terminateSessionsOfUsers(List<String> userIds, String tenantDomain)
+            throws SessionManagementException {
+
+        if (userIds == null) {
+            throw handleSessionManagementClientException(ERROR_CODE_INVALID_USER, null);
+        }
+        int tenantId = resolveTenantIdForBulkTermination(tenantDomain);
+        Set<String> distinctUserIds = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            if (StringUtils.isNotBlank(userId)) {
+                distinctUserIds.add(userId);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Terminating all the active sessions of " + distinctUserIds.size() + " users in tenant: "
+                    + tenantDomain + ".");
+        }
+        Iterator<String> userIdIterator = distinctUserIds.iterator();
+        return terminateSessionsInPages(() -> {
+            List<String> userIdPage = new ArrayList<>(BULK_TERMINATION_USER_PAGE_SIZE);
+            while (userIdIterator.hasNext() && userIdPage.size() < BULK_TERMINATION_USER_PAGE_SIZE) {
+                userIdPage.add(userIdIterator.next());
+            }
+            return userIdPage;
+        }, tenantId, tenantDomain, tenantDomain);
+    }
+
+    @Override
+    public BulkSessionTerminationResult terminateSessionsOfUserStore(String userStoreDomain, String tenantDomain)
+            throws SessionManagementException {
+
+        if (StringUtils.isBlank(userStoreDomain)) {
+            throw handleSessionManagementClientException(ERROR_CODE_INVALID_DATA, "userstore domain is required");
+        }
+        int tenantId = resolveTenantIdForBulkTermination(tenantDomain);
+        UserIdPageReader userIdPageReader;
+        if (FEDERATED_USER_DOMAIN.equalsIgnoreCase(userStoreDomain)) {
+            // Federated users are only known by the session store.
+            userIdPageReader = new FederatedUserIdPageReader(userStoreDomain, tenantId);
+        } else {
+            UserStoreManager userStoreManager;
+            try {
+                userStoreManager = FrameworkServiceDataHolder.getInstance().getRealmService()
+                        .getTenantUserRealm(tenantId).getUserStoreManager();
+            } catch (UserStoreException e) {
+                throw handleSessionManagementServerException(ERROR_CODE_UNABLE_TO_GET_SESSIONS, userStoreDomain, e);
+            }
+            if (!(userStoreManager instanceof AbstractUserStoreManager)) {
+                throw handleSessionManagementServerException(ERROR_CODE_UNABLE_TO_GET_SESSIONS, userStoreDomain,
+                        new UserSessionException("Unable to list the users of the userstore domain: "
+                                + userStoreDomain + "."));
+            }
+            userIdPageReader = new UserStoreUserIdPageReader((AbstractUserStoreManager) userStoreManager,
+                    UserCoreUtil.addDomainToName(WILDCARD_CHARACTER, userStoreDomain));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Terminating all the active sessions of the users of userstore domain: " + userStoreDomain
+                    + " in tenant: " + tenantDomain + ".");
+        }
+        return terminateSessionsInPages(userIdPageReader, tenantId, tenantDomain, userStoreDomain);
+    }
+
+    private int resolveTenantIdForBulkTermination(String tenantDomain) throws SessionManagementException {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            throw handleSessionManagementClientException(ERROR_CODE_INVALID_DATA, "tenant domain is required");
+        }
+        int tenantId;
+        try {
+            tenantId = getTenantId(tenantDomain);
+        } catch (UserSessionException e) {
+            throw handleSessionManagementServerException(ERROR_CODE_UNABLE_TO_GET_SESSIONS, tenantDomain, e);
+        }
+        if (MultitenantConstants.INVALID_TENANT_ID == tenantId) {
+            throw handleSessionManagementClientException(ERROR_CODE_INVALID_DATA,
+                    "invalid tenant domain: " + tenantDomain);
+        }
+        return tenantId;
+    }
+
+    /**
+     * Terminates the sessions of the users read from the given reader page by page. Only the user ids of the
+     * current page are kept in memory. The session ids of a page of users are read with a single query, and the
+     * session records are removed in large batches.
+     *
+     * @param userIdPageReader Reader of the pages of unique user ids.
+     * @param tenantId         Id of the tenant whose sessions are terminated.
+     * @param tenantDomain     Domain of the tenant whose sessions are terminated.
+     * @param source           Userstore domain or tenant domain of the users, used in the error messages.
+     * @return Summary of the terminated sessions.
+     * @throws SessionManagementServerException if the user ids or the session ids can not be retrieved.
+     */
+    private BulkSessionTerminationResult terminateSessionsInPages(UserIdPageReader userIdPageReader, int tenantId,
+                                                                  String tenantDomain, String source)
+            throws SessionManagementServerException {
+
+        long startTime = System.currentTimeMillis();
+        BulkSessionTerminationResult result = new BulkSessionTerminationResult();
+        List<String> terminatedSessionIds = new ArrayList<>();
+        int userCount = 0;
+        try {
+            List<String> userIdPage = readUserIdPage(userIdPageReader, source);
+            while (!userIdPage.isEmpty()) {
+                terminateSessionsOfUserPage(userIdPage, tenantId, tenantDomain, terminatedSessionIds, result);
+                userCount += userIdPage.size();
+                userIdPage = readUserIdPage(userIdPageReader, source);
+            }
+        } finally {
+            if (!terminatedSessionIds.isEmpty()) {
+                UserSessionStore.getInstance().removeTerminatedSessionRecords(terminatedSessionIds);
+            }
+            result.setUserCount(userCount);
+            result.setDurationMillis(System.currentTimeMillis() - startTime);
+        }
+        log.info("Bulk session termination completed. Terminated " + result.getSessionCount() + " sessions of "
+                + result.getUserCount() + " users in " + result.getDurationMillis() + " ms ("
+                + result.getSessionsPerSecond() + " sessions/s).");
+        return result;
+    }
+
+    private List<String> readUserIdPage(UserIdPageReader userIdPageReader, String source)
+            throws SessionManagementServerException {
+
+        try {
+            return userIdPageReader.nextPage();
+        } catch (UserSessionException e) {
+            throw handleSessionManagementServerException(ERROR_CODE_UNABLE_TO_GET_SESSIONS, source, e);
+        }
+    }
+
+    private void terminateSessionsOfUserPage(List<String> userIdPage, int tenantId, String tenantDomain,
+                                             List<String> terminatedSessionIds, BulkSessionTerminationResult result)
+            throws SessionManagementServerException {
+
+        List<String> sessionIdList;
+        try {
+            sessionIdList = UserSessionStore.getInstance().getSessionIdsOfUsers(userIdPage, tenantId);
+        } catch (UserSessionException e) {
+            throw handleSessionManagementServerException(ERROR_CODE_UNABLE_TO_GET_SESSIONS,
+                    String.join(", ", userIdPage), e);
+        }
+        // The session contexts of the page are cleared and removed from the session data store in one batch.
+        FrameworkServiceDataHolder.getInstance().getServerSessionManagementService().removeSessions(sessionIdList,
+                tenantDomain);
+        terminatedSessionIds.addAll(sessionIdList);
+        if (terminatedSessionIds.size() >= BULK_TERMINATION_DELETE_BATCH_SIZE) {
+            UserSessionStore.getInstance().removeTerminatedSessionRecords(terminatedSessionIds);
+            terminatedSessionIds.clear();
+        }
+        result.setSessionCount(result.getSessionCount() + sessionIdList.size());
+        result.setPageCount(result.getPageCount() + 1);
+        if (log.isDebugEnabled()) {
+            log.debug("Terminated " + sessionIdList.size() + " sessions of a page of " + userIdPage.size()
+                    + " users. Total sessions terminated: " + result.getSessionCount() + ".");
+        }
+    }
+
+    /**
+     * Reads the unique ids of the users whose sessions are terminated in bulk, one page at a time.
+     */
+    @FunctionalInterface
+    private interface UserIdPageReader {
+
+        /**
+         * Returns the next page of user ids.
+         *
+         * @return Next page of user ids, or an empty list when there are no more users.
+         * @throws UserSessionException if the user ids can not be read.
+         */
+        List<String> nextPage() throws UserSessionException;
+    }
+
+    /**
+     * Reads the user ids of a userstore domain from the userstore, using a bounded page size so that the
+     * configured maximum user list length is never exceeded.
+     */
+    private static class UserStoreUserIdPageReader implements UserIdPageReader {
+
+        private final AbstractUserStoreManager userStoreManager;
+        private final String filter;
+        // Offsets of the userstore listing start from 1.
+        private int offset = 1;
+        private Set<String> previousPage = new HashSet<>();
+
+        UserStoreUserIdPageReader(AbstractUserStoreManager userStoreManager, String filter) {
+
+            this.userStoreManager = userStoreManager;
+            this.filter = filter;
+        }
+
+        @Override
+        public List<String> nextPage() throws UserSessionException {
+
+            List<org.wso2.carbon.user.core.common.User> users;
+            try {
+                users = userStoreManager.listUsersWithID(filter, BULK_TERMINATION_USER_PAGE_SIZE, offset);
+            } catch (UserStoreException e) {
+                throw new UserSessionException("Error while listing the users matching the filter: " + filter
+                        + " from offset: " + offset + ".", e);
+            }
+            List<String> userIdPage = new ArrayList<>(users.size());
+            for (org.wso2.carbon.user.core.common.User user : users) {
+                userIdPage.add(user.getUserID());
+            }
+            // Stop if the userstore does not honour the offset and returns the previous page again.
+            if (userIdPage.isEmpty() || previousPage.containsAll(userIdPage)) {
+                return Collections.emptyList();
+            }
+            offset += users.size();
+            previousPage = new HashSet<>(userIdPage);
+            return userIdPage;
+        }
+    }
+
+    /**
+     * Reads the user ids of the federated users from the session store, after the last user id of the previous page.
+     */
+    private static class FederatedUserIdPageReader implements UserIdPageReader {
+
+        private final String userStoreDomain;
+        private final int tenantId;
+        private String lastUserId;
+
+        FederatedUserIdPageReader(String userStoreDomain, int tenantId) {
+
+            this.userStoreDomain = userStoreDomain;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public List<String> nextPage() throws UserSessionException {
+
+            List<String> userIdPage = UserSessionStore.getInstance().getUserIdsOfUserStore(userStoreDomain, tenantId,
+                    lastUserId, BULK_TERMINATION_USER_PAGE_SIZE);
+            if (!userIdPage.isEmpty()) {
+                lastUserId = userIdPage.get(userIdPage.size() - 1);
+            }
+            return userIdPage;
+        }
+    }
+
     /**
      * Returns the user session of the given session id.
      *
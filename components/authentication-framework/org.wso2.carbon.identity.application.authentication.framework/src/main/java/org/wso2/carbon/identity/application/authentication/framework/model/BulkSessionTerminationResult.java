@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.model;
+
+/**
+ * Outcome of terminating the sessions of a set of users.
+ */
+public class BulkSessionTerminationResult {
+
+    private int userCount;
+    private int sessionCount;
+    private int pageCount;
+    private long durationMillis;
+
+    public int getUserCount() {
+
+        return userCount;
+    }
+
+    public void setUserCount(int userCount) {
+
+        this.userCount = userCount;
+    }
+
+    public int getSessionCount() {
+
+        return sessionCount;
+    }
+
+    public void setSessionCount(int sessionCount) {
+
+        this.sessionCount = sessionCount;
+    }
+
+    public int getPageCount() {
+
+        return pageCount;
+    }
+
+    public void setPageCount(int pageCount) {
+
+        this.pageCount = pageCount;
+    }
+
+    public long getDurationMillis() {
+
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Get the number of sessions terminated per second.
+     *
+     * @return Termination throughput.
+     */
+    public long getSessionsPerSecond() {
+
+        return durationMillis == 0 ? sessionCount : sessionCount * 1000L / durationMillis;
+    }
+
+    @Override
+    public String toString() {
+
+        return "BulkSessionTerminationResult{userCount=" + userCount + ", sessionCount=" + sessionCount
+                + ", pageCount=" + pageCount + ", durationMillis=" + durationMillis + ", sessionsPerSecond="
+                + getSessionsPerSecond() + "}";
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which writes a compact form of the Java serialization stream.
+ * <p>
+ * Instead of the full class descriptor (field names, field types and super class chain) only the class name, the
+ * serialVersionUID and a hash of the serializable fields are written for each class, and the descriptor is resolved
+ * from the locally loaded class when reading. Payloads larger than the configured threshold are deflate compressed.
+ * Every blob starts with a header holding a magic number, the format version and the flags, so blobs written by the
+ * {@link JavaSessionSerializer} are still read.
+ * <p>
+ * Since the descriptor is resolved from the local class, a blob can only be read by a node whose classes have the
+ * same serializable fields as the node which wrote it. A blob of another format version, or holding a class whose
+ * fields have changed, fails to de serialize instead of being read into the wrong fields, and the session data store
+ * treats it as a missing entry.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    private static final int MAGIC_FIRST_BYTE = 0x43;
+    private static final int MAGIC_SECOND_BYTE = 0x53;
+    private static final int FORMAT_VERSION = 2;
+    private static final int FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_LENGTH = 4;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 4096;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final ClassValue<Long> FIELD_SCHEMA_HASHES = new ClassValue<Long>() {
+
+        @Override
+        protected Long computeValue(Class<?> clazz) {
+
+            return computeFieldSchemaHash(ObjectStreamClass.lookupAny(clazz));
+        }
+    };
+
+    private final int compressionThreshold;
+
+    public CompactSessionSerializer() {
+
+        this(DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Creates a serializer which compresses payloads larger than the given number of bytes.
+     *
+     * @param compressionThreshold Payload size in bytes above which the payload is compressed. A negative value
+     *                             disables the compression.
+     */
+    public CompactSessionSerializer(int compressionThreshold) {
+
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new CompactObjectOutputStream(payload)) {
+            oos.writeObject(value);
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+
+        boolean compress = compressionThreshold >= 0 && payload.size() > compressionThreshold;
+        ByteArrayOutputStream blob = new ByteArrayOutputStream(compress ? payload.size() / 2 : payload.size()
+                + HEADER_LENGTH);
+        blob.write(MAGIC_FIRST_BYTE);
+        blob.write(MAGIC_SECOND_BYTE);
+        blob.write(FORMAT_VERSION);
+        blob.write(compress ? FLAG_COMPRESSED : 0);
+        try {
+            if (compress) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream deflaterStream = new DeflaterOutputStream(blob, deflater)) {
+                    payload.writeTo(deflaterStream);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                payload.writeTo(blob);
+            }
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while compressing the session object", e);
+        }
+        return new ByteArrayInputStream(blob.toByteArray());
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            InputStream bufferedStream = inputStream.markSupported() ? inputStream :
+                    new BufferedInputStream(inputStream);
+            bufferedStream.mark(HEADER_LENGTH);
+            int firstByte = bufferedStream.read();
+            int secondByte = bufferedStream.read();
+            if (firstByte != MAGIC_FIRST_BYTE || secondByte != MAGIC_SECOND_BYTE) {
+                // Blob written by the Java session serializer.
+                bufferedStream.reset();
+                return new ObjectInputStream(bufferedStream).readObject();
+            }
+            int version = bufferedStream.read();
+            if (version != FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version, null);
+            }
+            int flags = bufferedStream.read();
+            InputStream payload = (flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(bufferedStream) :
+                    bufferedStream;
+            try (ObjectInputStream ois = new CompactObjectInputStream(payload)) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    /**
+     * Computes a hash of the names and types of the serializable fields declared by a class, in the order they are
+     * serialized. Fields of the super classes are part of the descriptors of the super classes.
+     *
+     * @param desc Descriptor of the class.
+     * @return Hash of the serializable fields.
+     */
+    static long computeFieldSchemaHash(ObjectStreamClass desc) {
+
+        long hash = FNV_OFFSET_BASIS;
+        for (ObjectStreamField field : desc.getFields()) {
+            String fieldSchema = field.getName() + ':' + (field.isPrimitive() ? String.valueOf(field.getTypeCode()) :
+                    field.getTypeString()) + ';';
+            for (int i = 0; i < fieldSchema.length(); i++) {
+                hash = (hash ^ fieldSchema.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Object output stream which writes the class name, the serialVersionUID and the hash of the serializable fields
+     * in place of the class descriptor.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+
+            // The stream header is replaced by the serializer header.
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+            Class<?> clazz = desc.forClass();
+            writeLong(clazz != null ? FIELD_SCHEMA_HASHES.get(clazz) : computeFieldSchemaHash(desc));
+        }
+    }
+
+    /**
+     * Object input stream which resolves class descriptors written by the {@link CompactObjectOutputStream} from
+     * the locally loaded classes.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+
+            // The stream header is replaced by the serializer header.
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            String className = readUTF();
+            long serialVersionUID = readLong();
+            long fieldSchemaHash = readLong();
+            Class<?> clazz = loadClass(className);
+            ObjectStreamClass desc = ObjectStreamClass.lookupAny(clazz);
+            if (desc.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "Serialized version " + serialVersionUID +
+                        " does not match the local version " + desc.getSerialVersionUID());
+            }
+            if (FIELD_SCHEMA_HASHES.get(clazz) != fieldSchemaHash) {
+                throw new InvalidClassException(className, "Serialized fields do not match the local fields");
+            }
+            return desc;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            // The descriptors read by this stream are already bound to the resolved class.
+            Class<?> clazz = desc.forClass();
+            return clazz != null ? clazz : loadClass(desc.getName());
+        }
+
+        /**
+         * Load the class through the thread context class loader, which sees the classes of the bundle that stored
+         * the session object, and fall back to the class loader of the framework bundle.
+         */
+        private Class<?> loadClass(String className) throws ClassNotFoundException {
+
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader != null) {
+                try {
+                    return Class.forName(className, false, contextClassLoader);
+                } catch (ClassNotFoundException e) {
+                    // Not visible to the thread context class loader. Try the class loader of the framework bundle.
+                }
+            }
+            return Class.forName(className, false, CompactSessionSerializer.class.getClassLoader());
+        }
+    }
+}
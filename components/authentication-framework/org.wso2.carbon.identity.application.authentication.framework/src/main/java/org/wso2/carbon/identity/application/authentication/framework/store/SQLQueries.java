@@ -50,6 +50,13 @@ public class SQLQueries {
     public static final String SQL_SELECT_USER_IDS_OF_USER_STORE =
             "SELECT USER_ID FROM IDN_AUTH_USER WHERE DOMAIN_NAME = ? AND TENANT_ID =?";
 
+    public static final String SQL_SELECT_USER_IDS_OF_USER_STORE_FIRST_PAGE =
+            "SELECT USER_ID FROM IDN_AUTH_USER WHERE DOMAIN_NAME = ? AND TENANT_ID = ? ORDER BY USER_ID";
+
+    public static final String SQL_SELECT_USER_IDS_OF_USER_STORE_AFTER_USER_ID =
+            "SELECT USER_ID FROM IDN_AUTH_USER WHERE DOMAIN_NAME = ? AND TENANT_ID = ? AND USER_ID > ? " +
+                    "ORDER BY USER_ID";
+
     public static final String SQL_SELECT_INFO_OF_USER_ID =
             "SELECT USER_ID FROM IDN_AUTH_USER WHERE USER_ID = ?";
 
@@ -59,6 +66,11 @@ public class SQLQueries {
     public static final String SQL_SELECT_SESSION_ID_OF_USER_ID =
             "SELECT SESSION_ID FROM IDN_AUTH_USER_SESSION_MAPPING WHERE USER_ID = ?";
 
+    public static final String SQL_SELECT_SESSION_IDS_OF_USER_IDS =
+            "SELECT DISTINCT SESSION_ID FROM IDN_AUTH_USER_SESSION_MAPPING WHERE USER_ID IN (%s) AND SESSION_ID IN " +
+                    "(SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" +
+                    SESSION_CONTEXT_CACHE_NAME + "' AND TENANT_ID = ?)";
+
     public static final String SQL_SELECT_TERMINATED_SESSION_IDS =
             "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
                     + "' AND EXPIRY_TIME < ?";
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes expired records from a session store table by ranges of the expiry time.
+ * <p>
+ * The expired time range is split into windows which are cleaned by parallel workers. Each worker deletes the records
+ * of a small slice of its window at a time with a plain range condition on EXPIRY_TIME, which uses the expiry time
+ * index on every supported database. The slice width is adapted to the observed statement latency, so each delete
+ * statement holds its locks for about the target latency. When a statement fails due to lock contention or a
+ * deadlock, the worker pauses, narrows the slice and retries.
+ */
+public class SessionDataCleanUpEngine {
+
+    private static final Log log = LogFactory.getLog(SessionDataCleanUpEngine.class);
+
+    private static final String SQL_SELECT_MIN_EXPIRY_TIME =
+            "SELECT MIN(EXPIRY_TIME) FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ?";
+    private static final String SQL_DELETE_EXPIRY_TIME_RANGE =
+            "DELETE FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME >= ? AND EXPIRY_TIME < ?";
+    private static final int WINDOWS_PER_WORKER = 4;
+    private static final int MAX_CONTENTION_RETRIES = 5;
+    private static final long MIN_SLICE_WIDTH = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_CHECK_INTERVAL = 1;
+
+    private final String tableName;
+    private final Callable<Connection> connectionProvider;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final long targetStatementLatencyNanos;
+    private final long contentionPauseMillis;
+    private final AtomicLong sliceWidth;
+
+    private final AtomicLong deletedRecordCount = new AtomicLong();
+    private final AtomicLong statementCount = new AtomicLong();
+    private final AtomicLong contentionCount = new AtomicLong();
+    private final AtomicInteger completedWindowCount = new AtomicInteger();
+    private volatile int windowCount;
+    private volatile long lastRunDeletedRecordCount;
+    private volatile long lastRunDurationMillis;
+
+    /**
+     * Creates a clean up engine for the given session store table.
+     *
+     * @param tableName                 Name of the session store table.
+     * @param connectionProvider        Provides session database connections with auto commit disabled.
+     * @param workers                   Executor which runs the workers. The executor is owned by the caller.
+     * @param workerCount               Number of parallel workers.
+     * @param targetStatementLatency    Target duration of a single delete statement in milliseconds.
+     * @param initialSliceWidth         Initial expiry time range deleted by a single statement, in seconds.
+     * @param contentionPause           Pause of a worker after lock contention, in milliseconds.
+     */
+    public SessionDataCleanUpEngine(String tableName, Callable<Connection> connectionProvider, ExecutorService workers,
+                                    int workerCount, long targetStatementLatency, long initialSliceWidth,
+                                    long contentionPause) {
+
+        this.tableName = tableName;
+        this.connectionProvider = connectionProvider;
+        this.workers = workers;
+        this.workerCount = Math.max(1, workerCount);
+        this.targetStatementLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, targetStatementLatency));
+        this.sliceWidth = new AtomicLong(Math.max(MIN_SLICE_WIDTH, TimeUnit.SECONDS.toNanos(initialSliceWidth)));
+        this.contentionPauseMillis = Math.max(0, contentionPause);
+    }
+
+    /**
+     * Removes the records which expired before the given time.
+     *
+     * @param currentTime Current time in the expiry time scale.
+     */
+    public void removeExpiredRecords(long currentTime) {
+
+        long startTime = System.currentTimeMillis();
+        long deletedBefore = deletedRecordCount.get();
+        Long minExpiryTime = getMinExpiryTime(currentTime);
+        if (minExpiryTime == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("No expired records found in " + tableName);
+            }
+            return;
+        }
+
+        List<long[]> windows = splitIntoWindows(minExpiryTime, currentTime);
+        windowCount = windows.size();
+        completedWindowCount.set(0);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (long[] window : windows) {
+                results.add(workers.submit(() -> cleanWindow(window[0], window[1])));
+            }
+            for (Future<?> result : results) {
+                awaitWindow(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while removing expired records from " + tableName);
+            for (Future<?> result : results) {
+                result.cancel(true);
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("Workers are shut down. Stopped removing expired records from " + tableName);
+            for (Future<?> result : results) {
+                result.cancel(true);
+            }
+        }
+
+        lastRunDeletedRecordCount = deletedRecordCount.get() - deletedBefore;
+        lastRunDurationMillis = System.currentTimeMillis() - startTime;
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Removed %d expired records from %s in %d ms using %d windows. Throughput: %d " +
+                            "records/s, statements: %d, contentions: %d.", lastRunDeletedRecordCount, tableName,
+                    lastRunDurationMillis, windowCount, getLastRunThroughput(), statementCount.get(),
+                    contentionCount.get()));
+        }
+    }
+
+    public long getDeletedRecordCount() {
+
+        return deletedRecordCount.get();
+    }
+
+    public long getStatementCount() {
+
+        return statementCount.get();
+    }
+
+    public long getContentionCount() {
+
+        return contentionCount.get();
+    }
+
+    /**
+     * Returns the progress of the current or last run.
+     *
+     * @return Number of completed windows and the total number of windows.
+     */
+    public int[] getProgress() {
+
+        return new int[]{completedWindowCount.get(), windowCount};
+    }
+
+    public long getLastRunDeletedRecordCount() {
+
+        return lastRunDeletedRecordCount;
+    }
+
+    /**
+     * Returns the number of records removed per second in the last run.
+     *
+     * @return Throughput of the last run.
+     */
+    public long getLastRunThroughput() {
+
+        return lastRunDurationMillis == 0 ? lastRunDeletedRecordCount :
+                lastRunDeletedRecordCount * 1000 / lastRunDurationMillis;
+    }
+
+    /**
+     * Returns the expiry time range currently deleted by a single statement.
+     *
+     * @return Slice width in nanoseconds.
+     */
+    public long getSliceWidth() {
+
+        return sliceWidth.get();
+    }
+
+    private Long getMinExpiryTime(long currentTime) {
+
+        try (Connection connection = connectionProvider.call()) {
+            try (PreparedStatement statement = connection.prepareStatement(getQuery(SQL_SELECT_MIN_EXPIRY_TIME))) {
+                statement.setLong(1, currentTime);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    Long minExpiryTime = null;
+                    if (resultSet.next()) {
+                        long value = resultSet.getLong(1);
+                        minExpiryTime = resultSet.wasNull() ? null : value;
+                    }
+                    connection.commit();
+                    return minExpiryTime;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error while reading the minimum expiry time of " + tableName, e);
+            return null;
+        }
+    }
+
+    private List<long[]> splitIntoWindows(long from, long to) {
+
+        List<long[]> windows = new ArrayList<>();
+        int count = workerCount * WINDOWS_PER_WORKER;
+        long length = Math.max(1, (to - from) / count + 1);
+        for (long start = from; start < to; start += length) {
+            windows.add(new long[]{start, Math.min(to, start + length)});
+        }
+        return windows;
+    }
+
+    /**
+     * Waits for the given window to be cleaned. A window which was not started when the workers were shut down is
+     * cancelled, as it would never be cleaned.
+     */
+    private void awaitWindow(Future<?> result) throws InterruptedException {
+
+        while (true) {
+            try {
+                result.get(SHUTDOWN_CHECK_INTERVAL, TimeUnit.SECONDS);
+                return;
+            } catch (ExecutionException e) {
+                log.error("Error while removing expired records from " + tableName, e.getCause());
+                return;
+            } catch (CancellationException e) {
+                return;
+            } catch (TimeoutException e) {
+                if (workers.isShutdown()) {
+                    result.cancel(true);
+                    return;
+                }
+            }
+        }
+    }
+
+    private Void cleanWindow(long from, long to) throws Exception {
+
+        try (Connection connection = connectionProvider.call()) {
+            try (PreparedStatement statement = connection.prepareStatement(getQuery(SQL_DELETE_EXPIRY_TIME_RANGE))) {
+                long start = from;
+                int retries = 0;
+                while (start < to && !Thread.currentThread().isInterrupted()) {
+                    long width = sliceWidth.get();
+                    long end = Math.min(to, start + width);
+                    long statementStart = System.nanoTime();
+                    try {
+                        statement.setLong(1, start);
+                        statement.setLong(2, end);
+                        int deleted = statement.executeUpdate();
+                        connection.commit();
+                        statementCount.incrementAndGet();
+                        deletedRecordCount.addAndGet(deleted);
+                        adaptSliceWidth(width, System.nanoTime() - statementStart);
+                        start = end;
+                        retries = 0;
+                    } catch (SQLException e) {
+                        connection.rollback();
+                        if (!isContention(e) || ++retries > MAX_CONTENTION_RETRIES) {
+                            throw e;
+                        }
+                        contentionCount.incrementAndGet();
+                        sliceWidth.set(Math.max(MIN_SLICE_WIDTH, width / 2));
+                        if (log.isDebugEnabled()) {
+                            log.debug("Lock contention while removing expired records from " + tableName
+                                    + ". Pausing for " + contentionPauseMillis + " ms.", e);
+                        }
+                        Thread.sleep(contentionPauseMillis);
+                    }
+                }
+            }
+        } finally {
+            completedWindowCount.incrementAndGet();
+        }
+        return null;
+    }
+
+    /**
+     * Narrows the slice if the statement took longer than the target latency and widens it if the statement was
+     * considerably faster.
+     */
+    private void adaptSliceWidth(long width, long latencyNanos) {
+
+        if (latencyNanos > targetStatementLatencyNanos) {
+            long adapted = Math.max(MIN_SLICE_WIDTH, (long) (width * ((double) targetStatementLatencyNanos /
+                    latencyNanos)));
+            sliceWidth.compareAndSet(width, adapted);
+            if (latencyNanos > targetStatementLatencyNanos * 4 && contentionPauseMillis > 0) {
+                // The database is under pressure. Give other transactions a chance before the next statement.
+                try {
+                    Thread.sleep(contentionPauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } else if (latencyNanos < targetStatementLatencyNanos / 2 && width < Long.MAX_VALUE / 2) {
+            sliceWidth.compareAndSet(width, width * 2);
+        }
+    }
+
+    private boolean isContention(SQLException e) {
+
+        if (e instanceof SQLTransientException || e instanceof SQLTransactionRollbackException) {
+            return true;
+        }
+        String sqlState = e.getSQLState();
+        // 40001: serialization failure or deadlock, 40P01: PostgreSQL deadlock, 55P03: PostgreSQL lock not available,
+        // 1205 and 1213: MySQL lock wait timeout and deadlock, 60: Oracle deadlock, 1222: MS SQL lock timeout.
+        return "40001".equals(sqlState) || "40P01".equals(sqlState) || "55P03".equals(sqlState)
+                || e.getErrorCode() == 1205 || e.getErrorCode() == 1213 || e.getErrorCode() == 60
+                || e.getErrorCode() == 1222;
+    }
+
+    private String getQuery(String query) {
+
+        return query.replace(SessionDataStore.DEFAULT_SESSION_STORE_TABLE_NAME, tableName);
+    }
+}
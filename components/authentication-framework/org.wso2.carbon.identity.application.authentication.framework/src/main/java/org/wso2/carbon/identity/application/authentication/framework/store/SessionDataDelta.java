@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Difference between two serialized forms of a session data entry.
+ * <p>
+ * A delta is stored in place of the full session object when only a small part of the serialized object has changed
+ * since the last full snapshot of the same entry. It holds the time at which the snapshot was created and a list of
+ * instructions, which either copy a range of the snapshot or insert new bytes. Matching ranges are found with a rolling
+ * hash over fixed size blocks of the snapshot, so changes at several places of the object are encoded compactly.
+ */
+public class SessionDataDelta implements Serializable {
+
+    private static final long serialVersionUID = -3409719027183640121L;
+
+    private static final int BLOCK_SIZE = 32;
+    private static final int HASH_BASE = 31;
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    private final long baseTimeCreated;
+    private final int targetLength;
+    private final long targetChecksum;
+    private final byte[] instructions;
+
+    private SessionDataDelta(long baseTimeCreated, int targetLength, long targetChecksum, byte[] instructions) {
+
+        this.baseTimeCreated = baseTimeCreated;
+        this.targetLength = targetLength;
+        this.targetChecksum = targetChecksum;
+        this.instructions = instructions;
+    }
+
+    /**
+     * Create the delta which transforms the given snapshot to the given target.
+     *
+     * @param base            Serialized snapshot.
+     * @param baseTimeCreated Time at which the snapshot was stored.
+     * @param target          Serialized entry to be stored.
+     * @return Delta of the target.
+     */
+    public static SessionDataDelta create(byte[] base, long baseTimeCreated, byte[] target) {
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            int literalStart = 0;
+            if (base.length >= BLOCK_SIZE && target.length >= BLOCK_SIZE) {
+                Map<Integer, Integer> blockIndex = indexBlocks(base);
+                int highPower = power(BLOCK_SIZE - 1);
+                int position = 0;
+                int hash = hash(target, 0);
+                while (position + BLOCK_SIZE <= target.length) {
+                    Integer offset = blockIndex.get(hash);
+                    if (offset != null && regionMatches(base, offset, target, position, BLOCK_SIZE)) {
+                        int backward = 0;
+                        while (position - backward > literalStart && offset - backward > 0
+                                && base[offset - backward - 1] == target[position - backward - 1]) {
+                            backward++;
+                        }
+                        int length = BLOCK_SIZE;
+                        while (offset + length < base.length && position + length < target.length
+                                && base[offset + length] == target[position + length]) {
+                            length++;
+                        }
+                        writeInsert(out, target, literalStart, position - backward);
+                        out.writeByte(COPY);
+                        out.writeInt(offset - backward);
+                        out.writeInt(length + backward);
+                        position += length;
+                        literalStart = position;
+                        if (position + BLOCK_SIZE <= target.length) {
+                            hash = hash(target, position);
+                        }
+                    } else {
+                        if (position + BLOCK_SIZE < target.length) {
+                            hash = (hash - target[position] * highPower) * HASH_BASE + target[position + BLOCK_SIZE];
+                        }
+                        position++;
+                    }
+                }
+            }
+            writeInsert(out, target, literalStart, target.length);
+        } catch (IOException e) {
+            // Writing to a byte array does not fail.
+            throw new IllegalStateException("Error while encoding the session data delta.", e);
+        }
+        return new SessionDataDelta(baseTimeCreated, target.length, checksum(target), buffer.toByteArray());
+    }
+
+    /**
+     * Rebuild the serialized entry from the snapshot which this delta was created from.
+     *
+     * @param base Serialized snapshot.
+     * @return Serialized entry.
+     * @throws IOException If the delta can not be applied to the given snapshot.
+     */
+    public byte[] apply(byte[] base) throws IOException {
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream(targetLength);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(instructions))) {
+            while (in.available() > 0) {
+                byte instruction = in.readByte();
+                if (instruction == COPY) {
+                    int offset = in.readInt();
+                    int length = in.readInt();
+                    if (offset < 0 || length < 0 || offset + length > base.length) {
+                        throw new IOException("Session data delta does not match the snapshot.");
+                    }
+                    target.write(base, offset, length);
+                } else if (instruction == INSERT) {
+                    byte[] literal = new byte[in.readInt()];
+                    in.readFully(literal);
+                    target.write(literal);
+                } else {
+                    throw new IOException("Invalid session data delta instruction: " + instruction);
+                }
+            }
+        }
+        byte[] result = target.toByteArray();
+        if (result.length != targetLength || checksum(result) != targetChecksum) {
+            throw new IOException("Session data delta does not match the snapshot.");
+        }
+        return result;
+    }
+
+    /**
+     * Get the time at which the snapshot of this delta was stored.
+     *
+     * @return Creation time of the snapshot.
+     */
+    public long getBaseTimeCreated() {
+
+        return baseTimeCreated;
+    }
+
+    /**
+     * Get the size of the encoded changes.
+     *
+     * @return Size of the delta in bytes.
+     */
+    public int getSize() {
+
+        return instructions.length;
+    }
+
+    private static void writeInsert(DataOutputStream out, byte[] target, int start, int end) throws IOException {
+
+        if (end > start) {
+            out.writeByte(INSERT);
+            out.writeInt(end - start);
+            out.write(target, start, end - start);
+        }
+    }
+
+    private static Map<Integer, Integer> indexBlocks(byte[] base) {
+
+        Map<Integer, Integer> blockIndex = new HashMap<>(base.length / BLOCK_SIZE * 2);
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            blockIndex.putIfAbsent(hash(base, offset), offset);
+        }
+        return blockIndex;
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_BASE + bytes[i];
+        }
+        return hash;
+    }
+
+    private static int power(int exponent) {
+
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= HASH_BASE;
+        }
+        return result;
+    }
+
+    private static boolean regionMatches(byte[] first, int firstOffset, byte[] second, int secondOffset,
+                                         int length) {
+
+        for (int i = 0; i < length; i++) {
+            if (first[firstOffset + i] != second[secondOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long checksum(byte[] bytes) {
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+}
@@ -21,7 +21,10 @@ package org.wso2.carbon.identity.application.authentication.framework.store;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Task to persist and remove session data
@@ -31,11 +34,29 @@ public class SessionDataPersistTask implements Runnable {
     private static final Log log = LogFactory.getLog(SessionDataPersistTask.class);
     private BlockingDeque<SessionContextDO> sessionContextQueue;
     private static volatile boolean running;
+    private int batchSize = 1;
+    private long flushIntervalNanos;
 
     public SessionDataPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue) {
         this.sessionContextQueue = sessionContextQueue;
     }
 
+    /**
+     * Creates a task which drains up to the given number of entries, or the entries that arrive within the given
+     * flush interval, and writes them to the store as a single batch.
+     *
+     * @param sessionContextQueue  Queue holding the pending session data operations.
+     * @param batchSize            Maximum number of entries written in one batch.
+     * @param flushIntervalMillis  Maximum time to wait for a batch to fill up, in milliseconds.
+     */
+    public SessionDataPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                  long flushIntervalMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    }
+
     @Override
     public void run() {
 
@@ -45,6 +66,10 @@ public class SessionDataPersistTask implements Runnable {
         while (running) {
 
             try {
+                if (batchSize > 1) {
+                    persistBatch();
+                    continue;
+                }
                 SessionContextDO sessionContextDO = sessionContextQueue.take();
                 if (sessionContextDO != null) {
                     if (sessionContextDO.getEntry() == null) {
@@ -67,6 +92,31 @@ public class SessionDataPersistTask implements Runnable {
         }
     }
 
+    private void persistBatch() throws InterruptedException {
+
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        batch.add(sessionContextQueue.take());
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (sessionContextQueue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+            SessionContextDO sessionContextDO = sessionContextQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (sessionContextDO == null) {
+                break;
+            }
+            batch.add(sessionContextDO);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Session Data batch persisting Task is started to run with " + batch.size() + " entries.");
+        }
+        SessionDataStore.getInstance().persistSessionDataBatch(batch);
+    }
+
     public static void shutdown() {
         running = false;
     }
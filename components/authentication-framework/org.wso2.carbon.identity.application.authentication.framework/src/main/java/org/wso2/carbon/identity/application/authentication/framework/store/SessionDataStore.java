@@ -35,6 +35,8 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
@@ -42,11 +44,20 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Data will be persisted or stored date will be removed from the store. These two events are considered as STORE
@@ -82,6 +93,18 @@ public class SessionDataStore {
     private static final String SQL_DELETE_TEMP_RECORDS =
             "DELETE FROM IDN_AUTH_TEMP_SESSION_STORE WHERE SESSION_ID = ? AND  SESSION_TYPE = ?";
 
+    private static final String SQL_SELECT_DELETE_OPERATIONS =
+            "SELECT SESSION_ID, SESSION_TYPE FROM IDN_AUTH_SESSION_STORE WHERE OPERATION = '" + OPERATION_DELETE +
+                    "' AND SESSION_ID IN (%s)";
+    private static final int MAX_DELETE_OPERATION_LOOKUP_SIZE = 100;
+
+    private static final String SQL_SELECT_STORE_OBJECT_BY_TIME =
+            "SELECT SESSION_OBJECT FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND SESSION_TYPE = ? AND " +
+                    "OPERATION = '" + OPERATION_STORE + "' AND TIME_CREATED = ?";
+    private static final String SQL_UPDATE_STORE_EXPIRY_BY_TIME =
+            "UPDATE IDN_AUTH_SESSION_STORE SET EXPIRY_TIME = ? WHERE SESSION_ID = ? AND SESSION_TYPE = ? AND " +
+                    "OPERATION = '" + OPERATION_STORE + "' AND TIME_CREATED = ?";
+
     private static final String SQL_DESERIALIZE_OBJECT_MYSQL =
             "SELECT OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
                     " SESSION_TYPE=? ORDER BY TIME_CREATED DESC LIMIT 1";
@@ -127,12 +150,23 @@ public class SessionDataStore {
     private static final String INFORMIX_DATABASE = "Informix";
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_DELTA_MAX_COUNT = 4;
+    private static final long DEFAULT_DELTA_SNAPSHOT_INTERVAL = 300;
+    private static final int DEFAULT_DELTA_MAX_TRACKED_ENTRIES = 1000;
+    private static final double DELTA_MAX_SIZE_RATIO = 0.5;
+    private static final int DEFAULT_CLEANUP_WORKER_COUNT = 4;
+    private static final long DEFAULT_CLEANUP_TARGET_STATEMENT_LATENCY = 500;
+    private static final long DEFAULT_CLEANUP_INITIAL_WINDOW = 60;
+    private static final long DEFAULT_CLEANUP_CONTENTION_PAUSE = 1000;
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
-    private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
+    private static int sessionDataBatchSize = 1;
+    private static long sessionDataBatchFlushInterval = 100;
+    private static int sessionDataQueueCapacity = Integer.MAX_VALUE;
+    private static BlockingDeque<SessionContextDO> sessionContextQueue;
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
@@ -149,6 +183,20 @@ public class SessionDataStore {
     private static boolean tempDataCleanupEnabled = false;
     private static boolean periodicTempDataCleanupEnabled = true;
     private static boolean sessionAndTempDataSeparationEnabled = false;
+    private final AtomicLong persistedBatchCount = new AtomicLong();
+    private final AtomicLong coalescedOperationCount = new AtomicLong();
+    private final AtomicLong rejectedOperationCount = new AtomicLong();
+    private final AtomicLong lastBatchFlushLatency = new AtomicLong();
+    private boolean deltaPersistEnabled = false;
+    private int deltaMaxCount = DEFAULT_DELTA_MAX_COUNT;
+    private long deltaSnapshotIntervalNano = TimeUnit.SECONDS.toNanos(DEFAULT_DELTA_SNAPSHOT_INTERVAL);
+    private Map<String, DeltaSnapshot> deltaSnapshots;
+    private final AtomicLong deltaWriteCount = new AtomicLong();
+    private final AtomicLong snapshotWriteCount = new AtomicLong();
+    private final AtomicLong deltaBytesSaved = new AtomicLong();
+    private SessionDataCleanUpEngine sessionDataCleanUpEngine;
+    private SessionDataCleanUpEngine tempDataCleanUpEngine;
+    private ExecutorService cleanUpWorkers;
 
     static {
         try {
@@ -184,17 +232,40 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            String batchSizeValue = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Size");
+            if (StringUtils.isNotBlank(batchSizeValue)) {
+                sessionDataBatchSize = Integer.parseInt(batchSizeValue);
+            }
+
+            String batchFlushIntervalValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.FlushInterval");
+            if (StringUtils.isNotBlank(batchFlushIntervalValue)) {
+                sessionDataBatchFlushInterval = Long.parseLong(batchFlushIntervalValue);
+            }
+
+            String queueCapacityValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.QueueCapacity");
+            if (StringUtils.isNotBlank(queueCapacityValue) && Integer.parseInt(queueCapacityValue) > 0) {
+                sessionDataQueueCapacity = Integer.parseInt(queueCapacityValue);
+            }
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
+        sessionContextQueue = new LinkedBlockingDeque<>(sessionDataQueueCapacity);
         if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
+            if (sessionDataBatchSize > 1) {
+                log.info(String.format("Session data is persisted in batches of %d entries with a flush interval of " +
+                        "%d ms.", sessionDataBatchSize, sessionDataBatchFlushInterval));
+            }
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
-                threadPool.execute(new SessionDataPersistTask(sessionContextQueue));
+                threadPool.execute(new SessionDataPersistTask(sessionContextQueue, sessionDataBatchSize,
+                        sessionDataBatchFlushInterval));
             }
         }
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0) {
@@ -267,6 +338,8 @@ public class SessionDataStore {
         if (!enablePersist) {
             log.info("Session Data Persistence of Authentication framework is not enabled.");
         }
+        initDeltaPersistence();
+        initParallelCleanUp();
         String isCleanUpEnabledVal
                 = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Enable");
 
@@ -360,7 +433,14 @@ public class SessionDataStore {
                 String operation = resultSet.getString(1);
                 long nanoTime = resultSet.getLong(3);
                 if (StringUtils.equalsIgnoreCase(requiredOperation, operation)) {
-                    return new SessionContextDO(key, type, getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
+                    Object entry = getBlobObject(resultSet.getBinaryStream(2));
+                    if (entry instanceof SessionDataDelta) {
+                        entry = applySessionDataDelta(connection, key, type, (SessionDataDelta) entry);
+                        if (entry == null) {
+                            return null;
+                        }
+                    }
+                    return new SessionContextDO(key, type, entry, nanoTime);
                 }
             }
         } catch (ClassNotFoundException | IOException | SQLException | SessionSerializerException |
@@ -384,11 +464,11 @@ public class SessionDataStore {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
-        if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
-        } else {
-            persistSessionData(key, type, entry, nanoTime, tenantId);
+        if (maxSessionDataPoolSize > 0 && !isTempCache(type)
+                && enqueueSessionData(new SessionContextDO(key, type, entry, nanoTime, tenantId))) {
+            return;
         }
+        persistSessionData(key, type, entry, nanoTime, tenantId);
     }
 
     public void clearSessionData(String key, String type) {
@@ -396,11 +476,131 @@ public class SessionDataStore {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
-        if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
-        } else {
-            removeSessionData(key, type, nanoTime);
+        if (maxSessionDataPoolSize > 0 && !isTempCache(type)
+                && enqueueSessionData(new SessionContextDO(key, type, null, nanoTime))) {
+            return;
+        }
+        removeSessionData(key, type, nanoTime);
+    }
+
+    /**
+     * Removes the session data of the given keys. The DELETE operations are persisted in a single batch, instead of
+     * one transaction per key.
+     *
+     * @param keys Keys of the session data.
+     * @param type Type of the session data.
+     */
+    public void clearSessionData(List<String> keys, String type) {
+
+        if (!enablePersist || keys == null || keys.isEmpty()) {
+            return;
         }
+        long nanoTime = FrameworkUtils.getCurrentStandardNano();
+        List<SessionContextDO> deleteOperations = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            deleteOperations.add(new SessionContextDO(key, type, null, nanoTime));
+        }
+        persistSessionDataBatch(deleteOperations);
+    }
+
+    /**
+     * Adds the given operation to the persist queue. When the queue has reached its configured capacity the
+     * operation is not queued, so that the caller writes it synchronously and the queue cannot grow without bound.
+     *
+     * @param sessionContextDO Session data operation.
+     * @return true if the operation was queued.
+     */
+    private boolean enqueueSessionData(SessionContextDO sessionContextDO) {
+
+        if (sessionContextQueue.offerFirst(sessionContextDO)) {
+            return true;
+        }
+        rejectedOperationCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Session data persist queue is full. Persisting the operation for key : " +
+                    sessionContextDO.getKey() + " in the caller thread.");
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of session data operations waiting to be persisted.
+     *
+     * @return Size of the session data persist queue.
+     */
+    public int getPendingOperationCount() {
+
+        return sessionContextQueue.size();
+    }
+
+    /**
+     * Returns the number of batches written by the session data persist tasks.
+     *
+     * @return Persisted batch count.
+     */
+    public long getPersistedBatchCount() {
+
+        return persistedBatchCount.get();
+    }
+
+    /**
+     * Returns the number of operations that were dropped in favour of a newer operation on the same key.
+     *
+     * @return Coalesced operation count.
+     */
+    public long getCoalescedOperationCount() {
+
+        return coalescedOperationCount.get();
+    }
+
+    /**
+     * Returns the number of operations that were persisted in the caller thread as the queue was full.
+     *
+     * @return Rejected operation count.
+     */
+    public long getRejectedOperationCount() {
+
+        return rejectedOperationCount.get();
+    }
+
+    /**
+     * Returns the time taken to write the last batch, in milliseconds.
+     *
+     * @return Last batch flush latency.
+     */
+    public long getLastBatchFlushLatency() {
+
+        return lastBatchFlushLatency.get();
+    }
+
+    /**
+     * Returns the number of session data entries persisted as a delta of an earlier snapshot.
+     *
+     * @return Number of delta writes.
+     */
+    public long getDeltaWriteCount() {
+
+        return deltaWriteCount.get();
+    }
+
+    /**
+     * Returns the number of session data entries persisted as a full snapshot while delta persistence is enabled.
+     *
+     * @return Number of snapshot writes.
+     */
+    public long getSnapshotWriteCount() {
+
+        return snapshotWriteCount.get();
+    }
+
+    /**
+     * Returns the number of bytes which were not written as the entries were persisted as deltas.
+     *
+     * @return Number of bytes saved by delta persistence.
+     */
+    public long getDeltaBytesSaved() {
+
+        return deltaBytesSaved.get();
     }
 
     /**
@@ -410,6 +610,9 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        if (cleanUpWorkers != null) {
+            cleanUpWorkers.shutdownNow();
+        }
     }
 
     /**
@@ -497,10 +700,18 @@ public class SessionDataStore {
             }
         }
         if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            if (sessionDataCleanUpEngine != null) {
+                sessionDataCleanUpEngine.removeExpiredRecords(FrameworkUtils.getCurrentStandardNano());
+            } else {
+                removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            }
         }
         if (tempDataCleanupEnabled && periodicTempDataCleanupEnabled) {
-            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
+            if (tempDataCleanUpEngine != null) {
+                tempDataCleanUpEngine.removeExpiredRecords(FrameworkUtils.getCurrentStandardNano());
+            } else {
+                removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
+            }
         }
         if (operationDataCleanupEnabled) {
             removeInvalidatedSTOREOperations();
@@ -539,20 +750,48 @@ public class SessionDataStore {
         }
 
         PreparedStatement preparedStatement = null;
+        String snapshotKey = null;
+        byte[] serializedEntry = null;
+        DeltaSnapshot snapshot = null;
+        SessionDataDelta delta = null;
+        long expiryTime = nanoTime + validityPeriodNano;
         try {
             String sqlQuery = getSessionStoreDBQuery(sqlInsertSTORE, type);
             preparedStatement = connection.prepareStatement(sqlQuery);
             preparedStatement.setString(1, key);
             preparedStatement.setString(2, type);
             preparedStatement.setString(3, OPERATION_STORE);
-            setBlobObject(preparedStatement, entry, 4);
+            if (entry != null && isDeltaPersistEnabled(type)) {
+                snapshotKey = getDeltaSnapshotKey(key, type);
+                serializedEntry = serializeSessionObject(entry);
+                snapshot = deltaSnapshots.get(snapshotKey);
+                delta = createSessionDataDelta(snapshot, serializedEntry, nanoTime);
+                if (delta != null) {
+                    // A delta must not outlive the snapshot which it is applied to, hence extend the snapshot.
+                    if (expiryTime > snapshot.expiryTime) {
+                        extendSnapshotExpiry(connection, key, type, snapshot.timeCreated, expiryTime);
+                    }
+                    setBlobObject(preparedStatement, delta, 4);
+                } else {
+                    preparedStatement.setBinaryStream(4, new ByteArrayInputStream(serializedEntry),
+                            serializedEntry.length);
+                }
+            } else {
+                setBlobObject(preparedStatement, entry, 4);
+            }
             preparedStatement.setLong(5, nanoTime);
-            preparedStatement.setLong(6, nanoTime + validityPeriodNano);
+            preparedStatement.setLong(6, expiryTime);
             preparedStatement.setInt(7, tenantId);
             preparedStatement.executeUpdate();
             IdentityDatabaseUtil.commitTransaction(connection);
+            if (serializedEntry != null) {
+                recordDeltaPersistence(snapshotKey, snapshot, delta, serializedEntry, nanoTime, expiryTime);
+            }
         } catch (SQLException | IOException | SessionSerializerException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
+            if (snapshotKey != null) {
+                deltaSnapshots.remove(snapshotKey);
+            }
             log.error("Error while storing session data", e);
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, null, preparedStatement);
@@ -563,10 +802,214 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persists a batch of STORE and DELETE operations in a single transaction. Operations on the same key and type are
+     * coalesced so that only the latest one is written, since only the latest record is considered when reading. If
+     * the batch fails, the operations are persisted one by one, so that a single failing operation does not discard
+     * the others.
+     *
+     * @param sessionContextDOs Session data operations. An operation without an entry is a DELETE operation.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs == null || sessionContextDOs.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        Map<String, SessionContextDO> latestOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            String operationKey = sessionContextDO.getType() + ":" + sessionContextDO.getKey();
+            SessionContextDO existing = latestOperations.get(operationKey);
+            if (existing == null || existing.getNanoTime() <= sessionContextDO.getNanoTime()) {
+                latestOperations.put(operationKey, sessionContextDO);
+            }
+        }
+        coalescedOperationCount.addAndGet(sessionContextDOs.size() - latestOperations.size());
+
+        Map<String, List<SessionContextDO>> storeOperations = new LinkedHashMap<>();
+        Map<String, List<SessionContextDO>> deleteOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : latestOperations.values()) {
+            String type = sessionContextDO.getType();
+            if (sessionContextDO.getEntry() != null) {
+                storeOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertSTORE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+            } else if (tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type)) {
+                tempAuthnContextDataDeleteQueue.push(sessionContextDO);
+            } else {
+                deleteOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertDELETE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+            }
+        }
+        if (storeOperations.isEmpty() && deleteOperations.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        try {
+            removeDeletedSessionData(connection, deleteOperations);
+            for (Map.Entry<String, List<SessionContextDO>> queryEntry : storeOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(queryEntry.getKey())) {
+                    for (SessionContextDO sessionContextDO : queryEntry.getValue()) {
+                        setStoreOperation(preparedStatement, sessionContextDO);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            for (Map.Entry<String, List<SessionContextDO>> queryEntry : deleteOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(queryEntry.getKey())) {
+                    for (SessionContextDO sessionContextDO : queryEntry.getValue()) {
+                        setDeleteOperation(preparedStatement, sessionContextDO);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while persisting a batch of " + latestOperations.size() + " session data operations. " +
+                    "Persisting the operations one by one.", e);
+            persistSessionDataOneByOne(connection, storeOperations, deleteOperations);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, null, null);
+        }
+
+        long latency = System.currentTimeMillis() - startTime;
+        lastBatchFlushLatency.set(latency);
+        persistedBatchCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Persisted a batch of %d session data operations (%d received) in %d ms. " +
+                            "Pending operations in the queue : %d", latestOperations.size(), sessionContextDOs.size(),
+                    latency, sessionContextQueue.size()));
+        }
+    }
+
+    /**
+     * Persists the operations of a failed batch one by one, each in its own transaction.
+     *
+     * @param connection       Database connection.
+     * @param storeOperations  STORE operations by the query used to persist them.
+     * @param deleteOperations DELETE operations by the query used to persist them.
+     */
+    private void persistSessionDataOneByOne(Connection connection, Map<String, List<SessionContextDO>> storeOperations,
+                                            Map<String, List<SessionContextDO>> deleteOperations) {
+
+        int failedOperationCount = 0;
+        for (Map.Entry<String, List<SessionContextDO>> queryEntry : storeOperations.entrySet()) {
+            for (SessionContextDO sessionContextDO : queryEntry.getValue()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(queryEntry.getKey())) {
+                    setStoreOperation(preparedStatement, sessionContextDO);
+                    preparedStatement.executeUpdate();
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                } catch (SQLException | IOException | SessionSerializerException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    failedOperationCount++;
+                    log.error("Error while storing session data. key : " + sessionContextDO.getKey() + " type : " +
+                            sessionContextDO.getType(), e);
+                }
+            }
+        }
+        for (Map.Entry<String, List<SessionContextDO>> queryEntry : deleteOperations.entrySet()) {
+            for (SessionContextDO sessionContextDO : queryEntry.getValue()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(queryEntry.getKey())) {
+                    setDeleteOperation(preparedStatement, sessionContextDO);
+                    preparedStatement.executeUpdate();
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                } catch (SQLException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    failedOperationCount++;
+                    log.error("Error while storing DELETE operation session data. key : " +
+                            sessionContextDO.getKey() + " type : " + sessionContextDO.getType(), e);
+                }
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted the session data operations of a failed batch one by one. Failed operations : " +
+                    failedOperationCount);
+        }
+    }
+
+    private void setStoreOperation(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException, IOException, SessionSerializerException {
+
+        Object entry = sessionContextDO.getEntry();
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(sessionContextDO.getType(), sessionContextDO.getTenantId());
+        }
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_STORE);
+        setBlobObject(preparedStatement, entry, 4);
+        preparedStatement.setLong(5, sessionContextDO.getNanoTime());
+        preparedStatement.setLong(6, sessionContextDO.getNanoTime() + validityPeriodNano);
+        preparedStatement.setInt(7, sessionContextDO.getTenantId());
+    }
+
+    private void setDeleteOperation(PreparedStatement preparedStatement, SessionContextDO sessionContextDO)
+            throws SQLException {
+
+        preparedStatement.setString(1, sessionContextDO.getKey());
+        preparedStatement.setString(2, sessionContextDO.getType());
+        preparedStatement.setString(3, OPERATION_DELETE);
+        preparedStatement.setLong(4, sessionContextDO.getNanoTime());
+        preparedStatement.setLong(5, sessionContextDO.getNanoTime() +
+                getCleanupTimeout(sessionContextDO.getType(), MultitenantConstants.INVALID_TENANT_ID));
+    }
+
+    /**
+     * Removes the DELETE operations of session data which is already deleted, looking up the deleted session data of
+     * each table with a query per chunk of keys instead of a query per operation. Session data with a DELETE operation
+     * is considered deleted, as its STORE operations are removed by the operation clean up task.
+     *
+     * @param connection       Database connection.
+     * @param deleteOperations DELETE operations by the query used to persist them.
+     * @throws SQLException If an error occurs while looking up the DELETE operations.
+     */
+    private void removeDeletedSessionData(Connection connection, Map<String, List<SessionContextDO>> deleteOperations)
+            throws SQLException {
+
+        for (List<SessionContextDO> operations : deleteOperations.values()) {
+            Set<String> deletedOperationKeys = new HashSet<>();
+            for (int from = 0; from < operations.size(); from += MAX_DELETE_OPERATION_LOOKUP_SIZE) {
+                List<SessionContextDO> chunk = operations.subList(from,
+                        Math.min(from + MAX_DELETE_OPERATION_LOOKUP_SIZE, operations.size()));
+                String sqlQuery = getSessionStoreDBQuery(String.format(SQL_SELECT_DELETE_OPERATIONS,
+                        String.join(",", Collections.nCopies(chunk.size(), "?"))), chunk.get(0).getType());
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQuery)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setString(i + 1, chunk.get(i).getKey());
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            deletedOperationKeys.add(resultSet.getString(2) + ":" + resultSet.getString(1));
+                        }
+                    }
+                }
+            }
+            operations.removeIf(sessionContextDO -> deletedOperationKeys.contains(
+                    sessionContextDO.getType() + ":" + sessionContextDO.getKey()));
+        }
+        deleteOperations.values().removeIf(List::isEmpty);
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
         }
+        if (deltaSnapshots != null) {
+            deltaSnapshots.remove(getDeltaSnapshotKey(key, type));
+        }
 
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type)) {
             tempAuthnContextDataDeleteQueue.push(new SessionContextDO(key, type, null, nanoTime));
@@ -618,6 +1061,9 @@ public class SessionDataStore {
         if (!enablePersist) {
             return;
         }
+        if (deltaSnapshots != null) {
+            deltaSnapshots.remove(getDeltaSnapshotKey(key, type));
+        }
         Connection connection = null;
         try {
             connection = IdentityDatabaseUtil.getSessionDBConnection(true);
@@ -707,6 +1153,250 @@ public class SessionDataStore {
 
     }
 
+    private void initDeltaPersistence() {
+
+        deltaPersistEnabled = Boolean.parseBoolean(
+                IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Delta.Enable"));
+        if (!deltaPersistEnabled) {
+            return;
+        }
+        int maxTrackedEntries = DEFAULT_DELTA_MAX_TRACKED_ENTRIES;
+        try {
+            String maxCountValue = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Delta.MaxCount");
+            if (StringUtils.isNotBlank(maxCountValue)) {
+                deltaMaxCount = Integer.parseInt(maxCountValue);
+            }
+            String snapshotIntervalValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Delta.SnapshotInterval");
+            if (StringUtils.isNotBlank(snapshotIntervalValue)) {
+                deltaSnapshotIntervalNano = TimeUnit.SECONDS.toNanos(Long.parseLong(snapshotIntervalValue));
+            }
+            String maxTrackedEntriesValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Delta.MaxTrackedEntries");
+            if (StringUtils.isNotBlank(maxTrackedEntriesValue)) {
+                maxTrackedEntries = Integer.parseInt(maxTrackedEntriesValue);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid session data delta persistence configuration. Default values would be used", e);
+        }
+        final int snapshotCapacity = maxTrackedEntries;
+        deltaSnapshots = Collections.synchronizedMap(new LinkedHashMap<String, DeltaSnapshot>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DeltaSnapshot> eldest) {
+
+                return size() > snapshotCapacity;
+            }
+        });
+        log.info(String.format("Temporary session data is persisted as deltas with up to %d deltas per snapshot.",
+                deltaMaxCount));
+    }
+
+    private void initParallelCleanUp() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(
+                "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Parallel.Enable"))) {
+            return;
+        }
+        int workerCount = DEFAULT_CLEANUP_WORKER_COUNT;
+        long targetStatementLatency = DEFAULT_CLEANUP_TARGET_STATEMENT_LATENCY;
+        long initialWindow = DEFAULT_CLEANUP_INITIAL_WINDOW;
+        long contentionPause = DEFAULT_CLEANUP_CONTENTION_PAUSE;
+        try {
+            String workerCountValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Parallel.WorkerCount");
+            if (StringUtils.isNotBlank(workerCountValue)) {
+                workerCount = Integer.parseInt(workerCountValue);
+            }
+            String latencyValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Parallel.TargetStatementLatency");
+            if (StringUtils.isNotBlank(latencyValue)) {
+                targetStatementLatency = Long.parseLong(latencyValue);
+            }
+            String initialWindowValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Parallel.InitialWindow");
+            if (StringUtils.isNotBlank(initialWindowValue)) {
+                initialWindow = Long.parseLong(initialWindowValue);
+            }
+            String contentionPauseValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Parallel.ContentionPause");
+            if (StringUtils.isNotBlank(contentionPauseValue)) {
+                contentionPause = Long.parseLong(contentionPauseValue);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid parallel session data clean up configuration. Default values would be used", e);
+        }
+        workerCount = Math.max(1, workerCount);
+        // The workers are shared by the clean up engines, as the session data and the temporary data are not cleaned
+        // at the same time.
+        cleanUpWorkers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "SessionDataCleanUpWorker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sessionDataCleanUpEngine = new SessionDataCleanUpEngine(DEFAULT_SESSION_STORE_TABLE_NAME,
+                () -> IdentityDatabaseUtil.getSessionDBConnection(true), cleanUpWorkers, workerCount,
+                targetStatementLatency, initialWindow, contentionPause);
+        tempDataCleanUpEngine = new SessionDataCleanUpEngine(replaceTableName(DEFAULT_SESSION_STORE_TABLE_NAME),
+                () -> IdentityDatabaseUtil.getSessionDBConnection(true), cleanUpWorkers, workerCount,
+                targetStatementLatency, initialWindow, contentionPause);
+        log.info(String.format("Expired session data is removed by %d parallel workers.", workerCount));
+    }
+
+    /**
+     * Get the engine which removes the expired session data in parallel.
+     *
+     * @return Clean up engine of the session data, or null if the parallel clean up is not enabled.
+     */
+    public SessionDataCleanUpEngine getSessionDataCleanUpEngine() {
+
+        return sessionDataCleanUpEngine;
+    }
+
+    /**
+     * Get the engine which removes the expired temporary session data in parallel.
+     *
+     * @return Clean up engine of the temporary session data, or null if the parallel clean up is not enabled.
+     */
+    public SessionDataCleanUpEngine getTempDataCleanUpEngine() {
+
+        return tempDataCleanUpEngine;
+    }
+
+    private boolean isDeltaPersistEnabled(String type) {
+
+        return deltaPersistEnabled && isTempCache(type);
+    }
+
+    private String getDeltaSnapshotKey(String key, String type) {
+
+        return type + ":" + key;
+    }
+
+    /**
+     * Creates the delta of the given entry, if the last snapshot of the entry written by this node is recent enough
+     * and the delta is considerably smaller than the entry.
+     *
+     * @param snapshot        Last snapshot of the entry written by this node.
+     * @param serializedEntry Serialized entry.
+     * @param nanoTime        Time of the write.
+     * @return Delta, or null if the entry should be written as a new snapshot.
+     */
+    private SessionDataDelta createSessionDataDelta(DeltaSnapshot snapshot, byte[] serializedEntry, long nanoTime) {
+
+        if (snapshot == null || snapshot.deltaCount.get() >= deltaMaxCount
+                || nanoTime - snapshot.timeCreated > deltaSnapshotIntervalNano || nanoTime >= snapshot.expiryTime) {
+            return null;
+        }
+        SessionDataDelta delta = SessionDataDelta.create(snapshot.serializedEntry, snapshot.timeCreated,
+                serializedEntry);
+        if (delta.getSize() > serializedEntry.length * DELTA_MAX_SIZE_RATIO) {
+            return null;
+        }
+        return delta;
+    }
+
+    private void recordDeltaPersistence(String snapshotKey, DeltaSnapshot snapshot, SessionDataDelta delta,
+                                        byte[] serializedEntry, long nanoTime, long expiryTime) {
+
+        if (delta != null) {
+            snapshot.deltaCount.incrementAndGet();
+            if (expiryTime > snapshot.expiryTime) {
+                snapshot.expiryTime = expiryTime;
+            }
+            deltaWriteCount.incrementAndGet();
+            deltaBytesSaved.addAndGet(serializedEntry.length - delta.getSize());
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted a delta of " + delta.getSize() + " bytes in place of " + serializedEntry.length
+                        + " bytes for key : " + snapshotKey);
+            }
+        } else {
+            deltaSnapshots.put(snapshotKey, new DeltaSnapshot(serializedEntry, nanoTime, expiryTime));
+            snapshotWriteCount.incrementAndGet();
+        }
+    }
+
+    private void extendSnapshotExpiry(Connection connection, String key, String type, long timeCreated,
+                                      long expiryTime) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                getSessionStoreDBQuery(SQL_UPDATE_STORE_EXPIRY_BY_TIME, type))) {
+            preparedStatement.setLong(1, expiryTime);
+            preparedStatement.setString(2, key);
+            preparedStatement.setString(3, type);
+            preparedStatement.setLong(4, timeCreated);
+            preparedStatement.executeUpdate();
+        }
+    }
+
+    /**
+     * Rebuilds the entry from the given delta and the snapshot which the delta was created from.
+     *
+     * @return Entry, or null if the snapshot is not available anymore.
+     */
+    private Object applySessionDataDelta(Connection connection, String key, String type, SessionDataDelta delta)
+            throws SQLException, IOException, SessionSerializerException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                getSessionStoreDBQuery(SQL_SELECT_STORE_OBJECT_BY_TIME, type))) {
+            preparedStatement.setString(1, key);
+            preparedStatement.setString(2, type);
+            preparedStatement.setLong(3, delta.getBaseTimeCreated());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Snapshot of the session data delta is not available. key : " + key + " type : "
+                                + type);
+                    }
+                    return null;
+                }
+                byte[] snapshot = readBytes(resultSet.getBinaryStream(1));
+                return FrameworkServiceDataHolder.getInstance().getSessionSerializer()
+                        .deSerializeSessionObject(new ByteArrayInputStream(delta.apply(snapshot)));
+            }
+        }
+    }
+
+    private byte[] serializeSessionObject(Object value) throws IOException, SessionSerializerException {
+
+        return readBytes(FrameworkServiceDataHolder.getInstance().getSessionSerializer()
+                .serializeSessionObject(value));
+    }
+
+    private byte[] readBytes(InputStream inputStream) throws IOException {
+
+        if (inputStream == null) {
+            return new byte[0];
+        }
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Last full snapshot of a session data entry written by this node.
+     */
+    private static class DeltaSnapshot {
+
+        private final byte[] serializedEntry;
+        private final long timeCreated;
+        private volatile long expiryTime;
+        private final AtomicInteger deltaCount = new AtomicInteger();
+
+        DeltaSnapshot(byte[] serializedEntry, long timeCreated, long expiryTime) {
+
+            this.serializedEntry = serializedEntry;
+            this.timeCreated = timeCreated;
+            this.expiryTime = expiryTime;
+        }
+    }
+
     private boolean isTempCache(String type) {
 
         IdentityCacheConfig identityCacheConfig = IdentityUtil.getIdentityCacheConfig(CACHE_MANAGER_NAME, type);
@@ -223,7 +223,8 @@ public class UserSessionStore {
      * Method to return the user Ids of the users in a given user store from the database.
      * @deprecated
      * User ids of local users are no longer stored in IDN_AUTH_USER table and user ids of all the users in a domain
-     * should not be retrieved at once.
+     * should not be retrieved at once. Use {@link #getUserIdsOfUserStore(String, int, String, int)} to read the user
+     * ids in pages.
      *
      * @param userDomain name of the user Store domain
      * @param tenantId   id of the tenant domain
@@ -256,6 +257,43 @@ public class UserSessionStore {
         return userIds;
     }
 
+    /**
+     * Method to return a page of the user Ids of the users in a given user store from the database. The user Ids are
+     * returned in ascending order, so that the next page can be read after the last user Id of the previous page.
+     *
+     * @param userDomain  name of the user Store domain
+     * @param tenantId    id of the tenant domain
+     * @param afterUserId last user Id of the previous page, or null to read the first page
+     * @param limit       maximum number of user Ids to return
+     * @return the page of user Ids of users stored in the given user store
+     * @throws UserSessionException if an error occurs when retrieving the user id list from the database
+     */
+    public List<String> getUserIdsOfUserStore(String userDomain, int tenantId, String afterUserId, int limit)
+            throws UserSessionException {
+
+        List<String> userIds = new ArrayList<>();
+        String query = afterUserId == null ? SQLQueries.SQL_SELECT_USER_IDS_OF_USER_STORE_FIRST_PAGE :
+                SQLQueries.SQL_SELECT_USER_IDS_OF_USER_STORE_AFTER_USER_ID;
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false);
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setString(1, userDomain.toUpperCase());
+            preparedStatement.setInt(2, tenantId);
+            if (afterUserId != null) {
+                preparedStatement.setString(3, afterUserId);
+            }
+            preparedStatement.setMaxRows(limit);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next() && userIds.size() < limit) {
+                    userIds.add(resultSet.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new UserSessionException("Error while retrieving user Ids stored in the user domain: " + userDomain
+                    + ", Tenant Id: " + tenantId, e);
+        }
+        return userIds;
+    }
+
     /**
      * Method to identity providers id from the IDP table.
      *
@@ -425,6 +463,42 @@ public class UserSessionStore {
         return sessionIdList;
     }
 
+    /**
+     * Method to get the session Id list of a given set of user Ids with a single query. Only the sessions created in
+     * the given tenant are returned. The number of user Ids should be kept within the limit of the bind parameters
+     * of a statement.
+     *
+     * @param userIds  ids of the users
+     * @param tenantId id of the tenant of the sessions
+     * @return the list of session ids
+     * @throws UserSessionException if an error occurs when retrieving the session id list from the database
+     */
+    public List<String> getSessionIdsOfUsers(List<String> userIds, int tenantId) throws UserSessionException {
+
+        List<String> sessionIdList = new ArrayList<>();
+        if (userIds.isEmpty()) {
+            return sessionIdList;
+        }
+        String placeholders = StringUtils.repeat("?", ", ", userIds.size());
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    String.format(SQLQueries.SQL_SELECT_SESSION_IDS_OF_USER_IDS, placeholders))) {
+                for (int i = 0; i < userIds.size(); i++) {
+                    preparedStatement.setString(i + 1, userIds.get(i));
+                }
+                preparedStatement.setInt(userIds.size() + 1, tenantId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        sessionIdList.add(resultSet.getString(1));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new UserSessionException("Error while retrieving session Ids of " + userIds.size() + " users.", e);
+        }
+        return sessionIdList;
+    }
+
     /**
      * Removes all the expired session records from relevant tables.
      */
@@ -295,6 +295,7 @@ public abstract class FrameworkConstants {
                 + ".ReturnOnlyMappedLocalRoles";
         public static final String SEND_MANUALLY_ADDED_LOCAL_ROLES_OF_IDP = "FederatedRoleManagement"
                 + ".ReturnManuallyAddedLocalRoles";
+        public static final String RETRIEVE_REQUESTED_CLAIMS_ONLY = "ClaimHandler.RetrieveRequestedClaimsOnly";
 
         /**
          * Configuration name for setting the url for receiving tenant list upon any modification to a tenant
@@ -379,6 +380,14 @@ public abstract class FrameworkConstants {
         public static final String SESSION_DATA_STORAGE_OPTIMIZATION_ENABLED =
                 "JDBCPersistenceManager.SessionDataPersist.SessionDataStorageOptimization.Enable";
 
+        /**
+         * Configurations used to select the session serializer.
+         */
+        public static final String SESSION_SERIALIZER_TYPE = "JDBCPersistenceManager.SessionDataPersist.Serializer.Type";
+        public static final String SESSION_SERIALIZER_COMPRESSION_THRESHOLD =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.CompressionThreshold";
+        public static final String COMPACT_SESSION_SERIALIZER = "compact";
+
         /**
          * Configuration to enable publishing the active session count in analytics event.
          */
@@ -684,6 +693,8 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_CONTEXT_POOL_SIZE = "AdaptiveAuth.GraalJS.ContextPool.Size";
     }
 
     /**
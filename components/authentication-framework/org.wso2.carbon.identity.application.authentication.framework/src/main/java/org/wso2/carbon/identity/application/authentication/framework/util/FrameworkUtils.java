@@ -112,7 +112,6 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
-import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
@@ -141,7 +140,7 @@ import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagemen
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManager;
-import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.idp.mgt.cache.ResidentIdPSnapshot;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
@@ -3141,38 +3140,6 @@ public class FrameworkUtils {
                 fromJsSerializable(value, engine);
     }
 
-    /**
-     * Get the configurations of a tenant from cache or database.
-     *
-     * @param tenantDomain Domain name of the tenant
-     * @return Configurations belong to the tenant
-     */
-    private static Property[] getResidentIdpConfiguration(String tenantDomain) throws FrameworkException {
-
-        IdpManager identityProviderManager = IdentityProviderManager.getInstance();
-        IdentityProvider residentIdp = null;
-        try {
-            residentIdp = identityProviderManager.getResidentIdP(tenantDomain);
-        } catch (IdentityProviderManagementException e) {
-            String errorMsg = String.format("Error while retrieving resident Idp for %s tenant.", tenantDomain);
-            throw new FrameworkException(errorMsg, e);
-        }
-        IdentityProviderProperty[] identityMgtProperties = residentIdp.getIdpProperties();
-        Property[] configMap = new Property[identityMgtProperties.length];
-        int index = 0;
-        for (IdentityProviderProperty identityMgtProperty : identityMgtProperties) {
-            if (ALREADY_WRITTEN_PROPERTY.equals(identityMgtProperty.getName())) {
-                continue;
-            }
-            Property property = new Property();
-            property.setName(identityMgtProperty.getName());
-            property.setValue(identityMgtProperty.getValue());
-            configMap[index] = property;
-            index++;
-        }
-        return configMap;
-    }
-
     /**
      * This method is used to get the requested resident Idp configuration details.
      *
@@ -3184,17 +3151,27 @@ public class FrameworkUtils {
     public static Property getResidentIdpConfiguration(String propertyName, String tenantDomain) throws
             FrameworkException {
 
-        Property requestedProperty = null;
-        Property[] allProperties = getResidentIdpConfiguration(tenantDomain);
-        for (int i = 0; i < allProperties.length; i++) {
-            if (propertyName.equals(allProperties[i].getName())) {
-                requestedProperty = allProperties[i];
-                break;
-            }
+        if (ALREADY_WRITTEN_PROPERTY.equals(propertyName)) {
+            return null;
         }
-
+        String propertyValue = getResidentIdPSnapshot(tenantDomain).getIdPPropertyValue(propertyName);
+        if (propertyValue == null) {
+            return null;
+        }
+        Property requestedProperty = new Property();
+        requestedProperty.setName(propertyName);
+        requestedProperty.setValue(propertyValue);
         return requestedProperty;
+    }
 
+    private static ResidentIdPSnapshot getResidentIdPSnapshot(String tenantDomain) throws FrameworkException {
+
+        try {
+            return IdentityProviderManager.getInstance().getResidentIdPSnapshot(tenantDomain);
+        } catch (IdentityProviderManagementException e) {
+            String errorMsg = String.format("Error while retrieving resident Idp for %s tenant.", tenantDomain);
+            throw new FrameworkException(errorMsg, e);
+        }
     }
 
     /**
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationServerException;
+import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for reading the {@link AuthenticationContextCache} entries from the session data store.
+ */
+public class AuthenticationContextCacheTest {
+
+    private static final String CACHE_NAME = "AuthenticationContextCache";
+    private static final String CONTEXT_ID = "0f3a2c84-5d1b-4c7e-9a6f-2b8d4e1c7a90";
+    private static final int CONCURRENT_READS = 5;
+
+    private AuthenticationContextCache authenticationContextCache;
+    private SessionDataStore sessionDataStore;
+    private SessionDataStore originalSessionDataStore;
+    private AuthenticationContextCacheKey cacheKey;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        sessionDataStore = mock(SessionDataStore.class);
+        originalSessionDataStore = setSessionDataStore(sessionDataStore);
+        authenticationContextCache = spy(createAuthenticationContextCache());
+        cacheKey = new AuthenticationContextCacheKey(CONTEXT_ID);
+
+        // Cache misses in this node.
+        doReturn(null).when(authenticationContextCache).getValueFromCache(any(AuthenticationContextCacheKey.class),
+                nullable(String.class));
+        doNothing().when(authenticationContextCache).addToCache(any(AuthenticationContextCacheKey.class),
+                any(AuthenticationContextCacheEntry.class), nullable(String.class));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        setSessionDataStore(originalSessionDataStore);
+    }
+
+    @Test
+    public void testConcurrentMissesReadSessionDataStoreOnce() throws Exception {
+
+        AuthenticationContextCacheEntry entry = buildCacheEntry();
+        CountDownLatch storeReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseStoreRead = new CountDownLatch(1);
+        when(sessionDataStore.getSessionData(CONTEXT_ID, CACHE_NAME)).thenAnswer(invocation -> {
+            storeReadStarted.countDown();
+            releaseStoreRead.await(10, TimeUnit.SECONDS);
+            return entry;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_READS);
+        try {
+            List<Future<AuthenticationContextCacheEntry>> reads = new ArrayList<>();
+            reads.add(executorService.submit(() -> authenticationContextCache.getValueFromCache(cacheKey)));
+            assertTrue(storeReadStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < CONCURRENT_READS; i++) {
+                reads.add(executorService.submit(() -> authenticationContextCache.getValueFromCache(cacheKey)));
+            }
+            // Release the store read only after all the other misses wait for it.
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (authenticationContextCache.getCoalescedLoadCount() < CONCURRENT_READS - 1
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            releaseStoreRead.countDown();
+
+            for (Future<AuthenticationContextCacheEntry> read : reads) {
+                assertSame(read.get(10, TimeUnit.SECONDS), entry);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(sessionDataStore, times(1)).getSessionData(CONTEXT_ID, CACHE_NAME);
+        assertEquals(authenticationContextCache.getStoreLoadCount(), 1);
+        assertEquals(authenticationContextCache.getCoalescedLoadCount(), CONCURRENT_READS - 1);
+        verify(authenticationContextCache, times(1)).addToCache(eq(cacheKey), eq(entry), nullable(String.class));
+    }
+
+    @Test
+    public void testFailedStoreReadIsRetried() {
+
+        AuthenticationContextCacheEntry entry = buildCacheEntry();
+        when(sessionDataStore.getSessionData(CONTEXT_ID, CACHE_NAME))
+                .thenThrow(new RuntimeException("Session data store is not reachable."))
+                .thenReturn(entry);
+
+        try {
+            authenticationContextCache.getValueFromCache(cacheKey);
+            fail("The session data store read failure should be thrown to the caller.");
+        } catch (RuntimeException e) {
+            assertEquals(e.getMessage(), "Session data store is not reachable.");
+        }
+        verify(authenticationContextCache, never()).addToCache(any(AuthenticationContextCacheKey.class),
+                any(AuthenticationContextCacheEntry.class), nullable(String.class));
+
+        assertSame(authenticationContextCache.getValueFromCache(cacheKey), entry);
+        verify(sessionDataStore, times(2)).getSessionData(CONTEXT_ID, CACHE_NAME);
+        assertEquals(authenticationContextCache.getCoalescedLoadCount(), 0);
+    }
+
+    @Test
+    public void testFailedContextLoadIsNotCached() throws Exception {
+
+        AuthenticationContextCacheEntry entry = buildCacheEntry();
+        when(sessionDataStore.getSessionData(CONTEXT_ID, CACHE_NAME)).thenReturn(entry);
+        AuthenticationContextLoader authenticationContextLoader = mock(AuthenticationContextLoader.class);
+        doThrow(new SessionDataStorageOptimizationServerException("Error while loading the context."))
+                .doNothing()
+                .when(authenticationContextLoader).loadAuthenticationContext(any(AuthenticationContext.class));
+
+        try (MockedStatic<AuthenticationContextLoader> loader = mockStatic(AuthenticationContextLoader.class)) {
+            loader.when(AuthenticationContextLoader::getInstance).thenReturn(authenticationContextLoader);
+
+            assertNull(authenticationContextCache.getValueFromCache(cacheKey));
+            verify(authenticationContextCache, never()).addToCache(any(AuthenticationContextCacheKey.class),
+                    any(AuthenticationContextCacheEntry.class), nullable(String.class));
+
+            assertSame(authenticationContextCache.getValueFromCache(cacheKey), entry);
+            assertTrue(entry.isContextLoaded());
+        }
+        verify(sessionDataStore, times(2)).getSessionData(CONTEXT_ID, CACHE_NAME);
+    }
+
+    @Test
+    public void testLoadedContextIsNotLoadedAgain() throws Exception {
+
+        AuthenticationContextCacheEntry entry = buildCacheEntry();
+        doReturn(entry).when(authenticationContextCache).getValueFromCache(eq(cacheKey), nullable(String.class));
+        AuthenticationContextLoader authenticationContextLoader = mock(AuthenticationContextLoader.class);
+
+        try (MockedStatic<AuthenticationContextLoader> loader = mockStatic(AuthenticationContextLoader.class)) {
+            loader.when(AuthenticationContextLoader::getInstance).thenReturn(authenticationContextLoader);
+
+            // The first hit loads the context, and the following hits use the loaded context.
+            assertSame(authenticationContextCache.getValueFromCache(cacheKey), entry);
+            assertTrue(entry.isContextLoaded());
+            assertEquals(authenticationContextCache.getSkippedContextLoadCount(), 0);
+
+            assertSame(authenticationContextCache.getValueFromCache(cacheKey), entry);
+            assertSame(authenticationContextCache.getValueFromCache(cacheKey), entry);
+        }
+        verify(authenticationContextLoader, times(1)).loadAuthenticationContext(entry.getContext());
+        assertEquals(authenticationContextCache.getSkippedContextLoadCount(), 2);
+        verify(sessionDataStore, never()).getSessionData(anyString(), anyString());
+    }
+
+    private AuthenticationContextCache createAuthenticationContextCache() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Temporary"))
+                    .thenReturn("true");
+            Constructor<AuthenticationContextCache> constructor =
+                    AuthenticationContextCache.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        }
+    }
+
+    private SessionDataStore setSessionDataStore(SessionDataStore store) throws Exception {
+
+        Field instance = SessionDataStore.class.getDeclaredField("instance");
+        instance.setAccessible(true);
+        SessionDataStore previous = (SessionDataStore) instance.get(null);
+        instance.set(null, store);
+        return previous;
+    }
+
+    private AuthenticationContextCacheEntry buildCacheEntry() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier(CONTEXT_ID);
+        context.setTenantDomain("carbon.super");
+        return new AuthenticationContextCacheEntry(context);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Context;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+
+/**
+ * Unit tests for {@link GraalContextPool}.
+ */
+public class GraalContextPoolTest {
+
+    private static final int POOL_SIZE = 2;
+
+    @Test
+    public void testBorrowDoesNotShareState() throws Exception {
+
+        GraalContextPool contextPool = new GraalContextPool(() -> Context.newBuilder("js")
+                .option("engine.WarnInterpreterOnly", "false").build(), POOL_SIZE);
+        try {
+            waitForPool(contextPool);
+            Context firstContext = contextPool.borrow();
+            firstContext.eval("js", "var leakedValue = 'tenant-a';");
+            firstContext.close();
+
+            Context secondContext = contextPool.borrow();
+            assertNotSame(secondContext, firstContext);
+            assertFalse(secondContext.getBindings("js").hasMember("leakedValue"));
+            secondContext.close();
+            assertEquals(contextPool.getBorrowCount(), 2);
+        } finally {
+            contextPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBorrowFallsBackWhenExhausted() {
+
+        GraalContextPool contextPool = new GraalContextPool(() -> Context.newBuilder("js")
+                .option("engine.WarnInterpreterOnly", "false").build(), POOL_SIZE);
+        contextPool.shutdown();
+
+        Context context = contextPool.borrow();
+        context.close();
+
+        assertEquals(contextPool.getFallbackCount(), 1);
+    }
+
+    private void waitForPool(GraalContextPool contextPool) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (contextPool.getAvailableCount() < POOL_SIZE && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Source;
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.listener.GraalScriptSourceCacheAppMgtListener;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link GraalScriptSourceCache}.
+ */
+public class GraalScriptSourceCacheTest {
+
+    private static final String TENANT_DOMAIN = "source-cache.com";
+    private static final String APPLICATION_NAME = "source-cache-app";
+    private static final String SCRIPT = "var onLoginRequest = function(context) { executeStep(1); };";
+    private static final String UPDATED_SCRIPT = "var onLoginRequest = function(context) { executeStep(2); };";
+
+    @Test
+    public void testApplicationSourceIsReused() throws Exception {
+
+        GraalScriptSourceCache sourceCache = GraalScriptSourceCache.getInstance();
+        long hitCount = sourceCache.getHitCount();
+
+        Source source = sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME, SCRIPT);
+        Source cachedSource = sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME,
+                new String(SCRIPT.toCharArray()));
+
+        assertSame(cachedSource, source);
+        assertEquals(sourceCache.getHitCount() - hitCount, 1);
+    }
+
+    @Test(dependsOnMethods = "testApplicationSourceIsReused")
+    public void testApplicationSourceIsReplacedOnScriptChange() throws Exception {
+
+        GraalScriptSourceCache sourceCache = GraalScriptSourceCache.getInstance();
+        Source source = sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME, SCRIPT);
+
+        Source updatedSource = sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME, UPDATED_SCRIPT);
+
+        assertNotSame(updatedSource, source);
+        assertEquals(updatedSource.getCharacters().toString(), UPDATED_SCRIPT);
+        assertSame(sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME, UPDATED_SCRIPT), updatedSource);
+    }
+
+    @Test(dependsOnMethods = "testApplicationSourceIsReplacedOnScriptChange")
+    public void testInvalidate() throws Exception {
+
+        GraalScriptSourceCache sourceCache = GraalScriptSourceCache.getInstance();
+        Source source = sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME, UPDATED_SCRIPT);
+
+        sourceCache.invalidate(TENANT_DOMAIN);
+
+        assertNotSame(sourceCache.getApplicationSource(TENANT_DOMAIN, APPLICATION_NAME, UPDATED_SCRIPT), source);
+    }
+
+    @Test
+    public void testApplicationListenerInvalidatesSources() throws Exception {
+
+        GraalScriptSourceCache sourceCache = GraalScriptSourceCache.getInstance();
+        GraalScriptSourceCacheAppMgtListener listener = new GraalScriptSourceCacheAppMgtListener();
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("source-cache-listener-app");
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.readEventListenerProperty(anyString(), anyString())).thenReturn(null);
+
+            Source source = sourceCache.getApplicationSource(TENANT_DOMAIN, "source-cache-listener-app", SCRIPT);
+            listener.doPostUpdateApplication(serviceProvider, TENANT_DOMAIN, "admin");
+            Source updatedSource = sourceCache.getApplicationSource(TENANT_DOMAIN, "source-cache-listener-app",
+                    SCRIPT);
+            assertNotSame(updatedSource, source);
+
+            listener.doPostDeleteApplication(serviceProvider, TENANT_DOMAIN, "admin");
+            assertNotSame(sourceCache.getApplicationSource(TENANT_DOMAIN, "source-cache-listener-app", SCRIPT),
+                    updatedSource);
+        }
+    }
+
+    @Test
+    public void testContentSourceIsReused() throws Exception {
+
+        GraalScriptSourceCache sourceCache = GraalScriptSourceCache.getInstance();
+        String code = "(function(context) { return 'source-cache'; })";
+
+        assertSame(sourceCache.getSource(new String(code.toCharArray())), sourceCache.getSource(code));
+    }
+}
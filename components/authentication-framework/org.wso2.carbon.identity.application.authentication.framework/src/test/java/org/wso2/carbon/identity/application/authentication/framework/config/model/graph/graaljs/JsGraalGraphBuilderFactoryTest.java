@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Context;
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+
+/**
+ * Unit tests for {@link JsGraalGraphBuilderFactory}.
+ */
+public class JsGraalGraphBuilderFactoryTest {
+
+    @Test
+    public void testContextsOnSharedEngine() {
+
+        JsGraalGraphBuilderFactory factory = new JsGraalGraphBuilderFactory();
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE)).thenReturn("true");
+            factory.init();
+        }
+        try {
+            assertSame(factory.getHostAccess(), factory.getHostAccess());
+            assertSame(factory.getResourceLimits(), factory.getResourceLimits());
+
+            Context firstContext = factory.createEngine(null);
+            Context secondContext = factory.createEngine(null);
+            try {
+                String script = "function add(a, b) { return a + b; } var value = add(40, 2); value;";
+                assertEquals(firstContext.eval(POLYGLOT_LANGUAGE, script).asInt(), 42);
+                assertEquals(secondContext.eval(POLYGLOT_LANGUAGE, script).asInt(), 42);
+
+                firstContext.eval(POLYGLOT_LANGUAGE, "var tenantValue = 'tenant-a';");
+                assertFalse(secondContext.getBindings(POLYGLOT_LANGUAGE).hasMember("tenantValue"));
+                assertEquals(firstContext.getBindings(POLYGLOT_LANGUAGE).getMember("tenantValue").asString(),
+                        "tenant-a");
+            } finally {
+                firstContext.close();
+                secondContext.close();
+            }
+        } finally {
+            factory.shutdown();
+        }
+    }
+}
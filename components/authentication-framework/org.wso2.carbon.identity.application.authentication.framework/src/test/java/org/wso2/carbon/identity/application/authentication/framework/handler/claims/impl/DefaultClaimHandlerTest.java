@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
@@ -28,7 +29,9 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.ExternalIdPConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.AuthenticationGraph;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
@@ -36,13 +39,30 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.api.Claim;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.claim.ClaimManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DefaultClaimHandlerTest {
@@ -60,6 +80,12 @@ public class DefaultClaimHandlerTest {
     private static final String applicationId = "testAppId";
     private static final List<String> mappedApplicationRoles =
             new ArrayList<>(Arrays.asList("adminMapped", "hrMapped"));
+    private static final String LOCAL_CLAIM_PREFIX = "http://wso2.org/claims/";
+    private static final String EMAIL_CLAIM = LOCAL_CLAIM_PREFIX + "emailaddress";
+    private static final String GIVEN_NAME_CLAIM = LOCAL_CLAIM_PREFIX + "givenname";
+    private static final String USERNAME_CLAIM = LOCAL_CLAIM_PREFIX + "username";
+    private static final String GROUPS_CLAIM = LOCAL_CLAIM_PREFIX + "groups";
+    private static final int LOCAL_CLAIM_COUNT = 60;
 
     @BeforeMethod
     public void setUp() throws Exception {
@@ -146,4 +172,124 @@ public class DefaultClaimHandlerTest {
             Assert.assertEquals(applicationRoles, mappedApplicationRoles);
         }
     }
+
+    @Test
+    public void testGetRequiredLocalClaimURIs() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(IdentityUtil::getLocalGroupsClaimURI).thenReturn(GROUPS_CLAIM);
+            DefaultClaimHandler defaultClaimHandler = new DefaultClaimHandler();
+            ApplicationConfig appConfig = mockApplicationConfig(new ServiceProvider());
+
+            Set<String> requiredClaims = defaultClaimHandler.getRequiredLocalClaimURIs(null, authenticationContext);
+            Assert.assertEquals(requiredClaims, new HashSet<>(Arrays.asList(EMAIL_CLAIM, GIVEN_NAME_CLAIM,
+                    USERNAME_CLAIM, GROUPS_CLAIM, FrameworkConstants.ROLES_CLAIM,
+                    FrameworkConstants.IDP_TYPE_CLAIM)));
+
+            // The required claims of the application are resolved only once.
+            Assert.assertEquals(defaultClaimHandler.getRequiredLocalClaimURIs(null, authenticationContext),
+                    requiredClaims);
+            verify(appConfig).getRequestedClaimMappings();
+
+            // All the mapped claims are required for OpenID requests.
+            when(authenticationContext.getRequestType()).thenReturn(FrameworkConstants.RequestType
+                    .CLAIM_TYPE_OPENID);
+            Assert.assertTrue(defaultClaimHandler.getRequiredLocalClaimURIs(null, authenticationContext)
+                    .contains(LOCAL_CLAIM_PREFIX + "mobile"));
+        }
+    }
+
+    @Test
+    public void testHandleLocalClaimsRetrievesOnlyRequiredClaims() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkUtils> frameworkUtils = mockStatic(FrameworkUtils.class)) {
+            identityUtil.when(IdentityUtil::getLocalGroupsClaimURI).thenReturn(GROUPS_CLAIM);
+            frameworkUtils.when(FrameworkUtils::getMultiAttributeSeparator).thenReturn(",");
+            DefaultClaimHandler defaultClaimHandler = new DefaultClaimHandler();
+            mockApplicationConfig(new ServiceProvider());
+            AbstractUserStoreManager userStoreManager = mockUserRealm();
+            StepConfig stepConfig = new StepConfig();
+            AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+            authenticatedUser.setUserId("testUserId");
+            authenticatedUser.setTenantDomain("carbon.super");
+            stepConfig.setAuthenticatedUser(authenticatedUser);
+
+            ArgumentCaptor<String[]> claimsCaptor = ArgumentCaptor.forClass(String[].class);
+            Map<String, String> claimValues = new HashMap<>();
+            claimValues.put(EMAIL_CLAIM, "user@wso2.com");
+            when(userStoreManager.getUserClaimValuesWithID(eq("testUserId"), claimsCaptor.capture(), isNull()))
+                    .thenReturn(claimValues);
+
+            // All the local claims are retrieved by default.
+            Map<String, String> spClaims = defaultClaimHandler.handleLocalClaims(null, stepConfig,
+                    authenticationContext);
+            Assert.assertEquals(spClaims.get("email"), "user@wso2.com");
+            Assert.assertEquals(claimsCaptor.getValue().length, LOCAL_CLAIM_COUNT);
+
+            identityUtil.when(() -> IdentityUtil.getProperty(
+                    FrameworkConstants.Config.RETRIEVE_REQUESTED_CLAIMS_ONLY)).thenReturn("true");
+            spClaims = defaultClaimHandler.handleLocalClaims(null, stepConfig, authenticationContext);
+            Assert.assertEquals(spClaims.get("email"), "user@wso2.com");
+            Assert.assertEquals(new HashSet<>(Arrays.asList(claimsCaptor.getValue())), new HashSet<>(Arrays.asList(
+                    EMAIL_CLAIM, GIVEN_NAME_CLAIM, USERNAME_CLAIM, GROUPS_CLAIM)));
+
+            // All the local claims are retrieved for sequences with an adaptive authentication script.
+            when(sequenceConfig.getAuthenticationGraph()).thenReturn(new AuthenticationGraph());
+            spClaims = defaultClaimHandler.handleLocalClaims(null, stepConfig, authenticationContext);
+            Assert.assertEquals(spClaims.get("email"), "user@wso2.com");
+            Assert.assertEquals(claimsCaptor.getValue().length, LOCAL_CLAIM_COUNT);
+        }
+    }
+
+    private ApplicationConfig mockApplicationConfig(ServiceProvider serviceProvider) {
+
+        Map<String, String> claimMappings = new HashMap<>();
+        claimMappings.put("email", EMAIL_CLAIM);
+        claimMappings.put("givenName", GIVEN_NAME_CLAIM);
+        claimMappings.put("mobile", LOCAL_CLAIM_PREFIX + "mobile");
+        claimMappings.put("username", USERNAME_CLAIM);
+        Map<String, String> requestedClaims = new HashMap<>();
+        requestedClaims.put("email", EMAIL_CLAIM);
+        requestedClaims.put("givenName", GIVEN_NAME_CLAIM);
+        Map<String, String> mandatoryClaims = new HashMap<>();
+        mandatoryClaims.put("email", EMAIL_CLAIM);
+
+        when(authenticationContext.getSequenceConfig()).thenReturn(sequenceConfig);
+        when(sequenceConfig.getApplicationConfig()).thenReturn(applicationConfig);
+        when(applicationConfig.getServiceProvider()).thenReturn(serviceProvider);
+        when(applicationConfig.getClaimMappings()).thenReturn(claimMappings);
+        when(applicationConfig.getRequestedClaimMappings()).thenReturn(requestedClaims);
+        when(applicationConfig.getMandatoryClaimMappings()).thenReturn(mandatoryClaims);
+        when(applicationConfig.getSubjectClaimUri()).thenReturn("username");
+        return applicationConfig;
+    }
+
+    private AbstractUserStoreManager mockUserRealm() throws Exception {
+
+        org.wso2.carbon.user.api.ClaimMapping[] localClaimMappings =
+                new org.wso2.carbon.user.api.ClaimMapping[LOCAL_CLAIM_COUNT];
+        String[] knownClaims = {EMAIL_CLAIM, GIVEN_NAME_CLAIM, USERNAME_CLAIM, GROUPS_CLAIM};
+        for (int i = 0; i < LOCAL_CLAIM_COUNT; i++) {
+            Claim claim = new Claim();
+            claim.setClaimUri(i < knownClaims.length ? knownClaims[i] : LOCAL_CLAIM_PREFIX + "claim" + i);
+            localClaimMappings[i] = new org.wso2.carbon.user.api.ClaimMapping();
+            localClaimMappings[i].setClaim(claim);
+        }
+        ClaimManager claimManager = mock(ClaimManager.class);
+        when(claimManager.getAllClaimMappings(anyString())).thenReturn(localClaimMappings);
+
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(mock(RealmConfiguration.class));
+        when(userStoreManager.getSecondaryUserStoreManager(anyString())).thenReturn(userStoreManager);
+        UserRealm userRealm = mock(UserRealm.class);
+        when(userRealm.getClaimManager()).thenReturn(claimManager);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(realmService.getTenantUserRealm(anyInt())).thenReturn(userRealm);
+        FrameworkServiceDataHolder.getInstance().setRealmService(realmService);
+        return userStoreManager;
+    }
 }
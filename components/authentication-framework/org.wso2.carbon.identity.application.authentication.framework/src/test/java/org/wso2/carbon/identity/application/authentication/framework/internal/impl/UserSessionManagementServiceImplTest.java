@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.internal.impl;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.ServerSessionManagementService;
+import org.wso2.carbon.identity.application.authentication.framework.exception.session.mgt.SessionManagementClientException;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.application.authentication.framework.model.BulkSessionTerminationResult;
+import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
+import org.wso2.carbon.user.core.UserRealm;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.common.User;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for the bulk session termination of {@link UserSessionManagementServiceImpl}.
+ */
+public class UserSessionManagementServiceImplTest {
+
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final int TENANT_ID = 3;
+    private static final int PAGE_SIZE = 100;
+
+    private MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder;
+    private MockedStatic<UserSessionStore> userSessionStoreStatic;
+    private UserSessionStore userSessionStore;
+    private RealmService realmService;
+    private AbstractUserStoreManager userStoreManager;
+    private ServerSessionManagementService serverSessionManagementService;
+    private UserSessionManagementServiceImpl userSessionManagementService;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        FrameworkServiceDataHolder dataHolder = mock(FrameworkServiceDataHolder.class);
+        realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        UserRealm userRealm = mock(UserRealm.class);
+        userStoreManager = mock(AbstractUserStoreManager.class);
+        serverSessionManagementService = mock(ServerSessionManagementService.class);
+        userSessionStore = mock(UserSessionStore.class);
+
+        frameworkServiceDataHolder = mockStatic(FrameworkServiceDataHolder.class);
+        frameworkServiceDataHolder.when(FrameworkServiceDataHolder::getInstance).thenReturn(dataHolder);
+        userSessionStoreStatic = mockStatic(UserSessionStore.class);
+        userSessionStoreStatic.when(UserSessionStore::getInstance).thenReturn(userSessionStore);
+
+        when(dataHolder.getRealmService()).thenReturn(realmService);
+        when(dataHolder.getServerSessionManagementService()).thenReturn(serverSessionManagementService);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+        when(tenantManager.getTenantId("invalid.com")).thenReturn(-1);
+        when(realmService.getTenantUserRealm(TENANT_ID)).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        // Each page of users owns a single session.
+        when(userSessionStore.getSessionIdsOfUsers(anyList(), eq(TENANT_ID))).thenAnswer(
+                invocation -> Collections.singletonList("session-" + ((List<?>) invocation.getArgument(0)).get(0)));
+
+        userSessionManagementService = new UserSessionManagementServiceImpl();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        frameworkServiceDataHolder.close();
+        userSessionStoreStatic.close();
+    }
+
+    @Test
+    public void testTerminateSessionsOfUserStoreReadsUsersInBoundedPages() throws Exception {
+
+        when(userStoreManager.listUsersWithID(anyString(), anyInt(), anyInt())).thenReturn(Collections.emptyList());
+        when(userStoreManager.listUsersWithID("WSO2/*", PAGE_SIZE, 1)).thenReturn(getUsers(0, PAGE_SIZE));
+        when(userStoreManager.listUsersWithID("WSO2/*", PAGE_SIZE, 101)).thenReturn(getUsers(100, PAGE_SIZE));
+        when(userStoreManager.listUsersWithID("WSO2/*", PAGE_SIZE, 201)).thenReturn(getUsers(200, 30));
+
+        BulkSessionTerminationResult result =
+                userSessionManagementService.terminateSessionsOfUserStore("WSO2", TENANT_DOMAIN);
+
+        assertEquals(result.getUserCount(), 230);
+        assertEquals(result.getPageCount(), 3);
+        assertEquals(result.getSessionCount(), 3);
+        verify(userStoreManager).listUsersWithID("WSO2/*", PAGE_SIZE, 231);
+        verify(userStoreManager, never()).listUsersWithID(anyString(), eq(Integer.MAX_VALUE));
+        verify(serverSessionManagementService).removeSessions(Collections.singletonList("session-user0"), TENANT_DOMAIN);
+        verify(serverSessionManagementService).removeSessions(Collections.singletonList("session-user100"),
+                TENANT_DOMAIN);
+        verify(serverSessionManagementService).removeSessions(Collections.singletonList("session-user200"),
+                TENANT_DOMAIN);
+        verify(serverSessionManagementService, never()).removeSession(anyString());
+        verify(userSessionStore).removeTerminatedSessionRecords(
+                Arrays.asList("session-user0", "session-user100", "session-user200"));
+    }
+
+    @Test
+    public void testTerminateSessionsOfUserStoreStopsWhenOffsetIsNotHonoured() throws Exception {
+
+        when(userStoreManager.listUsersWithID(anyString(), anyInt(), anyInt())).thenReturn(getUsers(0, PAGE_SIZE));
+
+        BulkSessionTerminationResult result =
+                userSessionManagementService.terminateSessionsOfUserStore("WSO2", TENANT_DOMAIN);
+
+        assertEquals(result.getUserCount(), PAGE_SIZE);
+        assertEquals(result.getPageCount(), 1);
+        verify(userStoreManager, times(2)).listUsersWithID(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void testTerminateSessionsOfFederatedUsers() throws Exception {
+
+        List<String> firstPage = new ArrayList<>();
+        for (User user : getUsers(0, PAGE_SIZE)) {
+            firstPage.add(user.getUserID());
+        }
+        when(userSessionStore.getUserIdsOfUserStore("FEDERATED", TENANT_ID, null, PAGE_SIZE)).thenReturn(firstPage);
+        when(userSessionStore.getUserIdsOfUserStore("FEDERATED", TENANT_ID, "user99", PAGE_SIZE))
+                .thenReturn(Collections.singletonList("user100"));
+        when(userSessionStore.getUserIdsOfUserStore("FEDERATED", TENANT_ID, "user100", PAGE_SIZE))
+                .thenReturn(Collections.emptyList());
+
+        BulkSessionTerminationResult result =
+                userSessionManagementService.terminateSessionsOfUserStore("FEDERATED", TENANT_DOMAIN);
+
+        assertEquals(result.getUserCount(), 101);
+        assertEquals(result.getPageCount(), 2);
+        verify(userSessionStore, never()).getUserIdsOfUserStore(anyString(), anyInt());
+        verify(realmService, never()).getTenantUserRealm(anyInt());
+    }
+
+    @Test
+    public void testTerminateSessionsOfUsersFiltersByTenant() throws Exception {
+
+        BulkSessionTerminationResult result = userSessionManagementService.terminateSessionsOfUsers(
+                Arrays.asList("user1", "user2", "user1", " "), TENANT_DOMAIN);
+
+        assertEquals(result.getUserCount(), 2);
+        verify(userSessionStore).getSessionIdsOfUsers(Arrays.asList("user1", "user2"), TENANT_ID);
+        verify(serverSessionManagementService).removeSessions(Collections.singletonList("session-user1"),
+                TENANT_DOMAIN);
+    }
+
+    @Test(expectedExceptions = SessionManagementClientException.class)
+    public void testTerminateSessionsOfUsersWithoutTenantDomain() throws Exception {
+
+        userSessionManagementService.terminateSessionsOfUsers(Collections.singletonList("user1"), null);
+    }
+
+    @Test(expectedExceptions = SessionManagementClientException.class)
+    public void testTerminateSessionsOfUsersOfInvalidTenant() throws Exception {
+
+        try {
+            userSessionManagementService.terminateSessionsOfUsers(Collections.singletonList("user1"), "invalid.com");
+        } finally {
+            verify(userSessionStore, never()).getSessionIdsOfUsers(anyList(), anyInt());
+        }
+    }
+
+    private List<User> getUsers(int from, int count) {
+
+        List<User> users = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            User user = new User();
+            user.setUserID("user" + i);
+            users.add(user);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    private static final int STEP_COUNT = 5;
+
+    @Test
+    public void testSerializeAndDeserialize() throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer();
+        AuthenticationContext context = buildContext();
+
+        AuthenticationContext deserialized = (AuthenticationContext) serializer.deSerializeSessionObject(
+                serializer.serializeSessionObject(context));
+
+        assertEquals(deserialized.getContextIdentifier(), context.getContextIdentifier());
+        assertEquals(deserialized.getTenantDomain(), context.getTenantDomain());
+        assertEquals(deserialized.getCurrentStep(), context.getCurrentStep());
+        assertEquals(deserialized.getProperties(), context.getProperties());
+    }
+
+    @Test
+    public void testDeserializeJavaSerializedObject() throws Exception {
+
+        AuthenticationContext context = buildContext();
+        InputStream javaSerialized = new JavaSessionSerializer().serializeSessionObject(context);
+
+        AuthenticationContext deserialized = (AuthenticationContext) new CompactSessionSerializer()
+                .deSerializeSessionObject(javaSerialized);
+
+        assertEquals(deserialized.getContextIdentifier(), context.getContextIdentifier());
+        assertEquals(deserialized.getProperties(), context.getProperties());
+    }
+
+    @Test
+    public void testSerializedSize() throws Exception {
+
+        AuthenticationContext context = buildContext();
+        int javaSize = new JavaSessionSerializer().serializeSessionObject(context).available();
+        int compactSize = new CompactSessionSerializer(-1).serializeSessionObject(context).available();
+        int compressedSize = new CompactSessionSerializer(0).serializeSessionObject(context).available();
+
+        assertTrue(compactSize < javaSize, "Compact form should be smaller than the Java serialized form.");
+        assertTrue(compressedSize < compactSize, "Compressed form should be smaller than the compact form.");
+
+        AuthenticationContext deserialized = (AuthenticationContext) new CompactSessionSerializer(0)
+                .deSerializeSessionObject(new CompactSessionSerializer(0).serializeSessionObject(context));
+        assertEquals(deserialized.getProperties(), context.getProperties());
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeWithMismatchedFieldSchema() throws Exception {
+
+        byte[] blob = serializeUncompressed(buildContext());
+        // The field schema hash of the first class follows the header, the object and class descriptor tags, the
+        // class name and the serialVersionUID.
+        int fieldSchemaHashOffset = 4 + 2 + 2 + AuthenticationContext.class.getName().length() + 8;
+        blob[fieldSchemaHashOffset] ^= 0x01;
+
+        new CompactSessionSerializer(-1).deSerializeSessionObject(new ByteArrayInputStream(blob));
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeWithUnsupportedFormatVersion() throws Exception {
+
+        byte[] blob = serializeUncompressed(buildContext());
+        blob[2] = 1;
+
+        new CompactSessionSerializer(-1).deSerializeSessionObject(new ByteArrayInputStream(blob));
+    }
+
+    @Test
+    public void testDeserializeClassNotVisibleToFramework() throws Exception {
+
+        // The class of the property is loaded by a class loader which the framework does not see, as in the case of a
+        // class of another bundle.
+        ClassLoader externalClassLoader = new ExternalClassLoader();
+        Class<?> externalClass = Class.forName(ExternalSessionObject.class.getName(), true, externalClassLoader);
+        Object externalObject = externalClass.getConstructor(String.class).newInstance("external-value");
+        AuthenticationContext context = buildContext();
+        context.setProperty("external", externalObject);
+        CompactSessionSerializer serializer = new CompactSessionSerializer();
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(externalClassLoader);
+        AuthenticationContext deserialized;
+        try {
+            deserialized = (AuthenticationContext) serializer.deSerializeSessionObject(
+                    serializer.serializeSessionObject(context));
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+
+        Object deserializedProperty = deserialized.getProperty("external");
+        assertSame(deserializedProperty.getClass(), externalClass);
+        assertEquals(externalClass.getMethod("getValue").invoke(deserializedProperty), "external-value");
+        assertEquals(deserialized.getProperty("step.1.authenticator"), "BasicAuthenticator");
+    }
+
+    @Test
+    public void testFieldSchemaHash() {
+
+        long contextHash = CompactSessionSerializer.computeFieldSchemaHash(
+                ObjectStreamClass.lookupAny(AuthenticationContext.class));
+
+        assertEquals(CompactSessionSerializer.computeFieldSchemaHash(
+                ObjectStreamClass.lookupAny(AuthenticationContext.class)), contextHash);
+        assertNotEquals(CompactSessionSerializer.computeFieldSchemaHash(
+                ObjectStreamClass.lookupAny(SessionContext.class)), contextHash);
+    }
+
+    private byte[] serializeUncompressed(Object value) throws Exception {
+
+        InputStream serialized = new CompactSessionSerializer(-1).serializeSessionObject(value);
+        byte[] blob = new byte[serialized.available()];
+        assertEquals(serialized.read(blob), blob.length);
+        return blob;
+    }
+
+    private AuthenticationContext buildContext() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier("c8d3f6b2-5b43-4cb5-9b1c-2f0d1e6a7f10");
+        context.setTenantDomain("carbon.super");
+        context.setServiceProviderName("travelocity.com");
+        context.setRequestType("oidc");
+        context.setCurrentStep(STEP_COUNT);
+        Map<String, Object> properties = new HashMap<>();
+        for (int step = 1; step <= STEP_COUNT; step++) {
+            properties.put("step." + step + ".authenticator", "BasicAuthenticator");
+            properties.put("step." + step + ".idp", "LOCAL");
+            properties.put("step." + step + ".status", Boolean.TRUE);
+        }
+        context.setProperties(properties);
+        return context;
+    }
+
+    /**
+     * Session object whose class is loaded by the {@link ExternalClassLoader}.
+     */
+    public static class ExternalSessionObject implements Serializable {
+
+        private static final long serialVersionUID = 6240981757512930847L;
+
+        private final String value;
+
+        public ExternalSessionObject(String value) {
+
+            this.value = value;
+        }
+
+        public String getValue() {
+
+            return value;
+        }
+    }
+
+    /**
+     * Class loader which defines its own copy of the {@link ExternalSessionObject} class instead of delegating to
+     * the class loader of the framework.
+     */
+    private static class ExternalClassLoader extends ClassLoader {
+
+        ExternalClassLoader() {
+
+            super(CompactSessionSerializerTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+            if (!ExternalSessionObject.class.getName().equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    byte[] classBytes = readClassBytes(name);
+                    clazz = defineClass(name, classBytes, 0, classBytes.length);
+                }
+                return clazz;
+            }
+        }
+
+        private byte[] readClassBytes(String name) throws ClassNotFoundException {
+
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionDataCleanUpEngine}.
+ */
+public class SessionDataCleanUpEngineTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "SESSION_DATA_CLEANUP";
+    private static final int RECORD_COUNT = 500;
+    private static final long EXPIRY_STEP = TimeUnit.SECONDS.toNanos(7);
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("session_data_store_h2.sql"));
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testRemoveExpiredRecords() throws Exception {
+
+        String tableName = SessionDataStore.DEFAULT_TEMP_SESSION_STORE_TABLE_NAME;
+        insertRecords(tableName);
+        long currentTime = EXPIRY_STEP * (RECORD_COUNT / 2) + 1;
+
+        ExecutorService workers = Executors.newFixedThreadPool(3);
+        try {
+            SessionDataCleanUpEngine engine = new SessionDataCleanUpEngine(tableName, this::getSessionDBConnection,
+                    workers, 3, 500, 60, 0);
+            engine.removeExpiredRecords(currentTime);
+
+            assertEquals(countRecords(tableName, "EXPIRY_TIME < " + currentTime), 0);
+            assertEquals(countRecords(tableName, "EXPIRY_TIME >= " + currentTime), RECORD_COUNT / 2 - 1);
+            assertEquals(engine.getLastRunDeletedRecordCount(), RECORD_COUNT / 2 + 1);
+            assertEquals(engine.getDeletedRecordCount(), RECORD_COUNT / 2 + 1);
+            assertTrue(engine.getStatementCount() > 0);
+            int[] progress = engine.getProgress();
+            assertEquals(progress[0], progress[1]);
+
+            // Nothing is left to remove in the next run, which reuses the same workers.
+            engine.removeExpiredRecords(currentTime);
+            assertEquals(engine.getDeletedRecordCount(), RECORD_COUNT / 2 + 1);
+            assertEquals(countRecords(SessionDataStore.DEFAULT_SESSION_STORE_TABLE_NAME, "1 = 1"), 0);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test(dependsOnMethods = "testRemoveExpiredRecords")
+    public void testRemoveExpiredRecordsAfterWorkersAreShutDown() throws Exception {
+
+        String tableName = SessionDataStore.DEFAULT_SESSION_STORE_TABLE_NAME;
+        insertRecords(tableName);
+        long currentTime = EXPIRY_STEP * RECORD_COUNT;
+
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        workers.shutdownNow();
+        SessionDataCleanUpEngine engine = new SessionDataCleanUpEngine(tableName, this::getSessionDBConnection,
+                workers, 2, 500, 60, 0);
+        engine.removeExpiredRecords(currentTime);
+
+        assertEquals(engine.getDeletedRecordCount(), 0);
+        assertEquals(countRecords(tableName, "1 = 1"), RECORD_COUNT);
+    }
+
+    private Connection getSessionDBConnection() throws SQLException {
+
+        Connection connection = getConnection(DB_NAME);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private void insertRecords(String tableName) throws SQLException {
+
+        try (Connection connection = getSessionDBConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO " + tableName
+                     + " (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                statement.setString(1, "session" + i);
+                statement.setString(2, "AuthenticationContextCache");
+                statement.setString(3, "STORE");
+                statement.setLong(4, i);
+                statement.setLong(5, EXPIRY_STEP * i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private int countRecords(String tableName, String condition) throws SQLException {
+
+        try (Connection connection = getSessionDBConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM " + tableName
+                     + " WHERE " + condition);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
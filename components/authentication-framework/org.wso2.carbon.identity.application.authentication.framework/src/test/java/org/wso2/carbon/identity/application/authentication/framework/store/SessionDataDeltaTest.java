@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionDataDelta}.
+ */
+public class SessionDataDeltaTest {
+
+    private static final int STEP_COUNT = 5;
+
+    @Test
+    public void testDeltaOfChangedAuthenticationContext() throws Exception {
+
+        JavaSessionSerializer serializer = new JavaSessionSerializer();
+        AuthenticationContext context = buildContext();
+        byte[] snapshot = toBytes(serializer.serializeSessionObject(context));
+
+        // Complete one more step, which changes the current step and one of the step properties.
+        context.setCurrentStep(2);
+        context.setProperty("step.2.status", Boolean.FALSE);
+        byte[] changed = toBytes(serializer.serializeSessionObject(context));
+
+        SessionDataDelta delta = SessionDataDelta.create(snapshot, 100L, changed);
+        assertEquals(delta.getBaseTimeCreated(), 100L);
+        assertTrue(delta.getSize() < changed.length / 2, "Delta should be much smaller than the context.");
+
+        byte[] rebuilt = delta.apply(snapshot);
+        assertTrue(Arrays.equals(rebuilt, changed));
+        AuthenticationContext deserialized = (AuthenticationContext) serializer.deSerializeSessionObject(
+                new ByteArrayInputStream(rebuilt));
+        assertEquals(deserialized.getCurrentStep(), 2);
+        assertEquals(deserialized.getProperty("step.2.status"), Boolean.FALSE);
+    }
+
+    @Test
+    public void testDeltaOfUnrelatedContent() throws Exception {
+
+        byte[] snapshot = new byte[10];
+        byte[] target = "A completely different session object".getBytes("UTF-8");
+
+        SessionDataDelta delta = SessionDataDelta.create(snapshot, 1L, target);
+        assertTrue(Arrays.equals(delta.apply(snapshot), target));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testApplyToDifferentSnapshot() throws Exception {
+
+        JavaSessionSerializer serializer = new JavaSessionSerializer();
+        byte[] snapshot = toBytes(serializer.serializeSessionObject(buildContext()));
+        AuthenticationContext context = buildContext();
+        context.setCurrentStep(3);
+        byte[] changed = toBytes(serializer.serializeSessionObject(context));
+        SessionDataDelta delta = SessionDataDelta.create(snapshot, 1L, changed);
+
+        byte[] otherSnapshot = snapshot.clone();
+        otherSnapshot[otherSnapshot.length / 2] ^= 0x01;
+        delta.apply(otherSnapshot);
+    }
+
+    private AuthenticationContext buildContext() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier("c8d3f6b2-5b43-4cb5-9b1c-2f0d1e6a7f10");
+        context.setTenantDomain("carbon.super");
+        context.setServiceProviderName("travelocity.com");
+        context.setRequestType("oidc");
+        context.setCurrentStep(1);
+        Map<String, Object> properties = new HashMap<>();
+        for (int step = 1; step <= STEP_COUNT; step++) {
+            properties.put("step." + step + ".authenticator", "BasicAuthenticator");
+            properties.put("step." + step + ".idp", "LOCAL");
+            properties.put("step." + step + ".status", Boolean.TRUE);
+        }
+        context.setProperties(properties);
+        return context;
+    }
+
+    private byte[] toBytes(InputStream inputStream) throws IOException {
+
+        byte[] bytes = new byte[inputStream.available()];
+        int read = inputStream.read(bytes);
+        assertEquals(read, bytes.length);
+        return bytes;
+    }
+}
@@ -27,16 +27,25 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.lang.reflect.Constructor;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -44,6 +53,9 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class that includes unit tests of Session Data Store.
@@ -52,6 +64,8 @@ import static org.mockito.MockitoAnnotations.initMocks;
 public class SessionDataStoreTest extends DataStoreBaseTest {
 
     private static final String DB_NAME = "SESSION_DATA_STORE";
+    private static final String TEMP_SESSION_TYPE = "tempSessionType";
+    private static final long TEMP_DATA_CLEANUP_TIMEOUT = 40;
 
     @Mock
     FrameworkServiceDataHolder mockFrameworkServiceDataHolder;
@@ -98,6 +112,73 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
     }
 
     @Test(dependsOnMethods = "testPersistSessionData")
+    public void testPersistSessionDataBatch() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            long coalescedCount = sessionDataStore.getCoalescedOperationCount();
+            List<SessionContextDO> batch = new ArrayList<>();
+            batch.add(new SessionContextDO("00000002", "sessionType", "first", 40000, 1));
+            batch.add(new SessionContextDO("00000002", "sessionType", "second", 40001, 1));
+            batch.add(new SessionContextDO("00000003", "sessionType", "third", 40002, 1));
+            batch.add(new SessionContextDO("00000003", "sessionType", null, 40003));
+            sessionDataStore.persistSessionDataBatch(batch);
+
+            assertEquals(sessionDataStore.getCoalescedOperationCount() - coalescedCount, 2);
+            assertEquals(sessionDataStore.getSessionData("00000002", "sessionType"), "second");
+            assertNull(sessionDataStore.getSessionData("00000003", "sessionType"));
+        }
+    }
+
+    @Test(dependsOnMethods = "testPersistSessionDataBatch")
+    public void testPersistSessionDataBatchWithFailingOperation() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            List<SessionContextDO> batch = new ArrayList<>();
+            batch.add(new SessionContextDO("00000004", "sessionType", "fourth", 50000, 1));
+            // An entry which cannot be serialized fails the batch.
+            batch.add(new SessionContextDO("00000005", "sessionType", new Object(), 50001, 1));
+            // The session data is already deleted, hence no other DELETE operation is persisted.
+            batch.add(new SessionContextDO("00000003", "sessionType", null, 50002));
+            batch.add(new SessionContextDO("00000002", "sessionType", null, 50003));
+            sessionDataStore.persistSessionDataBatch(batch);
+
+            assertEquals(sessionDataStore.getSessionData("00000004", "sessionType"), "fourth");
+            assertNull(sessionDataStore.getSessionData("00000005", "sessionType"));
+            assertNull(sessionDataStore.getSessionData("00000002", "sessionType"));
+            assertEquals(getDeleteOperationCount(connection, "00000003"), 1);
+            assertEquals(getDeleteOperationCount(connection, "00000002"), 1);
+        }
+    }
+
+    @Test(dependsOnMethods = "testPersistSessionDataBatchWithFailingOperation")
     public void testRemoveExpiredSessionData() throws Exception {
 
         try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
@@ -113,6 +194,83 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = "testRemoveExpiredSessionData")
+    public void testPersistSessionDataAsDeltas() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+            identityUtil.when(() -> IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Delta.Enable"))
+                    .thenReturn("true");
+            IdentityCacheConfig tempCacheConfig = mock(IdentityCacheConfig.class);
+            when(tempCacheConfig.isTemporary()).thenReturn(true);
+            identityUtil.when(() -> IdentityUtil.getIdentityCacheConfig(any(String.class), eq(TEMP_SESSION_TYPE)))
+                    .thenReturn(tempCacheConfig);
+            identityUtil.when(IdentityUtil::getTempDataCleanUpTimeout).thenReturn(TEMP_DATA_CLEANUP_TIMEOUT);
+
+            SessionDataStore sessionDataStore = createSessionDataStore();
+            HashMap<String, String> entry = new HashMap<>();
+            for (int i = 0; i < 50; i++) {
+                entry.put("step." + i + ".authenticator", "BasicAuthenticator-" + i + "-of-the-authentication-flow");
+            }
+            sessionDataStore.persistSessionData("00000006", TEMP_SESSION_TYPE, entry, 60000, 1);
+            entry.put("step.10.authenticator", "TOTPAuthenticator");
+            sessionDataStore.persistSessionData("00000006", TEMP_SESSION_TYPE, entry, 60001, 1);
+            entry.put("step.20.authenticator", "EmailOTPAuthenticator");
+            sessionDataStore.persistSessionData("00000006", TEMP_SESSION_TYPE, entry, 60002, 1);
+
+            assertEquals(sessionDataStore.getSnapshotWriteCount(), 1);
+            assertEquals(sessionDataStore.getDeltaWriteCount(), 2);
+            assertTrue(sessionDataStore.getDeltaBytesSaved() > 0);
+            assertEquals(sessionDataStore.getSessionData("00000006", TEMP_SESSION_TYPE), entry);
+            // The snapshot is kept as long as the last delta which is applied to it.
+            assertEquals(getExpiryTime(connection, "00000006", 60000),
+                    60002 + TimeUnit.MINUTES.toNanos(TEMP_DATA_CLEANUP_TIMEOUT));
+        }
+    }
+
+    private SessionDataStore createSessionDataStore() throws Exception {
+
+        Constructor<SessionDataStore> constructor = SessionDataStore.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    private long getExpiryTime(Connection connection, String key, long timeCreated) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT EXPIRY_TIME FROM " +
+                "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND TIME_CREATED = ? AND OPERATION = 'STORE'")) {
+            preparedStatement.setString(1, key);
+            preparedStatement.setLong(2, timeCreated);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private int getDeleteOperationCount(Connection connection, String key) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM " +
+                "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION = 'DELETE'")) {
+            preparedStatement.setString(1, key);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     private void mockCarbonContext(MockedStatic<CarbonContext> carbonContext) {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
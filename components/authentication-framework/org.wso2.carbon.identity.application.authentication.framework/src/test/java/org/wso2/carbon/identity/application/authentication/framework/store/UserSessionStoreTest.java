@@ -33,6 +33,8 @@ import org.wso2.carbon.identity.core.util.JdbcUtils;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -212,6 +214,29 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = {"testStoreUserData"})
+    public void testGetUserIdsOfUserStoreInPages() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            UserSessionStore.getInstance().storeUserData("00000011", "federateduser1", -1234, "FEDERATED", 1);
+            UserSessionStore.getInstance().storeUserData("00000012", "federateduser2", -1234, "FEDERATED", 1);
+            UserSessionStore.getInstance().storeUserData("00000013", "federateduser3", -1234, "FEDERATED", 1);
+            UserSessionStore.getInstance().storeUserData("00000014", "federateduser1", 1, "FEDERATED", 1);
+        }
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            UserSessionStore userSessionStore = UserSessionStore.getInstance();
+            Assert.assertEquals(userSessionStore.getUserIdsOfUserStore("federated", -1234, null, 2),
+                    Arrays.asList("00000011", "00000012"));
+            Assert.assertEquals(userSessionStore.getUserIdsOfUserStore("FEDERATED", -1234, "00000012", 2),
+                    Arrays.asList("00000013"));
+            Assert.assertTrue(userSessionStore.getUserIdsOfUserStore("FEDERATED", -1234, "00000013", 2).isEmpty());
+        }
+    }
+
     @Test
     public void testGetIdPIdForLocalIdP() throws Exception {
 
@@ -275,6 +300,24 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = {"testStoreUserSessionData"})
+    public void testGetSessionIdsOfUsers() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            List<String> userIds = Arrays.asList("00000001", "00000002", "00000009");
+            // Session 00000001 is mapped to two users and has two store records, but is returned once.
+            Assert.assertEquals(UserSessionStore.getInstance().getSessionIdsOfUsers(userIds, -1234),
+                    Arrays.asList("00000001"));
+            // Session 00000002 belongs to another tenant.
+            Assert.assertEquals(UserSessionStore.getInstance().getSessionIdsOfUsers(userIds, 1),
+                    Arrays.asList("00000002"));
+            Assert.assertTrue(UserSessionStore.getInstance().getSessionIdsOfUsers(userIds, 2).isEmpty());
+            Assert.assertTrue(UserSessionStore.getInstance().getSessionIdsOfUsers(new ArrayList<>(), -1234).isEmpty());
+        }
+    }
+
     @Test(dataProvider = "getSessionAppsData", dependsOnMethods = {"testStoreUserSessionData"})
     public void testStoreAppSessionData(String sessionId, String subject, int appID, String inboundAuth)
             throws Exception {
@@ -18,14 +18,14 @@ package org.wso2.carbon.identity.claim.metadata.mgt;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingSnapshot;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
-import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,6 +37,8 @@ public class ClaimMetadataHandler {
     private static final Log log = LogFactory.getLog(ClaimMetadataHandler.class);
     private static final ClaimMetadataHandler INSTANCE = new ClaimMetadataHandler();
 
+    private final ClaimDialectMappingCache claimDialectMappingCache = ClaimDialectMappingCache.getInstance();
+
     public static ClaimMetadataHandler getInstance() {
         return INSTANCE;
     }
@@ -52,76 +54,19 @@ public class ClaimMetadataHandler {
             String otherDialectURI, Set<String> otherClaimURIs, String tenantDomain)
             throws ClaimMetadataException {
 
-        Set<ExternalClaim> returnSet = new HashSet<ExternalClaim>();
-
-        if (otherDialectURI == null) {
-            String message = "Invalid argument: \'otherDialectURI\' is \'NULL\'";
-            log.error(message);
-            throw new ClaimMetadataException(message);
+        ClaimDialectMappingSnapshot mapping = getMappingsOfOtherDialect(otherDialectURI, tenantDomain);
+        if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
+            return new HashSet<>(mapping.getClaims());
         }
 
-
-        try {
-            ClaimMetadataManagementServiceImpl claimMetadataService = new ClaimMetadataManagementServiceImpl();
-
-            if (otherDialectURI.equals(UserCoreConstants.DEFAULT_CARBON_DIALECT) ) {
-
-                List<LocalClaim> localClaims = claimMetadataService.getLocalClaims(tenantDomain);
-
-                if (otherClaimURIs == null|| otherClaimURIs.isEmpty()) {
-
-                    for (LocalClaim localClaim : localClaims) {
-                        ExternalClaim claimMapping = new ExternalClaim(localClaim.getClaimDialectURI(), localClaim
-                                .getClaimURI(), localClaim.getClaimURI());
-                        returnSet.add(claimMapping);
-                    }
-
-                    return returnSet;
-
-                } else {
-
-                    for (LocalClaim localClaim : localClaims) {
-
-                        if (otherClaimURIs.contains(localClaim.getClaimURI())) {
-
-                            ExternalClaim claimMapping = new ExternalClaim(
-                                    otherDialectURI, localClaim.getClaimURI(), localClaim.getClaimURI());
-                            returnSet.add(claimMapping);
-
-                        }
-                    }
-
-                    return returnSet;
-
-                }
-
-            } else {
-
-                List<ExternalClaim> externalClaims = claimMetadataService.getExternalClaims(otherDialectURI,
-                        tenantDomain);
-
-                if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
-
-                    returnSet = new HashSet<ExternalClaim>(externalClaims);
-
-                } else {
-
-                    for (ExternalClaim externalClaim : externalClaims) {
-
-                        if (otherClaimURIs.contains(externalClaim.getClaimURI())) {
-                            returnSet.add(externalClaim);
-                        }
-                    }
-
-                }
-
-                return returnSet;
+        Set<ExternalClaim> returnSet = new HashSet<>();
+        for (String otherClaimURI : otherClaimURIs) {
+            ExternalClaim claimMapping = mapping.getClaim(otherClaimURI);
+            if (claimMapping != null) {
+                returnSet.add(claimMapping);
             }
-
-
-        } catch (ClaimMetadataException e) {
-            throw new ClaimMetadataException(e.getMessage(), e);
         }
+        return returnSet;
     }
 
     /**
@@ -135,16 +80,72 @@ public class ClaimMetadataHandler {
     public Map<String, String> getMappingsMapFromOtherDialectToCarbon(String otherDialectURI, Set<String>
             otherClaimURIs, String tenantDomain, boolean useCarbonDialectAsKey) throws ClaimMetadataException {
 
+        ClaimDialectMappingSnapshot mapping = getMappingsOfOtherDialect(otherDialectURI, tenantDomain);
+        if (otherClaimURIs == null || otherClaimURIs.isEmpty()) {
+            return new HashMap<>(useCarbonDialectAsKey ? mapping.getLocalToExternalMappings() :
+                    mapping.getExternalToLocalMappings());
+        }
+
         Map<String, String> returnMap = new HashMap<>();
-        Set<ExternalClaim> mappings = getMappingsFromOtherDialectToCarbon(
-                otherDialectURI, otherClaimURIs, tenantDomain);
-        for (ExternalClaim externalClaim : mappings) {
+        for (String otherClaimURI : otherClaimURIs) {
+            String localClaimURI = mapping.getExternalToLocalMappings().get(otherClaimURI);
+            if (localClaimURI == null) {
+                continue;
+            }
             if (useCarbonDialectAsKey) {
-                returnMap.put(externalClaim.getMappedLocalClaim(), externalClaim.getClaimURI());
+                returnMap.put(localClaimURI, otherClaimURI);
             } else {
-                returnMap.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+                returnMap.put(otherClaimURI, localClaimURI);
             }
         }
         return returnMap;
     }
+
+    /**
+     * Get the claim mappings of a claim dialect. The mappings are built once and served from the cache until the
+     * claims of the dialect are changed.
+     *
+     * @param claimDialectURI Claim dialect URI.
+     * @param tenantDomain    Tenant domain.
+     * @return Claim mappings of the dialect.
+     * @throws ClaimMetadataException If an error occurs while retrieving the claims of the dialect.
+     */
+    public ClaimDialectMappingSnapshot getClaimDialectMapping(String claimDialectURI, String tenantDomain)
+            throws ClaimMetadataException {
+
+        ClaimDialectMappingSnapshot mapping = claimDialectMappingCache.getValueFromCache(claimDialectURI,
+                tenantDomain);
+        if (mapping != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for claim mappings of dialect: " + claimDialectURI + " in tenant: " +
+                        tenantDomain);
+            }
+            return mapping;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for claim mappings of dialect: " + claimDialectURI + " in tenant: " +
+                    tenantDomain);
+        }
+
+        ClaimMetadataManagementService claimMetadataService = new ClaimMetadataManagementServiceImpl();
+        if (UserCoreConstants.DEFAULT_CARBON_DIALECT.equals(claimDialectURI)) {
+            mapping = ClaimDialectMappingSnapshot.ofLocalClaims(claimMetadataService.getLocalClaims(tenantDomain));
+        } else {
+            mapping = ClaimDialectMappingSnapshot.ofExternalClaims(claimDialectURI,
+                    claimMetadataService.getExternalClaims(claimDialectURI, tenantDomain));
+        }
+        claimDialectMappingCache.addToCache(claimDialectURI, mapping, tenantDomain);
+        return mapping;
+    }
+
+    private ClaimDialectMappingSnapshot getMappingsOfOtherDialect(String otherDialectURI, String tenantDomain)
+            throws ClaimMetadataException {
+
+        if (otherDialectURI == null) {
+            String message = "Invalid argument: \'otherDialectURI\' is \'NULL\'";
+            log.error(message);
+            throw new ClaimMetadataException(message);
+        }
+        return getClaimDialectMapping(otherDialectURI, tenantDomain);
+    }
 }
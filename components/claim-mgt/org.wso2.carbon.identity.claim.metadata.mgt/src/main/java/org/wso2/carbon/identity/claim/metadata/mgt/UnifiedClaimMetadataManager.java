@@ -159,16 +159,16 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         List<LocalClaim> localClaimsInDB = this.dbBasedClaimMetadataManager.getLocalClaims(tenantId);
 
         List<LocalClaim> allLocalClaims = new ArrayList<>(localClaimsInDB);
+        Map<String, LocalClaim> allLocalClaimsMap = new HashMap<>();
+        localClaimsInDB.forEach(dbClaim -> allLocalClaimsMap.putIfAbsent(dbClaim.getClaimURI(), dbClaim));
         localClaimsInSystem.forEach(systemClaim -> {
-            Optional<LocalClaim> matchingClaimInDB = allLocalClaims.stream()
-                    .filter(dbClaim -> dbClaim.getClaimURI().equals(systemClaim.getClaimURI()))
-                    .findFirst();
-
-            if (matchingClaimInDB.isPresent()) {
-                markAsSystemClaim(matchingClaimInDB.get());
+            LocalClaim matchingClaim = allLocalClaimsMap.get(systemClaim.getClaimURI());
+            if (matchingClaim != null) {
+                markAsSystemClaim(matchingClaim);
             } else {
                 markAsSystemClaim(systemClaim);
                 allLocalClaims.add(systemClaim);
+                allLocalClaimsMap.put(systemClaim.getClaimURI(), systemClaim);
             }
         });
 
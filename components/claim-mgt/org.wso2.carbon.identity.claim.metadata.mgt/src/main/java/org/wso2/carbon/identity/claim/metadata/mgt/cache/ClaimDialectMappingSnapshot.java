@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the claim mappings of a claim dialect in a tenant.
+ * <p>
+ * The mappings between the claim URIs of the dialect and the local claim URIs are indexed in both directions, so
+ * that resolving the mapping of a claim does not require scanning the claims of the dialect. For the local claim
+ * dialect, each local claim is mapped to itself and the snapshot also holds the local claims of the tenant.
+ */
+public class ClaimDialectMappingSnapshot implements Serializable {
+
+    private static final long serialVersionUID = -2190436245738214957L;
+
+    private final String claimDialectURI;
+    private final Map<String, ExternalClaim> claims;
+    private final Map<String, String> externalToLocalMappings;
+    private final Map<String, String> localToExternalMappings;
+    private final List<LocalClaim> localClaims;
+
+    private ClaimDialectMappingSnapshot(String claimDialectURI, List<ExternalClaim> claims,
+                                        List<LocalClaim> localClaims) {
+
+        Map<String, ExternalClaim> claimMap = new LinkedHashMap<>();
+        Map<String, String> externalToLocal = new HashMap<>();
+        Map<String, String> localToExternal = new HashMap<>();
+        for (ExternalClaim claim : claims) {
+            claimMap.put(claim.getClaimURI(), claim);
+            externalToLocal.put(claim.getClaimURI(), claim.getMappedLocalClaim());
+            localToExternal.putIfAbsent(claim.getMappedLocalClaim(), claim.getClaimURI());
+        }
+        this.claimDialectURI = claimDialectURI;
+        this.claims = Collections.unmodifiableMap(claimMap);
+        this.externalToLocalMappings = Collections.unmodifiableMap(externalToLocal);
+        this.localToExternalMappings = Collections.unmodifiableMap(localToExternal);
+        this.localClaims = Collections.unmodifiableList(new ArrayList<>(localClaims));
+    }
+
+    /**
+     * Create the snapshot of the local claim dialect.
+     *
+     * @param localClaims Local claims of the tenant.
+     * @return Snapshot of the local claim dialect.
+     */
+    public static ClaimDialectMappingSnapshot ofLocalClaims(List<LocalClaim> localClaims) {
+
+        List<ExternalClaim> claims = new ArrayList<>(localClaims.size());
+        for (LocalClaim localClaim : localClaims) {
+            claims.add(new ExternalClaim(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, localClaim.getClaimURI(),
+                    localClaim.getClaimURI()));
+        }
+        return new ClaimDialectMappingSnapshot(ClaimConstants.LOCAL_CLAIM_DIALECT_URI, claims, localClaims);
+    }
+
+    /**
+     * Create the snapshot of an external claim dialect.
+     *
+     * @param claimDialectURI Claim dialect URI.
+     * @param externalClaims  External claims of the dialect.
+     * @return Snapshot of the external claim dialect.
+     */
+    public static ClaimDialectMappingSnapshot ofExternalClaims(String claimDialectURI,
+                                                               List<ExternalClaim> externalClaims) {
+
+        return new ClaimDialectMappingSnapshot(claimDialectURI, externalClaims, Collections.emptyList());
+    }
+
+    public String getClaimDialectURI() {
+
+        return claimDialectURI;
+    }
+
+    /**
+     * Get the claims of the dialect along with their mapped local claims.
+     *
+     * @return Claims of the dialect.
+     */
+    public Collection<ExternalClaim> getClaims() {
+
+        return claims.values();
+    }
+
+    /**
+     * Get a claim of the dialect along with its mapped local claim.
+     *
+     * @param claimURI Claim URI in the dialect.
+     * @return Claim, or null if the dialect does not have the claim.
+     */
+    public ExternalClaim getClaim(String claimURI) {
+
+        return claims.get(claimURI);
+    }
+
+    /**
+     * Get the mappings from the claim URIs of the dialect to the local claim URIs.
+     *
+     * @return Unmodifiable map of claim URIs to local claim URIs.
+     */
+    public Map<String, String> getExternalToLocalMappings() {
+
+        return externalToLocalMappings;
+    }
+
+    /**
+     * Get the mappings from the local claim URIs to the claim URIs of the dialect. If several claims of the dialect
+     * are mapped to the same local claim, the first of them is used.
+     *
+     * @return Unmodifiable map of local claim URIs to claim URIs.
+     */
+    public Map<String, String> getLocalToExternalMappings() {
+
+        return localToExternalMappings;
+    }
+
+    /**
+     * Get the local claims of the tenant. Only available in the snapshot of the local claim dialect.
+     *
+     * @return Unmodifiable list of local claims.
+     */
+    public List<LocalClaim> getLocalClaims() {
+
+        return localClaims;
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.claim.metadata.mgt.dao;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectMappingCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 
@@ -35,6 +36,7 @@ public class CacheBackedClaimDialectDAO extends ClaimDialectDAO {
     private static final Log log = LogFactory.getLog(CacheBackedClaimDialectDAO.class);
 
     private ClaimDialectCache claimDialectCache = ClaimDialectCache.getInstance();
+    private ClaimDialectMappingCache claimDialectMappingCache = ClaimDialectMappingCache.getInstance();
 
     public List<ClaimDialect> getClaimDialects(int tenantId) throws ClaimMetadataException {
 
@@ -63,6 +65,8 @@ public class CacheBackedClaimDialectDAO extends ClaimDialectDAO {
 
         super.renameClaimDialect(oldClaimDialect, newClaimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
+        claimDialectMappingCache.clearCacheEntry(oldClaimDialect.getClaimDialectURI(), tenantId);
+        claimDialectMappingCache.clearCacheEntry(newClaimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + oldClaimDialect.getClaimDialectURI() + " is renamed to new claim dialect: "
                     + newClaimDialect.getClaimDialectURI() + " for tenant: " + tenantId + ". Invalidated " +
@@ -75,6 +79,7 @@ public class CacheBackedClaimDialectDAO extends ClaimDialectDAO {
 
         super.removeClaimDialect(claimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
+        claimDialectMappingCache.clearCacheEntry(claimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is removed for tenant: " + tenantId +
                     ". Invalidated ClaimDialectCache.");
@@ -86,10 +91,22 @@ public class CacheBackedClaimDialectDAO extends ClaimDialectDAO {
 
         super.addClaimDialect(claimDialect, tenantId);
         claimDialectCache.clearClaimDialects(tenantId);
+        claimDialectMappingCache.clearCacheEntry(claimDialect.getClaimDialectURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Claim dialect: " + claimDialect.getClaimDialectURI() + " is added for tenant: " + tenantId +
                     ". Invalidated ClaimDialectCache.");
         }
     }
 
+    @Override
+    public void removeAllClaimDialects(int tenantId) throws ClaimMetadataException {
+
+        super.removeAllClaimDialects(tenantId);
+        claimDialectCache.clearClaimDialects(tenantId);
+        claimDialectMappingCache.clear(tenantId);
+        if (log.isDebugEnabled()) {
+            log.debug("All claim dialects are removed for tenant: " + tenantId + ". Invalidated ClaimDialectCache " +
+                    "and ClaimDialectMappingCache.");
+        }
+    }
 }
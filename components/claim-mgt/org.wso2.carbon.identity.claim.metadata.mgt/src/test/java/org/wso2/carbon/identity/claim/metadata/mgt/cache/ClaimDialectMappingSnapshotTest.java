@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementServiceImpl;
+import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedClaimDialectDAO;
+import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedExternalClaimDAO;
+import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedLocalClaimDAO;
+import org.wso2.carbon.identity.claim.metadata.mgt.dao.ExternalClaimDAO;
+import org.wso2.carbon.identity.claim.metadata.mgt.dao.LocalClaimDAO;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ClaimDialectMappingSnapshot}.
+ */
+@WithCarbonHome
+public class ClaimDialectMappingSnapshotTest {
+
+    private static final String EXT_CLAIM_DIALECT = "http://abc.org";
+    private static final String LOCAL_CLAIM_1 = "http://wso2.org/claims/username";
+    private static final String LOCAL_CLAIM_2 = "http://wso2.org/claims/email";
+    private static final String EXT_CLAIM_1 = "http://abc.org/claim1";
+    private static final String EXT_CLAIM_2 = "http://abc.org/claim2";
+    private static final String EXT_CLAIM_3 = "http://abc.org/claim3";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+
+    private MockedStatic<ClaimDialectMappingCache> claimDialectMappingCacheStatic;
+    private MockedStatic<LocalClaimCache> localClaimCacheStatic;
+    private MockedStatic<ExternalClaimCache> externalClaimCacheStatic;
+    private MockedStatic<AssociatedClaimCache> associatedClaimCacheStatic;
+    private MockedStatic<ClaimDialectCache> claimDialectCacheStatic;
+    private ClaimDialectMappingCache claimDialectMappingCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        claimDialectMappingCache = mock(ClaimDialectMappingCache.class);
+        claimDialectMappingCacheStatic = mockStatic(ClaimDialectMappingCache.class);
+        claimDialectMappingCacheStatic.when(ClaimDialectMappingCache::getInstance).thenReturn(claimDialectMappingCache);
+        LocalClaimCache localClaimCache = mock(LocalClaimCache.class);
+        localClaimCacheStatic = mockStatic(LocalClaimCache.class);
+        localClaimCacheStatic.when(LocalClaimCache::getInstance).thenReturn(localClaimCache);
+        ExternalClaimCache externalClaimCache = mock(ExternalClaimCache.class);
+        externalClaimCacheStatic = mockStatic(ExternalClaimCache.class);
+        externalClaimCacheStatic.when(ExternalClaimCache::getInstance).thenReturn(externalClaimCache);
+        AssociatedClaimCache associatedClaimCache = mock(AssociatedClaimCache.class);
+        associatedClaimCacheStatic = mockStatic(AssociatedClaimCache.class);
+        associatedClaimCacheStatic.when(AssociatedClaimCache::getInstance).thenReturn(associatedClaimCache);
+        ClaimDialectCache claimDialectCache = mock(ClaimDialectCache.class);
+        claimDialectCacheStatic = mockStatic(ClaimDialectCache.class);
+        claimDialectCacheStatic.when(ClaimDialectCache::getInstance).thenReturn(claimDialectCache);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        claimDialectMappingCacheStatic.close();
+        localClaimCacheStatic.close();
+        externalClaimCacheStatic.close();
+        associatedClaimCacheStatic.close();
+        claimDialectCacheStatic.close();
+    }
+
+    @Test
+    public void testOfExternalClaims() {
+
+        ClaimDialectMappingSnapshot snapshot = ClaimDialectMappingSnapshot.ofExternalClaims(EXT_CLAIM_DIALECT,
+                Arrays.asList(new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, LOCAL_CLAIM_1),
+                        new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_2, LOCAL_CLAIM_2),
+                        new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_3, LOCAL_CLAIM_2)));
+
+        assertEquals(snapshot.getClaimDialectURI(), EXT_CLAIM_DIALECT);
+        assertEquals(snapshot.getClaims().size(), 3);
+        assertEquals(snapshot.getClaim(EXT_CLAIM_2).getMappedLocalClaim(), LOCAL_CLAIM_2);
+        assertNull(snapshot.getClaim(LOCAL_CLAIM_1));
+        assertEquals(snapshot.getExternalToLocalMappings().get(EXT_CLAIM_3), LOCAL_CLAIM_2);
+        assertEquals(snapshot.getLocalToExternalMappings().get(LOCAL_CLAIM_1), EXT_CLAIM_1);
+        // The first claim mapped to a local claim is used for the reverse mapping.
+        assertEquals(snapshot.getLocalToExternalMappings().get(LOCAL_CLAIM_2), EXT_CLAIM_2);
+        assertTrue(snapshot.getLocalClaims().isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getExternalToLocalMappings().put(EXT_CLAIM_1, LOCAL_CLAIM_2));
+    }
+
+    @Test
+    public void testOfLocalClaims() {
+
+        ClaimDialectMappingSnapshot snapshot = ClaimDialectMappingSnapshot.ofLocalClaims(
+                Arrays.asList(new LocalClaim(LOCAL_CLAIM_1), new LocalClaim(LOCAL_CLAIM_2)));
+
+        assertEquals(snapshot.getClaimDialectURI(), ClaimConstants.LOCAL_CLAIM_DIALECT_URI);
+        assertEquals(snapshot.getLocalClaims().size(), 2);
+        assertEquals(snapshot.getClaim(LOCAL_CLAIM_1).getClaimDialectURI(), ClaimConstants.LOCAL_CLAIM_DIALECT_URI);
+        assertEquals(snapshot.getClaim(LOCAL_CLAIM_1).getMappedLocalClaim(), LOCAL_CLAIM_1);
+        assertEquals(snapshot.getExternalToLocalMappings().get(LOCAL_CLAIM_2), LOCAL_CLAIM_2);
+        assertEquals(snapshot.getLocalToExternalMappings().get(LOCAL_CLAIM_2), LOCAL_CLAIM_2);
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getLocalClaims().addAll(Collections.singletonList(new LocalClaim(LOCAL_CLAIM_1))));
+    }
+
+    @Test
+    public void testClaimMetadataHandlerServesMappingsFromCache() throws Exception {
+
+        ClaimDialectMappingSnapshot snapshot = ClaimDialectMappingSnapshot.ofExternalClaims(EXT_CLAIM_DIALECT,
+                Arrays.asList(new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, LOCAL_CLAIM_1),
+                        new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_2, LOCAL_CLAIM_2)));
+        when(claimDialectMappingCache.getValueFromCache(EXT_CLAIM_DIALECT, TENANT_DOMAIN)).thenReturn(snapshot);
+
+        try (MockedConstruction<ClaimMetadataManagementServiceImpl> claimMetadataService =
+                     mockConstruction(ClaimMetadataManagementServiceImpl.class)) {
+            ClaimMetadataHandler claimMetadataHandler = new ClaimMetadataHandler();
+            Map<String, String> mappings = claimMetadataHandler.getMappingsMapFromOtherDialectToCarbon(
+                    EXT_CLAIM_DIALECT, Collections.singleton(EXT_CLAIM_2), TENANT_DOMAIN, false);
+
+            assertEquals(mappings, Collections.singletonMap(EXT_CLAIM_2, LOCAL_CLAIM_2));
+            assertEquals(claimMetadataHandler.getMappingsFromOtherDialectToCarbon(EXT_CLAIM_DIALECT, null,
+                    TENANT_DOMAIN).size(), 2);
+            assertTrue(claimMetadataService.constructed().isEmpty());
+        }
+        verify(claimDialectMappingCache, never()).addToCache(anyString(), any(ClaimDialectMappingSnapshot.class),
+                anyString());
+    }
+
+    @Test
+    public void testClaimMetadataHandlerCachesMappingsOnCacheMiss() throws Exception {
+
+        try (MockedConstruction<ClaimMetadataManagementServiceImpl> claimMetadataService =
+                     mockConstruction(ClaimMetadataManagementServiceImpl.class, (service, context) ->
+                             when(service.getExternalClaims(EXT_CLAIM_DIALECT, TENANT_DOMAIN)).thenReturn(
+                                     Collections.singletonList(
+                                             new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, LOCAL_CLAIM_1))))) {
+            ClaimMetadataHandler claimMetadataHandler = new ClaimMetadataHandler();
+            ClaimDialectMappingSnapshot snapshot = claimMetadataHandler.getClaimDialectMapping(EXT_CLAIM_DIALECT,
+                    TENANT_DOMAIN);
+
+            assertEquals(snapshot.getExternalToLocalMappings().get(EXT_CLAIM_1), LOCAL_CLAIM_1);
+            assertEquals(claimMetadataService.constructed().size(), 1);
+            verify(claimDialectMappingCache).addToCache(EXT_CLAIM_DIALECT, snapshot, TENANT_DOMAIN);
+        }
+    }
+
+    @Test
+    public void testLocalClaimWritesInvalidateSnapshot() throws Exception {
+
+        CacheBackedLocalClaimDAO localClaimDAO = new CacheBackedLocalClaimDAO(mock(LocalClaimDAO.class));
+        LocalClaim localClaim = new LocalClaim(LOCAL_CLAIM_1);
+
+        localClaimDAO.addLocalClaim(localClaim, TENANT_ID);
+        localClaimDAO.updateLocalClaim(localClaim, TENANT_ID);
+        localClaimDAO.updateLocalClaimMappings(Collections.singletonList(localClaim), TENANT_ID, "PRIMARY");
+        localClaimDAO.removeLocalClaim(LOCAL_CLAIM_1, TENANT_ID);
+        localClaimDAO.removeClaimMappingAttributes(TENANT_ID, "PRIMARY");
+
+        verify(claimDialectMappingCache, times(5)).clearCacheEntry(ClaimConstants.LOCAL_CLAIM_DIALECT_URI,
+                TENANT_ID);
+    }
+
+    @Test
+    public void testExternalClaimWritesInvalidateSnapshot() throws Exception {
+
+        ExternalClaimDAO externalClaimDAO = mock(ExternalClaimDAO.class);
+        when(externalClaimDAO.getExternalClaims(EXT_CLAIM_DIALECT, TENANT_ID)).thenReturn(
+                Collections.singletonList(new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, LOCAL_CLAIM_1)));
+        CacheBackedExternalClaimDAO cacheBackedExternalClaimDAO = new CacheBackedExternalClaimDAO(externalClaimDAO);
+        ExternalClaim externalClaim = new ExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, LOCAL_CLAIM_1);
+
+        cacheBackedExternalClaimDAO.addExternalClaim(externalClaim, TENANT_ID);
+        cacheBackedExternalClaimDAO.updateExternalClaim(externalClaim, TENANT_ID);
+        cacheBackedExternalClaimDAO.removeExternalClaim(EXT_CLAIM_DIALECT, EXT_CLAIM_1, TENANT_ID);
+        cacheBackedExternalClaimDAO.removeExternalClaimCache(EXT_CLAIM_DIALECT, TENANT_ID);
+
+        verify(claimDialectMappingCache, times(4)).clearCacheEntry(EXT_CLAIM_DIALECT, TENANT_ID);
+        verify(claimDialectMappingCache, never()).clearCacheEntry(eq(ClaimConstants.LOCAL_CLAIM_DIALECT_URI),
+                anyInt());
+    }
+
+    @Test
+    public void testClaimDialectWritesInvalidateSnapshot() throws Exception {
+
+        String renamedClaimDialect = "http://xyz.org";
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = mock(Connection.class);
+            when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            CacheBackedClaimDialectDAO claimDialectDAO = new CacheBackedClaimDialectDAO();
+
+            claimDialectDAO.addClaimDialect(new ClaimDialect(EXT_CLAIM_DIALECT), TENANT_ID);
+            claimDialectDAO.renameClaimDialect(new ClaimDialect(EXT_CLAIM_DIALECT),
+                    new ClaimDialect(renamedClaimDialect), TENANT_ID);
+            claimDialectDAO.removeClaimDialect(new ClaimDialect(renamedClaimDialect), TENANT_ID);
+        }
+
+        verify(claimDialectMappingCache, times(2)).clearCacheEntry(EXT_CLAIM_DIALECT, TENANT_ID);
+        verify(claimDialectMappingCache, times(2)).clearCacheEntry(renamedClaimDialect, TENANT_ID);
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.internal.IdentityCoreServiceComponent;
+import org.wso2.carbon.identity.core.util.IdentityConfigSnapshot;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -41,6 +42,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.PROXY_CONTEXT_PATH;
 import static org.wso2.carbon.identity.core.util.IdentityTenantUtil.isSuperTenantRequiredInUrl;
@@ -51,6 +53,9 @@ import static org.wso2.carbon.identity.core.util.IdentityTenantUtil.isSuperTenan
  */
 public class DefaultServiceURLBuilder implements ServiceURLBuilder {
 
+    private static final int MAX_CACHED_HOST_NAMES = 1000;
+    private static volatile URLTemplate urlTemplate;
+
     protected String fragment;
     protected String[] urlPaths;
     protected String tenant;
@@ -87,6 +92,10 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
     @Deprecated
     public ServiceURL build() throws URLBuilderException {
 
+        URLTemplate template = getURLTemplate();
+        if (template != null) {
+            return buildServiceURL(template, getProxyHostName(template));
+        }
         return buildServiceURL(fetchProxyHostName());
     }
 
@@ -101,9 +110,141 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
     @Override
     public ServiceURL build(String hostname) throws URLBuilderException {
 
+        URLTemplate template = getURLTemplate();
+        if (template != null) {
+            return buildServiceURL(template, hostname);
+        }
         return buildServiceURL(hostname);
     }
 
+    /**
+     * Discards the prebuilt server URL prefixes, so that the next URL is built with the current server
+     * configuration. The prefixes are rebuilt automatically when identity.xml is reloaded.
+     */
+    public static void invalidateURLTemplates() {
+
+        urlTemplate = null;
+    }
+
+    private ServiceURL buildServiceURL(URLTemplate template, String proxyHostName) throws URLBuilderException {
+
+        String tenantDomain = StringUtils.isNotBlank(tenant) ? tenant : resolveTenantDomain();
+        String tenantDomainForPublicUrl = resolveTenantDomainForUrlBuilder(tenantDomain);
+        String resolvedFragment = buildFragment(fragment, fragmentParams);
+        String urlPath = getResolvedUrlPath(tenantDomain);
+        String urlPathForPublicUrl = StringUtils.equals(tenantDomain, tenantDomainForPublicUrl) ? urlPath :
+                getResolvedUrlPath(tenantDomainForPublicUrl);
+        String resolvedParamsString = getResolvedParamString(parameters);
+        String relativePublicUrl = appendUrlPath(template.relativePublicUrlPrefix, urlPathForPublicUrl,
+                resolvedParamsString, resolvedFragment);
+        String relativeInternalUrl = appendUrlPath(StringUtils.EMPTY, urlPath, resolvedParamsString,
+                resolvedFragment);
+        String absoluteInternalUrl = getAbsoluteInternalUrlPrefix(template) + relativeInternalUrl;
+        String absolutePublicUrlWithoutURLPath = getAbsolutePublicUrlPrefix(template, proxyHostName);
+        if (StringUtils.isNotBlank(urlPathForPublicUrl)) {
+            if (template.authenticationEndpointHostName != null && template.authenticationEndpointPath != null &&
+                    urlPathForPublicUrl.contains(template.authenticationEndpointPath)) {
+                absolutePublicUrlWithoutURLPath = getAbsolutePublicUrlPrefix(template,
+                        template.authenticationEndpointHostName);
+            }
+            if (template.recoveryEndpointHostName != null && template.recoveryEndpointPath != null &&
+                    urlPathForPublicUrl.contains(template.recoveryEndpointPath)) {
+                absolutePublicUrlWithoutURLPath = getAbsolutePublicUrlPrefix(template,
+                        template.recoveryEndpointHostName);
+            }
+        }
+        String absolutePublicURL = absolutePublicUrlWithoutURLPath + relativePublicUrl;
+        return new ServiceURLImpl(template.protocol, proxyHostName, template.internalHostName, template.proxyPort,
+                template.transportPort, tenantDomain, template.proxyContextPath, urlPath, parameters,
+                resolvedFragment, absolutePublicURL, absoluteInternalUrl, relativePublicUrl, relativeInternalUrl,
+                absolutePublicUrlWithoutURLPath);
+    }
+
+    private String appendUrlPath(String urlPrefix, String urlPath, String resolvedParamsString, String fragment)
+            throws URLBuilderException {
+
+        StringBuilder url = new StringBuilder(urlPrefix);
+        appendContextToUri(url, urlPath);
+        appendParamsToUri(url, resolvedParamsString, "?");
+        appendParamsToUri(url, fragment, "#");
+        return url.toString();
+    }
+
+    /**
+     * Get the prebuilt server URL prefixes, which are rebuilt when identity.xml, the server configuration or the
+     * transports are reloaded.
+     *
+     * @return URL template, or null if the URL has to be built from the server configuration.
+     * @throws URLBuilderException If the server URL settings cannot be resolved.
+     */
+    private URLTemplate getURLTemplate() throws URLBuilderException {
+
+        // Extensions which override the fetch methods build the URLs from their own settings.
+        if (getClass() != DefaultServiceURLBuilder.class) {
+            return null;
+        }
+        IdentityConfigSnapshot configSnapshot = IdentityUtil.getConfigSnapshot();
+        if (configSnapshot == null) {
+            return null;
+        }
+        ServerConfiguration serverConfiguration = ServerConfiguration.getInstance();
+        AxisConfiguration axisConfiguration = IdentityCoreServiceComponent.getConfigurationContextService().
+                getServerConfigContext().getAxisConfiguration();
+        URLTemplate template = urlTemplate;
+        if (template != null && template.isBuiltFrom(configSnapshot, serverConfiguration, axisConfiguration)) {
+            return template;
+        }
+        template = new URLTemplate(configSnapshot, serverConfiguration, axisConfiguration);
+        template.protocol = fetchProtocol();
+        template.internalHostName = fetchInternalHostName();
+        template.authenticationEndpointHostName = fetchAuthenticationEndpointHostName();
+        template.authenticationEndpointPath = fetchAuthenticationEndpointPath();
+        template.recoveryEndpointHostName = fetchRecoveryEndpointHostName();
+        template.recoveryEndpointPath = fetchRecoveryEndpointPath();
+        template.proxyPort = fetchPort();
+        template.transportPort = fetchTransportPort();
+        template.proxyContextPath = serverConfiguration.getFirstProperty(PROXY_CONTEXT_PATH);
+        StringBuilder relativeUrl = new StringBuilder();
+        appendContextToUri(relativeUrl, template.proxyContextPath);
+        template.relativePublicUrlPrefix = relativeUrl.toString();
+        urlTemplate = template;
+        return template;
+    }
+
+    private String getProxyHostName(URLTemplate template) throws URLBuilderException {
+
+        String proxyHostName = template.proxyHostName;
+        if (proxyHostName == null) {
+            proxyHostName = fetchProxyHostName();
+            template.proxyHostName = proxyHostName;
+        }
+        return proxyHostName;
+    }
+
+    private String getAbsoluteInternalUrlPrefix(URLTemplate template) throws URLBuilderException {
+
+        String prefix = template.absoluteInternalUrlPrefix;
+        if (prefix == null) {
+            prefix = fetchAbsoluteInternalUrl(template.protocol, template.internalHostName, template.transportPort,
+                    StringUtils.EMPTY);
+            template.absoluteInternalUrlPrefix = prefix;
+        }
+        return prefix;
+    }
+
+    private String getAbsolutePublicUrlPrefix(URLTemplate template, String hostName) throws URLBuilderException {
+
+        String prefix = hostName != null ? template.absolutePublicUrlPrefixes.get(hostName) : null;
+        if (prefix == null) {
+            prefix = fetchAbsolutePublicUrlWithoutURLPath(template.protocol, hostName, template.proxyPort);
+            // Host names are tenant specific when custom domains are used, hence only a bounded number is kept.
+            if (template.absolutePublicUrlPrefixes.size() < MAX_CACHED_HOST_NAMES) {
+                template.absolutePublicUrlPrefixes.put(hostName, prefix);
+            }
+        }
+        return prefix;
+    }
+
     private ServiceURL buildServiceURL(String proxyHostName) throws URLBuilderException {
 
         String protocol = fetchProtocol();
@@ -536,6 +677,48 @@ public class DefaultServiceURLBuilder implements ServiceURLBuilder {
         return tenantDomain;
     }
 
+    /**
+     * Server URL settings and the URL prefixes built from them, shared by all the builders. A URL is built by
+     * appending the tenant or organization qualified path, the query and the fragment onto these prefixes.
+     */
+    private static final class URLTemplate {
+
+        private final IdentityConfigSnapshot configSnapshot;
+        private final ServerConfiguration serverConfiguration;
+        private final AxisConfiguration axisConfiguration;
+
+        private String protocol;
+        private String internalHostName;
+        private String authenticationEndpointHostName;
+        private String authenticationEndpointPath;
+        private String recoveryEndpointHostName;
+        private String recoveryEndpointPath;
+        private int proxyPort;
+        private int transportPort;
+        private String proxyContextPath;
+        private String relativePublicUrlPrefix;
+
+        // Resolved on first use, as not every URL needs them.
+        private volatile String proxyHostName;
+        private volatile String absoluteInternalUrlPrefix;
+        private final Map<String, String> absolutePublicUrlPrefixes = new ConcurrentHashMap<>();
+
+        URLTemplate(IdentityConfigSnapshot configSnapshot, ServerConfiguration serverConfiguration,
+                    AxisConfiguration axisConfiguration) {
+
+            this.configSnapshot = configSnapshot;
+            this.serverConfiguration = serverConfiguration;
+            this.axisConfiguration = axisConfiguration;
+        }
+
+        boolean isBuiltFrom(IdentityConfigSnapshot configSnapshot, ServerConfiguration serverConfiguration,
+                            AxisConfiguration axisConfiguration) {
+
+            return this.configSnapshot == configSnapshot && this.serverConfiguration == serverConfiguration &&
+                    this.axisConfiguration == axisConfiguration;
+        }
+    }
+
     protected static class ServiceURLImpl implements ServiceURL {
 
         private String protocol;
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.core.model;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * A page of a cursor (keyset) paginated listing.
+ * <p>
+ * The cursor is an opaque token which encodes the sort key of the last item of the previous page. The next page is
+ * read by seeking past that key, so reading a page costs the same regardless of how deep it is in the listing.
+ *
+ * @param <T> Type of the listed items.
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final Integer totalCount;
+
+    public CursorPage(List<T> items, String nextCursor, Integer totalCount) {
+
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Get the items of the page.
+     *
+     * @return items of the page.
+     */
+    public List<T> getItems() {
+
+        return items;
+    }
+
+    /**
+     * Get the cursor of the next page.
+     *
+     * @return cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    /**
+     * Get the total number of items in the listing.
+     *
+     * @return total count, or null if the count was not requested.
+     */
+    public Integer getTotalCount() {
+
+        return totalCount;
+    }
+
+    /**
+     * Encode a numeric sort key into an opaque cursor.
+     *
+     * @param key sort key of the last item of a page.
+     * @return cursor.
+     */
+    public static String encodeCursor(int key) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor created by {@link #encodeCursor(int)}.
+     *
+     * @param cursor       cursor.
+     * @param defaultValue value to return when the cursor is blank, i.e. for the first page.
+     * @return sort key.
+     * @throws IllegalArgumentException if the cursor is not a valid cursor.
+     */
+    public static int decodeCursor(String cursor, int defaultValue) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
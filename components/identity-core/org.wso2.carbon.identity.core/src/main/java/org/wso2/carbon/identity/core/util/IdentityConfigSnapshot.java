@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of the properties read from identity.xml, with the values converted to strings.
+ * <p>
+ * Values without placeholders are stored as they are. Values with placeholders, e.g. {@code ${carbon.host}}, are
+ * resolved with {@link IdentityUtil#fillURLPlaceholders(String)} on read, since the server host, ports and context
+ * paths are only known once the transports are started. A resolved value is served afterwards only once all its
+ * placeholders are resolved, so a value read before the server is started is resolved again on the next read. A new
+ * snapshot is built whenever the configuration is (re)loaded.
+ */
+public final class IdentityConfigSnapshot {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private final Map<String, Object> source;
+    private final Map<String, List<String>> values;
+    private final Map<String, String> resolvedValues = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a snapshot of a configuration.
+     *
+     * @param configuration Properties read from identity.xml, where a value is a string or a list of strings.
+     */
+    public IdentityConfigSnapshot(Map<String, Object> configuration) {
+
+        this.source = configuration;
+        Map<String, List<String>> snapshotValues = new HashMap<>();
+        if (configuration != null) {
+            for (Map.Entry<String, Object> entry : configuration.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                List<String> stringValues = toStringList(entry.getValue());
+                snapshotValues.put(entry.getKey(), stringValues);
+                if (!stringValues.isEmpty() && !StringUtils.contains(stringValues.get(0), PLACEHOLDER_PREFIX)) {
+                    resolvedValues.put(entry.getKey(), stringValues.get(0));
+                }
+            }
+        }
+        this.values = Collections.unmodifiableMap(snapshotValues);
+    }
+
+    /**
+     * Whether this snapshot was built from the given configuration.
+     *
+     * @param configuration Properties read from identity.xml.
+     * @return true if the snapshot is built from the same configuration instance.
+     */
+    public boolean isSnapshotOf(Map<String, Object> configuration) {
+
+        return source == configuration;
+    }
+
+    /**
+     * Get the value of a property, with the placeholders resolved. The first value is returned if the property has
+     * multiple values.
+     *
+     * @param key Property name, e.g. "a.b" for {@code <a><b>text</b></a>}.
+     * @return Value of the property, or null if the property is not configured.
+     */
+    public String getProperty(String key) {
+
+        String resolvedValue = resolvedValues.get(key);
+        if (resolvedValue != null) {
+            return resolvedValue;
+        }
+        List<String> propertyValues = values.get(key);
+        if (propertyValues == null || propertyValues.isEmpty()) {
+            return null;
+        }
+        resolvedValue = IdentityUtil.fillURLPlaceholders(propertyValues.get(0));
+        if (resolvedValue != null && !StringUtils.contains(resolvedValue, PLACEHOLDER_PREFIX)) {
+            resolvedValues.put(key, resolvedValue);
+        }
+        return resolvedValue;
+    }
+
+    /**
+     * Get the values of a property, without resolving the placeholders.
+     *
+     * @param key Property name.
+     * @return Values of the property, or an empty list if the property is not configured.
+     */
+    public List<String> getPropertyAsList(String key) {
+
+        List<String> propertyValues = values.get(key);
+        return propertyValues != null ? propertyValues : Collections.emptyList();
+    }
+
+    /**
+     * Get the value of a boolean property.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value to return if the property is not configured.
+     * @return Value of the property.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+
+        String value = getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Get the value of an integer property.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value to return if the property is not configured or is not a number.
+     * @return Value of the property.
+     */
+    public int getInt(String key, int defaultValue) {
+
+        String value = getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get the value of a long property.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value to return if the property is not configured or is not a number.
+     * @return Value of the property.
+     */
+    public long getLong(String key, long defaultValue) {
+
+        String value = getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static List<String> toStringList(Object value) {
+
+        if (!(value instanceof List)) {
+            return Collections.singletonList(value instanceof String ? (String) value : String.valueOf(value));
+        }
+        List<String> stringValues = new ArrayList<>();
+        for (Object rawValue : (List) value) {
+            stringValues.add(rawValue instanceof String ? (String) rawValue : String.valueOf(rawValue));
+        }
+        return Collections.unmodifiableList(stringValues);
+    }
+}
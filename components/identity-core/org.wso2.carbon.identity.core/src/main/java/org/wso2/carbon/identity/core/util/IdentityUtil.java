@@ -142,6 +142,7 @@ public class IdentityUtil {
     private static final String DISABLE_EMAIL_USERNAME_VALIDATION = "DisableEmailUserNameValidation";
     private static Log log = LogFactory.getLog(IdentityUtil.class);
     private static Map<String, Object> configuration = new HashMap<>();
+    private static volatile IdentityConfigSnapshot configSnapshot;
     private static Map<IdentityEventListenerConfigKey, IdentityEventListenerConfig> eventListenerConfiguration = new
             HashMap<>();
     private static Map<IdentityCacheConfigKey, IdentityCacheConfig> identityCacheConfigurationHolder = new HashMap<>();
@@ -200,22 +201,59 @@ public class IdentityUtil {
      */
     public static String getProperty(String key) {
 
-        Object value = configuration.get(key);
-        String strValue;
+        return getConfigSnapshot().getProperty(key);
+    }
 
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof List) {
-            value = ((List) value).get(0);
-        }
-        if (value instanceof String) {
-            strValue = (String) value;
-        } else {
-            strValue = String.valueOf(value);
+    /**
+     * Read a boolean configuration element from the identity.xml.
+     *
+     * @param key          Element Name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured.
+     * @return Element value.
+     */
+    public static boolean getPropertyAsBoolean(String key, boolean defaultValue) {
+
+        return getConfigSnapshot().getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Read an integer configuration element from the identity.xml.
+     *
+     * @param key          Element Name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured or is not a number.
+     * @return Element value.
+     */
+    public static int getPropertyAsInt(String key, int defaultValue) {
+
+        return getConfigSnapshot().getInt(key, defaultValue);
+    }
+
+    /**
+     * Read a long configuration element from the identity.xml.
+     *
+     * @param key          Element Name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured or is not a number.
+     * @return Element value.
+     */
+    public static long getPropertyAsLong(String key, long defaultValue) {
+
+        return getConfigSnapshot().getLong(key, defaultValue);
+    }
+
+    /**
+     * Get the snapshot of the identity.xml properties, which is rebuilt when the configuration is reloaded.
+     *
+     * @return Configuration snapshot.
+     */
+    public static IdentityConfigSnapshot getConfigSnapshot() {
+
+        IdentityConfigSnapshot snapshot = configSnapshot;
+        Map<String, Object> currentConfiguration = configuration;
+        if (snapshot == null || !snapshot.isSnapshotOf(currentConfiguration)) {
+            snapshot = new IdentityConfigSnapshot(currentConfiguration);
+            configSnapshot = snapshot;
         }
-        strValue = fillURLPlaceholders(strValue);
-        return strValue;
+        return snapshot;
     }
 
     public static IdentityEventListenerConfig readEventListenerProperty(String type, String name) {
@@ -328,6 +366,7 @@ public class IdentityUtil {
 
     public static void populateProperties() {
         configuration = IdentityConfigParser.getInstance().getConfiguration();
+        configSnapshot = new IdentityConfigSnapshot(configuration);
         eventListenerConfiguration = IdentityConfigParser.getInstance().getEventListenerConfiguration();
         identityCacheConfigurationHolder = IdentityConfigParser.getInstance().getIdentityCacheConfigurationHolder();
         identityCookiesConfigurationHolder = IdentityConfigParser.getIdentityCookieConfigurationHolder();
@@ -1921,27 +1960,7 @@ public class IdentityUtil {
      */
     public static List<String> getPropertyAsList(String key) {
 
-        List<String> propertyList = new ArrayList<>();
-        Object value = configuration.get(key);
-
-        if (value == null) {
-            return propertyList;
-        }
-        if (value instanceof List) {
-            List rawProps = (List) value;
-            for (Object rawProp: rawProps ) {
-                if (rawProp instanceof String) {
-                    propertyList.add((String) rawProp);
-                } else {
-                    propertyList.add(String.valueOf(rawProp));
-                }
-            }
-        } else if (value instanceof String) {
-            propertyList.add((String) value);
-        } else {
-            propertyList.add(String.valueOf(value));
-        }
-        return propertyList;
+        return new ArrayList<>(getConfigSnapshot().getPropertyAsList(key));
     }
 
     /**
@@ -33,6 +33,7 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.base.IdentityConstants;
+import org.wso2.carbon.identity.core.DefaultServiceURLBuilder;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
@@ -50,6 +51,7 @@ import java.util.Map;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
@@ -258,6 +260,38 @@ public class DefaultServiceURLBuilderTest {
                         "=value3#key1=value1&key2=value2&key3=value3");
     }
 
+    @Test
+    public void testServerURLSettingsAreReused() throws Exception {
+
+        when(ServerConfiguration.getInstance().getFirstProperty(IdentityCoreConstants
+                .PROXY_CONTEXT_PATH)).thenReturn("proxyContextPath");
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn(HTTPS);
+        carbonUtils.when(() -> CarbonUtils.getTransportProxyPort(mockAxisConfiguration, HTTPS)).thenReturn(443);
+        identityTenantUtil.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled).thenReturn(true);
+        lenient().when(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain())
+                .thenReturn("carbon.super");
+
+        DefaultServiceURLBuilder.invalidateURLTemplates();
+        assertEquals(ServiceURLBuilder.create().addPath("/oauth2/token").build().getAbsolutePublicURL(),
+                "https://localhost/proxyContextPath/oauth2/token");
+        carbonUtils.clearInvocations();
+        networkUtils.clearInvocations();
+
+        assertEquals(ServiceURLBuilder.create().addPath("samlsso").setTenant("abc.com").addParameter("key", "value")
+                .build().getAbsolutePublicURL(), "https://localhost/proxyContextPath/t/abc.com/samlsso?key=value");
+        assertEquals(ServiceURLBuilder.create().addPath("/oauth2/token").build().getAbsoluteInternalURL(),
+                "https://localhost:0/oauth2/token");
+        carbonUtils.verify(CarbonUtils::getManagementTransport, never());
+        networkUtils.verify(NetworkUtils::getLocalHostname, never());
+
+        // URLs are built with the current server configuration once the templates are invalidated.
+        DefaultServiceURLBuilder.invalidateURLTemplates();
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn("http");
+        carbonUtils.when(() -> CarbonUtils.getTransportProxyPort(mockAxisConfiguration, "http")).thenReturn(9763);
+        assertEquals(ServiceURLBuilder.create().addPath("/oauth2/token").build().getAbsolutePublicURL(),
+                "http://localhost:9763/proxyContextPath/oauth2/token");
+    }
+
     @DataProvider
     public Object[][] getAbsolutePublicURLData() {
 
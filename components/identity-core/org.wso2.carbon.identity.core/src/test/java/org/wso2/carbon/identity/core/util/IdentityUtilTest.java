@@ -282,6 +282,62 @@ public class IdentityUtilTest {
                 "= %s, value = %s", key, String.valueOf(value)));
     }
 
+    @Test
+    public void testGetPropertyResolvesPlaceholdersOnce() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("testUrl", "${carbon.protocol}://wso2.com");
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn("https");
+        assertEquals(IdentityUtil.getProperty("testUrl"), "https://wso2.com");
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn("http");
+        assertEquals(IdentityUtil.getProperty("testUrl"), "https://wso2.com",
+                "Resolved value should be served from the configuration snapshot.");
+
+        // A reloaded configuration is resolved again.
+        setPrivateStaticField(IdentityUtil.class, "configuration", new HashMap<>(mockConfig));
+        assertEquals(IdentityUtil.getProperty("testUrl"), "http://wso2.com");
+    }
+
+    @Test
+    public void testGetPropertyDoesNotKeepUnresolvedPlaceholders() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("testUrl", "${carbon.protocol}://wso2.com");
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        // The management transport is not known before the server is started.
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn(null);
+        assertEquals(IdentityUtil.getProperty("testUrl"), "${carbon.protocol}://wso2.com");
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn("https");
+        assertEquals(IdentityUtil.getProperty("testUrl"), "https://wso2.com");
+        carbonUtils.when(CarbonUtils::getManagementTransport).thenReturn("http");
+        assertEquals(IdentityUtil.getProperty("testUrl"), "https://wso2.com",
+                "Resolved value should be served from the configuration snapshot.");
+    }
+
+    @Test
+    public void testGetTypedProperties() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("testBoolean", " true ");
+        mockConfig.put("testInt", "25");
+        mockConfig.put("testLong", 3600000L);
+        mockConfig.put("testInvalid", "abc");
+        mockConfig.put("testList", Arrays.asList("one", "two"));
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        assertTrue(IdentityUtil.getPropertyAsBoolean("testBoolean", false));
+        assertTrue(IdentityUtil.getPropertyAsBoolean("testMissing", true));
+        assertEquals(IdentityUtil.getPropertyAsInt("testInt", 10), 25);
+        assertEquals(IdentityUtil.getPropertyAsInt("testInvalid", 10), 10);
+        assertEquals(IdentityUtil.getPropertyAsLong("testLong", 0L), 3600000L);
+        assertEquals(IdentityUtil.getPropertyAsLong("testMissing", 5L), 5L);
+        assertEquals(IdentityUtil.getPropertyAsList("testList"), Arrays.asList("one", "two"));
+        assertTrue(IdentityUtil.getPropertyAsList("testMissing").isEmpty());
+    }
+
 
     @Test
     public void testReadEventListenerProperty() throws Exception {
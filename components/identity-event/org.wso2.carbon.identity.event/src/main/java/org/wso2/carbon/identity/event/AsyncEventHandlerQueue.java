@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue with a dedicated executor for the asynchronous events of a single event handler. A slow handler
+ * only fills its own queue, and does not delay the events of the other handlers.
+ */
+public class AsyncEventHandlerQueue {
+
+    private static final Log log = LogFactory.getLog(AsyncEventHandlerQueue.class);
+
+    /**
+     * Action taken when an event is published while the queue of the handler is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Block the publisher until there is space in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest queued event to make space for the new event.
+         */
+        DROP_OLDEST,
+        /**
+         * Handle the event in the publisher thread.
+         */
+        CALLER_RUNS;
+
+        /**
+         * Resolve the overflow policy from the configured value.
+         *
+         * @param value         Configured value, such as block, drop-oldest or caller-runs.
+         * @param defaultPolicy Policy to use if the value is not configured or not valid.
+         * @return Overflow policy.
+         */
+        public static OverflowPolicy fromValue(String value, OverflowPolicy defaultPolicy) {
+
+            if (StringUtils.isBlank(value)) {
+                return defaultPolicy;
+            }
+            try {
+                return OverflowPolicy.valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid event queue overflow policy: " + value + ". Using " + defaultPolicy + ".");
+                return defaultPolicy;
+            }
+        }
+    }
+
+    private final AbstractEventHandler handler;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong handledCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Creates the queue and the executor of the given handler.
+     *
+     * @param handler        Event handler.
+     * @param queueSize      Maximum number of events waiting to be handled.
+     * @param threadPoolSize Number of threads handling the events.
+     * @param overflowPolicy Action taken when the queue is full.
+     */
+    public AsyncEventHandlerQueue(AbstractEventHandler handler, int queueSize, int threadPoolSize,
+                                  OverflowPolicy overflowPolicy) {
+
+        this.handler = handler;
+        this.executor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "IdentityEventHandler-" + handler.getName());
+                    thread.setDaemon(true);
+                    return thread;
+                }, getRejectedExecutionHandler(overflowPolicy));
+    }
+
+    /**
+     * Queue the event to be handled by the handler.
+     *
+     * @param event Event.
+     */
+    public void addEvent(final Event event) {
+
+        final long queuedTime = System.nanoTime();
+        try {
+            executor.execute(() -> handle(event, queuedTime));
+        } catch (RejectedExecutionException e) {
+            droppedCount.incrementAndGet();
+            log.error("Event: " + event.getEventName() + " is dropped as the event queue of the handler: " +
+                    handler.getName() + " is not accepting events.", e);
+        }
+    }
+
+    /**
+     * Stop accepting events. Already queued events are still handled.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+    }
+
+    public String getHandlerName() {
+
+        return handler.getName();
+    }
+
+    public int getQueueDepth() {
+
+        return executor.getQueue().size();
+    }
+
+    public long getHandledCount() {
+
+        return handledCount.get();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.get();
+    }
+
+    /**
+     * Get the average time from queueing an event until the handler completes handling it.
+     *
+     * @return Average latency in milliseconds.
+     */
+    public long getAverageLatency() {
+
+        long count = handledCount.get() + failedCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / count);
+    }
+
+    /**
+     * Get the maximum time from queueing an event until the handler completes handling it.
+     *
+     * @return Maximum latency in milliseconds.
+     */
+    public long getMaxLatency() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    private void handle(Event event, long queuedTime) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + handler.getName() + " on event " + event.getEventName());
+        }
+        try {
+            handler.handleEvent(event);
+            handledCount.incrementAndGet();
+        } catch (IdentityEventException | RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("Error while invoking notification sending module " + handler.getName(), e);
+        } finally {
+            long latency = System.nanoTime() - queuedTime;
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    private RejectedExecutionHandler getRejectedExecutionHandler(OverflowPolicy overflowPolicy) {
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                return (runnable, threadPoolExecutor) -> {
+                    if (threadPoolExecutor.isShutdown()) {
+                        throw new RejectedExecutionException("Event handler queue is shut down.");
+                    }
+                    if (threadPoolExecutor.getQueue().poll() != null) {
+                        droppedCount.incrementAndGet();
+                        if (log.isDebugEnabled()) {
+                            log.debug("Dropped the oldest queued event of the handler: " + handler.getName());
+                        }
+                    }
+                    threadPoolExecutor.execute(runnable);
+                };
+            case CALLER_RUNS:
+                return (runnable, threadPoolExecutor) -> {
+                    if (threadPoolExecutor.isShutdown()) {
+                        throw new RejectedExecutionException("Event handler queue is shut down.");
+                    }
+                    callerRunsCount.incrementAndGet();
+                    runnable.run();
+                };
+            case BLOCK:
+            default:
+                return (runnable, threadPoolExecutor) -> {
+                    if (threadPoolExecutor.isShutdown()) {
+                        throw new RejectedExecutionException("Event handler queue is shut down.");
+                    }
+                    try {
+                        threadPoolExecutor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for space in the event " +
+                                "queue of the handler: " + handler.getName(), e);
+                    }
+                };
+        }
+    }
+}
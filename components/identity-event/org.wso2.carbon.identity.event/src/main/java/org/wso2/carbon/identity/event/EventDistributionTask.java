@@ -18,15 +18,21 @@
 
 package org.wso2.carbon.identity.event;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 
@@ -50,6 +56,19 @@ public class EventDistributionTask implements Runnable {
      * Condition to break event distribution task
      */
     private volatile boolean running;
+    /**
+     * Whether each event handler has its own bounded queue for asynchronous events.
+     */
+    private final boolean perHandlerQueueEnabled;
+    /**
+     * Bounded queues of the event handlers, by the name of the handler.
+     */
+    private final Map<String, AsyncEventHandlerQueue> handlerQueues = new ConcurrentHashMap<>();
+
+    private static final int DEFAULT_HANDLER_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_HANDLER_THREAD_POOL_SIZE = 2;
+    private static final AsyncEventHandlerQueue.OverflowPolicy DEFAULT_OVERFLOW_POLICY =
+            AsyncEventHandlerQueue.OverflowPolicy.CALLER_RUNS;
 
     /**
      * Overridden constructor to initiate notification sending modules and thread pool size
@@ -58,8 +77,21 @@ public class EventDistributionTask implements Runnable {
      * @param threadPoolSize             Size of thread pool for notification sending components
      */
     public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize) {
+        this(notificationSendingModules, threadPoolSize, false);
+    }
+
+    /**
+     * Overridden constructor to initiate notification sending modules, thread pool size and the per handler queues
+     *
+     * @param notificationSendingModules List of notification sending modules registered
+     * @param threadPoolSize             Size of thread pool for notification sending components
+     * @param perHandlerQueueEnabled     Whether each event handler has its own bounded queue for asynchronous events
+     */
+    public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize,
+                                 boolean perHandlerQueueEnabled) {
         this.notificationSendingModules = notificationSendingModules;
         this.eventQueue = new LinkedBlockingDeque<Event>();
+        this.perHandlerQueueEnabled = perHandlerQueueEnabled;
         IdentityEventServiceDataHolder.getInstance().setThreadPool(Executors.newFixedThreadPool(threadPoolSize));
     }
 
@@ -67,6 +99,54 @@ public class EventDistributionTask implements Runnable {
         this.eventQueue.add(publisherEvent);
     }
 
+    /**
+     * Dispatch an asynchronous event to the given handler. If per handler queues are enabled, the event is added to
+     * the bounded queue of the handler. Otherwise the event is added to the shared event queue.
+     *
+     * @param handler        Event handler which handles the event asynchronously
+     * @param publisherEvent Event
+     */
+    public void dispatchEvent(AbstractEventHandler handler, Event publisherEvent) {
+        if (!perHandlerQueueEnabled) {
+            addEventToQueue(publisherEvent);
+            return;
+        }
+        AsyncEventHandlerQueue handlerQueue = handlerQueues.computeIfAbsent(handler.getName(),
+                name -> createHandlerQueue(handler));
+        handlerQueue.addEvent(publisherEvent);
+        if (log.isDebugEnabled()) {
+            log.debug("Event: " + publisherEvent.getEventName() + " is queued for the handler: " + handler.getName()
+                    + ". Queue depth: " + handlerQueue.getQueueDepth() + ", dropped events: "
+                    + handlerQueue.getDroppedCount() + ", average latency: " + handlerQueue.getAverageLatency()
+                    + " ms.");
+        }
+    }
+
+    /**
+     * Stop and remove the queue of the given handler. Already queued events of the handler are still handled.
+     *
+     * @param handlerName Name of the event handler
+     */
+    public void removeHandlerQueue(String handlerName) {
+        AsyncEventHandlerQueue handlerQueue = handlerQueues.remove(handlerName);
+        if (handlerQueue != null) {
+            handlerQueue.shutdown();
+        }
+    }
+
+    public boolean isPerHandlerQueueEnabled() {
+        return perHandlerQueueEnabled;
+    }
+
+    /**
+     * Returns the bounded queues of the event handlers, which expose the queue depth and latency of each handler.
+     *
+     * @return Event handler queues by the name of the handler
+     */
+    public Map<String, AsyncEventHandlerQueue> getHandlerQueues() {
+        return Collections.unmodifiableMap(handlerQueues);
+    }
+
     @Override
     public void run() {
         running = true;
@@ -105,5 +185,68 @@ public class EventDistributionTask implements Runnable {
 
     public void shutdown() {
         this.running = false;
+        for (AsyncEventHandlerQueue handlerQueue : handlerQueues.values()) {
+            handlerQueue.shutdown();
+        }
+    }
+
+    /**
+     * Create the bounded queue of the given handler. The handler can override the default queue configurations with
+     * the async.queueSize, async.threadPoolSize and async.overflowPolicy module properties.
+     *
+     * @param handler Event handler
+     * @return Bounded queue of the handler
+     */
+    private AsyncEventHandlerQueue createHandlerQueue(AbstractEventHandler handler) {
+        String queueSize = null;
+        String threadPoolSize = null;
+        String overflowPolicy = null;
+        try {
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            queueSize = configBuilder.getAsyncQueueSize();
+            threadPoolSize = configBuilder.getAsyncThreadPoolSize();
+            overflowPolicy = configBuilder.getAsyncOverflowPolicy();
+            ModuleConfiguration moduleConfiguration = configBuilder.getModuleConfigurations(handler.getName());
+            if (moduleConfiguration != null && moduleConfiguration.getModuleProperties() != null) {
+                Properties moduleProperties = moduleConfiguration.getModuleProperties();
+                String prefix = handler.getName() + ".";
+                queueSize = moduleProperties.getProperty(prefix + IdentityEventConstants.PropertyConfig
+                        .HANDLER_ASYNC_QUEUE_SIZE, queueSize);
+                threadPoolSize = moduleProperties.getProperty(prefix + IdentityEventConstants.PropertyConfig
+                        .HANDLER_ASYNC_THREAD_POOL_SIZE, threadPoolSize);
+                overflowPolicy = moduleProperties.getProperty(prefix + IdentityEventConstants.PropertyConfig
+                        .HANDLER_ASYNC_OVERFLOW_POLICY, overflowPolicy);
+            }
+        } catch (IdentityEventException | RuntimeException e) {
+            log.warn("Error while reading the event queue configurations of the handler: " + handler.getName()
+                    + ". Using the default configurations.", e);
+        }
+
+        AsyncEventHandlerQueue.OverflowPolicy policy = AsyncEventHandlerQueue.OverflowPolicy.fromValue(
+                overflowPolicy, DEFAULT_OVERFLOW_POLICY);
+        int size = parsePositiveInt(queueSize, DEFAULT_HANDLER_QUEUE_SIZE);
+        int poolSize = parsePositiveInt(threadPoolSize, DEFAULT_HANDLER_THREAD_POOL_SIZE);
+        if (log.isDebugEnabled()) {
+            log.debug("Creating the event queue of the handler: " + handler.getName() + " with queue size: " + size
+                    + ", thread pool size: " + poolSize + " and overflow policy: " + policy);
+        }
+        return new AsyncEventHandlerQueue(handler, size, poolSize, policy);
+    }
+
+    private int parsePositiveInt(String value, int defaultValue) {
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int parsedValue = Integer.parseInt(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        log.warn("Invalid event queue configuration value: " + value + ". Using the default value: "
+                + defaultValue);
+        return defaultValue;
     }
 }
@@ -62,6 +62,16 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Whether the asynchronous events are dispatched through a bounded queue per event handler
+     */
+    private String perHandlerQueueEnabled;
+    /**
+     * Default queue size, thread pool size and overflow policy of the event handler queues
+     */
+    private String asyncQueueSize;
+    private String asyncThreadPoolSize;
+    private String asyncOverflowPolicy;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +88,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setAsyncDispatchConfigs();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -95,7 +106,22 @@ public class IdentityEventConfigBuilder {
      * Sets the thread pool size read from configurations
      */
     private void setThreadPoolSize() {
-        threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
+        threadPoolSize = (String) notificationMgtConfigProperties.remove(IdentityEventConstants.PropertyConfig
+                .THREAD_POOL_SIZE);
+    }
+
+    /**
+     * Sets the per event handler queue configurations read from configurations
+     */
+    private void setAsyncDispatchConfigs() {
+        perHandlerQueueEnabled = (String) notificationMgtConfigProperties.remove(IdentityEventConstants
+                .PropertyConfig.ASYNC_DISPATCH_PER_HANDLER_QUEUE_ENABLE);
+        asyncQueueSize = (String) notificationMgtConfigProperties.remove(IdentityEventConstants.PropertyConfig
+                .ASYNC_DISPATCH_QUEUE_SIZE);
+        asyncThreadPoolSize = (String) notificationMgtConfigProperties.remove(IdentityEventConstants.PropertyConfig
+                .ASYNC_DISPATCH_THREAD_POOL_SIZE);
+        asyncOverflowPolicy = (String) notificationMgtConfigProperties.remove(IdentityEventConstants.PropertyConfig
+                .ASYNC_DISPATCH_OVERFLOW_POLICY);
     }
 
     /**
@@ -222,6 +248,22 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public boolean isPerHandlerQueueEnabled() {
+        return Boolean.parseBoolean(perHandlerQueueEnabled);
+    }
+
+    public String getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    public String getAsyncThreadPoolSize() {
+        return asyncThreadPoolSize;
+    }
+
+    public String getAsyncOverflowPolicy() {
+        return asyncOverflowPolicy;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
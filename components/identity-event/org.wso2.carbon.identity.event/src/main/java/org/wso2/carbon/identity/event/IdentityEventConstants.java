@@ -30,6 +30,14 @@ public class IdentityEventConstants {
         private PropertyConfig(){}
 
         public static final String CONFIG_FILE_NAME = "identity-event.properties";
+        public static final String THREAD_POOL_SIZE = "threadPool.size";
+        public static final String ASYNC_DISPATCH_PER_HANDLER_QUEUE_ENABLE = "asyncDispatch.perHandlerQueue.enable";
+        public static final String ASYNC_DISPATCH_QUEUE_SIZE = "asyncDispatch.queueSize";
+        public static final String ASYNC_DISPATCH_THREAD_POOL_SIZE = "asyncDispatch.threadPoolSize";
+        public static final String ASYNC_DISPATCH_OVERFLOW_POLICY = "asyncDispatch.overflowPolicy";
+        public static final String HANDLER_ASYNC_QUEUE_SIZE = "async.queueSize";
+        public static final String HANDLER_ASYNC_THREAD_POOL_SIZE = "async.threadPoolSize";
+        public static final String HANDLER_ASYNC_OVERFLOW_POLICY = "async.overflowPolicy";
         public static final String ACCOUNT_LOCK_ENABLE = "Account.Lock.Enable";
         public static final String AUTH_POLICY_ENABLE = "Authentication.Policy.Enable";
         public static final String AUTH_POLICY_ACCOUNT_EXIST = "Authentication.Policy.Check.Account.Exist";
@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.carbon.identity.event.event.Event;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -64,6 +65,22 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
         return false;
     }
 
+    /**
+     * Get the names of the events which this module is subscribed to in identity-event.properties.
+     *
+     * @return Subscribed event names, or an empty set if the module is not configured.
+     */
+    public Set<String> getSubscribedEventNames() {
+
+        Set<String> eventNames = new LinkedHashSet<>();
+        if (configs != null && configs.getSubscriptions() != null) {
+            for (Subscription subscription : configs.getSubscriptions()) {
+                eventNames.add(subscription.getSubscriptionName());
+            }
+        }
+        return eventNames;
+    }
+
     /**
      * Each event has its own subscriptions (configure in identity-event.properties) and it is possible to define
      * multiple properties for each subscription per event under the given module.
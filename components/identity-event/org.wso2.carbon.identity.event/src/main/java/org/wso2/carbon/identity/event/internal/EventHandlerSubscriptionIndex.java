@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the event handlers subscribed to each event, in the order of the handler priority.
+ * <p>
+ * The subscriptions of an event handler come from the static event configuration, so the handlers of an event can be
+ * resolved once when the handlers are registered instead of calling canHandle on every handler for every event.
+ * Handlers which override canHandle or the async association methods have their own dispatch logic. Such handlers are
+ * included for every event, and the overridden methods are still called for each event.
+ */
+public final class EventHandlerSubscriptionIndex {
+
+    private static final Log log = LogFactory.getLog(EventHandlerSubscriptionIndex.class);
+    private static final HandlerEntry[] EMPTY_ENTRIES = new HandlerEntry[0];
+
+    private final List<AbstractEventHandler> sourceHandlers;
+    private final int handlerCount;
+    private final Map<String, HandlerEntry[]> handlersByEvent;
+    private final HandlerEntry[] dynamicHandlers;
+
+    private EventHandlerSubscriptionIndex(List<AbstractEventHandler> sourceHandlers, int handlerCount,
+                                          Map<String, HandlerEntry[]> handlersByEvent,
+                                          HandlerEntry[] dynamicHandlers) {
+
+        this.sourceHandlers = sourceHandlers;
+        this.handlerCount = handlerCount;
+        this.handlersByEvent = handlersByEvent;
+        this.dynamicHandlers = dynamicHandlers;
+    }
+
+    /**
+     * Build the index from the given handlers, which are already sorted by priority.
+     *
+     * @param handlers Registered event handlers.
+     * @return Subscription index of the handlers.
+     */
+    public static EventHandlerSubscriptionIndex build(List<AbstractEventHandler> handlers) {
+
+        List<AbstractEventHandler> snapshot = new ArrayList<>(handlers);
+        Set<String> eventNames = new LinkedHashSet<>();
+        List<HandlerEntry> dynamicEntries = new ArrayList<>();
+        for (AbstractEventHandler handler : snapshot) {
+            if (isCanHandleOverridden(handler)) {
+                dynamicEntries.add(new HandlerEntry(handler, true, isAsyncAssociationOverridden(handler), false));
+            } else {
+                eventNames.addAll(handler.getSubscribedEventNames());
+            }
+        }
+
+        Map<String, HandlerEntry[]> handlersByEvent = new HashMap<>();
+        for (String eventName : eventNames) {
+            List<HandlerEntry> entries = new ArrayList<>();
+            for (AbstractEventHandler handler : snapshot) {
+                if (isCanHandleOverridden(handler)) {
+                    entries.add(new HandlerEntry(handler, true, isAsyncAssociationOverridden(handler), false));
+                } else if (handler.getSubscribedEventNames().contains(eventName)) {
+                    entries.add(buildSubscribedEntry(handler, eventName));
+                }
+            }
+            handlersByEvent.put(eventName, entries.toArray(EMPTY_ENTRIES));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Built the event handler subscription index for " + snapshot.size() + " handlers and "
+                    + handlersByEvent.size() + " events. Handlers evaluated for every event: "
+                    + dynamicEntries.size());
+        }
+        return new EventHandlerSubscriptionIndex(handlers, handlers.size(),
+                Collections.unmodifiableMap(handlersByEvent), dynamicEntries.toArray(EMPTY_ENTRIES));
+    }
+
+    /**
+     * Get the handlers which may handle the given event, in the order of the handler priority.
+     *
+     * @param eventName Name of the event.
+     * @return Handler entries of the event. The returned array must not be modified.
+     */
+    public HandlerEntry[] getHandlers(String eventName) {
+
+        HandlerEntry[] entries = eventName == null ? null : handlersByEvent.get(eventName);
+        return entries != null ? entries : dynamicHandlers;
+    }
+
+    /**
+     * Check whether the index is still built from the given handler list. The handler list is a public field, so it
+     * can be replaced or modified without registering the handlers through the service component.
+     *
+     * @param handlers Current handler list.
+     * @return True if the index is built from the same list with the same number of handlers.
+     */
+    public boolean isBuiltFrom(List<AbstractEventHandler> handlers) {
+
+        return sourceHandlers == handlers && handlerCount == handlers.size();
+    }
+
+    private static HandlerEntry buildSubscribedEntry(AbstractEventHandler handler, String eventName) {
+
+        if (isAsyncAssociationOverridden(handler)) {
+            return new HandlerEntry(handler, false, true, false);
+        }
+        try {
+            return new HandlerEntry(handler, false, false, handler.isAssociationAsync(eventName));
+        } catch (IdentityEventException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while resolving the async association of the handler: " + handler.getName()
+                        + " for the event: " + eventName + ". It will be resolved for each event.", e);
+            }
+            return new HandlerEntry(handler, false, true, false);
+        }
+    }
+
+    private static boolean isCanHandleOverridden(AbstractEventHandler handler) {
+
+        return isOverridden(handler, "canHandle", MessageContext.class);
+    }
+
+    private static boolean isAsyncAssociationOverridden(AbstractEventHandler handler) {
+
+        return isOverridden(handler, "isAssociationAsync", String.class)
+                || isOverridden(handler, "getSubscriptionProperty", String.class, String.class)
+                || isOverridden(handler, "getSubscriptionProperties", String.class);
+    }
+
+    private static boolean isOverridden(AbstractEventHandler handler, String methodName, Class<?>... parameterTypes) {
+
+        try {
+            return handler.getClass().getMethod(methodName, parameterTypes).getDeclaringClass()
+                    != AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Event handler with the dispatch decisions resolved from the static subscriptions.
+     */
+    public static final class HandlerEntry {
+
+        private final AbstractEventHandler handler;
+        private final boolean dynamicCanHandle;
+        private final boolean dynamicAsync;
+        private final boolean async;
+
+        private HandlerEntry(AbstractEventHandler handler, boolean dynamicCanHandle, boolean dynamicAsync,
+                             boolean async) {
+
+            this.handler = handler;
+            this.dynamicCanHandle = dynamicCanHandle;
+            this.dynamicAsync = dynamicAsync;
+            this.async = async;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * Check whether the handler can handle the event. Only the handlers with their own canHandle logic are
+         * evaluated, as the other handlers are indexed by their subscriptions.
+         *
+         * @param messageContext Event message context.
+         * @return True if the handler can handle the event.
+         */
+        public boolean canHandle(MessageContext messageContext) {
+
+            return !dynamicCanHandle || handler.canHandle(messageContext);
+        }
+
+        /**
+         * Check whether the handler handles the event asynchronously.
+         *
+         * @param eventName Name of the event.
+         * @return True if the event is handled asynchronously.
+         * @throws IdentityEventException If an error occurs while resolving the association.
+         */
+        public boolean isAsync(String eventName) throws IdentityEventException {
+
+            return dynamicAsync ? handler.isAssociationAsync(eventName) : async;
+        }
+    }
+}
@@ -31,9 +31,8 @@ import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -53,12 +52,19 @@ public class IdentityEventServiceComponent {
     private ServiceRegistration serviceRegistration = null;
 
     // list of all registered event handlers
-    public static List<AbstractEventHandler> eventHandlerList = new ArrayList<>();
+    public static List<AbstractEventHandler> eventHandlerList = new CopyOnWriteArrayList<>();
+
+    // index of the registered event handlers by the subscribed event names
+    private static volatile EventHandlerSubscriptionIndex subscriptionIndex =
+            EventHandlerSubscriptionIndex.build(eventHandlerList);
 
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                    eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize()),
+                    configBuilder.isPerHandlerQueueEnabled()));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -88,12 +94,48 @@ public class IdentityEventServiceComponent {
         } catch (IdentityEventException | IdentityRuntimeException e) {
             log.warn("Properties for " + handlerName + " is not configured. This event handler will not be activated");
         }
-        eventHandlerList.add(eventHandler);
-        MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
-        Collections.sort(eventHandlerList, messageHandlerComparator);
+        synchronized (IdentityEventServiceComponent.class) {
+            eventHandlerList.add(eventHandler);
+            MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
+            eventHandlerList.sort(messageHandlerComparator);
+            subscriptionIndex = EventHandlerSubscriptionIndex.build(eventHandlerList);
+        }
     }
 
     protected void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+        synchronized (IdentityEventServiceComponent.class) {
+            eventHandlerList.remove(eventHandler);
+            subscriptionIndex = EventHandlerSubscriptionIndex.build(eventHandlerList);
+        }
+        IdentityEventService eventMgtService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventMgtService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventMgtService).getEventDistributionTask()
+                    .removeHandlerQueue(eventHandler.getName());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Event handler: " + eventHandler.getName() + " is unregistered.");
+        }
+    }
+
+    /**
+     * Returns the index of the registered event handlers by the subscribed event names. The index is rebuilt if the
+     * handler list is changed without registering the handlers through this component.
+     *
+     * @return Event handler subscription index
+     */
+    public static EventHandlerSubscriptionIndex getSubscriptionIndex() {
+        EventHandlerSubscriptionIndex index = subscriptionIndex;
+        List<AbstractEventHandler> handlers = eventHandlerList;
+        if (!index.isBuiltFrom(handlers)) {
+            synchronized (IdentityEventServiceComponent.class) {
+                index = subscriptionIndex;
+                if (!index.isBuiltFrom(eventHandlerList)) {
+                    index = EventHandlerSubscriptionIndex.build(eventHandlerList);
+                    subscriptionIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
     @Reference(
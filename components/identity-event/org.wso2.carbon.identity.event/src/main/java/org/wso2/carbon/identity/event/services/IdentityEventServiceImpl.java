@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.internal.EventHandlerSubscriptionIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
 import java.util.List;
@@ -36,7 +37,12 @@ public class IdentityEventServiceImpl implements IdentityEventService {
     private EventDistributionTask eventDistributionTask;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
-        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
+        this(handlerList, threadPoolSize, false);
+    }
+
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize,
+                                    boolean perHandlerQueueEnabled) {
+        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize, perHandlerQueueEnabled);
         if (log.isDebugEnabled()) {
             log.debug("Starting event distribution task from Notification Management component");
         }
@@ -45,17 +51,28 @@ public class IdentityEventServiceImpl implements IdentityEventService {
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
+        String eventName = event.getEventName();
+        EventHandlerSubscriptionIndex.HandlerEntry[] handlerEntries =
+                IdentityEventServiceComponent.getSubscriptionIndex().getHandlers(eventName);
+        if (handlerEntries.length == 0) {
+            return;
+        }
         IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
+        for (EventHandlerSubscriptionIndex.HandlerEntry handlerEntry : handlerEntries) {
 
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+            if (handlerEntry.canHandle(eventContext)) {
+                AbstractEventHandler handler = handlerEntry.getHandler();
+                if (handlerEntry.isAsync(eventName)) {
+                    eventDistributionTask.dispatchEvent(handler, event);
                 } else {
                     handler.handleEvent(event);
                 }
             }
         }
     }
+
+    public EventDistributionTask getEventDistributionTask() {
+
+        return eventDistributionTask;
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class AsyncEventHandlerQueueTest {
+
+    @Test
+    public void testEventsAreHandled() throws Exception {
+
+        BlockingEventHandler handler = new BlockingEventHandler(new CountDownLatch(0), new CountDownLatch(3));
+        AsyncEventHandlerQueue queue = new AsyncEventHandlerQueue(handler, 10, 2,
+                AsyncEventHandlerQueue.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 3; i++) {
+            queue.addEvent(new Event("TEST_EVENT"));
+        }
+
+        assertTrue(handler.handled.await(5, TimeUnit.SECONDS));
+        queue.shutdown();
+        waitForCount(queue, 3);
+        assertEquals(queue.getHandledCount(), 3);
+        assertEquals(queue.getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testDropOldestOverflowPolicy() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release, new CountDownLatch(3));
+        AsyncEventHandlerQueue queue = new AsyncEventHandlerQueue(handler, 2, 1,
+                AsyncEventHandlerQueue.OverflowPolicy.DROP_OLDEST);
+
+        // The first event occupies the only thread and the next two fill the queue.
+        queue.addEvent(new Event("TEST_EVENT"));
+        assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        queue.addEvent(new Event("TEST_EVENT"));
+        queue.addEvent(new Event("TEST_EVENT"));
+        queue.addEvent(new Event("TEST_EVENT"));
+        assertEquals(queue.getDroppedCount(), 1);
+        assertEquals(queue.getQueueDepth(), 2);
+
+        release.countDown();
+        assertTrue(handler.handled.await(5, TimeUnit.SECONDS));
+        queue.shutdown();
+        waitForCount(queue, 3);
+        assertEquals(queue.getHandledCount(), 3);
+    }
+
+    @Test
+    public void testCallerRunsOverflowPolicy() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEventHandler handler = new BlockingEventHandler(release, new CountDownLatch(3));
+        AsyncEventHandlerQueue queue = new AsyncEventHandlerQueue(handler, 1, 1,
+                AsyncEventHandlerQueue.OverflowPolicy.CALLER_RUNS);
+
+        queue.addEvent(new Event("TEST_EVENT"));
+        assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        queue.addEvent(new Event("TEST_EVENT"));
+        // The queue is full, so the event is handled in this thread once the handler is released.
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        queue.addEvent(new Event("TEST_EVENT"));
+        assertEquals(queue.getCallerRunsCount(), 1);
+
+        assertTrue(handler.handled.await(5, TimeUnit.SECONDS));
+        queue.shutdown();
+        waitForCount(queue, 3);
+        assertEquals(queue.getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testFailedEventsAreCounted() throws Exception {
+
+        AbstractEventHandler handler = new AbstractEventHandler() {
+
+            @Override
+            public void handleEvent(Event event) throws IdentityEventException {
+
+                throw new IdentityEventException("Error while handling the event.");
+            }
+
+            @Override
+            public String getName() {
+
+                return "failingHandler";
+            }
+        };
+        AsyncEventHandlerQueue queue = new AsyncEventHandlerQueue(handler, 10, 1,
+                AsyncEventHandlerQueue.OverflowPolicy.BLOCK);
+        queue.addEvent(new Event("TEST_EVENT"));
+        queue.shutdown();
+        waitForCount(queue, 1);
+        assertEquals(queue.getFailedCount(), 1);
+        assertEquals(queue.getHandledCount(), 0);
+    }
+
+    @Test
+    public void testOverflowPolicyFromValue() {
+
+        assertEquals(AsyncEventHandlerQueue.OverflowPolicy.fromValue("drop-oldest",
+                AsyncEventHandlerQueue.OverflowPolicy.BLOCK), AsyncEventHandlerQueue.OverflowPolicy.DROP_OLDEST);
+        assertEquals(AsyncEventHandlerQueue.OverflowPolicy.fromValue("caller-runs",
+                AsyncEventHandlerQueue.OverflowPolicy.BLOCK), AsyncEventHandlerQueue.OverflowPolicy.CALLER_RUNS);
+        assertEquals(AsyncEventHandlerQueue.OverflowPolicy.fromValue("invalid",
+                AsyncEventHandlerQueue.OverflowPolicy.BLOCK), AsyncEventHandlerQueue.OverflowPolicy.BLOCK);
+        assertEquals(AsyncEventHandlerQueue.OverflowPolicy.fromValue(null,
+                AsyncEventHandlerQueue.OverflowPolicy.CALLER_RUNS), AsyncEventHandlerQueue.OverflowPolicy.CALLER_RUNS);
+    }
+
+    private void waitForCount(AsyncEventHandlerQueue queue, long count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.getHandledCount() + queue.getFailedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class BlockingEventHandler extends AbstractEventHandler {
+
+        private final CountDownLatch release;
+        private final CountDownLatch handled;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        BlockingEventHandler(CountDownLatch release, CountDownLatch handled) {
+
+            this.release = release;
+            this.handled = handled;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.countDown();
+        }
+
+        @Override
+        public String getName() {
+
+            return "blockingHandler";
+        }
+    }
+}
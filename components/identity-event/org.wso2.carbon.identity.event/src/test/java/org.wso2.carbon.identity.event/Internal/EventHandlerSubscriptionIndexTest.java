@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.event.Internal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.internal.EventHandlerSubscriptionIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class EventHandlerSubscriptionIndexTest {
+
+    private static final int HANDLER_COUNT = 40;
+
+    @Test
+    public void testHandlersAreIndexedBySubscription() throws IdentityEventException {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < HANDLER_COUNT; i++) {
+            // Every handler subscribes to its own event, and the even handlers also to the shared event.
+            List<String> events = new ArrayList<>();
+            events.add("EVENT_" + i);
+            if (i % 2 == 0) {
+                events.add("SHARED_EVENT");
+            }
+            handlers.add(new TestEventHandler("handler" + i, events, i % 4 == 0));
+        }
+        EventHandlerSubscriptionIndex index = EventHandlerSubscriptionIndex.build(handlers);
+
+        EventHandlerSubscriptionIndex.HandlerEntry[] entries = index.getHandlers("EVENT_7");
+        Assert.assertEquals(entries.length, 1);
+        Assert.assertEquals(entries[0].getHandler().getName(), "handler7");
+
+        entries = index.getHandlers("SHARED_EVENT");
+        Assert.assertEquals(entries.length, HANDLER_COUNT / 2);
+        for (int i = 0; i < entries.length; i++) {
+            Assert.assertEquals(entries[i].getHandler().getName(), "handler" + (i * 2));
+            Assert.assertEquals(entries[i].isAsync("SHARED_EVENT"), i % 2 == 0);
+            Assert.assertTrue(entries[i].canHandle(new IdentityEventMessageContext(new Event("SHARED_EVENT"))));
+        }
+
+        Assert.assertEquals(index.getHandlers("UNKNOWN_EVENT").length, 0);
+        Assert.assertTrue(index.isBuiltFrom(handlers));
+        handlers.add(new TestEventHandler("handler" + HANDLER_COUNT, new ArrayList<>(), false));
+        Assert.assertFalse(index.isBuiltFrom(handlers));
+    }
+
+    @Test
+    public void testHandlersWithCustomCanHandleAreEvaluatedForEveryEvent() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        List<String> events = new ArrayList<>();
+        events.add("EVENT_A");
+        handlers.add(new TestEventHandler("first", events, false));
+        AbstractEventHandler customHandler = new TestEventHandler("custom", new ArrayList<>(), false) {
+
+            @Override
+            public boolean canHandle(MessageContext messageContext) {
+
+                return "EVENT_B".equals(((IdentityEventMessageContext) messageContext).getEvent().getEventName());
+            }
+        };
+        handlers.add(customHandler);
+        handlers.add(new TestEventHandler("last", events, false));
+        EventHandlerSubscriptionIndex index = EventHandlerSubscriptionIndex.build(handlers);
+
+        EventHandlerSubscriptionIndex.HandlerEntry[] entries = index.getHandlers("EVENT_A");
+        Assert.assertEquals(entries.length, 3);
+        Assert.assertEquals(entries[1].getHandler(), customHandler);
+        Assert.assertFalse(entries[1].canHandle(new IdentityEventMessageContext(new Event("EVENT_A"))));
+
+        entries = index.getHandlers("EVENT_B");
+        Assert.assertEquals(entries.length, 1);
+        Assert.assertTrue(entries[0].canHandle(new IdentityEventMessageContext(new Event("EVENT_B"))));
+    }
+
+    private static class TestEventHandler extends AbstractEventHandler {
+
+        private final String name;
+
+        TestEventHandler(String name, List<String> events, boolean async) {
+
+            this.name = name;
+            List<Subscription> subscriptions = new ArrayList<>();
+            for (String event : events) {
+                Properties properties = new Properties();
+                properties.setProperty(name + ".subscription." + event + ".operationAsync", String.valueOf(async));
+                subscriptions.add(new Subscription(event, properties));
+            }
+            init(new ModuleConfiguration(new Properties(), subscriptions));
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.idp.mgt;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.NotImplementedException;
+import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -43,6 +44,7 @@ import org.wso2.carbon.identity.application.common.util.IdentityApplicationManag
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
@@ -51,6 +53,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.role.mgt.core.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.mgt.core.RoleManagementService;
+import org.wso2.carbon.idp.mgt.cache.ResidentIdPSnapshot;
 import org.wso2.carbon.idp.mgt.dao.CacheBackedIdPMgtDAO;
 import org.wso2.carbon.idp.mgt.dao.FileBasedIdPMgtDAO;
 import org.wso2.carbon.idp.mgt.dao.IdPManagementDAO;
@@ -113,7 +116,9 @@ public class IdentityProviderManager implements IdpManager {
     }
 
     /**
-     * Retrieves resident Identity provider for a given tenant.
+     * Retrieves resident Identity provider for a given tenant. The returned resident IdP is a copy which the caller
+     * may modify. Callers which only read the resident IdP should use {@link #getResidentIdPSnapshot(String)}, which
+     * does not copy it.
      *
      * @param tenantDomain Tenant domain whose resident IdP is requested
      * @return <code>LocalIdentityProvider</code>
@@ -123,16 +128,35 @@ public class IdentityProviderManager implements IdpManager {
     public IdentityProvider getResidentIdP(String tenantDomain)
             throws IdentityProviderManagementException {
 
-        IdentityProvider identityProvider = dao.getIdPByName(null,
-                IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME,
-                IdentityTenantUtil.getTenantId(tenantDomain), tenantDomain);
+        // The snapshot is shared by all the requests of the tenant, so each caller gets its own copy.
+        IdentityProvider residentIdP = SerializationUtils.clone(getResidentIdPSnapshot(tenantDomain)
+                .getIdentityProvider());
+        IdPManagementUtil.removeRandomPasswords(residentIdP, false);
+        return residentIdP;
+    }
 
-        if (identityProvider == null) {
+    /**
+     * Retrieves the precomputed view of the resident Identity provider of a given tenant. The snapshot indexes the
+     * IdP properties and inbound authenticator properties of the resident IdP by name, and is rebuilt after the
+     * resident IdP is updated. The snapshot is shared, so its resident IdP must not be modified. Use
+     * {@link #getResidentIdP(String)} to get a copy of the resident IdP.
+     *
+     * @param tenantDomain Tenant domain whose resident IdP is requested
+     * @return <code>ResidentIdPSnapshot</code>
+     * @throws IdentityProviderManagementException Error when getting Resident Identity Providers
+     */
+    public ResidentIdPSnapshot getResidentIdPSnapshot(String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        ResidentIdPSnapshot snapshot = dao.getResidentIdPSnapshot(IdentityTenantUtil.getTenantId(tenantDomain),
+                tenantDomain);
+
+        if (snapshot == null) {
             String message = "Could not find Resident Identity Provider for tenant " + tenantDomain;
             throw new IdentityProviderManagementException(message);
         }
 
-        return identityProvider;
+        return snapshot;
     }
 
 
@@ -492,6 +516,17 @@ public class IdentityProviderManager implements IdpManager {
         return result;
     }
 
+    @Override
+    public CursorPage<IdentityProvider> getIdPs(String cursor, Integer limit, String filter, String tenantDomain,
+                                                List<String> requiredAttributes, boolean includeCount)
+            throws IdentityProviderManagementException {
+
+        List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        return dao.getPaginatedIdPsSearch(tenantId, expressionNodes, cursor, validateLimit(limit),
+                requiredAttributes, includeCount);
+    }
+
     /**
      * Get all trusted token issuer's Basic information along with additionally requested information depending on the
      * requiredAttributes.
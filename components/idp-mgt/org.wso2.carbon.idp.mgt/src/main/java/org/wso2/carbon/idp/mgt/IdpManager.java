@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.LocalRole;
 import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
@@ -115,6 +116,26 @@ public interface IdpManager {
         return null;
     }
 
+    /**
+     * Get a page of identity providers using a cursor instead of an offset. Identity providers are listed in the
+     * ascending order of their ids, so the cost of reading a page does not depend on how deep it is.
+     *
+     * @param cursor             Cursor returned with the previous page, or null for the first page.
+     * @param limit              Limit per page.
+     * @param filter             Filter value for IdP search.
+     * @param tenantDomain       TenantDomain of the user.
+     * @param requiredAttributes Required attributes which needs to be return.
+     * @param includeCount       Include the total count of the matching identity providers.
+     * @return A page of identity providers along with the requested attribute information.
+     * @throws IdentityProviderManagementException Server/client related error when getting list of Identity Providers.
+     */
+    default CursorPage<IdentityProvider> getIdPs(String cursor, Integer limit, String filter, String tenantDomain,
+                                                 List<String> requiredAttributes, boolean includeCount)
+            throws IdentityProviderManagementException {
+
+        return null;
+    }
+
     /**
      * Get basic information of identity providers along with additionally requested information.
      *
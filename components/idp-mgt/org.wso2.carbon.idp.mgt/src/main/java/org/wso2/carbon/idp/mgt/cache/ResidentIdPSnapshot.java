@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precomputed view of the resident IDP of a tenant.
+ * <p>
+ * The IDP properties and the properties of the inbound authenticators (SAML2 SSO, OIDC, passive STS, etc.) are
+ * indexed by name once, when the snapshot is built, so that reading them does not scan the property arrays of the
+ * resident IDP on each request. The snapshot is not modified after it is built and is replaced when the resident IDP
+ * is updated.
+ */
+public class ResidentIdPSnapshot extends CacheEntry {
+
+    private static final long serialVersionUID = 6211542079658316012L;
+
+    private final IdentityProvider identityProvider;
+    private final Map<String, String> idpProperties;
+    private final Map<String, Map<String, String>> authenticatorProperties;
+
+    public ResidentIdPSnapshot(IdentityProvider identityProvider) {
+
+        this.identityProvider = identityProvider;
+
+        Map<String, String> properties = new HashMap<>();
+        if (identityProvider.getIdpProperties() != null) {
+            for (IdentityProviderProperty property : identityProvider.getIdpProperties()) {
+                if (property != null && property.getName() != null) {
+                    properties.put(property.getName(), property.getValue());
+                }
+            }
+        }
+        this.idpProperties = Collections.unmodifiableMap(properties);
+
+        Map<String, Map<String, String>> authenticators = new HashMap<>();
+        if (identityProvider.getFederatedAuthenticatorConfigs() != null) {
+            for (FederatedAuthenticatorConfig authenticatorConfig :
+                    identityProvider.getFederatedAuthenticatorConfigs()) {
+                if (authenticatorConfig == null || authenticatorConfig.getName() == null) {
+                    continue;
+                }
+                Map<String, String> authenticatorPropertyMap = new HashMap<>();
+                if (authenticatorConfig.getProperties() != null) {
+                    for (Property property : authenticatorConfig.getProperties()) {
+                        if (property != null && property.getName() != null) {
+                            authenticatorPropertyMap.put(property.getName(), property.getValue());
+                        }
+                    }
+                }
+                authenticators.put(authenticatorConfig.getName(),
+                        Collections.unmodifiableMap(authenticatorPropertyMap));
+            }
+        }
+        this.authenticatorProperties = Collections.unmodifiableMap(authenticators);
+    }
+
+    /**
+     * Get the resident IDP the snapshot was built from.
+     *
+     * @return Resident IDP.
+     */
+    public IdentityProvider getIdentityProvider() {
+
+        return identityProvider;
+    }
+
+    /**
+     * Get the value of an IDP property of the resident IDP.
+     *
+     * @param propertyName Name of the property.
+     * @return Value of the property, or null if the property is not set.
+     */
+    public String getIdPPropertyValue(String propertyName) {
+
+        return idpProperties.get(propertyName);
+    }
+
+    /**
+     * Get the properties of an inbound authenticator of the resident IDP.
+     *
+     * @param authenticatorName Name of the authenticator, e.g. samlsso, openidconnect or passivests.
+     * @return Unmodifiable map of property names to values, which is empty if the authenticator is not configured.
+     */
+    public Map<String, String> getAuthenticatorProperties(String authenticatorName) {
+
+        Map<String, String> properties = authenticatorProperties.get(authenticatorName);
+        return properties != null ? properties : Collections.emptyMap();
+    }
+
+    /**
+     * Get the value of a property of an inbound authenticator of the resident IDP.
+     *
+     * @param authenticatorName Name of the authenticator.
+     * @param propertyName      Name of the property.
+     * @return Value of the property, or null if the property is not set.
+     */
+    public String getAuthenticatorPropertyValue(String authenticatorName, String propertyName) {
+
+        return getAuthenticatorProperties(authenticatorName).get(propertyName);
+    }
+}
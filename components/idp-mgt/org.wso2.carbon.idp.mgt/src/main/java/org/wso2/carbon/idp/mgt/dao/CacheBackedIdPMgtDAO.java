@@ -19,6 +19,7 @@
 package org.wso2.carbon.idp.mgt.dao;
 
 import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.SerializationUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,6 +29,7 @@ import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
@@ -35,14 +37,18 @@ import org.wso2.carbon.idp.mgt.IdentityProviderManagementServerException;
 import org.wso2.carbon.idp.mgt.cache.IdPAuthPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByAuthProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByHRI;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheById;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByMetadataProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheEntry;
 import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.IdPIdCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPResourceIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.ResidentIdPCache;
+import org.wso2.carbon.idp.mgt.cache.ResidentIdPSnapshot;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.util.IdPManagementConstants;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
@@ -51,6 +57,7 @@ import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CacheBackedIdPMgtDAO {
 
@@ -63,6 +70,13 @@ public class CacheBackedIdPMgtDAO {
     private IdPCacheByAuthProperty idPCacheByAuthProperty = null;
     private IdPCacheByResourceId idPCacheByResourceId = null;
     private IdPCacheByMetadataProperty idPCacheByMetadataProperty = null;
+    private IdPCacheById idPCacheById = null;
+    private ResidentIdPCache residentIdPCache = null;
+
+    private final AtomicLong idPCacheByIdHitCount = new AtomicLong();
+    private final AtomicLong idPCacheByIdMissCount = new AtomicLong();
+    private final AtomicLong residentIdPCacheHitCount = new AtomicLong();
+    private final AtomicLong residentIdPCacheMissCount = new AtomicLong();
 
     /**
      * @param idPMgtDAO
@@ -74,6 +88,8 @@ public class CacheBackedIdPMgtDAO {
         idPCacheByAuthProperty = IdPCacheByAuthProperty.getInstance();
         idPCacheByResourceId = IdPCacheByResourceId.getInstance();
         idPCacheByMetadataProperty = IdPCacheByMetadataProperty.getInstance();
+        idPCacheById = IdPCacheById.getInstance();
+        residentIdPCache = ResidentIdPCache.getInstance();
     }
 
     /**
@@ -148,6 +164,28 @@ public class CacheBackedIdPMgtDAO {
                 .getIdPsSearch(tenantId, expressionConditions, limit, offset, sortOrder, sortBy, requiredAttributes);
     }
 
+    /**
+     * Get a page of identity providers for a matching filter using a cursor instead of an offset.
+     *
+     * @param tenantId             Tenant Id of the identity provider.
+     * @param expressionConditions Filter value list for IdP search.
+     * @param cursor               Cursor returned with the previous page, or null for the first page.
+     * @param limit                Limit per page.
+     * @param requiredAttributes   Required attributes which needs to be return.
+     * @param includeCount         Include the total count of the matching identity providers.
+     * @return A page of identity providers.
+     * @throws IdentityProviderManagementServerException Error when getting list of Identity Providers.
+     * @throws IdentityProviderManagementClientException Error when the cursor or the filter is invalid.
+     */
+    public CursorPage<IdentityProvider> getPaginatedIdPsSearch(int tenantId, List<ExpressionNode> expressionConditions,
+                                                               String cursor, int limit,
+                                                               List<String> requiredAttributes, boolean includeCount)
+            throws IdentityProviderManagementServerException, IdentityProviderManagementClientException {
+
+        return idPManagementFacade.getIdPsSearch(tenantId, expressionConditions, cursor, limit, requiredAttributes,
+                includeCount);
+    }
+
     /**
      * Get all identity provider's Basic information along with additionally requested information depends on the
      * requiredAttributes for a given matching filter.
@@ -256,6 +294,19 @@ public class CacheBackedIdPMgtDAO {
     public IdentityProvider getIdPById(Connection dbConnection, int id,
                                        int tenantId, String tenantDomain) throws IdentityProviderManagementException {
 
+        IdPIdCacheKey idCacheKey = new IdPIdCacheKey(id);
+        IdPCacheEntry entry = idPCacheById.getValueFromCache(idCacheKey, tenantDomain);
+        if (entry != null) {
+            idPCacheByIdHitCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Cache entry found for Identity Provider with ID: " + id);
+            }
+            IdentityProvider identityProvider = entry.getIdentityProvider();
+            IdPManagementUtil.removeRandomPasswords(identityProvider, false);
+            return identityProvider;
+        }
+        idPCacheByIdMissCount.incrementAndGet();
+
         IdentityProvider identityProvider = idPManagementFacade.getIDPbyId(dbConnection, id,
                 tenantId, tenantDomain);
 
@@ -271,6 +322,7 @@ public class CacheBackedIdPMgtDAO {
                         identityProvider.getHomeRealmId());
                 idPCacheByHRI.addToCache(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
             }
+            idPCacheById.addToCache(idCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("No IDP found with ID: %d either in cache or DB", id));
@@ -749,7 +801,66 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(identityProvider.getResourceId());
             idPCacheByResourceId.addToCache(idPResourceIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            if (StringUtils.isNumeric(identityProvider.getId())) {
+                IdPIdCacheKey idPIdCacheKey = new IdPIdCacheKey(Integer.parseInt(identityProvider.getId()));
+                idPCacheById.addToCache(idPIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            }
+        }
+    }
+
+    /**
+     * Get the precomputed snapshot of the resident IDP of a tenant. The snapshot is built once from the resident IDP
+     * and is cleared together with the other cache entries of the resident IDP.
+     *
+     * @param tenantId     Tenant ID.
+     * @param tenantDomain Tenant domain.
+     * @return Resident IDP snapshot, or null if the tenant has no resident IDP.
+     * @throws IdentityProviderManagementException Error when getting the resident IDP.
+     */
+    public ResidentIdPSnapshot getResidentIdPSnapshot(int tenantId, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        IdPNameCacheKey cacheKey = new IdPNameCacheKey(IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME);
+        ResidentIdPSnapshot snapshot = residentIdPCache.getValueFromCache(cacheKey, tenantDomain);
+        if (snapshot != null) {
+            residentIdPCacheHitCount.incrementAndGet();
+            return snapshot;
         }
+        residentIdPCacheMissCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Resident Identity Provider snapshot not found in cache for tenantDomain: " + tenantDomain +
+                    ". Building the snapshot.");
+        }
+
+        IdentityProvider residentIdP = getIdPByName(null, IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME,
+                tenantId, tenantDomain);
+        if (residentIdP == null) {
+            return null;
+        }
+        // Build the snapshot from a copy, so it does not share the resident IDP with the cache entries by name.
+        snapshot = new ResidentIdPSnapshot(SerializationUtils.clone(residentIdP));
+        residentIdPCache.addToCache(cacheKey, snapshot, tenantDomain);
+        return snapshot;
+    }
+
+    public long getIdPCacheByIdHitCount() {
+
+        return idPCacheByIdHitCount.get();
+    }
+
+    public long getIdPCacheByIdMissCount() {
+
+        return idPCacheByIdMissCount.get();
+    }
+
+    public long getResidentIdPCacheHitCount() {
+
+        return residentIdPCacheHitCount.get();
+    }
+
+    public long getResidentIdPCacheMissCount() {
+
+        return residentIdPCacheMissCount.get();
     }
 
     public void clearIdpCache(String idPName, int tenantId, String tenantDomain)
@@ -788,6 +899,8 @@ public class CacheBackedIdPMgtDAO {
                 idPCacheByResourceId.clearCacheEntry(idPResourceIdCacheKey, tenantDomain);
             }
 
+            clearIdPCacheByIdEntry(identityProvider, tenantDomain);
+
             String idPIssuerName = getIDPIssuerName(identityProvider);
             if (StringUtils.isNotBlank(idPIssuerName)) {
                 IdPMetadataPropertyCacheKey cacheKey = new IdPMetadataPropertyCacheKey(
@@ -797,6 +910,27 @@ public class CacheBackedIdPMgtDAO {
         } else {
             log.debug("Entry for Identity Provider " + idPName + " not found in cache or DB");
         }
+        if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idPName)) {
+            clearResidentIdPSnapshot(tenantDomain);
+        }
+    }
+
+    private void clearIdPCacheByIdEntry(IdentityProvider identityProvider, String tenantDomain) {
+
+        if (StringUtils.isNumeric(identityProvider.getId())) {
+            IdPIdCacheKey idPIdCacheKey = new IdPIdCacheKey(Integer.parseInt(identityProvider.getId()));
+            idPCacheById.clearCacheEntry(idPIdCacheKey, tenantDomain);
+        }
+    }
+
+    private void clearResidentIdPSnapshot(String tenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Removing the resident Identity Provider snapshot of tenantDomain: " + tenantDomain +
+                    " from cache.");
+        }
+        residentIdPCache.clearCacheEntry(new IdPNameCacheKey(IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME),
+                tenantDomain);
     }
 
 
@@ -842,7 +976,9 @@ public class CacheBackedIdPMgtDAO {
                         identityProvider.getHomeRealmId());
                 idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
             }
+            clearIdPCacheByIdEntry(identityProvider, tenantDomain);
         }
+        clearResidentIdPSnapshot(tenantDomain);
 
         idPManagementFacade.deleteTenantRole(tenantId, role, tenantDomain);
     }
@@ -880,7 +1016,9 @@ public class CacheBackedIdPMgtDAO {
                         identityProvider.getHomeRealmId());
                 idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
             }
+            clearIdPCacheByIdEntry(identityProvider, tenantDomain);
         }
+        clearResidentIdPSnapshot(tenantDomain);
 
         idPManagementFacade.renameTenantRole(newRoleName, oldRoleName, tenantId, tenantDomain);
     }
@@ -915,7 +1053,9 @@ public class CacheBackedIdPMgtDAO {
                         identityProvider.getHomeRealmId());
                 idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
             }
+            clearIdPCacheByIdEntry(identityProvider, tenantDomain);
         }
+        clearResidentIdPSnapshot(tenantDomain);
 
         idPManagementFacade.deleteTenantRole(tenantId, claimURI, tenantDomain);
     }
@@ -951,7 +1091,9 @@ public class CacheBackedIdPMgtDAO {
                         identityProvider.getHomeRealmId());
                 idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
             }
+            clearIdPCacheByIdEntry(identityProvider, tenantDomain);
         }
+        clearResidentIdPSnapshot(tenantDomain);
 
         idPManagementFacade.renameTenantRole(newClaimURI, oldClaimURI, tenantId, tenantDomain);
     }
@@ -53,6 +53,7 @@ import org.wso2.carbon.identity.core.ConnectorConfig;
 import org.wso2.carbon.identity.core.ConnectorException;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -375,6 +376,85 @@ public class IdPManagementDAO {
         }
     }
 
+    /**
+     * Get a page of identity providers matching a filter using a cursor instead of an offset. Identity providers are
+     * listed in the ascending order of their ids and each page is read by seeking past the id encoded in the cursor.
+     *
+     * @param tenantId           Tenant Id of the identity provider.
+     * @param expressionNode     List of filter value for IdP search.
+     * @param cursor             Cursor returned with the previous page, or null for the first page.
+     * @param limit              Limit per page.
+     * @param requiredAttributes Required attributes which needs to be return.
+     * @param includeCount       Include the total count of the matching identity providers.
+     * @return A page of identity providers.
+     * @throws IdentityProviderManagementServerException Error when getting list of Identity Providers.
+     * @throws IdentityProviderManagementClientException Error when the cursor or the filter is invalid.
+     */
+    CursorPage<IdentityProvider> getIdPsSearch(int tenantId, List<ExpressionNode> expressionNode, String cursor,
+                                               int limit, List<String> requiredAttributes, boolean includeCount)
+            throws IdentityProviderManagementServerException, IdentityProviderManagementClientException {
+
+        int afterId;
+        try {
+            afterId = CursorPage.decodeCursor(cursor, 0);
+        } catch (IllegalArgumentException e) {
+            throw IdPManagementUtil.handleClientException(IdPManagementConstants.ErrorMessage.ERROR_CODE_RETRIEVE_IDP,
+                    "Invalid cursor: " + cursor + " is passed for identity provider pagination.", e);
+        }
+        FilterQueryBuilder filterQueryBuilder = new FilterQueryBuilder();
+        appendFilterQuery(expressionNode, filterQueryBuilder);
+        Map<Integer, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
+        int filterAttributeValueSize = filterAttributeValue.size();
+        List<IdentityProvider> identityProviders = new ArrayList<>();
+        int rowCount = 0;
+        int lastRowId = afterId;
+        boolean hasMore = false;
+        try (Connection dbConnection = IdentityDatabaseUtil.getDBConnection(false)) {
+            String databaseProductName = dbConnection.getMetaData().getDatabaseProductName();
+            String sqlTail = databaseProductName.contains("Microsoft") || databaseProductName.contains("PostgreSQL") ?
+                    IdPManagementConstants.SQLQueries.GET_IDP_BY_TENANT_AFTER_ID_TAIL_MSSQL_POSTGRESQL :
+                    IdPManagementConstants.SQLQueries.GET_IDP_BY_TENANT_AFTER_ID_TAIL;
+            String sqlQuery = appendRequiredAttributes(IdPManagementConstants.SQLQueries.GET_IDP_BY_TENANT_MYSQL,
+                    requiredAttributes) + IdPManagementConstants.SQLQueries.FROM_IDP_WHERE +
+                    filterQueryBuilder.getFilterQuery() + sqlTail;
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlQuery)) {
+                for (Map.Entry<Integer, String> prepareStatement : filterAttributeValue.entrySet()) {
+                    prepStmt.setString(prepareStatement.getKey(), prepareStatement.getValue());
+                }
+                prepStmt.setInt(filterAttributeValueSize + 1, tenantId);
+                prepStmt.setInt(filterAttributeValueSize + 2, afterId);
+                // Read one extra row to find out whether there is a next page.
+                prepStmt.setMaxRows(limit + 1);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    // Count the rows read rather than the listed identity providers, since rows that are not
+                    // listed still belong to this page.
+                    while (resultSet.next()) {
+                        if (limit > 0 && rowCount == limit) {
+                            hasMore = true;
+                            break;
+                        }
+                        rowCount++;
+                        lastRowId = resultSet.getInt("ID");
+                        IdentityProvider identityProvider = populateIdentityProvider(resultSet, dbConnection,
+                                requiredAttributes, tenantId);
+                        if (identityProvider != null) {
+                            identityProviders.add(identityProvider);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String message = "Error occurred while retrieving Identity Provider for tenant: " +
+                    IdentityTenantUtil.getTenantDomain(tenantId);
+            throw IdPManagementUtil.handleServerException(IdPManagementConstants.ErrorMessage
+                    .ERROR_CODE_CONNECTING_DATABASE, message, e);
+        }
+
+        String nextCursor = hasMore ? CursorPage.encodeCursor(lastRowId) : null;
+        Integer totalCount = includeCount ? getCountOfFilteredIdPs(tenantId, expressionNode) : null;
+        return new CursorPage<>(identityProviders, nextCursor, totalCount);
+    }
+
     /**
      * Get all trusted token issuer's Basic information along with additionally requested information depends on the
      * requiredAttributes for a given matching filter.
@@ -666,38 +746,61 @@ public class IdPManagementDAO {
 
         List<IdentityProvider> identityProviderList = new ArrayList<>();
         while (resultSet.next()) {
-            IdentityProvider identityProvider = new IdentityProvider();
-            // First set the basic attributes such as id, name, description, isEnabled, image url, uuid.
-            identityProvider.setId(resultSet.getString("ID"));
-            identityProvider.setIdentityProviderName(resultSet.getString("NAME"));
-            identityProvider.setIdentityProviderDescription(resultSet.getString("DESCRIPTION"));
-            // IS_ENABLE
-            if ((IdPManagementConstants.IS_TRUE_VALUE).equals(resultSet.getString("IS_ENABLED"))) {
-                identityProvider.setEnable(true);
-            } else {
-                identityProvider.setEnable(false);
-            }
-            identityProvider.setImageUrl(resultSet.getString("IMAGE_URL"));
-            identityProvider.setResourceId(resultSet.getString("UUID"));
-
-            try {
-                populateRequiredAttributesForIdentityProviderList(resultSet, dbConnection, requiredAttributes, tenantId,
-                        identityProvider);
-            } catch (IdentityProviderManagementClientException e) {
-                continue;
-            }
-
-            if (!IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME
-                    .equals(identityProvider.getIdentityProviderName())) {
+            IdentityProvider identityProvider = populateIdentityProvider(resultSet, dbConnection, requiredAttributes,
+                    tenantId);
+            if (identityProvider != null) {
                 identityProviderList.add(identityProvider);
             }
-            List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(dbConnection,
-                    Integer.parseInt(resultSet.getString("ID")), tenantId);
-            identityProvider.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
         }
         return identityProviderList;
     }
 
+    /**
+     * Populate the identity provider of the current row of the result set.
+     *
+     * @param resultSet          ResultSet positioned on the row of the identity provider.
+     * @param dbConnection       Database Connection.
+     * @param requiredAttributes Required attributes which needs to be return.
+     * @param tenantId           Tenant Id of the identity provider.
+     * @return Identity provider, or null if the row is not listed.
+     * @throws SQLException
+     * @throws IdentityProviderManagementServerException
+     */
+    private IdentityProvider populateIdentityProvider(ResultSet resultSet, Connection dbConnection,
+                                                      List<String> requiredAttributes, int tenantId)
+            throws SQLException, IdentityProviderManagementServerException {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        // First set the basic attributes such as id, name, description, isEnabled, image url, uuid.
+        identityProvider.setId(resultSet.getString("ID"));
+        identityProvider.setIdentityProviderName(resultSet.getString("NAME"));
+        identityProvider.setIdentityProviderDescription(resultSet.getString("DESCRIPTION"));
+        // IS_ENABLE
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(resultSet.getString("IS_ENABLED"))) {
+            identityProvider.setEnable(true);
+        } else {
+            identityProvider.setEnable(false);
+        }
+        identityProvider.setImageUrl(resultSet.getString("IMAGE_URL"));
+        identityProvider.setResourceId(resultSet.getString("UUID"));
+
+        try {
+            populateRequiredAttributesForIdentityProviderList(resultSet, dbConnection, requiredAttributes, tenantId,
+                    identityProvider);
+        } catch (IdentityProviderManagementClientException e) {
+            return null;
+        }
+
+        if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME
+                .equals(identityProvider.getIdentityProviderName())) {
+            return null;
+        }
+        List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(dbConnection,
+                Integer.parseInt(resultSet.getString("ID")), tenantId);
+        identityProvider.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
+        return identityProvider;
+    }
+
     /**
      * @param resultSet          ResultSet.
      * @param dbConnection       Database Connection.
@@ -23,6 +23,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.model.*;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
@@ -71,6 +72,14 @@ public class IdPManagementFacade {
                 sortBy);
     }
 
+    public CursorPage<IdentityProvider> getIdPsSearch(int tenantId, List<ExpressionNode> expressionConditions,
+                                                      String cursor, int limit, List<String> requiredAttributes,
+                                                      boolean includeCount)
+            throws IdentityProviderManagementServerException, IdentityProviderManagementClientException {
+
+        return dao.getIdPsSearch(tenantId, expressionConditions, cursor, limit, requiredAttributes, includeCount);
+    }
+
     public List<IdentityProvider> getIdPsSearch(Connection dbConnection, int tenantId, String tenantDomain,
                                                 String filter) throws IdentityProviderManagementException {
 
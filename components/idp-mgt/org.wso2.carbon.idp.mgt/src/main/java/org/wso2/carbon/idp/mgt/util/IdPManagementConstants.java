@@ -170,6 +170,14 @@ public class IdPManagementConstants {
                 "AND IDP.ID NOT IN (SELECT IDP_ID FROM IDP_METADATA WHERE TENANT_ID = IDP.TENANT_ID AND " +
                 "NAME = 'isSystemReservedIdP' AND \"VALUE\" = 'true') ORDER BY %s LIMIT ?, ?";
 
+        public static final String GET_IDP_BY_TENANT_AFTER_ID_TAIL = "TENANT_ID = ? AND NAME != '" + RESIDENT_IDP +
+                "' AND IDP.ID NOT IN (SELECT IDP_ID FROM IDP_METADATA WHERE TENANT_ID = IDP.TENANT_ID AND " +
+                "NAME = 'isSystemReservedIdP' AND \"VALUE\" = 'true') AND ID > ? ORDER BY ID ASC";
+
+        public static final String GET_IDP_BY_TENANT_AFTER_ID_TAIL_MSSQL_POSTGRESQL = "TENANT_ID = ? AND NAME != '" +
+                RESIDENT_IDP + "' AND IDP.ID NOT IN (SELECT IDP_ID FROM IDP_METADATA WHERE TENANT_ID = IDP.TENANT_ID " +
+                "AND NAME = 'isSystemReservedIdP' AND VALUE = 'true') AND ID > ? ORDER BY ID ASC";
+
         public static final String GET_IDP_BY_TENANT_DB2SQL =
                 "SELECT ID, NAME, DESCRIPTION, IS_ENABLED, IMAGE_URL, UUID ";
 
@@ -23,12 +23,10 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
-import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
 import org.wso2.carbon.identity.application.common.processors.RandomPasswordProcessor;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
-import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
@@ -102,11 +100,10 @@ public class IdPManagementUtil {
         int timeout = Integer.parseInt(IdentityApplicationConstants.SESSION_IDLE_TIME_OUT_DEFAULT);
 
         try {
-            IdentityProvider identityProvider = identityProviderManager.getResidentIdP(tenantDomain);
-            IdentityProviderProperty idpProperty = IdentityApplicationManagementUtil.getProperty(
-                    identityProvider.getIdpProperties(), IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
-            if (idpProperty != null) {
-                timeout = Integer.parseInt(idpProperty.getValue());
+            String idleSessionTimeout = identityProviderManager.getResidentIdPSnapshot(tenantDomain)
+                    .getIdPPropertyValue(IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
+            if (idleSessionTimeout != null) {
+                timeout = Integer.parseInt(idleSessionTimeout);
             }
         } catch (IdentityProviderManagementException e) {
             log.error("Error when accessing the IdentityProviderManager for tenant : " + tenantDomain, e);
@@ -120,11 +117,10 @@ public class IdPManagementUtil {
         int rememberMeTimeout = Integer.parseInt(IdentityApplicationConstants.REMEMBER_ME_TIME_OUT_DEFAULT);
 
         try {
-            IdentityProvider identityProvider = identityProviderManager.getResidentIdP(tenantDomain);
-            IdentityProviderProperty idpProperty = IdentityApplicationManagementUtil.getProperty(
-                    identityProvider.getIdpProperties(), IdentityApplicationConstants.REMEMBER_ME_TIME_OUT);
-            if (idpProperty != null) {
-                rememberMeTimeout = Integer.parseInt(idpProperty.getValue());
+            String rememberMeTimeoutValue = identityProviderManager.getResidentIdPSnapshot(tenantDomain)
+                    .getIdPPropertyValue(IdentityApplicationConstants.REMEMBER_ME_TIME_OUT);
+            if (rememberMeTimeoutValue != null) {
+                rememberMeTimeout = Integer.parseInt(rememberMeTimeoutValue);
             }
         } catch (IdentityProviderManagementException e) {
             log.error("Error when accessing the IdentityProviderManager for tenant : " + tenantDomain, e);
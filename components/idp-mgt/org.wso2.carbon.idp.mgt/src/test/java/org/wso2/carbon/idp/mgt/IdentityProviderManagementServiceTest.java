@@ -1021,6 +1021,10 @@ public class IdentityProviderManagementServiceTest {
 
         Assert.assertNotNull(idpFromDb);
         Assert.assertEquals(idpFromDb.getIdentityProviderName(), "LOCAL");
+        // Each call returns its own copy of the cached resident IdP.
+        IdentityProvider cachedIdp = identityProviderManagementService.getResidentIdP();
+        Assert.assertEquals(cachedIdp.getIdentityProviderName(), "LOCAL");
+        Assert.assertNotSame(cachedIdp, idpFromDb);
     }
 
     @Test
@@ -36,6 +36,7 @@ import org.wso2.carbon.identity.action.management.model.Action;
 import org.wso2.carbon.identity.action.management.model.EndpointConfig;
 import org.wso2.carbon.identity.action.management.service.ActionManagementService;
 import org.wso2.carbon.identity.application.common.model.*;
+import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
@@ -47,6 +48,7 @@ import org.wso2.carbon.identity.secret.mgt.core.model.SecretType;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByHRI;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheById;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByMetadataProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
@@ -55,6 +57,7 @@ import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPResourceIdCacheKey;
+import org.wso2.carbon.idp.mgt.cache.ResidentIdPSnapshot;
 import org.wso2.carbon.idp.mgt.internal.IdpMgtServiceComponentHolder;
 import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.util.ActionMgtTestUtil;
@@ -499,6 +502,56 @@ public class CacheBackedIdPMgtDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPByIdCacheCounters() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+            IdPCacheById.getInstance().clear(TENANT_DOMAIN);
+
+            IdentityProvider firstResult = cacheBackedIdPMgtDAO.getIdPById(connection, 1, SAMPLE_TENANT_ID1,
+                    TENANT_DOMAIN);
+            IdentityProvider secondResult = cacheBackedIdPMgtDAO.getIdPById(connection, 1, SAMPLE_TENANT_ID1,
+                    TENANT_DOMAIN);
+            assertEquals(firstResult.getIdentityProviderName(), "testIdP1");
+            assertEquals(secondResult.getIdentityProviderName(), "testIdP1");
+            assertEquals(cacheBackedIdPMgtDAO.getIdPCacheByIdMissCount(), 1);
+            assertEquals(cacheBackedIdPMgtDAO.getIdPCacheByIdHitCount(), 1);
+        }
+    }
+
+    @Test
+    public void testResidentIdPSnapshot() {
+
+        IdentityProvider residentIdP = new IdentityProvider();
+        residentIdP.setIdentityProviderName(IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME);
+        IdentityProviderProperty idleTimeout = new IdentityProviderProperty();
+        idleTimeout.setName(IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
+        idleTimeout.setValue("15");
+        residentIdP.setIdpProperties(new IdentityProviderProperty[]{idleTimeout});
+        FederatedAuthenticatorConfig samlConfig = new FederatedAuthenticatorConfig();
+        samlConfig.setName(IdentityApplicationConstants.Authenticator.SAML2SSO.NAME);
+        Property entityId = new Property();
+        entityId.setName(IdentityApplicationConstants.Authenticator.SAML2SSO.IDP_ENTITY_ID);
+        entityId.setValue("localhost");
+        samlConfig.setProperties(new Property[]{entityId});
+        residentIdP.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{samlConfig});
+
+        ResidentIdPSnapshot snapshot = new ResidentIdPSnapshot(residentIdP);
+        assertEquals(snapshot.getIdentityProvider(), residentIdP);
+        assertEquals(snapshot.getIdPPropertyValue(IdentityApplicationConstants.SESSION_IDLE_TIME_OUT), "15");
+        assertNull(snapshot.getIdPPropertyValue(IdentityApplicationConstants.REMEMBER_ME_TIME_OUT));
+        assertEquals(snapshot.getAuthenticatorPropertyValue(IdentityApplicationConstants.Authenticator.SAML2SSO.NAME,
+                IdentityApplicationConstants.Authenticator.SAML2SSO.IDP_ENTITY_ID), "localhost");
+        assertTrue(snapshot.getAuthenticatorProperties(
+                IdentityApplicationConstants.Authenticator.OIDC.NAME).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getAuthenticatorProperties(
+                IdentityApplicationConstants.Authenticator.SAML2SSO.NAME).put("key", "value"));
+    }
+
     @Test
     public void testGetIdPNamesById() throws Exception {
 
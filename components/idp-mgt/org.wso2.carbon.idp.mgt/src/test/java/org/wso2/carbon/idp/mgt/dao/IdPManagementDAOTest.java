@@ -47,7 +47,9 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.UserDefinedAuthenticatorEndpointConfig;
 import org.wso2.carbon.identity.application.common.model.UserDefinedFederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -87,6 +89,7 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 import static org.wso2.carbon.idp.mgt.util.IdPManagementConstants.RESET_PROVISIONING_ENTITIES_ON_CONFIG_UPDATE;
@@ -410,6 +413,38 @@ public class IdPManagementDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPsSearchWithCursorWhenRowsAreNotListed() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+            // The resident identity provider is read from the database but is not listed.
+            for (String idpName : new String[]{IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME,
+                    "testIdP4", "testIdP5"}) {
+                IdentityProvider identityProvider = new IdentityProvider();
+                identityProvider.setIdentityProviderName(idpName);
+                idPManagementDAO.addIdP(identityProvider, SAMPLE_TENANT_ID);
+            }
+
+            CursorPage<IdentityProvider> firstPage = idPManagementDAO.getIdPsSearch(SAMPLE_TENANT_ID,
+                    new ArrayList<>(), null, 3, null, false);
+            assertEquals(firstPage.getItems().size(), 2);
+            assertEquals(firstPage.getItems().get(1).getIdentityProviderName(), "testIdP2");
+            assertNotNull(firstPage.getNextCursor());
+
+            CursorPage<IdentityProvider> lastPage = idPManagementDAO.getIdPsSearch(SAMPLE_TENANT_ID,
+                    new ArrayList<>(), firstPage.getNextCursor(), 3, null, false);
+            assertEquals(lastPage.getItems().size(), 2);
+            assertEquals(lastPage.getItems().get(0).getIdentityProviderName(), "testIdP4");
+            assertEquals(lastPage.getItems().get(1).getIdentityProviderName(), "testIdP5");
+            assertNull(lastPage.getNextCursor());
+        }
+    }
+
     @DataProvider
     public Object[][] getIdPsSearchWithExpressionNodesExceptionData() {
 
@@ -26,12 +26,12 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
-import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementServerException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+import org.wso2.carbon.idp.mgt.cache.ResidentIdPSnapshot;
 import org.wso2.carbon.idp.mgt.internal.IdPManagementServiceComponent;
 import org.wso2.carbon.idp.mgt.util.IdPManagementConstants.ErrorMessage;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -64,10 +64,6 @@ public class IdPManagementUtilTest {
     @Mock
     private IdentityProviderManager mockedIdentityProviderManager;
     @Mock
-    private IdentityProvider mockedIdentityProvider;
-    @Mock
-    private IdentityProviderProperty mockedIdentityProviderProperty;
-    @Mock
     private TenantManager mockedTenantManager;
     @Mock
     private RealmService mockedRealmService;
@@ -140,28 +136,21 @@ public class IdPManagementUtilTest {
             throws Exception {
 
         try (MockedStatic<IdentityProviderManager> identityProviderManager =
-                     mockStatic(IdentityProviderManager.class);
-             MockedStatic<IdentityApplicationManagementUtil> identityApplicationManagementUtil =
-                     mockStatic(IdentityApplicationManagementUtil.class)) {
+                     mockStatic(IdentityProviderManager.class)) {
 
-            IdentityProviderProperty[] idpProperties = new IdentityProviderProperty[0];
+            IdentityProvider residentIdP = new IdentityProvider();
+            if (validity) {
+                IdentityProviderProperty idpProperty = new IdentityProviderProperty();
+                idpProperty.setName(SESSION_IDLE_TIME_OUT);
+                idpProperty.setValue(value);
+                residentIdP.setIdpProperties(new IdentityProviderProperty[]{idpProperty});
+            }
 
             identityProviderManager.when(IdentityProviderManager::getInstance)
                     .thenReturn(mockedIdentityProviderManager);
-            when(mockedIdentityProviderManager.getResidentIdP(tenetDomain)).thenReturn(mockedIdentityProvider);
-            when(mockedIdentityProvider.getIdpProperties()).thenReturn(idpProperties);
-
-            if (validity) {
-                identityApplicationManagementUtil.when(
-                        () -> IdentityApplicationManagementUtil.getProperty(mockedIdentityProvider.getIdpProperties(),
-                                SESSION_IDLE_TIME_OUT)).thenReturn(mockedIdentityProviderProperty);
-            } else {
-                identityApplicationManagementUtil.when(
-                        () -> IdentityApplicationManagementUtil.getProperty(mockedIdentityProvider.getIdpProperties(),
-                                SESSION_IDLE_TIME_OUT)).thenReturn(null);
-            }
+            when(mockedIdentityProviderManager.getResidentIdPSnapshot(tenetDomain))
+                    .thenReturn(new ResidentIdPSnapshot(residentIdP));
 
-            lenient().when(mockedIdentityProviderProperty.getValue()).thenReturn(value);
             assertEquals(IdPManagementUtil.getIdleSessionTimeOut(tenetDomain), timeOut);
         }
     }
@@ -182,28 +171,21 @@ public class IdPManagementUtilTest {
             throws Exception {
 
         try (MockedStatic<IdentityProviderManager> identityProviderManager =
-                     mockStatic(IdentityProviderManager.class);
-             MockedStatic<IdentityApplicationManagementUtil> identityApplicationManagementUtil =
-                     mockStatic(IdentityApplicationManagementUtil.class)) {
+                     mockStatic(IdentityProviderManager.class)) {
 
-            IdentityProviderProperty[] idpProperties = new IdentityProviderProperty[0];
+            IdentityProvider residentIdP = new IdentityProvider();
+            if (validity) {
+                IdentityProviderProperty idpProperty = new IdentityProviderProperty();
+                idpProperty.setName(REMEMBER_ME_TIME_OUT);
+                idpProperty.setValue(value);
+                residentIdP.setIdpProperties(new IdentityProviderProperty[]{idpProperty});
+            }
 
             identityProviderManager.when(IdentityProviderManager::getInstance)
                     .thenReturn(mockedIdentityProviderManager);
-            when(mockedIdentityProviderManager.getResidentIdP(anyString())).thenReturn(mockedIdentityProvider);
-            when(mockedIdentityProvider.getIdpProperties()).thenReturn(idpProperties);
-
-            if (validity) {
-                identityApplicationManagementUtil.when(
-                        () -> IdentityApplicationManagementUtil.getProperty(mockedIdentityProvider.getIdpProperties(),
-                                REMEMBER_ME_TIME_OUT)).thenReturn(mockedIdentityProviderProperty);
-            } else {
-                identityApplicationManagementUtil.when(
-                        () -> IdentityApplicationManagementUtil.getProperty(mockedIdentityProvider.getIdpProperties(),
-                                REMEMBER_ME_TIME_OUT)).thenReturn(null);
-            }
+            when(mockedIdentityProviderManager.getResidentIdPSnapshot(anyString()))
+                    .thenReturn(new ResidentIdPSnapshot(residentIdP));
 
-            lenient().when(mockedIdentityProviderProperty.getValue()).thenReturn(value);
             assertEquals(IdPManagementUtil.getRememberMeTimeout(tenetDomain), timeOut);
         }
     }
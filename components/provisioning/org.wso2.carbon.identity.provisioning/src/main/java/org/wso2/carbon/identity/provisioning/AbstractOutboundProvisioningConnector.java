@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,55 @@ public abstract class AbstractOutboundProvisioningConnector implements Serializa
     public abstract ProvisionedIdentifier provision(ProvisioningEntity provisioningEntity)
             throws IdentityProvisioningException;
 
+    /**
+     * Override to provision a batch of entities with a single request to the identity provider, and return true
+     * from {@link #isBatchProvisioningSupported()}. By default the entities are provisioned one by one.
+     * <p>
+     * If only some of the entities are provisioned, throw a {@link ProvisioningBatchException} with the identifiers
+     * of the provisioned entities. Any other exception is treated as a failure of the whole batch, and the entities
+     * are provisioned one by one with {@link #provision(ProvisioningEntity)}.
+     *
+     * @param provisioningEntities Entities to provision.
+     * @return Identifiers of the provisioned entities, in the order of the given entities.
+     * @throws IdentityProvisioningException If the batch could not be provisioned.
+     */
+    public List<ProvisionedIdentifier> provisionBatch(List<ProvisioningEntity> provisioningEntities)
+            throws IdentityProvisioningException {
+
+        List<ProvisionedIdentifier> provisionedIdentifiers = new ArrayList<>();
+        Map<Integer, ProvisionedIdentifier> succeededIdentifiers = new HashMap<>();
+        Exception firstFailure = null;
+        for (int i = 0; i < provisioningEntities.size(); i++) {
+            try {
+                ProvisionedIdentifier provisionedIdentifier = provision(provisioningEntities.get(i));
+                provisionedIdentifiers.add(provisionedIdentifier);
+                succeededIdentifiers.put(i, provisionedIdentifier);
+            } catch (IdentityProvisioningException | RuntimeException e) {
+                provisionedIdentifiers.add(null);
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw new ProvisioningBatchException("Failed to provision " +
+                    (provisioningEntities.size() - succeededIdentifiers.size()) + " of " +
+                    provisioningEntities.size() + " entities of the batch.", firstFailure, succeededIdentifiers);
+        }
+        return provisionedIdentifiers;
+    }
+
+    /**
+     * Override only if the connector provisions batches with {@link #provisionBatch(List)}. Non-blocking
+     * operations of such connectors are grouped into batches when outbound provisioning batching is enabled.
+     *
+     * @return true if the connector supports batch provisioning.
+     */
+    public boolean isBatchProvisioningSupported() {
+
+        return false;
+    }
+
     /**
      * override only if needed - if claims are controlled by the identity provider, this will return
      * null. If it is connector specific this must return the corresponding claim dialect.
@@ -50,6 +50,30 @@ public class IdentityProvisioningConstants {
     public static final String USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS = "OutboundProvisioning.useUserTenantDomainInSaasApps";
     public static final String APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED = "OutboundProvisioning.enableApplicationBasedOutboundProvisioning";
     public static final String FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE = "OutboundProvisioning.FailOnBlockingOutboundProvisionFailure";
+    public static final String OUTBOUND_PROVISIONING_POOL_SIZE = "OutboundProvisioning.Executor.PoolSize";
+    public static final String OUTBOUND_PROVISIONING_QUEUE_CAPACITY = "OutboundProvisioning.Executor.QueueCapacity";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_ENABLED = "OutboundProvisioning.Outbox.Enable";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS = "OutboundProvisioning.Outbox.MaxAttempts";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL = "OutboundProvisioning.Outbox.RetryInterval";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL =
+            "OutboundProvisioning.Outbox.MaxRetryInterval";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT = "OutboundProvisioning.Outbox.LeaseTimeout";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_DRAIN_INTERVAL = "OutboundProvisioning.Outbox.DrainInterval";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_DRAIN_BATCH_SIZE =
+            "OutboundProvisioning.Outbox.DrainBatchSize";
+    public static final String OUTBOUND_PROVISIONING_BATCH_WINDOW = "OutboundProvisioning.Batch.Window";
+    public static final String OUTBOUND_PROVISIONING_BATCH_MAX_SIZE = "OutboundProvisioning.Batch.MaxSize";
+
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_POOL_SIZE = 10;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_QUEUE_CAPACITY = 10000;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL = 30000L;
+    public static final long DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL = 900000L;
+    public static final long DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT = 300000L;
+    public static final long DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_DRAIN_INTERVAL = 60000L;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_DRAIN_BATCH_SIZE = 100;
+    public static final long DEFAULT_OUTBOUND_PROVISIONING_BATCH_WINDOW = 0L;
+    public static final int DEFAULT_OUTBOUND_PROVISIONING_BATCH_MAX_SIZE = 100;
 
     public static class SQLQueries {
 
@@ -79,6 +103,29 @@ public class IdentityProvisioningConstants {
                                                                                     "AND APP.TENANT_ID = PC.TENANT_ID" +
                                                                                     " AND APP.TENANT_ID = ?";
 
+        public static final String ADD_OUTBOX_ENTRY_SQL = "INSERT INTO IDP_PROVISIONING_OUTBOX (ID, TENANT_ID, " +
+                "IDP_NAME, CONNECTOR_TYPE, ENTITY_TENANT_DOMAIN, ENTITY_TYPE, ENTITY_NAME, ENTITY, ATTEMPTS, " +
+                "NEXT_ATTEMPT_TIME, TIME_CREATED) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        public static final String GET_DUE_OUTBOX_ENTRIES_SQL = "SELECT ID, TENANT_ID, IDP_NAME, CONNECTOR_TYPE, " +
+                "ENTITY_TENANT_DOMAIN, ENTITY, ATTEMPTS, NEXT_ATTEMPT_TIME, TIME_CREATED FROM " +
+                "IDP_PROVISIONING_OUTBOX WHERE NEXT_ATTEMPT_TIME <= ? ORDER BY NEXT_ATTEMPT_TIME";
+
+        public static final String GET_PRECEDING_OUTBOX_ENTRY_SQL = "SELECT ID FROM IDP_PROVISIONING_OUTBOX WHERE " +
+                "TENANT_ID = ? AND IDP_NAME = ? AND ENTITY_TYPE = ? AND ENTITY_NAME = ? AND (TIME_CREATED < ? OR " +
+                "(TIME_CREATED = ? AND ID < ?))";
+
+        public static final String CLAIM_OUTBOX_ENTRY_SQL = "UPDATE IDP_PROVISIONING_OUTBOX SET " +
+                "NEXT_ATTEMPT_TIME = ? WHERE ID = ? AND NEXT_ATTEMPT_TIME = ?";
+
+        public static final String UPDATE_OUTBOX_ENTRY_ATTEMPT_SQL = "UPDATE IDP_PROVISIONING_OUTBOX SET " +
+                "ATTEMPTS = ?, NEXT_ATTEMPT_TIME = ? WHERE ID = ? AND NEXT_ATTEMPT_TIME = ?";
+
+        public static final String DELETE_OUTBOX_ENTRY_SQL = "DELETE FROM IDP_PROVISIONING_OUTBOX WHERE ID = ? AND " +
+                "NEXT_ATTEMPT_TIME = ?";
+
+        public static final String GET_OUTBOX_ENTRY_COUNT_SQL = "SELECT COUNT(ID) FROM IDP_PROVISIONING_OUTBOX";
+
         private SQLQueries(){}
     }
 
@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.provisioning;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -68,9 +67,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
@@ -246,6 +243,36 @@ public class OutboundProvisioningManager {
         return connectors;
     }
 
+    /**
+     * Get the runtime connector of the default provisioning connector of an identity provider.
+     *
+     * @param idPName       Name of the provisioning identity provider.
+     * @param connectorType Expected type of the default provisioning connector.
+     * @param tenantDomain  Tenant domain of the identity provider.
+     * @return Provisioning connector, or null if the identity provider no longer provisions with the given connector.
+     * @throws IdentityProvisioningException If an error occurred while building the connector.
+     */
+    AbstractOutboundProvisioningConnector getOutboundProvisioningConnector(String idPName, String connectorType,
+                                                                           String tenantDomain)
+            throws IdentityProvisioningException {
+
+        try {
+            IdentityProvider identityProvider =
+                    IdentityProviderManager.getInstance().getEnabledIdPByName(idPName, tenantDomain);
+            if (identityProvider == null || identityProvider.getDefaultProvisioningConnectorConfig() == null ||
+                    !StringUtils.equals(connectorType,
+                            identityProvider.getDefaultProvisioningConnectorConfig().getName())) {
+                return null;
+            }
+            boolean enableJitProvisioning = identityProvider.getJustInTimeProvisioningConfig() != null &&
+                    identityProvider.getJustInTimeProvisioningConfig().isProvisioningEnabled();
+            return getOutboundProvisioningConnector(identityProvider,
+                    IdentityProvisionServiceComponent.getConnectorFactories(), tenantDomain, enableJitProvisioning);
+        } catch (IdentityProviderManagementException e) {
+            throw new IdentityProvisioningException("Error while retrieving idp configuration for " + idPName, e);
+        }
+    }
+
     /**
      * @param fIdP
      * @param registeredConnectorFactories
@@ -394,12 +421,8 @@ public class OutboundProvisioningManager {
                     getOutboundProvisioningConnectors(serviceProvider, spTenantDomainName);
 
             ProvisioningEntity outboundProEntity;
-
-            ExecutorService executors = null;
-
-            if (MapUtils.isNotEmpty(connectors)) {
-                executors = Executors.newFixedThreadPool(connectors.size());
-            }
+            // Groups and claims of the members of a group are read once and shared by all the identity providers.
+            Map<String, ProvisioningEntity> inboundUserEntities = new HashMap<>();
 
             for (Iterator<Entry<String, RuntimeProvisioningConfig>> iterator = connectors
                     .entrySet().iterator(); iterator.hasNext(); ) {
@@ -518,7 +541,7 @@ public class OutboundProvisioningManager {
                     for (String user : newUsersList) {
                         ProvisioningEntity inboundProvisioningEntity =
                                 getInboundProvisioningEntity(provisioningEntity, provisioningEntityTenantDomainName,
-                                        ProvisioningOperation.POST, user);
+                                        ProvisioningOperation.POST, user, inboundUserEntities);
 
                         provisionedUserIdentifier =
                                 getProvisionedEntityIdentifier(idPName, connectorType, inboundProvisioningEntity,
@@ -534,12 +557,12 @@ public class OutboundProvisioningManager {
 
                         outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                    user, ProvisioningOperation.POST, mappedUserClaims);
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread, isBlocking);
 
                     }
 
@@ -547,7 +570,7 @@ public class OutboundProvisioningManager {
 
                         ProvisioningEntity inboundProvisioningEntity =
                                 getInboundProvisioningEntity(provisioningEntity, provisioningEntityTenantDomainName,
-                                        ProvisioningOperation.DELETE, user);
+                                        ProvisioningOperation.DELETE, user, inboundUserEntities);
 
                         provisionedUserIdentifier =
                                 getProvisionedEntityIdentifier(idPName, connectorType, inboundProvisioningEntity,
@@ -559,12 +582,12 @@ public class OutboundProvisioningManager {
 
                             outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                        user, ProvisioningOperation.DELETE, mappedUserClaims);
-                            Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                            ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                     provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread, isBlocking);
                         }
                     }
 
@@ -585,7 +608,7 @@ public class OutboundProvisioningManager {
                         outboundProEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
                                 provisioningEntity.getEntityName(), provisioningOp, mapppedClaims);
 
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
@@ -606,16 +629,12 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread, isBlocking);
                         }
                     }
                 }
             }
 
-            if (executors != null) {
-                executors.shutdown();
-            }
-
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -654,9 +673,8 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
-                                             String connectorType,
-                                             String idPName, Callable<Boolean> proThread, boolean isBlocking)
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String connectorType,
+                                             String idPName, ProvisioningThread proThread, boolean isBlocking)
             throws IdentityProvisioningException {
 
         if (!isBlocking && needToWaitForUserProvisioning(provisioningEntity)) {
@@ -667,18 +685,15 @@ public class OutboundProvisioningManager {
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, null, e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            submitOutboundProvisioning(provisioningEntity, connectorType, idPName, proThread);
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -688,8 +703,40 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, null, e);
+            }
+        }
+    }
+
+    /**
+     * Hands a non-blocking outbound provisioning operation to the shared provisioning executor, recording it in the
+     * outbox first if the outbox is enabled. If the executor queue is full, the operation is executed in the calling
+     * thread, which slows down the producer instead of dropping the operation.
+     */
+    private void submitOutboundProvisioning(ProvisioningEntity provisioningEntity, String connectorType,
+                                            String idPName, ProvisioningThread proThread) {
+
+        if (ProvisioningUtil.isOutboundProvisioningOutboxEnabled() && ProvisioningOutbox.getInstance()
+                .submit(proThread)) {
+            return;
+        }
+        if (ProvisioningBatcher.isBatchingEnabled() && ProvisioningBatcher.getInstance().submit(proThread)) {
+            return;
+        }
+        if (ProvisioningExecutor.getInstance().submit(proThread.getTenantDomainName(), idPName, proThread)) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Provisioning executor is full. Executing the outbound provisioning of entity: "
+                    + provisioningEntity.getEntityName() + " to identity provider: " + idPName
+                    + " in the calling thread.");
+        }
+        try {
+            if (!proThread.call()) {
+                log.error(generateMessageOnFailureProvisioningOperation(idPName, connectorType, provisioningEntity));
             }
+        } catch (Exception e) {
+            handleException(idPName, connectorType, provisioningEntity, null, e);
         }
     }
 
@@ -704,6 +751,22 @@ public class OutboundProvisioningManager {
         return Boolean.parseBoolean(IdentityUtil.getProperty(FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE));
     }
 
+    private ProvisioningEntity getInboundProvisioningEntity(ProvisioningEntity provisioningEntity,
+                                                            String tenantDomain, ProvisioningOperation operation,
+                                                            String userName,
+                                                            Map<String, ProvisioningEntity> inboundUserEntities)
+            throws UserStoreException {
+
+        String key = operation + ":" + userName;
+        ProvisioningEntity inboundProvisioningEntity = inboundUserEntities.get(key);
+        if (inboundProvisioningEntity == null) {
+            inboundProvisioningEntity = getInboundProvisioningEntity(provisioningEntity, tenantDomain, operation,
+                    userName);
+            inboundUserEntities.put(key, inboundProvisioningEntity);
+        }
+        return inboundProvisioningEntity;
+    }
+
     private ProvisioningEntity getInboundProvisioningEntity(ProvisioningEntity provisioningEntity,
                                                             String tenantDomain, ProvisioningOperation operation,
                                                             String userName) throws UserStoreException {
@@ -1076,7 +1139,7 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
+     * @param executors          Not used. Non-blocking operations run on the shared {@link ProvisioningExecutor}.
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown by {@link AbstractOutboundProvisioningConnector#provisionBatch(java.util.List)} when only a part of a batch
+ * could be provisioned. It carries the identifiers of the entities which were provisioned, so that their results are
+ * recorded, while the failed entities are reported as failures.
+ */
+public class ProvisioningBatchException extends IdentityProvisioningException {
+
+    private static final long serialVersionUID = -3520849231766451702L;
+
+    private final Map<Integer, ProvisionedIdentifier> provisionedIdentifiers;
+
+    /**
+     * @param message                Error message.
+     * @param cause                  Cause of the first failure.
+     * @param provisionedIdentifiers Identifiers of the provisioned entities, keyed by the index of the entity in the
+     *                               batch. Entities without a key were not provisioned.
+     */
+    public ProvisioningBatchException(String message, Throwable cause,
+                                      Map<Integer, ProvisionedIdentifier> provisionedIdentifiers) {
+
+        super(message, cause);
+        this.provisionedIdentifiers = provisionedIdentifiers != null ?
+                provisionedIdentifiers : Collections.emptyMap();
+    }
+
+    /**
+     * Get the identifiers of the provisioned entities, keyed by the index of the entity in the batch. The value can
+     * be null for an entity which was provisioned without an identifier, such as a delete.
+     *
+     * @return Identifiers of the provisioned entities.
+     */
+    public Map<Integer, ProvisionedIdentifier> getProvisionedIdentifiers() {
+
+        return Collections.unmodifiableMap(provisionedIdentifiers);
+    }
+}
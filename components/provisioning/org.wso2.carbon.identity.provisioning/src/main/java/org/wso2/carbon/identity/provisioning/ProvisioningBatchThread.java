@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.wso2.carbon.identity.provisioning.ProvisioningUtil.isUserTenantBasedOutboundProvisioningEnabled;
+
+/**
+ * Provisions a batch of operations, which target the same connector, with a single call to
+ * {@link AbstractOutboundProvisioningConnector#provisionBatch(List)}. The result of each provisioned entity is
+ * recorded even if other entities of the batch fail. If the connector fails the whole batch without reporting which
+ * entities were provisioned, the entities are provisioned one by one.
+ */
+public class ProvisioningBatchThread implements Callable<Boolean> {
+
+    private static final Log log = LogFactory.getLog(ProvisioningBatchThread.class);
+
+    private final List<ProvisioningThread> provisioningThreads;
+
+    /**
+     * Creates a batch.
+     *
+     * @param provisioningThreads Operations of the batch, which share the tenant, identity provider and connector.
+     */
+    public ProvisioningBatchThread(List<ProvisioningThread> provisioningThreads) {
+
+        this.provisioningThreads = provisioningThreads;
+    }
+
+    public List<ProvisioningThread> getProvisioningThreads() {
+
+        return provisioningThreads;
+    }
+
+    @Override
+    public Boolean call() throws IdentityProvisioningException {
+
+        if (provisioningThreads.isEmpty()) {
+            return true;
+        }
+        ProvisioningThread firstThread = provisioningThreads.get(0);
+        String tenantDomainName = firstThread.getTenantDomainName();
+        String provisioningEntityTenantDomainName = firstThread.getProvisioningEntityTenantDomainName();
+        boolean isUserTenantBasedOutboundProvisioningEnabled = isUserTenantBasedOutboundProvisioningEnabled();
+
+        try {
+            ProvisioningThread.startTenantFlow(tenantDomainName, provisioningEntityTenantDomainName,
+                    isUserTenantBasedOutboundProvisioningEnabled);
+
+            List<ProvisioningThread> threadsToProvision = new ArrayList<>();
+            List<ProvisioningEntity> entitiesToProvision = new ArrayList<>();
+            for (ProvisioningThread provisioningThread : provisioningThreads) {
+                if (!provisioningThread.isSkipped()) {
+                    threadsToProvision.add(provisioningThread);
+                    entitiesToProvision.add(provisioningThread.getProvisioningEntity());
+                }
+            }
+            if (entitiesToProvision.isEmpty()) {
+                return true;
+            }
+
+            int failedCount;
+            try {
+                List<ProvisionedIdentifier> provisionedIdentifiers =
+                        firstThread.getConnector().provisionBatch(entitiesToProvision);
+                Map<Integer, ProvisionedIdentifier> provisionedIdentifierMap = new HashMap<>();
+                for (int i = 0; i < threadsToProvision.size(); i++) {
+                    provisionedIdentifierMap.put(i, provisionedIdentifiers != null &&
+                            i < provisionedIdentifiers.size() ? provisionedIdentifiers.get(i) : null);
+                }
+                failedCount = recordProvisioningResults(threadsToProvision, provisionedIdentifierMap);
+            } catch (ProvisioningBatchException e) {
+                log.warn("Failed to provision a part of the batch of " + entitiesToProvision.size() +
+                        " entities to identity provider: " + firstThread.getIdPName(), e);
+                failedCount = recordProvisioningResults(threadsToProvision, e.getProvisionedIdentifiers());
+            } catch (IdentityProvisioningException | RuntimeException e) {
+                log.warn("Failed to provision the batch of " + entitiesToProvision.size() + " entities to identity " +
+                        "provider: " + firstThread.getIdPName() + ". Provisioning the entities one by one.", e);
+                failedCount = provisionOneByOne(threadsToProvision);
+            }
+            if (failedCount > 0) {
+                String errMsg = "Fail the batch provisioning of " + failedCount + " of " + entitiesToProvision.size() +
+                        " entities to identity provider: " + firstThread.getIdPName();
+                log.warn(errMsg);
+                throw new IdentityProvisioningException(errMsg);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Provisioned a batch of " + entitiesToProvision.size() + " entities to identity provider: "
+                        + firstThread.getIdPName());
+            }
+            return true;
+        } finally {
+            ProvisioningThread.endTenantFlow(tenantDomainName, provisioningEntityTenantDomainName,
+                    isUserTenantBasedOutboundProvisioningEnabled);
+        }
+    }
+
+    /**
+     * Records the results of the provisioned entities of the batch. Entities without an identifier entry were not
+     * provisioned.
+     *
+     * @param threadsToProvision     Operations of the provisioned batch.
+     * @param provisionedIdentifiers Identifiers of the provisioned entities, keyed by the index of the operation.
+     * @return Number of operations which were not provisioned or whose result could not be recorded.
+     */
+    private int recordProvisioningResults(List<ProvisioningThread> threadsToProvision,
+                                          Map<Integer, ProvisionedIdentifier> provisionedIdentifiers) {
+
+        int failedCount = 0;
+        for (int i = 0; i < threadsToProvision.size(); i++) {
+            ProvisioningThread provisioningThread = threadsToProvision.get(i);
+            if (!provisionedIdentifiers.containsKey(i)) {
+                logFailure(provisioningThread, null);
+                failedCount++;
+                continue;
+            }
+            try {
+                provisioningThread.recordProvisioningResult(provisionedIdentifiers.get(i));
+            } catch (IdentityApplicationManagementException | RuntimeException e) {
+                logFailure(provisioningThread, e);
+                failedCount++;
+            }
+        }
+        return failedCount;
+    }
+
+    /**
+     * Provisions the operations of a failed batch one by one, so that a single bad entity does not fail the others.
+     *
+     * @param threadsToProvision Operations of the failed batch.
+     * @return Number of operations which could not be provisioned.
+     */
+    private int provisionOneByOne(List<ProvisioningThread> threadsToProvision) {
+
+        int failedCount = 0;
+        for (ProvisioningThread provisioningThread : threadsToProvision) {
+            try {
+                ProvisionedIdentifier provisionedIdentifier =
+                        provisioningThread.getConnector().provision(provisioningThread.getProvisioningEntity());
+                provisioningThread.recordProvisioningResult(provisionedIdentifier);
+            } catch (IdentityProvisioningException | IdentityApplicationManagementException | RuntimeException e) {
+                logFailure(provisioningThread, e);
+                failedCount++;
+            }
+        }
+        return failedCount;
+    }
+
+    private static void logFailure(ProvisioningThread provisioningThread, Exception e) {
+
+        ProvisioningEntity provisioningEntity = provisioningThread.getProvisioningEntity();
+        String errMsg = "Fail the Provisioning for Entity " + provisioningEntity.getEntityName() +
+                " For operation = " + provisioningEntity.getOperation();
+        if (e != null) {
+            log.warn(errMsg, e);
+        } else {
+            log.warn(errMsg);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_BATCH_MAX_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_BATCH_WINDOW;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_BATCH_MAX_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_BATCH_WINDOW;
+
+/**
+ * Groups the non-blocking outbound provisioning operations of an identity provider connector over a short window.
+ * <p>
+ * Operations which target the same user within a batch are coalesced, e.g. a PUT followed by a PATCH is sent as a
+ * single PUT, and a user which is added and deleted within the window is not sent at all. Operations on other
+ * entities are never coalesced, and act as a barrier so that the relative order of user and group operations is kept.
+ * A batch is handed to the {@link ProvisioningExecutor} when the window elapses or the batch is full, as a single
+ * {@link ProvisioningBatchThread} if the connector supports batch provisioning, or as individual operations otherwise.
+ */
+public class ProvisioningBatcher {
+
+    private static final Log log = LogFactory.getLog(ProvisioningBatcher.class);
+
+    private static volatile ProvisioningBatcher instance;
+
+    private final long window;
+    private final int maxSize;
+    private final ProvisioningExecutor executor;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private final Map<String, Batch> pendingBatches = new HashMap<>();
+    private boolean shutdown;
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * Creates a batcher.
+     *
+     * @param window   Time in milliseconds operations are held back to be batched.
+     * @param maxSize  Maximum number of operations in a batch.
+     * @param executor Executor the batches are handed to.
+     */
+    public ProvisioningBatcher(long window, int maxSize, ProvisioningExecutor executor) {
+
+        this.window = Math.max(0, window);
+        this.maxSize = Math.max(1, maxSize);
+        this.executor = executor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Whether outbound provisioning operations are batched, i.e. whether a batch window is configured.
+     *
+     * @return true if batching is enabled.
+     */
+    public static boolean isBatchingEnabled() {
+
+        return ProvisioningUtil.getOutboundProvisioningConfig(OUTBOUND_PROVISIONING_BATCH_WINDOW,
+                DEFAULT_OUTBOUND_PROVISIONING_BATCH_WINDOW) > 0;
+    }
+
+    /**
+     * Get the shared batcher, which is created with the configured window and batch size on first use.
+     *
+     * @return Shared provisioning batcher.
+     */
+    public static ProvisioningBatcher getInstance() {
+
+        if (instance == null) {
+            synchronized (ProvisioningBatcher.class) {
+                if (instance == null) {
+                    instance = new ProvisioningBatcher(
+                            ProvisioningUtil.getOutboundProvisioningConfig(OUTBOUND_PROVISIONING_BATCH_WINDOW,
+                                    DEFAULT_OUTBOUND_PROVISIONING_BATCH_WINDOW),
+                            (int) ProvisioningUtil.getOutboundProvisioningConfig(OUTBOUND_PROVISIONING_BATCH_MAX_SIZE,
+                                    DEFAULT_OUTBOUND_PROVISIONING_BATCH_MAX_SIZE),
+                            ProvisioningExecutor.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shuts down the shared batcher, if it was created. Pending batches are handed to the executor.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (ProvisioningBatcher.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Adds an outbound provisioning operation to the pending batch of its connector.
+     *
+     * @param provisioningThread Provisioning operation.
+     * @return true if the operation was accepted, false if the batcher is shut down.
+     */
+    public boolean submit(ProvisioningThread provisioningThread) {
+
+        String batchKey = getBatchKey(provisioningThread);
+        List<ProvisioningThread> fullBatch = null;
+        synchronized (lock) {
+            if (shutdown) {
+                return false;
+            }
+            Batch batch = pendingBatches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch();
+                pendingBatches.put(batchKey, batch);
+                Batch scheduledBatch = batch;
+                scheduler.schedule(() -> flush(batchKey, scheduledBatch), window, TimeUnit.MILLISECONDS);
+            }
+            if (batch.add(provisioningThread)) {
+                coalescedCount.incrementAndGet();
+            }
+            if (batch.size() >= maxSize) {
+                pendingBatches.remove(batchKey);
+                fullBatch = batch.getOperations();
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return true;
+    }
+
+    /**
+     * Hands the pending batches to the executor and stops accepting operations.
+     */
+    public void shutdown() {
+
+        List<Batch> batches;
+        synchronized (lock) {
+            shutdown = true;
+            batches = new ArrayList<>(pendingBatches.values());
+            pendingBatches.clear();
+        }
+        scheduler.shutdownNow();
+        for (Batch batch : batches) {
+            dispatch(batch.getOperations());
+        }
+    }
+
+    /**
+     * Returns the number of operations which were merged into, or cancelled out, an earlier operation.
+     *
+     * @return Number of coalesced operations.
+     */
+    public long getCoalescedCount() {
+
+        return coalescedCount.get();
+    }
+
+    /**
+     * Returns the number of batches handed to connectors which support batch provisioning.
+     *
+     * @return Number of batches.
+     */
+    public long getBatchCount() {
+
+        return batchCount.get();
+    }
+
+    /**
+     * Returns the number of operations waiting in the pending batches.
+     *
+     * @return Number of pending operations.
+     */
+    public int getPendingOperationCount() {
+
+        synchronized (lock) {
+            int count = 0;
+            for (Batch batch : pendingBatches.values()) {
+                count += batch.size();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Whether a later operation on an entity cancels out an earlier operation which is not sent yet.
+     *
+     * @param earlier Earlier operation.
+     * @param later   Later operation.
+     * @return true if neither of the operations has to be sent.
+     */
+    static boolean isCancelledOut(ProvisioningEntity earlier, ProvisioningEntity later) {
+
+        return earlier.getOperation() == ProvisioningOperation.POST &&
+                later.getOperation() == ProvisioningOperation.DELETE;
+    }
+
+    /**
+     * Merges two operations on the same entity into one operation.
+     *
+     * @param earlier Earlier operation.
+     * @param later   Later operation.
+     * @return Merged operation, or null if the operations cannot be merged.
+     */
+    static ProvisioningEntity coalesce(ProvisioningEntity earlier, ProvisioningEntity later) {
+
+        ProvisioningOperation earlierOperation = earlier.getOperation();
+        ProvisioningOperation laterOperation = later.getOperation();
+        if (laterOperation == ProvisioningOperation.DELETE) {
+            if (earlierOperation == ProvisioningOperation.PUT || earlierOperation == ProvisioningOperation.PATCH) {
+                return later;
+            }
+            return null;
+        }
+        ProvisioningOperation operation;
+        if (earlierOperation == ProvisioningOperation.POST) {
+            // The entity is not created yet, so the later updates are sent with the create.
+            operation = ProvisioningOperation.POST;
+        } else if (earlierOperation == ProvisioningOperation.PUT || earlierOperation == ProvisioningOperation.PATCH) {
+            if (laterOperation == ProvisioningOperation.POST) {
+                return null;
+            }
+            operation = earlierOperation == ProvisioningOperation.PUT || laterOperation == ProvisioningOperation.PUT ?
+                    ProvisioningOperation.PUT : ProvisioningOperation.PATCH;
+        } else {
+            return null;
+        }
+
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        if (earlier.getAttributes() != null) {
+            attributes.putAll(earlier.getAttributes());
+        }
+        if (later.getAttributes() != null) {
+            attributes.putAll(later.getAttributes());
+        }
+        ProvisioningEntity merged = new ProvisioningEntity(earlier.getEntityType(), earlier.getEntityName(),
+                operation, attributes);
+        merged.setIdentifier(earlier.getIdentifier() != null ? earlier.getIdentifier() : later.getIdentifier());
+        if (earlier.getInboundAttributes() != null || later.getInboundAttributes() != null) {
+            Map<String, String> inboundAttributes = new HashMap<>();
+            if (earlier.getInboundAttributes() != null) {
+                inboundAttributes.putAll(earlier.getInboundAttributes());
+            }
+            if (later.getInboundAttributes() != null) {
+                inboundAttributes.putAll(later.getInboundAttributes());
+            }
+            merged.setInboundAttributes(inboundAttributes);
+        }
+        merged.setJitProvisioning(later.isJitProvisioning());
+        return merged;
+    }
+
+    private void flush(String batchKey, Batch batch) {
+
+        synchronized (lock) {
+            // The batch may have been dispatched already because it was full.
+            if (pendingBatches.get(batchKey) != batch) {
+                return;
+            }
+            pendingBatches.remove(batchKey);
+        }
+        dispatch(batch.getOperations());
+    }
+
+    private void dispatch(List<ProvisioningThread> operations) {
+
+        if (operations.isEmpty()) {
+            return;
+        }
+        ProvisioningThread firstOperation = operations.get(0);
+        if (operations.size() > 1 && firstOperation.getConnector().isBatchProvisioningSupported()) {
+            batchCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Dispatching a batch of " + operations.size() + " outbound provisioning operations to " +
+                        "identity provider: " + firstOperation.getIdPName());
+            }
+            execute(firstOperation, new ProvisioningBatchThread(operations));
+            return;
+        }
+        for (ProvisioningThread operation : operations) {
+            execute(operation, operation);
+        }
+    }
+
+    private void execute(ProvisioningThread target, Callable<Boolean> operation) {
+
+        if (executor.submit(target.getTenantDomainName(), target.getIdPName(), operation)) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Provisioning executor is full. Executing the batched outbound provisioning to identity " +
+                    "provider: " + target.getIdPName() + " in the batcher thread.");
+        }
+        try {
+            if (!operation.call()) {
+                log.error("Outbound provisioning to identity provider: " + target.getIdPName() + " failed.");
+            }
+        } catch (Exception e) {
+            log.error("Error while executing the outbound provisioning to identity provider: " +
+                    target.getIdPName(), e);
+        }
+    }
+
+    private static String getBatchKey(ProvisioningThread provisioningThread) {
+
+        return provisioningThread.getTenantDomainName() + ":" +
+                provisioningThread.getProvisioningEntityTenantDomainName() + ":" + provisioningThread.getIdPName() +
+                ":" + provisioningThread.getConnectorType();
+    }
+
+    /**
+     * Operations of a connector which are waiting to be dispatched.
+     */
+    private static class Batch {
+
+        private final List<ProvisioningThread> operations = new ArrayList<>();
+        private final Map<String, Integer> userOperationIndexes = new HashMap<>();
+        private int size;
+
+        /**
+         * Adds an operation, coalescing it with the pending operation on the same user if possible.
+         *
+         * @return true if the operation was coalesced.
+         */
+        boolean add(ProvisioningThread provisioningThread) {
+
+            ProvisioningEntity entity = provisioningThread.getProvisioningEntity();
+            if (entity.getEntityType() != ProvisioningEntityType.USER || entity.getEntityName() == null) {
+                // Later user operations must not be moved ahead of this operation.
+                userOperationIndexes.clear();
+                append(provisioningThread);
+                return false;
+            }
+
+            Integer index = userOperationIndexes.get(entity.getEntityName());
+            if (index != null) {
+                ProvisioningThread earlierThread = operations.get(index);
+                ProvisioningEntity earlier = earlierThread.getProvisioningEntity();
+                if (isCancelledOut(earlier, entity)) {
+                    operations.set(index, null);
+                    userOperationIndexes.remove(entity.getEntityName());
+                    size--;
+                    return true;
+                }
+                ProvisioningEntity merged = coalesce(earlier, entity);
+                if (merged != null) {
+                    operations.set(index, earlierThread.withProvisioningEntity(merged));
+                    return true;
+                }
+            }
+            userOperationIndexes.put(entity.getEntityName(), operations.size());
+            append(provisioningThread);
+            return false;
+        }
+
+        int size() {
+
+            return size;
+        }
+
+        List<ProvisioningThread> getOperations() {
+
+            List<ProvisioningThread> pendingOperations = new ArrayList<>(size);
+            for (ProvisioningThread operation : operations) {
+                if (operation != null) {
+                    pendingOperations.add(operation);
+                }
+            }
+            return pendingOperations;
+        }
+
+        private void append(ProvisioningThread provisioningThread) {
+
+            operations.add(provisioningThread);
+            size++;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_QUEUE_CAPACITY;
+
+/**
+ * Shared executor of the non-blocking outbound provisioning operations.
+ * <p>
+ * Operations are queued per tenant, and a fixed number of workers take one operation of a tenant at a time in round
+ * robin order, so that a bulk import in one tenant does not hold back the provisioning of the other tenants. The
+ * number of queued operations is bounded. {@link #submit(String, String, Callable)} returns false when the queue is
+ * full, and the caller decides how to push back.
+ */
+public class ProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(ProvisioningExecutor.class);
+
+    private static volatile ProvisioningExecutor instance;
+
+    private final int capacity;
+    private final ExecutorService workers;
+
+    private final Object lock = new Object();
+    private final Map<String, Deque<ProvisioningTask>> pendingTasksByTenant = new HashMap<>();
+    private final Deque<String> tenantsWithPendingTasks = new ArrayDeque<>();
+    private int pendingTaskCount;
+    private boolean shutdown;
+
+    private final Map<String, Counters> countersByIdP = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an executor.
+     *
+     * @param poolSize Number of operations executed in parallel.
+     * @param capacity Maximum number of operations waiting to be executed.
+     */
+    public ProvisioningExecutor(int poolSize, int capacity) {
+
+        int workerCount = Math.max(1, poolSize);
+        this.capacity = Math.max(1, capacity);
+        this.workers = Executors.newFixedThreadPool(workerCount, new ProvisioningThreadFactory());
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runTasks);
+        }
+    }
+
+    /**
+     * Get the shared executor, which is created with the configured pool size and queue capacity on first use.
+     *
+     * @return Shared provisioning executor.
+     */
+    public static ProvisioningExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (ProvisioningExecutor.class) {
+                if (instance == null) {
+                    instance = new ProvisioningExecutor(
+                            (int) ProvisioningUtil.getOutboundProvisioningConfig(OUTBOUND_PROVISIONING_POOL_SIZE,
+                                    DEFAULT_OUTBOUND_PROVISIONING_POOL_SIZE),
+                            (int) ProvisioningUtil.getOutboundProvisioningConfig(OUTBOUND_PROVISIONING_QUEUE_CAPACITY,
+                                    DEFAULT_OUTBOUND_PROVISIONING_QUEUE_CAPACITY));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shuts down the shared executor, if it was created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (ProvisioningExecutor.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Queues an outbound provisioning operation.
+     *
+     * @param tenantDomain Tenant domain the operation is queued under.
+     * @param idPName      Name of the provisioning identity provider.
+     * @param operation    Operation, which returns true if the entity was provisioned.
+     * @return true if the operation was queued, false if the queue is full or the executor is shut down.
+     */
+    public boolean submit(String tenantDomain, String idPName, Callable<Boolean> operation) {
+
+        String tenantKey = StringUtils.defaultString(tenantDomain);
+        Counters counters = countersByIdP.computeIfAbsent(getCounterKey(tenantKey, idPName), key -> new Counters());
+        synchronized (lock) {
+            if (shutdown || pendingTaskCount >= capacity) {
+                counters.rejectedCount.incrementAndGet();
+                return false;
+            }
+            Deque<ProvisioningTask> tasks = pendingTasksByTenant.computeIfAbsent(tenantKey, key -> new ArrayDeque<>());
+            if (tasks.isEmpty()) {
+                tenantsWithPendingTasks.addLast(tenantKey);
+            }
+            tasks.addLast(new ProvisioningTask(operation, counters, System.currentTimeMillis()));
+            pendingTaskCount++;
+            counters.submittedCount.incrementAndGet();
+            counters.firstSubmissionTime.compareAndSet(0, System.currentTimeMillis());
+            lock.notify();
+        }
+        return true;
+    }
+
+    /**
+     * Stops the workers. Operations which are still queued are dropped.
+     */
+    public void shutdown() {
+
+        int droppedTaskCount;
+        synchronized (lock) {
+            shutdown = true;
+            droppedTaskCount = pendingTaskCount;
+            pendingTasksByTenant.clear();
+            tenantsWithPendingTasks.clear();
+            pendingTaskCount = 0;
+            lock.notifyAll();
+        }
+        workers.shutdownNow();
+        if (droppedTaskCount > 0) {
+            log.warn(droppedTaskCount + " queued outbound provisioning operations were dropped while shutting down "
+                    + "the provisioning executor.");
+        }
+    }
+
+    public int getPendingTaskCount() {
+
+        synchronized (lock) {
+            return pendingTaskCount;
+        }
+    }
+
+    public int getPendingTaskCount(String tenantDomain) {
+
+        synchronized (lock) {
+            Deque<ProvisioningTask> tasks = pendingTasksByTenant.get(StringUtils.defaultString(tenantDomain));
+            return tasks == null ? 0 : tasks.size();
+        }
+    }
+
+    public long getSubmittedCount(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        return counters == null ? 0 : counters.submittedCount.get();
+    }
+
+    public long getCompletedCount(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        return counters == null ? 0 : counters.completedCount.get();
+    }
+
+    public long getFailedCount(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        return counters == null ? 0 : counters.failedCount.get();
+    }
+
+    public long getRejectedCount(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        return counters == null ? 0 : counters.rejectedCount.get();
+    }
+
+    /**
+     * Get the average time the operations of an identity provider waited in the queue before they were executed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param idPName      Name of the provisioning identity provider.
+     * @return Average lag in milliseconds.
+     */
+    public long getAverageLagInMillis(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        if (counters == null || counters.startedCount.get() == 0) {
+            return 0;
+        }
+        return counters.totalLagInMillis.get() / counters.startedCount.get();
+    }
+
+    public long getMaxLagInMillis(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        return counters == null ? 0 : counters.maxLagInMillis.get();
+    }
+
+    /**
+     * Get the number of operations of an identity provider completed per second, since its first operation was
+     * submitted.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param idPName      Name of the provisioning identity provider.
+     * @return Provisioning throughput.
+     */
+    public double getThroughput(String tenantDomain, String idPName) {
+
+        Counters counters = getCounters(tenantDomain, idPName);
+        if (counters == null || counters.firstSubmissionTime.get() == 0) {
+            return 0;
+        }
+        long elapsedTime = Math.max(1, System.currentTimeMillis() - counters.firstSubmissionTime.get());
+        return counters.completedCount.get() * 1000D / elapsedTime;
+    }
+
+    private Counters getCounters(String tenantDomain, String idPName) {
+
+        return countersByIdP.get(getCounterKey(StringUtils.defaultString(tenantDomain), idPName));
+    }
+
+    private static String getCounterKey(String tenantDomain, String idPName) {
+
+        return tenantDomain + ":" + idPName;
+    }
+
+    private void runTasks() {
+
+        while (true) {
+            ProvisioningTask task;
+            try {
+                task = takeTask();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // Keep the worker alive, otherwise the pool shrinks for good.
+                log.error("Unexpected error while executing an outbound provisioning operation.", e);
+            }
+        }
+    }
+
+    /**
+     * Takes the next operation of the tenant at the head of the round robin order, and moves the tenant to the end
+     * of the order if it has more operations.
+     */
+    private ProvisioningTask takeTask() throws InterruptedException {
+
+        synchronized (lock) {
+            while (!shutdown && tenantsWithPendingTasks.isEmpty()) {
+                lock.wait();
+            }
+            if (shutdown) {
+                return null;
+            }
+            String tenantDomain = tenantsWithPendingTasks.pollFirst();
+            Deque<ProvisioningTask> tasks = pendingTasksByTenant.get(tenantDomain);
+            ProvisioningTask task = tasks.pollFirst();
+            if (tasks.isEmpty()) {
+                pendingTasksByTenant.remove(tenantDomain);
+            } else {
+                tenantsWithPendingTasks.addLast(tenantDomain);
+            }
+            pendingTaskCount--;
+            return task;
+        }
+    }
+
+    private static class ProvisioningTask {
+
+        private final Callable<Boolean> operation;
+        private final Counters counters;
+        private final long submittedTime;
+
+        ProvisioningTask(Callable<Boolean> operation, Counters counters, long submittedTime) {
+
+            this.operation = operation;
+            this.counters = counters;
+            this.submittedTime = submittedTime;
+        }
+
+        void run() {
+
+            long lag = System.currentTimeMillis() - submittedTime;
+            counters.startedCount.incrementAndGet();
+            counters.totalLagInMillis.addAndGet(lag);
+            counters.maxLagInMillis.accumulateAndGet(lag, Math::max);
+
+            boolean success = false;
+            try {
+                success = Boolean.TRUE.equals(operation.call());
+            } catch (Exception e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while executing an outbound provisioning operation.", e);
+                }
+            } catch (Throwable e) {
+                log.error("Unexpected error while executing an outbound provisioning operation.", e);
+            } finally {
+                if (success) {
+                    counters.completedCount.incrementAndGet();
+                } else {
+                    counters.failedCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static class Counters {
+
+        private final AtomicLong submittedCount = new AtomicLong();
+        private final AtomicLong startedCount = new AtomicLong();
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicLong rejectedCount = new AtomicLong();
+        private final AtomicLong totalLagInMillis = new AtomicLong();
+        private final AtomicLong maxLagInMillis = new AtomicLong();
+        private final AtomicLong firstSubmissionTime = new AtomicLong();
+    }
+
+    private static class ProvisioningThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "OutboundProvisioningWorker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.provisioning.dao.CacheBackedProvisioningMgtDAO;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningManagementDAO;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningOutboxDAO;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_DRAIN_BATCH_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_DRAIN_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_DRAIN_BATCH_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_DRAIN_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL;
+
+/**
+ * Durable queue of the non-blocking outbound provisioning operations.
+ * <p>
+ * An operation is recorded in the outbox before it is handed to the {@link ProvisioningExecutor}, and is removed once
+ * it succeeds. A failed operation is retried with an exponential backoff until the maximum number of attempts is
+ * reached. Each recorded operation holds a lease until its next attempt time, and a periodic drain picks up the
+ * operations whose lease expired, which covers the operations lost on a restart or queued on a node that went down.
+ * The lease is renewed atomically when a worker starts the operation, so an operation which waited in the executor
+ * queue longer than the lease is not executed if another node has claimed it in the meantime, and it is renewed
+ * periodically while the operation runs. An attempt is recorded, or the operation removed, only if the lease is still
+ * held. Delivery is at least once: if a lease cannot be renewed, for example while the database is not reachable,
+ * another node may execute the same operation again.
+ * <p>
+ * The operations on an entity are executed in the order they were recorded. An operation waits while an earlier
+ * operation on the same entity and identity provider is still in the outbox, so that a retried operation does not
+ * overwrite or undo a later one.
+ */
+public class ProvisioningOutbox {
+
+    private static final Log log = LogFactory.getLog(ProvisioningOutbox.class);
+
+    private static volatile ProvisioningOutbox instance;
+
+    private final ProvisioningOutboxDAO outboxDAO;
+    private final ProvisioningExecutor executor;
+    private final CacheBackedProvisioningMgtDAO provisioningMgtDAO =
+            new CacheBackedProvisioningMgtDAO(new ProvisioningManagementDAO());
+    private final int maxAttempts;
+    private final long retryInterval;
+    private final long maxRetryInterval;
+    private final long leaseTimeout;
+    private final long drainInterval;
+    private final int drainBatchSize;
+    private final AtomicLong lastCreatedTime = new AtomicLong();
+    private ScheduledExecutorService drainScheduler;
+    private volatile ScheduledExecutorService leaseRenewalScheduler;
+
+    ProvisioningOutbox(ProvisioningOutboxDAO outboxDAO, ProvisioningExecutor executor) {
+
+        this.outboxDAO = outboxDAO;
+        this.executor = executor;
+        this.maxAttempts = Math.max(1, (int) ProvisioningUtil.getOutboundProvisioningConfig(
+                OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS, DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS));
+        this.retryInterval = Math.max(0, ProvisioningUtil.getOutboundProvisioningConfig(
+                OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL, DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL));
+        this.maxRetryInterval = Math.max(retryInterval, ProvisioningUtil.getOutboundProvisioningConfig(
+                OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL,
+                DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL));
+        this.leaseTimeout = Math.max(0, ProvisioningUtil.getOutboundProvisioningConfig(
+                OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT, DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT));
+        this.drainInterval = ProvisioningUtil.getOutboundProvisioningConfig(
+                OUTBOUND_PROVISIONING_OUTBOX_DRAIN_INTERVAL, DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_DRAIN_INTERVAL);
+        this.drainBatchSize = Math.max(1, (int) ProvisioningUtil.getOutboundProvisioningConfig(
+                OUTBOUND_PROVISIONING_OUTBOX_DRAIN_BATCH_SIZE, DEFAULT_OUTBOUND_PROVISIONING_OUTBOX_DRAIN_BATCH_SIZE));
+    }
+
+    /**
+     * Get the shared outbox, which hands the operations to the shared {@link ProvisioningExecutor}.
+     *
+     * @return Shared provisioning outbox.
+     */
+    public static ProvisioningOutbox getInstance() {
+
+        if (instance == null) {
+            synchronized (ProvisioningOutbox.class) {
+                if (instance == null) {
+                    instance = new ProvisioningOutbox(new ProvisioningOutboxDAO(), ProvisioningExecutor.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops draining the shared outbox, if it was created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (ProvisioningOutbox.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Starts draining the outbox periodically, and renewing the leases of the running operations.
+     */
+    public synchronized void start() {
+
+        if (leaseRenewalScheduler == null && leaseTimeout > 0) {
+            leaseRenewalScheduler = Executors.newSingleThreadScheduledExecutor(
+                    newDaemonThreadFactory("OutboundProvisioningOutboxLeaseRenewal"));
+        }
+        if (drainScheduler != null || drainInterval <= 0) {
+            return;
+        }
+        drainScheduler = Executors.newSingleThreadScheduledExecutor(
+                newDaemonThreadFactory("OutboundProvisioningOutboxDrain"));
+        drainScheduler.scheduleWithFixedDelay(this::drainSafely, drainInterval, drainInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops draining the outbox. Recorded operations stay in the outbox.
+     */
+    public synchronized void shutdown() {
+
+        if (drainScheduler != null) {
+            drainScheduler.shutdownNow();
+            drainScheduler = null;
+        }
+        if (leaseRenewalScheduler != null) {
+            leaseRenewalScheduler.shutdownNow();
+            leaseRenewalScheduler = null;
+        }
+    }
+
+    /**
+     * Records an outbound provisioning operation in the outbox and queues it for execution.
+     *
+     * @param provisioningThread Outbound provisioning operation.
+     * @return true if the operation was recorded, false if it could not be recorded and the caller has to execute
+     * it without the outbox.
+     */
+    public boolean submit(ProvisioningThread provisioningThread) {
+
+        long currentTime = System.currentTimeMillis();
+        ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+        entry.setId(UUID.randomUUID().toString());
+        entry.setTenantId(IdentityTenantUtil.getTenantId(provisioningThread.getTenantDomainName()));
+        entry.setIdPName(provisioningThread.getIdPName());
+        entry.setConnectorType(provisioningThread.getConnectorType());
+        entry.setEntityTenantDomain(provisioningThread.getProvisioningEntityTenantDomainName());
+        entry.setProvisioningEntity(provisioningThread.getProvisioningEntity());
+        // Keep the creation times distinct, since the operations on an entity are ordered by them.
+        entry.setCreatedTime(lastCreatedTime.updateAndGet(lastTime -> Math.max(lastTime + 1, currentTime)));
+        entry.setNextAttemptTime(currentTime + leaseTimeout);
+        try {
+            outboxDAO.addEntry(entry);
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while recording the outbound provisioning operation in the outbox. The operation will "
+                    + "not be retried on failure.", e);
+            return false;
+        }
+
+        if (!executor.submit(provisioningThread.getTenantDomainName(), entry.getIdPName(),
+                () -> execute(entry, provisioningThread))) {
+            if (log.isDebugEnabled()) {
+                log.debug("Provisioning executor is full. The outbound provisioning operation of entity: "
+                        + entry.getProvisioningEntity().getEntityName() + " will be attempted from the outbox.");
+            }
+            reschedule(entry, entry.getAttempts(), currentTime + retryInterval);
+        }
+        return true;
+    }
+
+    /**
+     * Queues the due operations of the outbox for execution.
+     *
+     * @return Number of operations queued.
+     * @throws IdentityProvisioningException If an error occurred while reading the outbox.
+     */
+    public int drain() throws IdentityProvisioningException {
+
+        long currentTime = System.currentTimeMillis();
+        List<ProvisioningOutboxEntry> entries = outboxDAO.getDueEntries(currentTime, drainBatchSize);
+        int queuedCount = 0;
+        for (ProvisioningOutboxEntry entry : entries) {
+            long leaseExpiryTime = currentTime + leaseTimeout;
+            if (!outboxDAO.claimEntry(entry.getId(), entry.getNextAttemptTime(), leaseExpiryTime)) {
+                // Claimed by another node.
+                continue;
+            }
+            entry.setNextAttemptTime(leaseExpiryTime);
+
+            ProvisioningThread provisioningThread;
+            try {
+                provisioningThread = createProvisioningThread(entry);
+            } catch (IdentityProvisioningException e) {
+                log.error("Error while preparing the outbound provisioning operation of the outbox entry: "
+                        + entry.getId(), e);
+                complete(entry, false);
+                continue;
+            }
+            if (!executor.submit(provisioningThread.getTenantDomainName(), entry.getIdPName(),
+                    () -> execute(entry, provisioningThread))) {
+                // Release the entry and leave the rest of the due entries to the next drain.
+                reschedule(entry, entry.getAttempts(), currentTime);
+                break;
+            }
+            queuedCount++;
+        }
+        if (log.isDebugEnabled() && queuedCount > 0) {
+            log.debug("Queued " + queuedCount + " outbound provisioning operations from the outbox.");
+        }
+        return queuedCount;
+    }
+
+    /**
+     * Renews the lease of an operation of the outbox and executes it, and then removes it from the outbox or
+     * schedules its next attempt. The operation is skipped if its lease cannot be renewed, and is postponed without
+     * counting an attempt while an earlier operation on the same entity is pending.
+     */
+    Boolean execute(ProvisioningOutboxEntry entry, ProvisioningThread provisioningThread) throws Exception {
+
+        long leaseExpiryTime = System.currentTimeMillis() + leaseTimeout;
+        if (!outboxDAO.claimEntry(entry.getId(), entry.getNextAttemptTime(), leaseExpiryTime)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Lease of the outbox entry: " + entry.getId() + " expired before the operation was started, "
+                        + "and the entry was claimed or removed by someone else. Skipping the operation.");
+            }
+            return false;
+        }
+        entry.setNextAttemptTime(leaseExpiryTime);
+
+        if (outboxDAO.hasPrecedingEntry(entry)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Outbound provisioning operation of the outbox entry: " + entry.getId() + " waits for an "
+                        + "earlier operation on entity: " + getEntityName(entry) + " to complete.");
+            }
+            reschedule(entry, entry.getAttempts(), System.currentTimeMillis() + retryInterval);
+            return false;
+        }
+
+        ScheduledFuture<?> leaseRenewal = scheduleLeaseRenewal(entry);
+        boolean success = false;
+        try {
+            success = Boolean.TRUE.equals(provisioningThread.call());
+            return success;
+        } finally {
+            if (leaseRenewal != null) {
+                leaseRenewal.cancel(false);
+            }
+            complete(entry, success);
+        }
+    }
+
+    /**
+     * Get the delay before the next attempt of an operation, which doubles with each attempt up to the maximum
+     * retry interval.
+     *
+     * @param attempts Number of attempts made so far.
+     * @return Delay in milliseconds.
+     */
+    long getRetryDelay(int attempts) {
+
+        int exponent = Math.min(Math.max(0, attempts - 1), 30);
+        return Math.min(maxRetryInterval, retryInterval * (1L << exponent));
+    }
+
+    AbstractOutboundProvisioningConnector getConnector(ProvisioningOutboxEntry entry, String tenantDomain)
+            throws IdentityProvisioningException {
+
+        return OutboundProvisioningManager.getInstance().getOutboundProvisioningConnector(entry.getIdPName(),
+                entry.getConnectorType(), tenantDomain);
+    }
+
+    private ProvisioningThread createProvisioningThread(ProvisioningOutboxEntry entry)
+            throws IdentityProvisioningException {
+
+        if (entry.getProvisioningEntity() == null) {
+            throw new IdentityProvisioningException("Provisioning entity of the outbox entry: " + entry.getId()
+                    + " cannot be read.");
+        }
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(entry.getTenantId());
+        AbstractOutboundProvisioningConnector connector = getConnector(entry, tenantDomain);
+        if (connector == null) {
+            throw new IdentityProvisioningException("Provisioning connector: " + entry.getConnectorType()
+                    + " of identity provider: " + entry.getIdPName() + " is no longer available.");
+        }
+        return new ProvisioningThread(entry.getProvisioningEntity(), tenantDomain, entry.getEntityTenantDomain(),
+                connector, entry.getConnectorType(), entry.getIdPName(), provisioningMgtDAO);
+    }
+
+    private void complete(ProvisioningOutboxEntry entry, boolean success) {
+
+        int attempts = entry.getAttempts() + 1;
+        // Wait for a running lease renewal, so that the latest lease is used.
+        synchronized (entry) {
+            try {
+                boolean updated;
+                if (success) {
+                    updated = outboxDAO.deleteEntry(entry.getId(), entry.getNextAttemptTime());
+                } else if (attempts >= maxAttempts) {
+                    updated = outboxDAO.deleteEntry(entry.getId(), entry.getNextAttemptTime());
+                    log.error("Outbound provisioning of entity: " + getEntityName(entry) + " to identity provider: "
+                            + entry.getIdPName() + " failed after " + attempts + " attempts. The operation is "
+                            + "removed from the outbox.");
+                } else {
+                    long nextAttemptTime = System.currentTimeMillis() + getRetryDelay(attempts);
+                    updated = outboxDAO.updateAttempt(entry.getId(), entry.getNextAttemptTime(), attempts,
+                            nextAttemptTime);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Outbound provisioning of entity: " + getEntityName(entry) + " to identity "
+                                + "provider: " + entry.getIdPName() + " failed. Attempt " + (attempts + 1)
+                                + " is scheduled at: " + nextAttemptTime);
+                    }
+                }
+                if (!updated) {
+                    log.warn("Lease of the outbox entry: " + entry.getId() + " was lost while the outbound "
+                            + "provisioning operation of entity: " + getEntityName(entry) + " was running. The "
+                            + "operation may be executed again by the node which claimed it.");
+                }
+            } catch (IdentityProvisioningException e) {
+                log.error("Error while updating the outbox entry: " + entry.getId() + " after an outbound "
+                        + "provisioning attempt.", e);
+            }
+        }
+    }
+
+    private void reschedule(ProvisioningOutboxEntry entry, int attempts, long nextAttemptTime) {
+
+        try {
+            if (outboxDAO.updateAttempt(entry.getId(), entry.getNextAttemptTime(), attempts, nextAttemptTime)) {
+                entry.setNextAttemptTime(nextAttemptTime);
+            }
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while rescheduling the outbox entry: " + entry.getId(), e);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleLeaseRenewal(ProvisioningOutboxEntry entry) {
+
+        ScheduledExecutorService scheduler = leaseRenewalScheduler;
+        if (scheduler == null) {
+            return null;
+        }
+        long renewalInterval = Math.max(1, leaseTimeout / 2);
+        try {
+            return scheduler.scheduleWithFixedDelay(() -> renewLease(entry), renewalInterval, renewalInterval,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private void renewLease(ProvisioningOutboxEntry entry) {
+
+        synchronized (entry) {
+            long leaseExpiryTime = System.currentTimeMillis() + leaseTimeout;
+            try {
+                if (outboxDAO.claimEntry(entry.getId(), entry.getNextAttemptTime(), leaseExpiryTime)) {
+                    entry.setNextAttemptTime(leaseExpiryTime);
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Lease of the outbox entry: " + entry.getId() + " cannot be renewed, since the entry "
+                            + "was claimed or removed by someone else.");
+                }
+            } catch (IdentityProvisioningException e) {
+                log.error("Error while renewing the lease of the outbox entry: " + entry.getId(), e);
+            }
+        }
+    }
+
+    private void drainSafely() {
+
+        try {
+            drain();
+        } catch (IdentityProvisioningException | RuntimeException e) {
+            log.error("Error while draining the outbound provisioning outbox.", e);
+        }
+    }
+
+    private static ThreadFactory newDaemonThreadFactory(String name) {
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String getEntityName(ProvisioningOutboxEntry entry) {
+
+        return entry.getProvisioningEntity() == null ? null : entry.getProvisioningEntity().getEntityName();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+/**
+ * Outbound provisioning operation recorded in the provisioning outbox.
+ */
+public class ProvisioningOutboxEntry {
+
+    private String id;
+    private int tenantId;
+    private String idPName;
+    private String connectorType;
+    private String entityTenantDomain;
+    private ProvisioningEntity provisioningEntity;
+    private int attempts;
+    private long nextAttemptTime;
+    private long createdTime;
+
+    public String getId() {
+
+        return id;
+    }
+
+    public void setId(String id) {
+
+        this.id = id;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    public void setIdPName(String idPName) {
+
+        this.idPName = idPName;
+    }
+
+    public String getConnectorType() {
+
+        return connectorType;
+    }
+
+    public void setConnectorType(String connectorType) {
+
+        this.connectorType = connectorType;
+    }
+
+    /**
+     * Get the tenant domain of the provisioned entity, if it differs from the tenant of the service provider.
+     *
+     * @return Tenant domain of the entity, or null.
+     */
+    public String getEntityTenantDomain() {
+
+        return entityTenantDomain;
+    }
+
+    public void setEntityTenantDomain(String entityTenantDomain) {
+
+        this.entityTenantDomain = entityTenantDomain;
+    }
+
+    /**
+     * Get the entity to provision.
+     *
+     * @return Provisioning entity, or null if the stored entity could not be read.
+     */
+    public ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    public void setProvisioningEntity(ProvisioningEntity provisioningEntity) {
+
+        this.provisioningEntity = provisioningEntity;
+    }
+
+    public int getAttempts() {
+
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+
+        this.attempts = attempts;
+    }
+
+    public long getNextAttemptTime() {
+
+        return nextAttemptTime;
+    }
+
+    public void setNextAttemptTime(long nextAttemptTime) {
+
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public void setCreatedTime(long createdTime) {
+
+        this.createdTime = createdTime;
+    }
+}
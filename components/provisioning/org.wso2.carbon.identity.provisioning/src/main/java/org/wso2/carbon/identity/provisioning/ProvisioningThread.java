@@ -63,6 +63,36 @@ public class ProvisioningThread implements Callable<Boolean> {
         this.provisioningEntityTenantDomainName = provisioningEntityTenantDomainName;
     }
 
+    public ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    public String getTenantDomainName() {
+
+        return tenantDomainName;
+    }
+
+    public String getProvisioningEntityTenantDomainName() {
+
+        return provisioningEntityTenantDomainName;
+    }
+
+    public String getConnectorType() {
+
+        return connectorType;
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    public AbstractOutboundProvisioningConnector getConnector() {
+
+        return connector;
+    }
+
     @Override
     public Boolean call() throws IdentityProvisioningException {
 
@@ -73,49 +103,18 @@ public class ProvisioningThread implements Callable<Boolean> {
 
         try {
 
-            PrivilegedCarbonContext.startTenantFlow();
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                        .setTenantDomain(provisioningEntityTenantDomainName, true);
-            } else {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
-            }
+            startTenantFlow(tenantDomainName, provisioningEntityTenantDomainName,
+                    isUserTenantBasedOutboundProvisioningEnabled);
 
             /* Skip outbound provisioning triggered for JIT provisioning flow, where the JIT outbound is disabled for
                the configured connector. */
-            if (provisioningEntity.isJitProvisioning() && !connector.isJitProvisioningEnabled()) {
+            if (isSkipped()) {
                 return true;
             }
             ProvisionedIdentifier provisionedIdentifier = null;
             // real provisioning happens now.
             provisionedIdentifier = connector.provision(provisioningEntity);
-
-            if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
-                deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
-                        tenantDomainName);
-            } else if (provisioningEntity.getOperation() == ProvisioningOperation.POST) {
-
-                if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
-                    provisionedIdentifier = new ProvisionedIdentifier();
-                    provisionedIdentifier.setIdentifier(UUID.randomUUID().toString());
-                }
-
-                provisioningEntity.setIdentifier(provisionedIdentifier);
-
-                // store provisioned identifier for future reference.
-                storeProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
-                        tenantDomainName);
-            } else if (provisioningEntity.getEntityType() == ProvisioningEntityType.GROUP &&
-                       provisioningEntity.getOperation() == ProvisioningOperation.PUT) {
-
-                String newGroupName = ProvisioningUtil.getAttributeValue(provisioningEntity,
-                                                                IdentityProvisioningConstants.NEW_GROUP_NAME_CLAIM_URI);
-                if(newGroupName != null){
-                    // update provisioned entity name for future reference. this is applicable for only
-                    // group name update
-                    dao.updateProvisionedEntityName(provisioningEntity);
-                }
-            }
+            recordProvisioningResult(provisionedIdentifier);
             success = true;
         } catch (Exception e) {
             String errMsg = "Fail the Provisioning for Entity " + provisioningEntity.getEntityName() +
@@ -123,16 +122,96 @@ public class ProvisioningThread implements Callable<Boolean> {
             log.warn(errMsg);
             throw new IdentityProvisioningException(errMsg, e);
         } finally {
-            PrivilegedCarbonContext.endTenantFlow();
+            endTenantFlow(tenantDomainName, provisioningEntityTenantDomainName,
+                    isUserTenantBasedOutboundProvisioningEnabled);
+        }
+
+        return success;
+    }
 
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
-            }else if (tenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+    /**
+     * Whether the operation is skipped because it was triggered by JIT provisioning and JIT outbound provisioning is
+     * disabled for the connector.
+     *
+     * @return true if the operation has to be skipped.
+     * @throws IdentityProvisioningException If the connector configuration cannot be read.
+     */
+    boolean isSkipped() throws IdentityProvisioningException {
+
+        return provisioningEntity.isJitProvisioning() && !connector.isJitProvisioningEnabled();
+    }
+
+    /**
+     * Stores or removes the provisioned identifier of the entity once the connector has provisioned it.
+     *
+     * @param provisionedIdentifier Identifier returned by the connector.
+     * @throws IdentityApplicationManagementException If the provisioned identifier cannot be updated.
+     */
+    void recordProvisioningResult(ProvisionedIdentifier provisionedIdentifier)
+            throws IdentityApplicationManagementException {
+
+        if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
+            deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
+                    tenantDomainName);
+        } else if (provisioningEntity.getOperation() == ProvisioningOperation.POST) {
+
+            if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
+                provisionedIdentifier = new ProvisionedIdentifier();
+                provisionedIdentifier.setIdentifier(UUID.randomUUID().toString());
+            }
+
+            provisioningEntity.setIdentifier(provisionedIdentifier);
+
+            // store provisioned identifier for future reference.
+            storeProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
+                    tenantDomainName);
+        } else if (provisioningEntity.getEntityType() == ProvisioningEntityType.GROUP &&
+                   provisioningEntity.getOperation() == ProvisioningOperation.PUT) {
+
+            String newGroupName = ProvisioningUtil.getAttributeValue(provisioningEntity,
+                                                            IdentityProvisioningConstants.NEW_GROUP_NAME_CLAIM_URI);
+            if(newGroupName != null){
+                // update provisioned entity name for future reference. this is applicable for only
+                // group name update
+                dao.updateProvisionedEntityName(provisioningEntity);
             }
         }
+    }
+
+    /**
+     * Creates an operation with the same target as this operation, for another entity.
+     *
+     * @param provisioningEntity Entity to provision.
+     * @return Provisioning operation.
+     */
+    ProvisioningThread withProvisioningEntity(ProvisioningEntity provisioningEntity) {
+
+        return new ProvisioningThread(provisioningEntity, tenantDomainName, provisioningEntityTenantDomainName,
+                connector, connectorType, idPName, dao);
+    }
+
+    static void startTenantFlow(String tenantDomainName, String provisioningEntityTenantDomainName,
+                                boolean isUserTenantBasedOutboundProvisioningEnabled) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(provisioningEntityTenantDomainName, true);
+        } else {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        }
+    }
 
-        return success;
+    static void endTenantFlow(String tenantDomainName, String provisioningEntityTenantDomainName,
+                              boolean isUserTenantBasedOutboundProvisioningEnabled) {
+
+        PrivilegedCarbonContext.endTenantFlow();
+
+        if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
+        }else if (tenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        }
     }
 
     /**
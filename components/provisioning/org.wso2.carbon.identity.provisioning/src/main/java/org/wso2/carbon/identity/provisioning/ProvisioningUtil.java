@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_ENABLED;
 import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS;
 
 public class ProvisioningUtil {
@@ -618,4 +619,36 @@ public class ProvisioningUtil {
         }
         return applicationBasedOutboundProvisioningEnabled;
     }
+
+    /**
+     * Check whether the outbound provisioning operations are recorded in the outbox before they are executed.
+     *
+     * @return true if the OutboundProvisioning.Outbox.Enable config is enabled.
+     */
+    public static boolean isOutboundProvisioningOutboxEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(OUTBOUND_PROVISIONING_OUTBOX_ENABLED));
+    }
+
+    /**
+     * Read a numeric outbound provisioning config.
+     *
+     * @param property     Name of the config.
+     * @param defaultValue Value to return if the config is not set or is not a number.
+     * @return Value of the config.
+     */
+    public static long getOutboundProvisioningConfig(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " for the config: " + property + ". Using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
+    }
 }
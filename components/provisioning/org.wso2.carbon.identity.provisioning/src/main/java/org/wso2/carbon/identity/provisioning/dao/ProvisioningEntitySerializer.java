@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.wso2.carbon.core.util.CryptoException;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.ProvisionedIdentifier;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntityType;
+import org.wso2.carbon.identity.provisioning.ProvisioningOperation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the provisioning entities recorded in the outbox to and from a JSON document.
+ * <p>
+ * Only the known fields of an entity are written and read back, so the stored document cannot create objects of
+ * arbitrary types when it is read. Values of the password claim are encrypted with the server's crypto util before
+ * they are written, since the outbox keeps an operation until it succeeds or runs out of attempts.
+ */
+public class ProvisioningEntitySerializer {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String VERSION = "version";
+    private static final String ENTITY_TYPE = "entityType";
+    private static final String OPERATION = "operation";
+    private static final String ENTITY_NAME = "entityName";
+    private static final String IDENTIFIER = "identifier";
+    private static final String JIT_PROVISIONING = "jitProvisioning";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String INBOUND_ATTRIBUTES = "inboundAttributes";
+    private static final String LOCAL_CLAIM_URI = "localClaimUri";
+    private static final String LOCAL_CLAIM_ID = "localClaimId";
+    private static final String REMOTE_CLAIM_URI = "remoteClaimUri";
+    private static final String REMOTE_CLAIM_ID = "remoteClaimId";
+    private static final String DEFAULT_VALUE = "defaultValue";
+    private static final String REQUESTED = "requested";
+    private static final String MANDATORY = "mandatory";
+    private static final String ENCRYPTED = "encrypted";
+    private static final String VALUES = "values";
+
+    private ProvisioningEntitySerializer() {
+
+    }
+
+    /**
+     * Write a provisioning entity as a JSON document.
+     *
+     * @param provisioningEntity Provisioning entity.
+     * @return UTF-8 encoded JSON document.
+     * @throws IdentityProvisioningException If a credential of the entity cannot be encrypted.
+     */
+    public static byte[] serialize(ProvisioningEntity provisioningEntity) throws IdentityProvisioningException {
+
+        JSONObject entityJson = new JSONObject();
+        entityJson.put(VERSION, FORMAT_VERSION);
+        entityJson.put(ENTITY_TYPE, provisioningEntity.getEntityType() == null ? null :
+                provisioningEntity.getEntityType().name());
+        entityJson.put(OPERATION, provisioningEntity.getOperation() == null ? null :
+                provisioningEntity.getOperation().name());
+        entityJson.put(ENTITY_NAME, provisioningEntity.getEntityName());
+        if (provisioningEntity.getIdentifier() != null) {
+            entityJson.put(IDENTIFIER, provisioningEntity.getIdentifier().getIdentifier());
+        }
+        entityJson.put(JIT_PROVISIONING, provisioningEntity.isJitProvisioning());
+
+        if (provisioningEntity.getAttributes() != null) {
+            JSONArray attributesJson = new JSONArray();
+            for (Map.Entry<ClaimMapping, List<String>> attribute : provisioningEntity.getAttributes().entrySet()) {
+                attributesJson.put(toJson(attribute.getKey(), attribute.getValue()));
+            }
+            entityJson.put(ATTRIBUTES, attributesJson);
+        }
+        if (provisioningEntity.getInboundAttributes() != null) {
+            entityJson.put(INBOUND_ATTRIBUTES, new JSONObject(provisioningEntity.getInboundAttributes()));
+        }
+        return entityJson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a provisioning entity written by {@link #serialize(ProvisioningEntity)}.
+     *
+     * @param serializedEntity UTF-8 encoded JSON document.
+     * @return Provisioning entity.
+     * @throws IdentityProvisioningException If the document is not a provisioning entity of a known format version,
+     *                                       or a credential of the entity cannot be decrypted.
+     */
+    public static ProvisioningEntity deserialize(byte[] serializedEntity) throws IdentityProvisioningException {
+
+        try {
+            JSONObject entityJson = new JSONObject(new String(serializedEntity, StandardCharsets.UTF_8));
+            if (entityJson.optInt(VERSION) != FORMAT_VERSION) {
+                throw new IdentityProvisioningException("Unsupported provisioning entity format version: "
+                        + entityJson.opt(VERSION));
+            }
+
+            Map<ClaimMapping, List<String>> attributes = null;
+            JSONArray attributesJson = entityJson.optJSONArray(ATTRIBUTES);
+            if (attributesJson != null) {
+                attributes = new HashMap<>();
+                for (int i = 0; i < attributesJson.length(); i++) {
+                    JSONObject attributeJson = attributesJson.getJSONObject(i);
+                    attributes.put(toClaimMapping(attributeJson), toValues(attributeJson));
+                }
+            }
+
+            ProvisioningEntity provisioningEntity = new ProvisioningEntity(
+                    toEnum(ProvisioningEntityType.class, entityJson.optString(ENTITY_TYPE, null)),
+                    entityJson.optString(ENTITY_NAME, null),
+                    toEnum(ProvisioningOperation.class, entityJson.optString(OPERATION, null)), attributes);
+            String identifier = entityJson.optString(IDENTIFIER, null);
+            if (identifier != null) {
+                ProvisionedIdentifier provisionedIdentifier = new ProvisionedIdentifier();
+                provisionedIdentifier.setIdentifier(identifier);
+                provisioningEntity.setIdentifier(provisionedIdentifier);
+            }
+            provisioningEntity.setJitProvisioning(entityJson.optBoolean(JIT_PROVISIONING));
+
+            JSONObject inboundAttributesJson = entityJson.optJSONObject(INBOUND_ATTRIBUTES);
+            if (inboundAttributesJson != null) {
+                Map<String, String> inboundAttributes = new HashMap<>();
+                for (String key : inboundAttributesJson.keySet()) {
+                    inboundAttributes.put(key, inboundAttributesJson.optString(key, null));
+                }
+                provisioningEntity.setInboundAttributes(inboundAttributes);
+            }
+            return provisioningEntity;
+        } catch (JSONException | IllegalArgumentException e) {
+            throw new IdentityProvisioningException("Invalid provisioning entity document.", e);
+        }
+    }
+
+    private static JSONObject toJson(ClaimMapping claimMapping, List<String> values)
+            throws IdentityProvisioningException {
+
+        JSONObject attributeJson = new JSONObject();
+        Claim localClaim = claimMapping.getLocalClaim();
+        if (localClaim != null) {
+            attributeJson.put(LOCAL_CLAIM_URI, localClaim.getClaimUri());
+            attributeJson.put(LOCAL_CLAIM_ID, localClaim.getClaimId());
+        }
+        Claim remoteClaim = claimMapping.getRemoteClaim();
+        if (remoteClaim != null) {
+            attributeJson.put(REMOTE_CLAIM_URI, remoteClaim.getClaimUri());
+            attributeJson.put(REMOTE_CLAIM_ID, remoteClaim.getClaimId());
+        }
+        attributeJson.put(DEFAULT_VALUE, claimMapping.getDefaultValue());
+        attributeJson.put(REQUESTED, claimMapping.isRequested());
+        attributeJson.put(MANDATORY, claimMapping.isMandatory());
+
+        if (values != null) {
+            boolean encrypted = isCredential(claimMapping);
+            JSONArray valuesJson = new JSONArray();
+            for (String value : values) {
+                valuesJson.put(encrypted && value != null ? encrypt(value) : value);
+            }
+            attributeJson.put(ENCRYPTED, encrypted);
+            attributeJson.put(VALUES, valuesJson);
+        }
+        return attributeJson;
+    }
+
+    private static ClaimMapping toClaimMapping(JSONObject attributeJson) {
+
+        ClaimMapping claimMapping = new ClaimMapping();
+        if (attributeJson.has(LOCAL_CLAIM_URI) || attributeJson.has(LOCAL_CLAIM_ID)) {
+            claimMapping.setLocalClaim(toClaim(attributeJson.optString(LOCAL_CLAIM_URI, null),
+                    attributeJson.optInt(LOCAL_CLAIM_ID)));
+        }
+        if (attributeJson.has(REMOTE_CLAIM_URI) || attributeJson.has(REMOTE_CLAIM_ID)) {
+            claimMapping.setRemoteClaim(toClaim(attributeJson.optString(REMOTE_CLAIM_URI, null),
+                    attributeJson.optInt(REMOTE_CLAIM_ID)));
+        }
+        claimMapping.setDefaultValue(attributeJson.optString(DEFAULT_VALUE, null));
+        claimMapping.setRequested(attributeJson.optBoolean(REQUESTED));
+        claimMapping.setMandatory(attributeJson.optBoolean(MANDATORY));
+        return claimMapping;
+    }
+
+    private static Claim toClaim(String claimUri, int claimId) {
+
+        Claim claim = new Claim();
+        claim.setClaimUri(claimUri);
+        claim.setClaimId(claimId);
+        return claim;
+    }
+
+    private static List<String> toValues(JSONObject attributeJson) throws IdentityProvisioningException {
+
+        JSONArray valuesJson = attributeJson.optJSONArray(VALUES);
+        if (valuesJson == null) {
+            return null;
+        }
+        boolean encrypted = attributeJson.optBoolean(ENCRYPTED);
+        List<String> values = new ArrayList<>(valuesJson.length());
+        for (int i = 0; i < valuesJson.length(); i++) {
+            String value = valuesJson.isNull(i) ? null : valuesJson.getString(i);
+            values.add(encrypted && value != null ? decrypt(value) : value);
+        }
+        return values;
+    }
+
+    private static <T extends Enum<T>> T toEnum(Class<T> type, String name) {
+
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    private static boolean isCredential(ClaimMapping claimMapping) {
+
+        return claimMapping.getLocalClaim() != null && IdentityProvisioningConstants.PASSWORD_CLAIM_URI.equals(
+                claimMapping.getLocalClaim().getClaimUri());
+    }
+
+    private static String encrypt(String value) throws IdentityProvisioningException {
+
+        try {
+            return CryptoUtil.getDefaultCryptoUtil().encryptAndBase64Encode(value.getBytes(StandardCharsets.UTF_8));
+        } catch (CryptoException e) {
+            throw new IdentityProvisioningException("Error while encrypting a credential of the provisioning "
+                    + "entity.", e);
+        }
+    }
+
+    private static String decrypt(String value) throws IdentityProvisioningException {
+
+        try {
+            return new String(CryptoUtil.getDefaultCryptoUtil().base64DecodeAndDecrypt(value),
+                    StandardCharsets.UTF_8);
+        } catch (CryptoException e) {
+            throw new IdentityProvisioningException("Error while decrypting a credential of the provisioning "
+                    + "entity.", e);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.SQLQueries;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningOutboxEntry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DAO of the outbox, which records the pending non-blocking outbound provisioning operations until they are
+ * executed, so that they survive a restart and are retried on failure.
+ */
+public class ProvisioningOutboxDAO {
+
+    private static final Log log = LogFactory.getLog(ProvisioningOutboxDAO.class);
+
+    /**
+     * Adds an operation to the outbox. The provisioning entity is stored as written by
+     * {@link ProvisioningEntitySerializer}, with its credentials encrypted.
+     *
+     * @param entry Outbox entry.
+     * @throws IdentityProvisioningException If an error occurred while adding the entry.
+     */
+    public void addEntry(ProvisioningOutboxEntry entry) throws IdentityProvisioningException {
+
+        byte[] serializedEntity = ProvisioningEntitySerializer.serialize(entry.getProvisioningEntity());
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.ADD_OUTBOX_ENTRY_SQL)) {
+                prepStmt.setString(1, entry.getId());
+                prepStmt.setInt(2, entry.getTenantId());
+                prepStmt.setString(3, entry.getIdPName());
+                prepStmt.setString(4, entry.getConnectorType());
+                prepStmt.setString(5, entry.getEntityTenantDomain());
+                prepStmt.setString(6, entry.getProvisioningEntity().getEntityType().toString());
+                prepStmt.setString(7, entry.getProvisioningEntity().getEntityName());
+                prepStmt.setBytes(8, serializedEntity);
+                prepStmt.setInt(9, entry.getAttempts());
+                prepStmt.setLong(10, entry.getNextAttemptTime());
+                prepStmt.setLong(11, entry.getCreatedTime());
+                prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while adding the outbound provisioning operation of " +
+                    "entity: " + entry.getProvisioningEntity().getEntityName() + " to the outbox.", e);
+        }
+    }
+
+    /**
+     * Get the operations which are due to be attempted, oldest due first.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @param limit       Maximum number of entries to return.
+     * @return Due outbox entries.
+     * @throws IdentityProvisioningException If an error occurred while reading the entries.
+     */
+    public List<ProvisioningOutboxEntry> getDueEntries(long currentTime, int limit)
+            throws IdentityProvisioningException {
+
+        List<ProvisioningOutboxEntry> entries = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.GET_DUE_OUTBOX_ENTRIES_SQL)) {
+            prepStmt.setLong(1, currentTime);
+            prepStmt.setMaxRows(limit);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+                    entry.setId(resultSet.getString(1));
+                    entry.setTenantId(resultSet.getInt(2));
+                    entry.setIdPName(resultSet.getString(3));
+                    entry.setConnectorType(resultSet.getString(4));
+                    entry.setEntityTenantDomain(resultSet.getString(5));
+                    entry.setProvisioningEntity(deserialize(entry.getId(), resultSet.getBytes(6)));
+                    entry.setAttempts(resultSet.getInt(7));
+                    entry.setNextAttemptTime(resultSet.getLong(8));
+                    entry.setCreatedTime(resultSet.getLong(9));
+                    entries.add(entry);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while reading the due outbound provisioning operations " +
+                    "from the outbox.", e);
+        }
+        return entries;
+    }
+
+    /**
+     * Check whether an operation on the same entity and identity provider was recorded before the given entry and is
+     * still in the outbox. The operations of an entity are executed in the order they were recorded, so the given
+     * entry has to wait until the preceding operation succeeds or runs out of attempts.
+     *
+     * @param entry Outbox entry.
+     * @return true if a preceding operation is pending.
+     * @throws IdentityProvisioningException If an error occurred while reading the entries.
+     */
+    public boolean hasPrecedingEntry(ProvisioningOutboxEntry entry) throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.GET_PRECEDING_OUTBOX_ENTRY_SQL)) {
+            prepStmt.setInt(1, entry.getTenantId());
+            prepStmt.setString(2, entry.getIdPName());
+            prepStmt.setString(3, entry.getProvisioningEntity().getEntityType().toString());
+            prepStmt.setString(4, entry.getProvisioningEntity().getEntityName());
+            prepStmt.setLong(5, entry.getCreatedTime());
+            prepStmt.setLong(6, entry.getCreatedTime());
+            prepStmt.setString(7, entry.getId());
+            prepStmt.setMaxRows(1);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while reading the operations preceding the outbox entry: "
+                    + entry.getId(), e);
+        }
+    }
+
+    /**
+     * Claims a due entry by moving its next attempt time, so that it is not picked up by other nodes while it is
+     * being attempted.
+     *
+     * @param id                      Id of the entry.
+     * @param currentNextAttemptTime  Next attempt time of the entry as it was read.
+     * @param leaseExpiryTime         Time after which the entry is due again if the attempt does not complete.
+     * @return true if the entry was claimed, false if it was claimed or removed by someone else.
+     * @throws IdentityProvisioningException If an error occurred while claiming the entry.
+     */
+    public boolean claimEntry(String id, long currentNextAttemptTime, long leaseExpiryTime)
+            throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.CLAIM_OUTBOX_ENTRY_SQL)) {
+                prepStmt.setLong(1, leaseExpiryTime);
+                prepStmt.setString(2, id);
+                prepStmt.setLong(3, currentNextAttemptTime);
+                int updatedCount = prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return updatedCount == 1;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while claiming the outbox entry: " + id, e);
+        }
+    }
+
+    /**
+     * Records a failed attempt of an entry and schedules the next attempt, if the entry is still held with the given
+     * lease.
+     *
+     * @param id                     Id of the entry.
+     * @param currentNextAttemptTime Lease expiry time held for the entry.
+     * @param attempts               Number of attempts made so far.
+     * @param nextAttemptTime        Time of the next attempt.
+     * @return true if the entry was updated, false if it was claimed or removed by someone else.
+     * @throws IdentityProvisioningException If an error occurred while updating the entry.
+     */
+    public boolean updateAttempt(String id, long currentNextAttemptTime, int attempts, long nextAttemptTime)
+            throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.UPDATE_OUTBOX_ENTRY_ATTEMPT_SQL)) {
+                prepStmt.setInt(1, attempts);
+                prepStmt.setLong(2, nextAttemptTime);
+                prepStmt.setString(3, id);
+                prepStmt.setLong(4, currentNextAttemptTime);
+                int updatedCount = prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return updatedCount == 1;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while updating the outbox entry: " + id, e);
+        }
+    }
+
+    /**
+     * Removes an entry from the outbox, if it is still held with the given lease.
+     *
+     * @param id                     Id of the entry.
+     * @param currentNextAttemptTime Lease expiry time held for the entry.
+     * @return true if the entry was removed, false if it was claimed or removed by someone else.
+     * @throws IdentityProvisioningException If an error occurred while removing the entry.
+     */
+    public boolean deleteEntry(String id, long currentNextAttemptTime) throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.DELETE_OUTBOX_ENTRY_SQL)) {
+                prepStmt.setString(1, id);
+                prepStmt.setLong(2, currentNextAttemptTime);
+                int deletedCount = prepStmt.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return deletedCount == 1;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while removing the outbox entry: " + id, e);
+        }
+    }
+
+    /**
+     * Get the number of operations in the outbox.
+     *
+     * @return Number of outbox entries.
+     * @throws IdentityProvisioningException If an error occurred while counting the entries.
+     */
+    public int getEntryCount() throws IdentityProvisioningException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.GET_OUTBOX_ENTRY_COUNT_SQL);
+             ResultSet resultSet = prepStmt.executeQuery()) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while counting the outbox entries.", e);
+        }
+    }
+
+    private ProvisioningEntity deserialize(String id, byte[] serializedEntity) {
+
+        if (serializedEntity == null) {
+            return null;
+        }
+        try {
+            return ProvisioningEntitySerializer.deserialize(serializedEntity);
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while reading the provisioning entity of the outbox entry: " + id, e);
+            return null;
+        }
+    }
+}
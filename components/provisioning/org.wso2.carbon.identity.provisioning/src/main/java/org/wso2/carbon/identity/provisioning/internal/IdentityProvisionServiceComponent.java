@@ -32,6 +32,10 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
+import org.wso2.carbon.identity.provisioning.ProvisioningBatcher;
+import org.wso2.carbon.identity.provisioning.ProvisioningExecutor;
+import org.wso2.carbon.identity.provisioning.ProvisioningOutbox;
+import org.wso2.carbon.identity.provisioning.ProvisioningUtil;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningErrorListener;
@@ -115,6 +119,12 @@ public class IdentityProvisionServiceComponent {
             if (log.isDebugEnabled()) {
                 log.debug("Identity provisioning error event listener registered successfully");
             }
+            if (ProvisioningUtil.isOutboundProvisioningOutboxEnabled()) {
+                ProvisioningOutbox.getInstance().start();
+                if (log.isDebugEnabled()) {
+                    log.debug("Outbound provisioning outbox started successfully");
+                }
+            }
         } catch (Throwable e) {
             log.error("Error while initiating identity provisioning connector framework", e);
         }
@@ -125,6 +135,10 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+
+        ProvisioningBatcher.shutdownInstance();
+        ProvisioningOutbox.shutdownInstance();
+        ProvisioningExecutor.shutdownInstance();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
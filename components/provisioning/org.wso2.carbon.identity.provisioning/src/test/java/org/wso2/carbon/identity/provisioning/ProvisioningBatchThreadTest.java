@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test class for ProvisioningBatchThread test cases.
+ */
+public class ProvisioningBatchThreadTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String IDP_NAME = "testIdP";
+
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private AbstractOutboundProvisioningConnector connector;
+
+    @BeforeMethod
+    public void setUp() {
+
+        privilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(mock(PrivilegedCarbonContext.class));
+        identityUtil = mockStatic(IdentityUtil.class);
+        connector = mock(AbstractOutboundProvisioningConnector.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        privilegedCarbonContext.close();
+    }
+
+    @Test
+    public void testBatchProvisioning() throws Exception {
+
+        ProvisioningThread alice = createOperation("alice");
+        ProvisioningThread bob = createOperation("bob");
+        ProvisionedIdentifier aliceIdentifier = new ProvisionedIdentifier();
+        ProvisionedIdentifier bobIdentifier = new ProvisionedIdentifier();
+        when(connector.provisionBatch(anyList())).thenReturn(Arrays.asList(aliceIdentifier, bobIdentifier));
+
+        assertTrue(new ProvisioningBatchThread(Arrays.asList(alice, bob)).call());
+
+        verify(alice).recordProvisioningResult(aliceIdentifier);
+        verify(bob).recordProvisioningResult(bobIdentifier);
+        verify(connector, never()).provision(any());
+    }
+
+    @Test
+    public void testPartialBatchFailureRecordsProvisionedEntities() throws Exception {
+
+        // The default batch provisioning of the connector provisions the entities one by one.
+        connector = mock(AbstractOutboundProvisioningConnector.class, CALLS_REAL_METHODS);
+        ProvisioningThread alice = createOperation("alice");
+        ProvisioningThread bob = createOperation("bob");
+        ProvisioningThread carol = createOperation("carol");
+        ProvisionedIdentifier aliceIdentifier = new ProvisionedIdentifier();
+        ProvisionedIdentifier carolIdentifier = new ProvisionedIdentifier();
+        when(connector.provision(alice.getProvisioningEntity())).thenReturn(aliceIdentifier);
+        when(connector.provision(bob.getProvisioningEntity()))
+                .thenThrow(new IdentityProvisioningException("Provisioning failed."));
+        when(connector.provision(carol.getProvisioningEntity())).thenReturn(carolIdentifier);
+
+        try {
+            new ProvisioningBatchThread(Arrays.asList(alice, bob, carol)).call();
+            fail("The failed entity of the batch should be reported.");
+        } catch (IdentityProvisioningException e) {
+            assertTrue(e.getMessage().contains("1 of 3"));
+        }
+
+        verify(alice).recordProvisioningResult(aliceIdentifier);
+        verify(bob, never()).recordProvisioningResult(any());
+        verify(carol).recordProvisioningResult(carolIdentifier);
+        verify(connector).provision(bob.getProvisioningEntity());
+    }
+
+    @Test
+    public void testBatchFailureFallsBackToEntityProvisioning() throws Exception {
+
+        ProvisioningThread alice = createOperation("alice");
+        ProvisioningThread bob = createOperation("bob");
+        ProvisionedIdentifier aliceIdentifier = new ProvisionedIdentifier();
+        ProvisionedIdentifier bobIdentifier = new ProvisionedIdentifier();
+        when(connector.provisionBatch(anyList())).thenThrow(new IdentityProvisioningException("Batch failed."));
+        when(connector.provision(alice.getProvisioningEntity())).thenReturn(aliceIdentifier);
+        when(connector.provision(bob.getProvisioningEntity())).thenReturn(bobIdentifier);
+
+        assertTrue(new ProvisioningBatchThread(Arrays.asList(alice, bob)).call());
+
+        verify(alice).recordProvisioningResult(aliceIdentifier);
+        verify(bob).recordProvisioningResult(bobIdentifier);
+    }
+
+    @Test
+    public void testDefaultBatchProvisioningReportsProvisionedEntities() throws Exception {
+
+        ProvisioningEntity alice = new ProvisioningEntity(ProvisioningEntityType.USER, "alice",
+                ProvisioningOperation.POST, new HashMap<>());
+        ProvisioningEntity bob = new ProvisioningEntity(ProvisioningEntityType.USER, "bob",
+                ProvisioningOperation.POST, new HashMap<>());
+        ProvisionedIdentifier aliceIdentifier = new ProvisionedIdentifier();
+        connector = mock(AbstractOutboundProvisioningConnector.class, CALLS_REAL_METHODS);
+        IdentityProvisioningException failure = new IdentityProvisioningException("Provisioning failed.");
+        when(connector.provision(alice)).thenReturn(aliceIdentifier);
+        when(connector.provision(bob)).thenThrow(failure);
+
+        try {
+            connector.provisionBatch(Arrays.asList(bob, alice));
+            fail("The failed entity of the batch should be reported.");
+        } catch (ProvisioningBatchException e) {
+            assertSame(e.getCause(), failure);
+            assertEquals(e.getProvisionedIdentifiers(), Collections.singletonMap(1, aliceIdentifier));
+        }
+    }
+
+    private ProvisioningThread createOperation(String userName) throws Exception {
+
+        ProvisioningThread operation = mock(ProvisioningThread.class);
+        ProvisioningEntity provisioningEntity = new ProvisioningEntity(ProvisioningEntityType.USER, userName,
+                ProvisioningOperation.POST, new HashMap<>());
+        when(operation.getProvisioningEntity()).thenReturn(provisioningEntity);
+        when(operation.getTenantDomainName()).thenReturn(TENANT_DOMAIN);
+        when(operation.getIdPName()).thenReturn(IDP_NAME);
+        when(operation.getConnector()).thenReturn(connector);
+        when(operation.isSkipped()).thenReturn(false);
+        return operation;
+    }
+}
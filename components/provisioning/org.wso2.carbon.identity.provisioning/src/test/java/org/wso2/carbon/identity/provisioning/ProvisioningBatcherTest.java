@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for ProvisioningBatcher test cases.
+ */
+public class ProvisioningBatcherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String IDP_NAME = "testIdP";
+    private static final String CONNECTOR_TYPE = "scim";
+    private static final long WINDOW = 60000L;
+
+    private ProvisioningExecutor executor;
+    private AbstractOutboundProvisioningConnector connector;
+    private ProvisioningBatcher batcher;
+
+    @BeforeMethod
+    public void setUp() {
+
+        executor = mock(ProvisioningExecutor.class);
+        when(executor.submit(anyString(), anyString(), any())).thenReturn(true);
+        connector = mock(AbstractOutboundProvisioningConnector.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalesceUpdates() {
+
+        ProvisioningEntity put = createUserEntity("alice", ProvisioningOperation.PUT, "givenname", "Alice");
+        ProvisioningEntity patch = createUserEntity("alice", ProvisioningOperation.PATCH, "lastname", "Smith");
+        ProvisioningEntity merged = ProvisioningBatcher.coalesce(put, patch);
+        assertEquals(merged.getOperation(), ProvisioningOperation.PUT);
+        assertEquals(merged.getAttributes().size(), 2);
+
+        ProvisioningEntity secondPatch = createUserEntity("alice", ProvisioningOperation.PATCH, "givenname", "Al");
+        merged = ProvisioningBatcher.coalesce(patch, secondPatch);
+        assertEquals(merged.getOperation(), ProvisioningOperation.PATCH);
+        assertEquals(merged.getAttributes().get(claim("givenname")), Collections.singletonList("Al"));
+
+        ProvisioningEntity post = createUserEntity("alice", ProvisioningOperation.POST, "givenname", "Alice");
+        merged = ProvisioningBatcher.coalesce(post, patch);
+        assertEquals(merged.getOperation(), ProvisioningOperation.POST);
+        assertEquals(merged.getAttributes().size(), 2);
+    }
+
+    @Test
+    public void testCoalesceDelete() {
+
+        ProvisioningEntity post = createUserEntity("alice", ProvisioningOperation.POST, "givenname", "Alice");
+        ProvisioningEntity put = createUserEntity("alice", ProvisioningOperation.PUT, "givenname", "Alice");
+        ProvisioningEntity delete = createUserEntity("alice", ProvisioningOperation.DELETE, "givenname", "Alice");
+
+        assertTrue(ProvisioningBatcher.isCancelledOut(post, delete));
+        assertFalse(ProvisioningBatcher.isCancelledOut(put, delete));
+        assertSame(ProvisioningBatcher.coalesce(put, delete), delete);
+        assertNull(ProvisioningBatcher.coalesce(delete, post));
+        assertNull(ProvisioningBatcher.coalesce(put, post));
+    }
+
+    @Test
+    public void testOperationsAreCoalescedWithinBatch() {
+
+        batcher = new ProvisioningBatcher(WINDOW, 100, executor);
+        batcher.submit(createThread(createUserEntity("alice", ProvisioningOperation.PUT, "givenname", "Alice")));
+        batcher.submit(createThread(createUserEntity("alice", ProvisioningOperation.PATCH, "lastname", "Smith")));
+        batcher.submit(createThread(createUserEntity("bob", ProvisioningOperation.POST, "givenname", "Bob")));
+        batcher.submit(createThread(createUserEntity("bob", ProvisioningOperation.DELETE, "givenname", "Bob")));
+        assertEquals(batcher.getPendingOperationCount(), 1);
+        assertEquals(batcher.getCoalescedCount(), 2);
+
+        batcher.shutdown();
+        ArgumentCaptor<Callable> operation = ArgumentCaptor.forClass(Callable.class);
+        verify(executor, times(1)).submit(eq(TENANT_DOMAIN), eq(IDP_NAME), operation.capture());
+        ProvisioningEntity entity = ((ProvisioningThread) operation.getValue()).getProvisioningEntity();
+        assertEquals(entity.getEntityName(), "alice");
+        assertEquals(entity.getOperation(), ProvisioningOperation.PUT);
+        assertEquals(entity.getAttributes().size(), 2);
+    }
+
+    @Test
+    public void testGroupOperationIsNotReordered() {
+
+        batcher = new ProvisioningBatcher(WINDOW, 100, executor);
+        batcher.submit(createThread(createUserEntity("alice", ProvisioningOperation.PUT, "givenname", "Alice")));
+        batcher.submit(createThread(new ProvisioningEntity(ProvisioningEntityType.GROUP, "admins",
+                ProvisioningOperation.PUT, new HashMap<>())));
+        batcher.submit(createThread(createUserEntity("alice", ProvisioningOperation.DELETE, "givenname", "Alice")));
+        assertEquals(batcher.getPendingOperationCount(), 3);
+        assertEquals(batcher.getCoalescedCount(), 0);
+    }
+
+    @Test
+    public void testFullBatchIsDispatchedToBatchConnector() {
+
+        when(connector.isBatchProvisioningSupported()).thenReturn(true);
+        batcher = new ProvisioningBatcher(WINDOW, 2, executor);
+        batcher.submit(createThread(createUserEntity("alice", ProvisioningOperation.POST, "givenname", "Alice")));
+        batcher.submit(createThread(createUserEntity("bob", ProvisioningOperation.POST, "givenname", "Bob")));
+
+        ArgumentCaptor<Callable> operation = ArgumentCaptor.forClass(Callable.class);
+        verify(executor, times(1)).submit(eq(TENANT_DOMAIN), eq(IDP_NAME), operation.capture());
+        assertTrue(operation.getValue() instanceof ProvisioningBatchThread);
+        List<ProvisioningThread> operations = ((ProvisioningBatchThread) operation.getValue()).getProvisioningThreads();
+        assertEquals(operations.size(), 2);
+        assertEquals(batcher.getBatchCount(), 1);
+        assertEquals(batcher.getPendingOperationCount(), 0);
+    }
+
+    @Test
+    public void testSubmitIsRejectedAfterShutdown() {
+
+        batcher = new ProvisioningBatcher(WINDOW, 100, executor);
+        batcher.shutdown();
+        assertFalse(batcher.submit(createThread(createUserEntity("alice", ProvisioningOperation.PUT, "givenname",
+                "Alice"))));
+    }
+
+    private ProvisioningThread createThread(ProvisioningEntity entity) {
+
+        return new ProvisioningThread(entity, TENANT_DOMAIN, TENANT_DOMAIN, connector, CONNECTOR_TYPE, IDP_NAME, null);
+    }
+
+    private static ProvisioningEntity createUserEntity(String userName, ProvisioningOperation operation,
+                                                       String claim, String value) {
+
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        attributes.put(claim(claim), Collections.singletonList(value));
+        return new ProvisioningEntity(ProvisioningEntityType.USER, userName, operation, attributes);
+    }
+
+    private static ClaimMapping claim(String claim) {
+
+        return ClaimMapping.build("http://wso2.org/claims/" + claim, "http://wso2.org/claims/" + claim, null, false);
+    }
+}
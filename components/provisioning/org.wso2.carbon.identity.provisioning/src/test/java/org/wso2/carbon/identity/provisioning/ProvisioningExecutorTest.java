@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for ProvisioningExecutor test cases.
+ */
+public class ProvisioningExecutorTest {
+
+    private static final String TENANT_A = "a.com";
+    private static final String TENANT_B = "b.com";
+    private static final String IDP_NAME = "testIdP";
+
+    private ProvisioningExecutor executor;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTenantsAreServedInRoundRobinOrder() throws Exception {
+
+        executor = new ProvisioningExecutor(1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(TENANT_A, IDP_NAME, () -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(4);
+        for (String name : Arrays.asList("a1", "a2", "a3")) {
+            executor.submit(TENANT_A, IDP_NAME, () -> record(executionOrder, name, completed));
+        }
+        executor.submit(TENANT_B, IDP_NAME, () -> record(executionOrder, "b1", completed));
+        assertEquals(executor.getPendingTaskCount(), 4);
+        assertEquals(executor.getPendingTaskCount(TENANT_A), 3);
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(executionOrder, Arrays.asList("a1", "b1", "a2", "a3"));
+        assertEquals(executor.getPendingTaskCount(), 0);
+    }
+
+    @Test
+    public void testSubmitIsRejectedWhenQueueIsFull() throws Exception {
+
+        executor = new ProvisioningExecutor(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(TENANT_A, IDP_NAME, () -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(executor.submit(TENANT_A, IDP_NAME, () -> true));
+        assertFalse(executor.submit(TENANT_B, IDP_NAME, () -> true));
+        assertEquals(executor.getRejectedCount(TENANT_B, IDP_NAME), 1);
+        release.countDown();
+    }
+
+    @Test
+    public void testCountersOfIdentityProvider() throws Exception {
+
+        executor = new ProvisioningExecutor(2, 10);
+        CountDownLatch completed = new CountDownLatch(3);
+        executor.submit(TENANT_A, IDP_NAME, () -> record(new ArrayList<>(), "success", completed));
+        executor.submit(TENANT_A, IDP_NAME, () -> {
+            completed.countDown();
+            return false;
+        });
+        executor.submit(TENANT_A, IDP_NAME, () -> {
+            completed.countDown();
+            throw new IdentityProvisioningException("Provisioning failed.");
+        });
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        // The counters are updated right after an operation returns.
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getCompletedCount(TENANT_A, IDP_NAME) + executor.getFailedCount(TENANT_A, IDP_NAME) < 3
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        executor.shutdown();
+
+        assertEquals(executor.getSubmittedCount(TENANT_A, IDP_NAME), 3);
+        assertEquals(executor.getCompletedCount(TENANT_A, IDP_NAME), 1);
+        assertEquals(executor.getFailedCount(TENANT_A, IDP_NAME), 2);
+        assertEquals(executor.getSubmittedCount(TENANT_B, IDP_NAME), 0);
+        assertTrue(executor.getMaxLagInMillis(TENANT_A, IDP_NAME) >= executor.getAverageLagInMillis(TENANT_A,
+                IDP_NAME));
+        assertFalse(executor.submit(TENANT_A, IDP_NAME, () -> true));
+    }
+
+    @Test
+    public void testWorkerSurvivesErrorOfOperation() throws Exception {
+
+        executor = new ProvisioningExecutor(1, 10);
+        CountDownLatch completed = new CountDownLatch(1);
+        executor.submit(TENANT_A, IDP_NAME, () -> {
+            throw new LinkageError("Connector class cannot be linked.");
+        });
+        executor.submit(TENANT_A, IDP_NAME, () -> {
+            completed.countDown();
+            return true;
+        });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(executor.getFailedCount(TENANT_A, IDP_NAME), 1);
+    }
+
+    private static boolean record(List<String> executionOrder, String name, CountDownLatch completed) {
+
+        executionOrder.add(name);
+        completed.countDown();
+        return true;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningOutboxDAO;
+
+import java.util.HashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL;
+
+/**
+ * Test class for ProvisioningOutbox test cases.
+ */
+public class ProvisioningOutboxTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String IDP_NAME = "testIdP";
+    private static final String CONNECTOR_TYPE = "SCIM2";
+    private static final String ENTRY_ID = "entry-1";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private ProvisioningOutboxDAO outboxDAO;
+    private ProvisioningExecutor executor;
+    private ProvisioningThread provisioningThread;
+    private ProvisioningOutbox outbox;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS)).thenReturn("3");
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_OUTBOX_RETRY_INTERVAL))
+                .thenReturn("1000");
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_OUTBOX_MAX_RETRY_INTERVAL))
+                .thenReturn("5000");
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(-1234);
+
+        outboxDAO = mock(ProvisioningOutboxDAO.class);
+        executor = mock(ProvisioningExecutor.class);
+        provisioningThread = mock(ProvisioningThread.class);
+        when(provisioningThread.getTenantDomainName()).thenReturn(TENANT_DOMAIN);
+        when(provisioningThread.getIdPName()).thenReturn(IDP_NAME);
+        when(provisioningThread.getConnectorType()).thenReturn(CONNECTOR_TYPE);
+        when(provisioningThread.getProvisioningEntity()).thenReturn(new ProvisioningEntity(
+                ProvisioningEntityType.USER, "PRIMARY/John", ProvisioningOperation.POST, new HashMap<>()));
+        outbox = new ProvisioningOutbox(outboxDAO, executor);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        identityTenantUtil.close();
+    }
+
+    @Test
+    public void testGetRetryDelay() {
+
+        assertEquals(outbox.getRetryDelay(1), 1000);
+        assertEquals(outbox.getRetryDelay(2), 2000);
+        assertEquals(outbox.getRetryDelay(3), 4000);
+        assertEquals(outbox.getRetryDelay(4), 5000);
+        assertEquals(outbox.getRetryDelay(100), 5000);
+    }
+
+    @Test
+    public void testSubmitRecordsOperationBeforeQueuing() throws Exception {
+
+        when(executor.submit(eq(TENANT_DOMAIN), eq(IDP_NAME), any())).thenReturn(true);
+
+        assertTrue(outbox.submit(provisioningThread));
+        verify(outboxDAO).addEntry(any(ProvisioningOutboxEntry.class));
+        verify(executor).submit(eq(TENANT_DOMAIN), eq(IDP_NAME), any());
+        verify(outboxDAO, never()).updateAttempt(anyString(), anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testRejectedOperationIsLeftInOutbox() throws Exception {
+
+        when(executor.submit(eq(TENANT_DOMAIN), eq(IDP_NAME), any())).thenReturn(false);
+
+        long startTime = System.currentTimeMillis();
+        assertTrue(outbox.submit(provisioningThread));
+        verify(outboxDAO).updateAttempt(anyString(), anyLong(), eq(0), longThat(time -> time >= startTime + 1000));
+        verify(outboxDAO, never()).deleteEntry(anyString(), anyLong());
+    }
+
+    @Test
+    public void testSubmitFallsBackWhenOperationCannotBeRecorded() throws Exception {
+
+        doThrow(new IdentityProvisioningException("Database error.")).when(outboxDAO)
+                .addEntry(any(ProvisioningOutboxEntry.class));
+
+        assertFalse(outbox.submit(provisioningThread));
+        verify(executor, never()).submit(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testSuccessfulOperationIsRemovedFromOutbox() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+        when(provisioningThread.call()).thenReturn(true);
+
+        assertTrue(outbox.execute(createEntry(0), provisioningThread));
+        verify(outboxDAO).deleteEntry(eq(ENTRY_ID), anyLong());
+    }
+
+    @Test
+    public void testFailedOperationIsRescheduledWithBackoff() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+        when(provisioningThread.call()).thenReturn(false);
+
+        long startTime = System.currentTimeMillis();
+        assertFalse(outbox.execute(createEntry(1), provisioningThread));
+        verify(outboxDAO).updateAttempt(eq(ENTRY_ID), anyLong(), eq(2), longThat(time -> time >= startTime + 2000));
+        verify(outboxDAO, never()).deleteEntry(anyString(), anyLong());
+    }
+
+    @Test
+    public void testOperationIsRemovedAfterMaxAttempts() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+        when(provisioningThread.call()).thenThrow(new IdentityProvisioningException("Provisioning failed."));
+
+        try {
+            outbox.execute(createEntry(2), provisioningThread);
+            fail("Failure of the provisioning operation should be propagated.");
+        } catch (IdentityProvisioningException e) {
+            verify(outboxDAO).deleteEntry(eq(ENTRY_ID), anyLong());
+            verify(outboxDAO, never()).updateAttempt(anyString(), anyLong(), anyInt(), anyLong());
+        }
+    }
+
+    @Test
+    public void testLeaseIsRenewedWhenOperationStarts() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+        when(provisioningThread.call()).thenReturn(true);
+        ProvisioningOutboxEntry entry = createEntry(0);
+        entry.setNextAttemptTime(1000L);
+
+        long startTime = System.currentTimeMillis();
+        assertTrue(outbox.execute(entry, provisioningThread));
+        verify(outboxDAO).claimEntry(eq(ENTRY_ID), eq(1000L), longThat(time -> time >= startTime));
+    }
+
+    @Test
+    public void testOperationIsSkippedWhenLeaseIsLost() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(false);
+
+        assertFalse(outbox.execute(createEntry(0), provisioningThread));
+        verify(provisioningThread, never()).call();
+        verify(outboxDAO, never()).deleteEntry(anyString(), anyLong());
+        verify(outboxDAO, never()).updateAttempt(anyString(), anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testLeaseHeldAtCompletionIsUsed() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+        when(provisioningThread.call()).thenReturn(true);
+        ProvisioningOutboxEntry entry = createEntry(0);
+
+        assertTrue(outbox.execute(entry, provisioningThread));
+        verify(outboxDAO).deleteEntry(ENTRY_ID, entry.getNextAttemptTime());
+    }
+
+    @Test
+    public void testOperationWaitsForPrecedingOperationOfEntity() throws Exception {
+
+        when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+        when(outboxDAO.hasPrecedingEntry(any(ProvisioningOutboxEntry.class))).thenReturn(true);
+
+        long startTime = System.currentTimeMillis();
+        assertFalse(outbox.execute(createEntry(1), provisioningThread));
+        verify(provisioningThread, never()).call();
+        verify(outboxDAO).updateAttempt(eq(ENTRY_ID), anyLong(), eq(1), longThat(time -> time >= startTime + 1000));
+        verify(outboxDAO, never()).deleteEntry(anyString(), anyLong());
+    }
+
+    @Test
+    public void testLeaseIsRenewedWhileOperationRuns() throws Exception {
+
+        identityUtil.when(() -> IdentityUtil.getProperty(OUTBOUND_PROVISIONING_OUTBOX_LEASE_TIMEOUT)).thenReturn("100");
+        ProvisioningOutbox leasedOutbox = new ProvisioningOutbox(outboxDAO, executor);
+        leasedOutbox.start();
+        try {
+            when(outboxDAO.claimEntry(eq(ENTRY_ID), anyLong(), anyLong())).thenReturn(true);
+            when(provisioningThread.call()).thenAnswer(invocation -> {
+                Thread.sleep(400);
+                return true;
+            });
+            ProvisioningOutboxEntry entry = createEntry(0);
+
+            assertTrue(leasedOutbox.execute(entry, provisioningThread));
+            // The lease taken when the operation started, and at least one renewal while it was running.
+            verify(outboxDAO, atLeast(2)).claimEntry(eq(ENTRY_ID), anyLong(), anyLong());
+            verify(outboxDAO).deleteEntry(ENTRY_ID, entry.getNextAttemptTime());
+        } finally {
+            leasedOutbox.shutdown();
+        }
+    }
+
+    private ProvisioningOutboxEntry createEntry(int attempts) {
+
+        ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+        entry.setId(ENTRY_ID);
+        entry.setIdPName(IDP_NAME);
+        entry.setConnectorType(CONNECTOR_TYPE);
+        entry.setAttempts(attempts);
+        entry.setProvisioningEntity(new ProvisioningEntity(ProvisioningEntityType.USER, "PRIMARY/John",
+                ProvisioningOperation.POST, new HashMap<>()));
+        return entry;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.ProvisionedIdentifier;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntityType;
+import org.wso2.carbon.identity.provisioning.ProvisioningOperation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for ProvisioningEntitySerializer test cases.
+ */
+public class ProvisioningEntitySerializerTest {
+
+    private static final String PASSWORD = "Password@123";
+    private static final String ENCRYPTED_PASSWORD = "ZW5jcnlwdGVk";
+
+    private MockedStatic<CryptoUtil> cryptoUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        CryptoUtil defaultCryptoUtil = mock(CryptoUtil.class);
+        when(defaultCryptoUtil.encryptAndBase64Encode(any(byte[].class))).thenReturn(ENCRYPTED_PASSWORD);
+        when(defaultCryptoUtil.base64DecodeAndDecrypt(eq(ENCRYPTED_PASSWORD)))
+                .thenReturn(PASSWORD.getBytes(StandardCharsets.UTF_8));
+        cryptoUtil = mockStatic(CryptoUtil.class);
+        cryptoUtil.when(CryptoUtil::getDefaultCryptoUtil).thenReturn(defaultCryptoUtil);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        cryptoUtil.close();
+    }
+
+    @Test
+    public void testEntityIsReadBack() throws Exception {
+
+        ClaimMapping emailMapping = ClaimMapping.build("http://wso2.org/claims/emailaddress", "emails", null, true);
+        ClaimMapping passwordMapping = ClaimMapping.build(IdentityProvisioningConstants.PASSWORD_CLAIM_URI, null,
+                null, false);
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        attributes.put(emailMapping, Collections.singletonList("john@wso2.com"));
+        attributes.put(passwordMapping, Collections.singletonList(PASSWORD));
+        ProvisioningEntity entity = new ProvisioningEntity(ProvisioningEntityType.USER, "PRIMARY/John",
+                ProvisioningOperation.POST, attributes);
+        ProvisionedIdentifier identifier = new ProvisionedIdentifier();
+        identifier.setIdentifier("remote-id");
+        entity.setIdentifier(identifier);
+        entity.setJitProvisioning(true);
+        entity.setInboundAttributes(Collections.singletonMap("http://wso2.org/claims/givenname", "John"));
+
+        byte[] serializedEntity = ProvisioningEntitySerializer.serialize(entity);
+        String document = new String(serializedEntity, StandardCharsets.UTF_8);
+        assertFalse(document.contains(PASSWORD), "Credentials should not be stored in plain text.");
+        assertTrue(document.contains(ENCRYPTED_PASSWORD));
+
+        ProvisioningEntity readEntity = ProvisioningEntitySerializer.deserialize(serializedEntity);
+        assertEquals(readEntity.getEntityType(), ProvisioningEntityType.USER);
+        assertEquals(readEntity.getOperation(), ProvisioningOperation.POST);
+        assertEquals(readEntity.getEntityName(), "PRIMARY/John");
+        assertEquals(readEntity.getIdentifier().getIdentifier(), "remote-id");
+        assertTrue(readEntity.isJitProvisioning());
+        assertEquals(readEntity.getAttributes().get(emailMapping), Collections.singletonList("john@wso2.com"));
+        assertEquals(readEntity.getAttributes().get(passwordMapping), Collections.singletonList(PASSWORD));
+        assertEquals(readEntity.getInboundAttributes(), entity.getInboundAttributes());
+    }
+
+    @Test(expectedExceptions = IdentityProvisioningException.class)
+    public void testUnknownFormatIsRejected() throws Exception {
+
+        ProvisioningEntitySerializer.deserialize("{\"version\":2}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = IdentityProvisioningException.class)
+    public void testUnknownEntityTypeIsRejected() throws Exception {
+
+        ProvisioningEntitySerializer.deserialize("{\"version\":1,\"entityType\":\"java.lang.Runtime\"}"
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = IdentityProvisioningException.class)
+    public void testJavaSerializedEntityIsRejected() throws Exception {
+
+        ProvisioningEntitySerializer.deserialize(new byte[]{(byte) 0xAC, (byte) 0xED, 0x00, 0x05});
+    }
+}
@@ -44,6 +44,7 @@ import org.wso2.carbon.identity.role.mgt.core.RoleConstants;
 import org.wso2.carbon.identity.role.mgt.core.RoleConstants.RoleTableColumns;
 import org.wso2.carbon.identity.role.mgt.core.UserBasicInfo;
 import org.wso2.carbon.identity.role.mgt.core.internal.RoleManagementServiceComponentHolder;
+import org.wso2.carbon.identity.role.mgt.core.listener.RoleChangeListener;
 import org.wso2.carbon.identity.role.mgt.core.util.GroupIDResolver;
 import org.wso2.carbon.identity.role.mgt.core.util.RoleManagementUtils;
 import org.wso2.carbon.identity.role.mgt.core.util.UserIDResolver;
@@ -227,6 +228,12 @@ public class RoleDAOImpl implements RoleDAO {
                     "Role already exist for the role name: " + roleName);
         }
 
+        if (CollectionUtils.isNotEmpty(userList)) {
+            notifyUserListOfRoleUpdated(userList, tenantId);
+        }
+        if (CollectionUtils.isNotEmpty(groupList)) {
+            notifyRolesUpdated(tenantId);
+        }
         return new RoleBasicInfo(roleID, roleName);
     }
 
@@ -653,6 +660,14 @@ public class RoleDAOImpl implements RoleDAO {
                 clearUserRolesCache(username, tenantId);
             }
         }
+        List<String> updatedUserIDs = new ArrayList<>();
+        if (newUserIDList != null) {
+            updatedUserIDs.addAll(newUserIDList);
+        }
+        if (deletedUserIDList != null) {
+            updatedUserIDs.addAll(deletedUserIDList);
+        }
+        notifyUserListOfRoleUpdated(updatedUserIDs, tenantId);
         return new RoleBasicInfo(roleID, roleName);
     }
 
@@ -779,6 +794,7 @@ public class RoleDAOImpl implements RoleDAO {
                     String.format(errorMessage, roleName, tenantDomain), e);
         }
         clearUserRolesCacheByTenant(tenantId);
+        notifyRolesUpdated(tenantId);
         return new RoleBasicInfo(roleID, roleName);
     }
 
@@ -910,6 +926,7 @@ public class RoleDAOImpl implements RoleDAO {
         }
 
         clearUserRolesCacheByTenant(tenantId);
+        notifyRolesUpdated(tenantId);
         return new RoleBasicInfo(roleID, newRoleName);
     }
 
@@ -1003,6 +1020,7 @@ public class RoleDAOImpl implements RoleDAO {
                     String.format(message, roleName, tenantDomain), e);
         }
         clearUserRolesCacheByTenant(tenantId);
+        notifyRolesUpdated(tenantId);
     }
 
     protected void deleteSCIMRole(String roleName, String tenantDomain) throws IdentityRoleManagementException {
@@ -1302,7 +1320,9 @@ public class RoleDAOImpl implements RoleDAO {
         }
         try {
             getUserAdminProxy().setRoleUIPermission(roleName, permissions.toArray(new String[0]));
-            clearUserRolesCacheByTenant(IdentityTenantUtil.getTenantId(tenantDomain));
+            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+            clearUserRolesCacheByTenant(tenantId);
+            notifyRolesUpdated(tenantId);
             return new RoleBasicInfo(roleID, roleName);
         } catch (UserAdminException e) {
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
@@ -1349,6 +1369,7 @@ public class RoleDAOImpl implements RoleDAO {
         }
 
         clearUserRolesCache(userName, tenantId);
+        notifyUserListOfRoleUpdated(Collections.singletonList(userID), tenantId);
     }
 
     protected String getUserNameByID(String id, String tenantDomain) throws IdentityRoleManagementException {
@@ -1400,6 +1421,7 @@ public class RoleDAOImpl implements RoleDAO {
                     String.format(errorMessage, groupName, tenantDomain), e);
         }
         clearUserRolesCacheByTenant(tenantId);
+        notifyRolesUpdated(tenantId);
     }
 
     protected String getGroupNameByID(String id, String tenantDomain) throws IdentityRoleManagementException {
@@ -1685,6 +1707,33 @@ public class RoleDAOImpl implements RoleDAO {
         authorizationCache.clearCacheByUser(tenantId, usernameWithDomain);
     }
 
+    private void notifyUserListOfRoleUpdated(List<String> userIDs, int tenantId) {
+
+        if (CollectionUtils.isEmpty(userIDs)) {
+            return;
+        }
+        for (RoleChangeListener listener :
+                RoleManagementServiceComponentHolder.getInstance().getRoleChangeListeners()) {
+            try {
+                listener.onUserListOfRoleUpdated(userIDs, tenantId);
+            } catch (RuntimeException e) {
+                LOG.error("Error while notifying the role change listener: " + listener.getClass().getName(), e);
+            }
+        }
+    }
+
+    private void notifyRolesUpdated(int tenantId) {
+
+        for (RoleChangeListener listener :
+                RoleManagementServiceComponentHolder.getInstance().getRoleChangeListeners()) {
+            try {
+                listener.onRolesUpdated(tenantId);
+            } catch (RuntimeException e) {
+                LOG.error("Error while notifying the role change listener: " + listener.getClass().getName(), e);
+            }
+        }
+    }
+
     private boolean isUserRoleCacheEnabled(int tenantId, String userStoreDomain) {
 
         return Boolean.parseBoolean(getUserStoreProperty(
@@ -30,6 +30,7 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.role.mgt.core.RoleManagementService;
+import org.wso2.carbon.identity.role.mgt.core.listener.RoleChangeListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -109,4 +110,27 @@ public class RoleManagementServiceComponent {
             log.debug("IdentityEventService set in Role Management bundle");
         }
     }
+
+    @Reference(
+            name = "role.change.listener",
+            service = RoleChangeListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetRoleChangeListener"
+    )
+    protected void setRoleChangeListener(RoleChangeListener roleChangeListener) {
+
+        RoleManagementServiceComponentHolder.getInstance().addRoleChangeListener(roleChangeListener);
+        if (log.isDebugEnabled()) {
+            log.debug("RoleChangeListener set in Role Management bundle");
+        }
+    }
+
+    protected void unsetRoleChangeListener(RoleChangeListener roleChangeListener) {
+
+        RoleManagementServiceComponentHolder.getInstance().removeRoleChangeListener(roleChangeListener);
+        if (log.isDebugEnabled()) {
+            log.debug("RoleChangeListener unset in Role Management bundle");
+        }
+    }
 }
@@ -18,8 +18,12 @@
 package org.wso2.carbon.identity.role.mgt.core.internal;
 
 import org.wso2.carbon.identity.event.services.IdentityEventService;
+import org.wso2.carbon.identity.role.mgt.core.listener.RoleChangeListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Static class to hold services discovered via OSGI on this component,
  * solely for the use within this component.
@@ -33,6 +37,8 @@ public class RoleManagementServiceComponentHolder {
 
     private IdentityEventService identityEventService;
 
+    private final List<RoleChangeListener> roleChangeListeners = new CopyOnWriteArrayList<>();
+
     private RoleManagementServiceComponentHolder() {
 
     }
@@ -74,4 +80,34 @@ public class RoleManagementServiceComponentHolder {
 
         this.identityEventService = identityEventService;
     }
+
+    /**
+     * Get the listeners notified after roles or role assignments are changed.
+     *
+     * @return List of RoleChangeListener instances.
+     */
+    public List<RoleChangeListener> getRoleChangeListeners() {
+
+        return roleChangeListeners;
+    }
+
+    /**
+     * Add a listener notified after roles or role assignments are changed.
+     *
+     * @param roleChangeListener RoleChangeListener instance.
+     */
+    public void addRoleChangeListener(RoleChangeListener roleChangeListener) {
+
+        roleChangeListeners.add(roleChangeListener);
+    }
+
+    /**
+     * Remove a listener notified after roles or role assignments are changed.
+     *
+     * @param roleChangeListener RoleChangeListener instance.
+     */
+    public void removeRoleChangeListener(RoleChangeListener roleChangeListener) {
+
+        roleChangeListeners.remove(roleChangeListener);
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.mgt.core.listener;
+
+import java.util.List;
+
+/**
+ * Listener notified after roles or role assignments are written through the role management service.
+ * Components which cache role data read from the same tables, such as the role management service V2, use it to
+ * clear those caches.
+ */
+public interface RoleChangeListener {
+
+    /**
+     * Invoked after users are assigned to or removed from a role.
+     *
+     * @param userIDs  IDs of the users whose roles changed.
+     * @param tenantId Tenant id.
+     */
+    default void onUserListOfRoleUpdated(List<String> userIDs, int tenantId) {
+
+    }
+
+    /**
+     * Invoked after a role is renamed or deleted, or after the groups or permissions of a role are changed.
+     *
+     * @param tenantId Tenant id.
+     */
+    default void onRolesUpdated(int tenantId) {
+
+    }
+}
@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.role.mgt.core.RoleBasicInfo;
 import org.wso2.carbon.identity.role.mgt.core.UserBasicInfo;
 import org.wso2.carbon.identity.role.mgt.core.dao.util.DAOUtils;
 import org.wso2.carbon.identity.role.mgt.core.internal.RoleManagementServiceComponentHolder;
+import org.wso2.carbon.identity.role.mgt.core.listener.RoleChangeListener;
 import org.wso2.carbon.user.api.AuthorizationManager;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserRealm;
@@ -68,6 +69,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -483,6 +485,54 @@ public class RoleDAOTest {
         }
     }
 
+    @Test
+    public void testRoleChangeListenerNotifiedOnRoleWrites() throws Exception {
+
+        RoleChangeListener roleChangeListener = mock(RoleChangeListener.class);
+        try (Connection connection1 = DAOUtils.getConnection(DB_NAME);
+                Connection connection2 = DAOUtils.getConnection(DB_NAME);
+                Connection connection3 = DAOUtils.getConnection(DB_NAME);
+                Connection connection4 = DAOUtils.getConnection(DB_NAME);
+                Connection connection5 = DAOUtils.getConnection(DB_NAME);
+                Connection connection6 = DAOUtils.getConnection(DB_NAME)) {
+
+            RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                    .thenReturn(connection1);
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection2);
+            identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn("PRIMARY");
+            identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+            identityTenantUtil.when(()->IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+            RoleBasicInfo role = addRole("role1", roleDAO);
+            RoleManagementServiceComponentHolder.getInstance().addRoleChangeListener(roleChangeListener);
+
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                    .thenReturn(connection3);
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection4);
+            doReturn(userNamesList).when(roleDAO).getUserNamesByIDs(eq(userIDsList), anyString());
+            doReturn(emptyList).when(roleDAO).getUserNamesByIDs(eq(null), anyString());
+            userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+            userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+            userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+            roleDAO.updateUserListOfRole(role.getId(), userIDsList, null, SAMPLE_TENANT_DOMAIN);
+            verify(roleChangeListener).onUserListOfRoleUpdated(userIDsList, SAMPLE_TENANT_ID);
+
+            mockRealmConfiguration();
+            userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                    .thenReturn(false);
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                    .thenReturn(connection5);
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection6);
+            AuthorizationManager authorizationManager = mock(JDBCAuthorizationManager.class);
+            when(mockUserRealm.getAuthorizationManager()).thenReturn(authorizationManager);
+            doNothing().when(authorizationManager).clearRoleAuthorization(nullable(String.class));
+            roleDAO.deleteRole(role.getId(), SAMPLE_TENANT_DOMAIN);
+            verify(roleChangeListener).onRolesUpdated(SAMPLE_TENANT_ID);
+        } finally {
+            RoleManagementServiceComponentHolder.getInstance().removeRoleChangeListener(roleChangeListener);
+        }
+    }
+
     @Test
     public void testGetGroupListOfRole() throws Exception {
 
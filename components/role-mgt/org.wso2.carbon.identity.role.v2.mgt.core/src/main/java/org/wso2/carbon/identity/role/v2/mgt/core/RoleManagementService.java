@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.role.v2.mgt.core;
 
 import org.apache.commons.lang.NotImplementedException;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.GroupBasicInfo;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
@@ -122,6 +123,23 @@ public interface RoleManagementService {
         throw new NotImplementedException("getRoles method is not implemented");
     }
 
+    /**
+     * Retrieve a page of roles matching the filter using a cursor instead of an offset.
+     *
+     * @param filter       Filter for the Role ID.
+     * @param cursor       Cursor returned with the previous page, or null for the first page.
+     * @param limit        Limit value.
+     * @param tenantDomain Tenant domain.
+     * @param includeCount Include the total count of the matching roles.
+     * @return A page of roles.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default CursorPage<RoleBasicInfo> getRoles(String filter, String cursor, Integer limit, String tenantDomain,
+                                               boolean includeCount) throws IdentityRoleManagementException {
+
+        throw new NotImplementedException("getRoles method is not implemented");
+    }
+
     /**
      * Retrieve the given role.
      *
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.resource.mgt.APIResourceMgtException;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
@@ -276,6 +277,19 @@ public class RoleManagementServiceImpl implements RoleManagementService {
         return rolesList;
     }
 
+    @Override
+    public CursorPage<RoleBasicInfo> getRoles(String filter, String cursor, Integer limit, String tenantDomain,
+                                              boolean includeCount) throws IdentityRoleManagementException {
+
+        List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
+        CursorPage<RoleBasicInfo> rolesPage = roleDAO.getRoles(expressionNodes, cursor, limit, tenantDomain,
+                includeCount);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("%s get a page of filtered roles successfully.", getUser(tenantDomain)));
+        }
+        return rolesPage;
+    }
+
     @Override
     public Role getRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Cache key for lookups by a set of ids, such as the group ids of a user or the role ids of a token. The ids are
+ * de-duplicated and sorted, so the same set of ids maps to the same key irrespective of their order.
+ */
+public class IdListCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 3958672140527365908L;
+
+    private final List<String> ids;
+
+    public IdListCacheKey(Collection<String> ids) {
+
+        this.ids = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(ids)));
+    }
+
+    public List<String> getIds() {
+
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        return ids.equals(((IdListCacheKey) o).ids);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + ids.hashCode();
+        return result;
+    }
+}
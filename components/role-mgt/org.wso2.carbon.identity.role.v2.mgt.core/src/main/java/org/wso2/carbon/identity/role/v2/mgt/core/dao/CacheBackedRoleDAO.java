@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.model.CursorPage;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.IdListCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.PermissionListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.PermissionListOfRolesCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleListOfGroupsCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleListOfUserCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleNameByIdCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleNameCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserIdCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.GroupBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.UserBasicInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached DAO layer for the role management. Caches the role of user, role of groups, permission of roles and role
+ * name lookups, which are read on every authorization and token issuance, and invalidates them on the writes that
+ * change them. The caches are tenant scoped and are invalidated across the cluster.
+ * <p>
+ * Roles of a user and role names are invalidated per entry. Roles of groups and permissions of roles are cached
+ * against a set of ids, hence a write to a role clears those caches of the tenant. Permissions and roles of a shared
+ * role are derived from its main role, hence writes to a main role also clear the caches of the organizations the
+ * role is shared with.
+ */
+public class CacheBackedRoleDAO implements RoleDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedRoleDAO.class);
+
+    private final RoleDAO roleDAO;
+    private final RoleListOfUserCache roleListOfUserCache;
+    private final RoleListOfGroupsCache roleListOfGroupsCache;
+    private final PermissionListOfRolesCache permissionListOfRolesCache;
+    private final RoleNameByIdCache roleNameByIdCache;
+
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    private final AtomicLong cacheMissCount = new AtomicLong();
+
+    public CacheBackedRoleDAO(RoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+        roleListOfUserCache = RoleListOfUserCache.getInstance();
+        roleListOfGroupsCache = RoleListOfGroupsCache.getInstance();
+        permissionListOfRolesCache = PermissionListOfRolesCache.getInstance();
+        roleNameByIdCache = RoleNameByIdCache.getInstance();
+    }
+
+    @Override
+    public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
+                                 List<Permission> permissions, String audience, String audienceId,
+                                 String tenantDomain) throws IdentityRoleManagementException {
+
+        RoleBasicInfo roleBasicInfo = roleDAO.addRole(roleName, userList, groupList, permissions, audience,
+                audienceId, tenantDomain);
+        clearRoleListOfUserCache(userList, IdentityTenantUtil.getTenantId(tenantDomain));
+        if (CollectionUtils.isNotEmpty(groupList)) {
+            roleListOfGroupsCache.clear(tenantDomain);
+        }
+        return roleBasicInfo;
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder,
+                                        String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder, String tenantDomain,
+                               List<String> requiredAttributes) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset,
+                                        String sortBy, String sortOrder, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset, String sortBy,
+                               String sortOrder, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public CursorPage<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, String cursor, Integer limit,
+                                              String tenantDomain, boolean includeCount)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, cursor, limit, tenantDomain, includeCount);
+    }
+
+    @Override
+    public Role getRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public Role getRole(String roleId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId);
+    }
+
+    @Override
+    public List<Permission> getPermissionListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getPermissionListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return roleDAO.getPermissionListOfRoles(roleIds, tenantDomain);
+        }
+        IdListCacheKey cacheKey = new IdListCacheKey(roleIds);
+        PermissionListCacheEntry entry = permissionListOfRolesCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry != null) {
+            onCacheHit("permissions of roles: " + roleIds, tenantDomain);
+            return new ArrayList<>(entry.getPermissions());
+        }
+        onCacheMiss("permissions of roles: " + roleIds, tenantDomain);
+        List<String> permissions = roleDAO.getPermissionListOfRoles(roleIds, tenantDomain);
+        if (permissions != null) {
+            permissionListOfRolesCache.addToCache(cacheKey, new PermissionListCacheEntry(permissions), tenantDomain);
+        }
+        return permissions;
+    }
+
+    @Override
+    public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
+                                           List<Permission> deletedPermissions, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.updatePermissionListOfRole(roleId, addedPermissions, deletedPermissions, tenantDomain);
+        permissionListOfRolesCache.clear(tenantDomain);
+        for (int sharedTenantId : getSharedRoleTenantIds(roleId, tenantDomain)) {
+            permissionListOfRolesCache.clear(sharedTenantId);
+        }
+    }
+
+    @Override
+    public List<IdpGroup> getIdpGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getIdpGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateIdpGroupListOfRole(String roleId, List<IdpGroup> newGroupList, List<IdpGroup> deletedGroupList,
+                                         String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateIdpGroupListOfRole(roleId, newGroupList, deletedGroupList, tenantDomain);
+    }
+
+    @Override
+    public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        // The shared roles are deleted along with the role, hence resolve them beforehand.
+        Set<Integer> sharedTenantIds = getSharedRoleTenantIds(roleId, tenantDomain);
+        roleDAO.deleteRole(roleId, tenantDomain);
+        clearCaches(IdentityTenantUtil.getTenantId(tenantDomain));
+        for (int sharedTenantId : sharedTenantIds) {
+            clearCaches(sharedTenantId);
+        }
+    }
+
+    @Override
+    public void updateRoleName(String roleId, String newRoleName, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.updateRoleName(roleId, newRoleName, tenantDomain);
+        roleNameByIdCache.clearCacheEntry(new RoleIdCacheKey(roleId), tenantDomain);
+        // Cached role lists carry the role name.
+        roleListOfUserCache.clear(tenantDomain);
+        roleListOfGroupsCache.clear(tenantDomain);
+        for (int sharedTenantId : getSharedRoleTenantIds(roleId, tenantDomain)) {
+            clearCaches(sharedTenantId);
+        }
+    }
+
+    @Override
+    public List<UserBasicInfo> getUserListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getUserListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateGroupListOfRole(String roleId, List<String> newGroupIDList, List<String> deletedGroupIDList,
+                                      String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateGroupListOfRole(roleId, newGroupIDList, deletedGroupIDList, tenantDomain);
+        roleListOfGroupsCache.clear(tenantDomain);
+    }
+
+    @Override
+    public List<GroupBasicInfo> getGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateUserListOfRole(String roleId, List<String> newUserIDList, List<String> deletedUserIDList,
+                                     String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateUserListOfRole(roleId, newUserIDList, deletedUserIDList, tenantDomain);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        clearRoleListOfUserCache(newUserIDList, tenantId);
+        clearRoleListOfUserCache(deletedUserIDList, tenantId);
+    }
+
+    @Override
+    public String getRoleNameByID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        RoleIdCacheKey cacheKey = new RoleIdCacheKey(roleId);
+        RoleNameCacheEntry entry = roleNameByIdCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry != null) {
+            onCacheHit("name of role: " + roleId, tenantDomain);
+            return entry.getRoleName();
+        }
+        onCacheMiss("name of role: " + roleId, tenantDomain);
+        String roleName = roleDAO.getRoleNameByID(roleId, tenantDomain);
+        if (roleName != null) {
+            roleNameByIdCache.addToCache(cacheKey, new RoleNameCacheEntry(roleName), tenantDomain);
+        }
+        return roleName;
+    }
+
+    @Override
+    public String getRoleIdByName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdByName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleID(roleId, tenantDomain);
+    }
+
+    @Override
+    public RoleBasicInfo getRoleBasicInfoById(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleBasicInfoById(roleId, tenantDomain);
+    }
+
+    @Override
+    public Set<String> getSystemRoles() {
+
+        return roleDAO.getSystemRoles();
+    }
+
+    @Override
+    public int getRolesCount(String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(tenantDomain);
+    }
+
+    @Override
+    public int getRolesCount(List<ExpressionNode> expressionNodes, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(expressionNodes, tenantDomain);
+    }
+
+    @Override
+    public Role getRoleWithoutUsers(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleWithoutUsers(roleId, tenantDomain);
+    }
+
+    @Override
+    public void addMainRoleToSharedRoleRelationship(String mainRoleUUID, String sharedRoleUUID,
+                                                    String mainRoleTenantDomain, String sharedRoleTenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.addMainRoleToSharedRoleRelationship(mainRoleUUID, sharedRoleUUID, mainRoleTenantDomain,
+                sharedRoleTenantDomain);
+        // Permissions of the shared role are resolved through the main role from now on.
+        permissionListOfRolesCache.clear(sharedRoleTenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        UserIdCacheKey cacheKey = new UserIdCacheKey(userId);
+        RoleBasicInfoListCacheEntry entry = roleListOfUserCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry != null) {
+            onCacheHit("roles of user: " + userId, tenantDomain);
+            return copyOf(entry.getRoles());
+        }
+        onCacheMiss("roles of user: " + userId, tenantDomain);
+        List<RoleBasicInfo> roles = roleDAO.getRoleListOfUser(userId, tenantDomain);
+        if (roles != null) {
+            roleListOfUserCache.addToCache(cacheKey, new RoleBasicInfoListCacheEntry(copyOf(roles)), tenantDomain);
+        }
+        return roles;
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (CollectionUtils.isEmpty(groupIds)) {
+            return roleDAO.getRoleListOfGroups(groupIds, tenantDomain);
+        }
+        IdListCacheKey cacheKey = new IdListCacheKey(groupIds);
+        RoleBasicInfoListCacheEntry entry = roleListOfGroupsCache.getValueFromCache(cacheKey, tenantDomain);
+        if (entry != null) {
+            onCacheHit("roles of groups: " + groupIds, tenantDomain);
+            return copyOf(entry.getRoles());
+        }
+        onCacheMiss("roles of groups: " + groupIds, tenantDomain);
+        List<RoleBasicInfo> roles = roleDAO.getRoleListOfGroups(groupIds, tenantDomain);
+        if (roles != null) {
+            roleListOfGroupsCache.addToCache(cacheKey, new RoleBasicInfoListCacheEntry(copyOf(roles)), tenantDomain);
+        }
+        return roles;
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdListOfUser(userId, tenantDomain);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdListOfGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public void deleteRolesByApplication(String applicationId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.deleteRolesByApplication(applicationId, tenantDomain);
+        clearCaches(IdentityTenantUtil.getTenantId(tenantDomain));
+    }
+
+    @Override
+    public Map<String, String> getMainRoleToSharedRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getMainRoleToSharedRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getSharedRoleToMainRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedRoleToMainRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public List<String> getAssociatedApplicationIdsByRoleId(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getAssociatedApplicationIdsByRoleId(roleId, tenantDomain);
+    }
+
+    @Override
+    public int getRoleAudienceRefId(String audience, String audienceId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleAudienceRefId(audience, audienceId);
+    }
+
+    @Override
+    public List<RoleDTO> getSharedHybridRoles(String roleId, int tenantId) throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedHybridRoles(roleId, tenantId);
+    }
+
+    @Override
+    public boolean isSharedRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isSharedRole(roleId, tenantDomain);
+    }
+
+    /**
+     * Clear the cached roles of the given users.
+     *
+     * @param userIds  User ids.
+     * @param tenantId Tenant id.
+     */
+    public void clearRoleListOfUserCache(Collection<String> userIds, int tenantId) {
+
+        if (userIds == null) {
+            return;
+        }
+        for (String userId : userIds) {
+            roleListOfUserCache.clearCacheEntry(new UserIdCacheKey(userId), tenantId);
+        }
+    }
+
+    /**
+     * Clear the cached permissions of the roles of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearPermissionListOfRolesCache(String tenantDomain) {
+
+        permissionListOfRolesCache.clear(tenantDomain);
+    }
+
+    /**
+     * Clear all the role caches of a tenant.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void clearCaches(int tenantId) {
+
+        roleListOfUserCache.clear(tenantId);
+        roleListOfGroupsCache.clear(tenantId);
+        permissionListOfRolesCache.clear(tenantId);
+        roleNameByIdCache.clear(tenantId);
+    }
+
+    public long getCacheHitCount() {
+
+        return cacheHitCount.get();
+    }
+
+    public long getCacheMissCount() {
+
+        return cacheMissCount.get();
+    }
+
+    private Set<Integer> getSharedRoleTenantIds(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        List<RoleDTO> sharedRoles = roleDAO.getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        if (CollectionUtils.isEmpty(sharedRoles)) {
+            return Collections.emptySet();
+        }
+        Set<Integer> tenantIds = new HashSet<>();
+        for (RoleDTO sharedRole : sharedRoles) {
+            tenantIds.add(sharedRole.getTenantId());
+        }
+        return tenantIds;
+    }
+
+    /**
+     * Copy a list of roles, so that the callers can not modify the cached roles.
+     */
+    private List<RoleBasicInfo> copyOf(List<RoleBasicInfo> roles) {
+
+        List<RoleBasicInfo> copy = new ArrayList<>(roles.size());
+        for (RoleBasicInfo role : roles) {
+            RoleBasicInfo roleCopy = new RoleBasicInfo(role.getId(), role.getName());
+            roleCopy.setAudience(role.getAudience());
+            roleCopy.setAudienceId(role.getAudienceId());
+            roleCopy.setAudienceName(role.getAudienceName());
+            copy.add(roleCopy);
+        }
+        return copy;
+    }
+
+    private void onCacheHit(String lookup, String tenantDomain) {
+
+        cacheHitCount.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache hit for the " + lookup + " in tenant: " + tenantDomain);
+        }
+    }
+
+    private void onCacheMiss(String lookup, String tenantDomain) {
+
+        cacheMissCount.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache miss for the " + lookup + " in tenant: " + tenantDomain);
+        }
+    }
+}
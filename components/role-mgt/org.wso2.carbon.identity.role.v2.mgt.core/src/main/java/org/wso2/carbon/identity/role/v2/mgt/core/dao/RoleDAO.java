@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.role.v2.mgt.core.dao;
 
 import org.apache.commons.lang.NotImplementedException;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.GroupBasicInfo;
@@ -124,6 +125,24 @@ public interface RoleDAO {
         throw new NotImplementedException("getRoles method is not implemented");
     }
 
+    /**
+     * Retrieve a page of roles matching the provided filter using a cursor instead of an offset.
+     *
+     * @param expressionNodes List of expressionNodes.
+     * @param cursor          Cursor returned with the previous page, or null for the first page.
+     * @param limit           Limit value.
+     * @param tenantDomain    Tenant domain.
+     * @param includeCount    Include the total count of the matching roles.
+     * @return A page of roles.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default CursorPage<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, String cursor, Integer limit,
+                                               String tenantDomain, boolean includeCount)
+            throws IdentityRoleManagementException {
+
+        throw new NotImplementedException("getRoles method is not implemented");
+    }
+
     /**
      * Retrieve the given role.
      *
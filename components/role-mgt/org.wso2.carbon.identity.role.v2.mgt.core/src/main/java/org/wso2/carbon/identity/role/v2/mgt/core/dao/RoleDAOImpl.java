@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
@@ -81,6 +82,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -187,6 +189,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_TENANT_DOMAIN_BY_ID;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_UM_ID_BY_UUID;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SCOPE_BY_ROLES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SHARED_HYBRID_ROLE_WITH_MAIN_ROLE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SHARED_ROLES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_SHARED_ROLE_MAIN_ROLE_ID_SQL;
@@ -347,6 +350,76 @@ public class RoleDAOImpl implements RoleDAO {
         return getFilteredRolesBasicInfo(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain);
     }
 
+    @Override
+    public CursorPage<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, String cursor, Integer limit,
+                                              String tenantDomain, boolean includeCount)
+            throws IdentityRoleManagementException {
+
+        int beforeId;
+        try {
+            beforeId = CursorPage.decodeCursor(cursor, Integer.MAX_VALUE);
+        } catch (IllegalArgumentException e) {
+            throw new IdentityRoleManagementClientException(INVALID_REQUEST.getCode(),
+                    "Invalid cursor requested for role pagination. cursor: " + cursor, e);
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        FilterQueryBuilder filterQueryBuilder = new FilterQueryBuilder();
+        appendFilterQuery(expressionNodes, filterQueryBuilder);
+        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
+        limit = validateLimit(limit);
+        List<RoleDTO> roleDTOs = new ArrayList<>();
+        int lastRoleId = 0;
+        boolean hasNextPage = false;
+
+        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
+            String query = String.format(getDBTypeSpecificRolesRetrievalQueryBeforeId(
+                    connection.getMetaData().getDatabaseProductName()), filterQueryBuilder.getFilterQuery());
+            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query,
+                    RoleConstants.RoleTableColumns.UM_ID)) {
+                statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
+                statement.setInt(RoleConstants.CURSOR_ID, beforeId);
+                // Read one extra row to find out whether there is a next page.
+                statement.setInt(RoleConstants.LIMIT, limit + 1);
+                if (filterAttributeValue != null) {
+                    for (Map.Entry<String, String> entry : filterAttributeValue.entrySet()) {
+                        statement.setString(entry.getKey(), entry.getValue());
+                    }
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    // Stop reading after one row past the page, which only tells whether there is a next page.
+                    while (resultSet.next()) {
+                        if (roleDTOs.size() == limit) {
+                            hasNextPage = true;
+                            break;
+                        }
+                        RoleDTO roleDTO = new RoleDTO(appendInternalDomain(resultSet.getString(1)),
+                                resultSet.getInt(5));
+                        roleDTO.setId(resultSet.getString(2));
+                        roleDTO.setRoleAudience(new RoleAudience(resultSet.getString(3), resultSet.getString(4)));
+                        roleDTOs.add(roleDTO);
+                        lastRoleId = resultSet.getInt(6);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityRoleManagementServerException(RoleConstants.Error.UNEXPECTED_SERVER_ERROR.getCode(),
+                    "Error while listing roles in tenantDomain: " + tenantDomain, e);
+        }
+
+        List<RoleBasicInfo> roles = new ArrayList<>();
+        for (RoleDTO roleDTO : roleDTOs) {
+            RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleDTO.getId(), removeInternalDomain(roleDTO.getName()));
+            RoleAudience roleAudience = roleDTO.getRoleAudience();
+            roleBasicInfo.setAudience(roleAudience.getAudience());
+            roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
+            roles.add(roleBasicInfo);
+        }
+        setAudienceNames(roles, tenantDomain);
+        String nextCursor = hasNextPage ? CursorPage.encodeCursor(lastRoleId) : null;
+        Integer totalCount = includeCount ? getFilteredRolesCount(expressionNodes, tenantDomain) : null;
+        return new CursorPage<>(roles, nextCursor, totalCount);
+    }
+
     @Override
     public int getRolesCount(List<ExpressionNode> expressionNodes, String tenantDomain)
             throws IdentityRoleManagementException {
@@ -593,19 +666,62 @@ public class RoleDAOImpl implements RoleDAO {
     public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        List<String> permissions = new ArrayList<>();
-        List<Permission> permissionList = new ArrayList<>();
-        for (String roleId : roleIds) {
-            if (isOrganization(tenantDomain) && isSharedRole(roleId, tenantDomain)) {
-                permissionList.addAll(getPermissionsOfSharedRole(roleId, tenantDomain));
-            } else {
-                permissionList.addAll(getPermissions(roleId, tenantDomain));
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return new ArrayList<>();
+        }
+        Set<String> permissions = new LinkedHashSet<>();
+        if (isOrganization(tenantDomain)) {
+            // Shared roles get the sub organization permissions of their main roles.
+            Map<String, String> sharedRoleToMainRoleMappings =
+                    getSharedRoleToMainRoleMappingsBySubOrg(roleIds, tenantDomain);
+            List<String> nonSharedRoleIds = roleIds.stream()
+                    .filter(roleId -> !sharedRoleToMainRoleMappings.containsKey(roleId))
+                    .collect(Collectors.toList());
+            permissions.addAll(getPermissionNamesOfRoles(nonSharedRoleIds, tenantDomain));
+            List<String> mainRoleIds = sharedRoleToMainRoleMappings.values().stream().distinct()
+                    .collect(Collectors.toList());
+            for (String permission : getPermissionNamesOfRoles(mainRoleIds, tenantDomain)) {
+                if (isValidSubOrgPermission(permission)) {
+                    permissions.add(permission);
+                }
             }
+        } else {
+            permissions.addAll(getPermissionNamesOfRoles(roleIds, tenantDomain));
+        }
+        return new ArrayList<>(permissions);
+    }
+
+    /**
+     * Get the permission names of a list of roles with a single query.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Permission names of the roles, in the order returned by the database.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private List<String> getPermissionNamesOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        List<String> permissions = new ArrayList<>();
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return permissions;
         }
+        String query = GET_SCOPE_BY_ROLES_SQL + String.join(", ", Collections.nCopies(roleIds.size(), "?")) + ")";
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
 
-        List<Permission> distinctPermissions = permissionList.stream().distinct().collect(Collectors.toList());
-        for (Permission permission : distinctPermissions) {
-            permissions.add(permission.getName());
+            for (int i = 0; i < roleIds.size(); i++) {
+                statement.setString(i + 1, roleIds.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    permissions.add(resultSet.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving permissions for role ids: " + String.join(", ", roleIds)
+                    + " and tenantDomain : " + tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
         return permissions;
     }
@@ -1102,18 +1218,18 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                     roles.add(roleBasicInfo);
                 }
             }
-            if (!isOrganization(tenantDomain)) {
-                roles.add(getEveryOneRole(tenantDomain));
-            }
         } catch (SQLException e) {
             String errorMessage =
                     "Error while retrieving role list of user by id: " + userId + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
+        setAudienceNames(roles, tenantDomain);
+        if (!isOrganization(tenantDomain)) {
+            roles.add(getEveryOneRole(tenantDomain));
+        }
         return roles;
     }
 
@@ -1214,7 +1330,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1225,9 +1340,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        setAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
     }
 
     @Override
@@ -1251,7 +1368,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1262,9 +1378,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        setAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
     }
 
     @Override
@@ -2397,6 +2515,31 @@ public class RoleDAOImpl implements RoleDAO {
         return null;
     }
 
+    /**
+     * Set the audience names of a list of roles. The name of each distinct audience is resolved only once, since the
+     * roles of a user or a listing usually share a few audiences.
+     *
+     * @param roles        Roles.
+     * @param tenantDomain Tenant Domain.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private void setAudienceNames(List<RoleBasicInfo> roles, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, String> audienceNames = new HashMap<>();
+        for (RoleBasicInfo role : roles) {
+            if (!ORGANIZATION.equalsIgnoreCase(role.getAudience())) {
+                continue;
+            }
+            String audienceName = audienceNames.get(role.getAudienceId());
+            if (audienceName == null) {
+                audienceName = getAudienceName(role.getAudience(), role.getAudienceId(), tenantDomain);
+                audienceNames.put(role.getAudienceId(), audienceName);
+            }
+            role.setAudienceName(audienceName);
+        }
+    }
+
     /**
      * Get organization name.
      *
@@ -2575,6 +2718,37 @@ public class RoleDAOImpl implements RoleDAO {
                         + "could not be identified or not supported.");
     }
 
+    /**
+     * Get type specific query to retrieve a page of roles before a cursor id.
+     *
+     * @param databaseProductName DB type.
+     * @return sql query with a placeholder for the filter query.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private String getDBTypeSpecificRolesRetrievalQueryBeforeId(String databaseProductName)
+            throws IdentityRoleManagementException {
+
+        if (RoleConstants.MY_SQL.equals(databaseProductName)
+                || RoleConstants.MARIADB.equals(databaseProductName)
+                || RoleConstants.H2.equals(databaseProductName)) {
+            return SQLQueries.GET_ROLES_BY_TENANT_BEFORE_ID_MYSQL;
+        } else if (RoleConstants.ORACLE.equals(databaseProductName)) {
+            return SQLQueries.GET_ROLES_BY_TENANT_BEFORE_ID_ORACLE;
+        } else if (RoleConstants.MICROSOFT.equals(databaseProductName)) {
+            return SQLQueries.GET_ROLES_BY_TENANT_BEFORE_ID_MSSQL;
+        } else if (RoleConstants.POSTGRE_SQL.equals(databaseProductName)) {
+            return SQLQueries.GET_ROLES_BY_TENANT_BEFORE_ID_POSTGRESQL;
+        } else if (databaseProductName != null && databaseProductName.contains(RoleConstants.DB2)) {
+            return SQLQueries.GET_ROLES_BY_TENANT_BEFORE_ID_DB2;
+        } else if (RoleConstants.INFORMIX.equals(databaseProductName)) {
+            return SQLQueries.GET_ROLES_BY_TENANT_BEFORE_ID_INFORMIX;
+        }
+
+        throw new IdentityRoleManagementServerException(RoleConstants.Error.UNEXPECTED_SERVER_ERROR.getCode(),
+                "Error while listing roles from DB. Database driver for " + databaseProductName
+                        + "could not be identified or not supported.");
+    }
+
     /**
      * Get type specific role count query.
      *
@@ -2686,11 +2860,10 @@ public class RoleDAOImpl implements RoleDAO {
             if (roleAudience != null) {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
-                roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
             }
             roles.add(roleBasicInfo);
         }
+        setAudienceNames(roles, tenantDomain);
         return roles;
     }
 
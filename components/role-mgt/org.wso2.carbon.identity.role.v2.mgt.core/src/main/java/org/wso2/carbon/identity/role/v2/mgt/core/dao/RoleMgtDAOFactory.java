@@ -24,12 +24,12 @@ package org.wso2.carbon.identity.role.v2.mgt.core.dao;
 public class RoleMgtDAOFactory {
 
     private static RoleMgtDAOFactory factory = new RoleMgtDAOFactory();
-    private RoleDAO roleDAO;
+    private CacheBackedRoleDAO roleDAO;
     private GroupDAO groupDAO;
 
     private RoleMgtDAOFactory() {
 
-        this.roleDAO = new RoleDAOImpl();
+        this.roleDAO = new CacheBackedRoleDAO(new RoleDAOImpl());
         this.groupDAO = new GroupDAOImpl();
     }
 
@@ -43,6 +43,16 @@ public class RoleMgtDAOFactory {
         return roleDAO;
     }
 
+    /**
+     * Get the cache backed role DAO, to clear its caches on changes made outside the role management.
+     *
+     * @return Cache backed role DAO.
+     */
+    public CacheBackedRoleDAO getCacheBackedRoleDAO() {
+
+        return roleDAO;
+    }
+
     public GroupDAO getGroupDAO() {
 
         return groupDAO;
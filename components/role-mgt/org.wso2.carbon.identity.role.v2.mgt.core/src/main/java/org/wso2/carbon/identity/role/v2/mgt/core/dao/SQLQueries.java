@@ -356,6 +356,36 @@ public class SQLQueries {
             "UM_HYBRID_ROLE_AUDIENCE.UM_AUDIENCE_ID, UM_AUDIENCE_REF_ID FROM UM_HYBRID_ROLE INNER JOIN " +
             "UM_HYBRID_ROLE_AUDIENCE ON UM_HYBRID_ROLE.UM_AUDIENCE_REF_ID = UM_HYBRID_ROLE_AUDIENCE.UM_ID WHERE ";
 
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID = "SELECT UM_ROLE_NAME, UM_UUID, UM_AUDIENCE, " +
+            "UM_HYBRID_ROLE_AUDIENCE.UM_AUDIENCE_ID, UM_AUDIENCE_REF_ID, UM_HYBRID_ROLE.UM_ID FROM UM_HYBRID_ROLE " +
+            "INNER JOIN UM_HYBRID_ROLE_AUDIENCE ON UM_HYBRID_ROLE.UM_AUDIENCE_REF_ID = UM_HYBRID_ROLE_AUDIENCE.UM_ID " +
+            "WHERE %s UM_TENANT_ID=:UM_TENANT_ID; AND UM_HYBRID_ROLE.UM_ID < :CURSOR_ID; ORDER BY " +
+            "UM_HYBRID_ROLE.UM_ID DESC";
+
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID_MYSQL = GET_ROLES_BY_TENANT_BEFORE_ID + " LIMIT :LIMIT;";
+
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID_ORACLE = "SELECT * FROM (" +
+            GET_ROLES_BY_TENANT_BEFORE_ID + ") WHERE rownum <= :LIMIT;";
+
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID_MSSQL = GET_ROLES_BY_TENANT_BEFORE_ID +
+            " OFFSET 0 ROWS FETCH NEXT :LIMIT; ROWS ONLY";
+
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID_POSTGRESQL = GET_ROLES_BY_TENANT_BEFORE_ID +
+            " LIMIT :LIMIT;";
+
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID_DB2 = "SELECT UM_ROLE_NAME, UM_UUID, UM_AUDIENCE, " +
+            "UM_AUDIENCE_ID, UM_AUDIENCE_REF_ID, UM_ID FROM (SELECT ROW_NUMBER() OVER (ORDER BY UM_HYBRID_ROLE.UM_ID " +
+            "DESC) AS rn, UM_ROLE_NAME, UM_UUID, UM_AUDIENCE, UM_HYBRID_ROLE_AUDIENCE.UM_AUDIENCE_ID, " +
+            "UM_AUDIENCE_REF_ID, UM_HYBRID_ROLE.UM_ID FROM UM_HYBRID_ROLE INNER JOIN UM_HYBRID_ROLE_AUDIENCE ON " +
+            "UM_HYBRID_ROLE.UM_AUDIENCE_REF_ID = UM_HYBRID_ROLE_AUDIENCE.UM_ID WHERE %s UM_TENANT_ID=:UM_TENANT_ID; " +
+            "AND UM_HYBRID_ROLE.UM_ID < :CURSOR_ID;) AS ROLES WHERE rn <= :LIMIT; ORDER BY rn";
+
+    public static final String GET_ROLES_BY_TENANT_BEFORE_ID_INFORMIX = "SELECT FIRST :LIMIT; UM_ROLE_NAME, " +
+            "UM_UUID, UM_AUDIENCE, UM_HYBRID_ROLE_AUDIENCE.UM_AUDIENCE_ID, UM_AUDIENCE_REF_ID, UM_HYBRID_ROLE.UM_ID " +
+            "FROM UM_HYBRID_ROLE INNER JOIN UM_HYBRID_ROLE_AUDIENCE ON UM_HYBRID_ROLE.UM_AUDIENCE_REF_ID = " +
+            "UM_HYBRID_ROLE_AUDIENCE.UM_ID WHERE %s UM_TENANT_ID=:UM_TENANT_ID; AND UM_HYBRID_ROLE.UM_ID < " +
+            ":CURSOR_ID; ORDER BY UM_HYBRID_ROLE.UM_ID DESC";
+
     public static final String GET_ROLES_COUNT_BY_TENANT_AND_FILTER = "SELECT COUNT(UM_ROLE_NAME) FROM " +
             "UM_HYBRID_ROLE INNER JOIN UM_HYBRID_ROLE_AUDIENCE ON UM_HYBRID_ROLE.UM_AUDIENCE_REF_ID = " +
             "UM_HYBRID_ROLE_AUDIENCE.UM_ID WHERE %s UM_TENANT_ID=:UM_TENANT_ID;";
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.internal;
+
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
+import org.wso2.carbon.identity.role.v2.mgt.core.dao.CacheBackedRoleDAO;
+
+/**
+ * Clears the cached permissions of roles when the scopes of API resources are changed, since role permissions are
+ * resolved from those scopes.
+ */
+public class RoleCacheAPIResourceListener implements APIResourceManagementListener {
+
+    private final CacheBackedRoleDAO roleDAO;
+
+    public RoleCacheAPIResourceListener(CacheBackedRoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+    }
+
+    @Override
+    public void onAPIResourceDeleted(String apiResourceId, String tenantDomain) {
+
+        roleDAO.clearPermissionListOfRolesCache(tenantDomain);
+    }
+
+    @Override
+    public void onAPIResourceScopesChanged(String apiResourceId, String tenantDomain) {
+
+        roleDAO.clearPermissionListOfRolesCache(tenantDomain);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.internal;
+
+import org.wso2.carbon.identity.role.mgt.core.listener.RoleChangeListener;
+import org.wso2.carbon.identity.role.v2.mgt.core.dao.CacheBackedRoleDAO;
+
+import java.util.List;
+
+/**
+ * Clears the role V2 caches when roles or role assignments are written through the role management service V1,
+ * since both versions share the same role tables.
+ */
+public class RoleCacheRoleChangeListener implements RoleChangeListener {
+
+    private final CacheBackedRoleDAO roleDAO;
+
+    public RoleCacheRoleChangeListener(CacheBackedRoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+    }
+
+    @Override
+    public void onUserListOfRoleUpdated(List<String> userIDs, int tenantId) {
+
+        roleDAO.clearRoleListOfUserCache(userIDs, tenantId);
+    }
+
+    @Override
+    public void onRolesUpdated(int tenantId) {
+
+        roleDAO.clearCaches(tenantId);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.internal;
+
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.dao.CacheBackedRoleDAO;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Clears the role caches when the role assignments are changed through the user store manager instead of the role
+ * management service, e.g. during JIT provisioning or user deletion.
+ */
+public class RoleCacheUserStoreListener extends AbstractIdentityUserOperationEventListener {
+
+    private final CacheBackedRoleDAO roleDAO;
+
+    public RoleCacheUserStoreListener(CacheBackedRoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+    }
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 25;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleListOfUserWithID(String userID, String[] deletedRoles, String[] newRoles,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        roleDAO.clearRoleListOfUserCache(Collections.singletonList(userID), userStoreManager.getTenantId());
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfRoleWithID(String roleName, String[] deletedUserIDs, String[] newUserIDs,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        int tenantId = userStoreManager.getTenantId();
+        if (deletedUserIDs != null) {
+            roleDAO.clearRoleListOfUserCache(Arrays.asList(deletedUserIDs), tenantId);
+        }
+        if (newUserIDs != null) {
+            roleDAO.clearRoleListOfUserCache(Arrays.asList(newUserIDs), tenantId);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUserWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        roleDAO.clearRoleListOfUserCache(Collections.singletonList(userID), userStoreManager.getTenantId());
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleName(String roleName, String newRoleName, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        if (isInternalRole(roleName)) {
+            roleDAO.clearCaches(userStoreManager.getTenantId());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteRole(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        if (isInternalRole(roleName)) {
+            roleDAO.clearCaches(userStoreManager.getTenantId());
+        }
+        return true;
+    }
+
+    private boolean isInternalRole(String roleName) {
+
+        return UserCoreConstants.INTERNAL_DOMAIN.equalsIgnoreCase(IdentityUtil.extractDomainFromName(roleName));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.mgt.core.listener.RoleChangeListener;
+import org.wso2.carbon.identity.role.v2.mgt.core.internal.RoleCacheRoleChangeListener;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link CacheBackedRoleDAO}.
+ */
+@WithCarbonHome
+public class CacheBackedRoleDAOTest {
+
+    private static final String SUPER_TENANT_DOMAIN = "carbon.super";
+    private static final int SUPER_TENANT_ID = -1234;
+    private static final String SUB_ORG_TENANT_DOMAIN = "sub-org";
+    private static final int SUB_ORG_TENANT_ID = 2;
+
+    private RoleDAO roleDAO;
+    private CacheBackedRoleDAO cacheBackedRoleDAO;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SUPER_TENANT_DOMAIN)).thenReturn(SUPER_TENANT_ID);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(SUPER_TENANT_ID))
+                .thenReturn(SUPER_TENANT_DOMAIN);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(SUB_ORG_TENANT_DOMAIN))
+                .thenReturn(SUB_ORG_TENANT_ID);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(SUB_ORG_TENANT_ID))
+                .thenReturn(SUB_ORG_TENANT_DOMAIN);
+        roleDAO = mock(RoleDAO.class);
+        cacheBackedRoleDAO = new CacheBackedRoleDAO(roleDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        cacheBackedRoleDAO.clearCaches(SUPER_TENANT_ID);
+        cacheBackedRoleDAO.clearCaches(SUB_ORG_TENANT_ID);
+        identityTenantUtil.close();
+    }
+
+    @Test
+    public void testGetRoleListOfUserFromCache() throws Exception {
+
+        when(roleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN))
+                .thenReturn(new ArrayList<>(Collections.singletonList(new RoleBasicInfo("role1", "Role 1"))));
+
+        List<RoleBasicInfo> roles = cacheBackedRoleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        roles.add(new RoleBasicInfo("role2", "Role 2"));
+        roles.get(0).setName("Modified");
+        List<RoleBasicInfo> cachedRoles = cacheBackedRoleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+
+        verify(roleDAO, times(1)).getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        assertEquals(cachedRoles.size(), 1);
+        assertEquals(cachedRoles.get(0).getName(), "Role 1");
+        assertEquals(cacheBackedRoleDAO.getCacheHitCount(), 1);
+        assertEquals(cacheBackedRoleDAO.getCacheMissCount(), 1);
+    }
+
+    @Test
+    public void testUpdateUserListOfRoleClearsRolesOfUpdatedUsers() throws Exception {
+
+        when(roleDAO.getRoleListOfUser(anyString(), anyString())).thenReturn(new ArrayList<>());
+        cacheBackedRoleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfUser("user2", SUPER_TENANT_DOMAIN);
+
+        cacheBackedRoleDAO.updateUserListOfRole("role1", Collections.singletonList("user1"), Collections.emptyList(),
+                SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfUser("user2", SUPER_TENANT_DOMAIN);
+
+        verify(roleDAO, times(2)).getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        verify(roleDAO, times(1)).getRoleListOfUser("user2", SUPER_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testGetRoleListOfGroupsIgnoresGroupOrder() throws Exception {
+
+        when(roleDAO.getRoleListOfGroups(anyList(), anyString())).thenReturn(new ArrayList<>());
+        cacheBackedRoleDAO.getRoleListOfGroups(Arrays.asList("group1", "group2"), SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfGroups(Arrays.asList("group2", "group1"), SUPER_TENANT_DOMAIN);
+        verify(roleDAO, times(1)).getRoleListOfGroups(anyList(), anyString());
+
+        cacheBackedRoleDAO.updateGroupListOfRole("role1", Collections.singletonList("group1"),
+                Collections.emptyList(), SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfGroups(Arrays.asList("group1", "group2"), SUPER_TENANT_DOMAIN);
+        verify(roleDAO, times(2)).getRoleListOfGroups(anyList(), anyString());
+    }
+
+    @Test
+    public void testUpdatePermissionListOfRoleClearsSharedRoleTenants() throws Exception {
+
+        List<String> subOrgRoleIds = Collections.singletonList("sharedRole1");
+        when(roleDAO.getPermissionListOfRoles(subOrgRoleIds, SUB_ORG_TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("scope1"));
+        when(roleDAO.getSharedHybridRoles("role1", SUPER_TENANT_ID)).thenReturn(
+                Collections.singletonList(new RoleDTO("Role 1", "sharedRole1", 1, SUB_ORG_TENANT_ID)));
+        cacheBackedRoleDAO.getPermissionListOfRoles(subOrgRoleIds, SUB_ORG_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getPermissionListOfRoles(subOrgRoleIds, SUB_ORG_TENANT_DOMAIN);
+        verify(roleDAO, times(1)).getPermissionListOfRoles(subOrgRoleIds, SUB_ORG_TENANT_DOMAIN);
+
+        cacheBackedRoleDAO.updatePermissionListOfRole("role1", Collections.emptyList(), Collections.emptyList(),
+                SUPER_TENANT_DOMAIN);
+        List<String> permissions = cacheBackedRoleDAO.getPermissionListOfRoles(subOrgRoleIds, SUB_ORG_TENANT_DOMAIN);
+
+        verify(roleDAO, times(2)).getPermissionListOfRoles(subOrgRoleIds, SUB_ORG_TENANT_DOMAIN);
+        assertEquals(permissions, Collections.singletonList("scope1"));
+    }
+
+    @Test
+    public void testClearPermissionListOfRolesCache() throws Exception {
+
+        List<String> roleIds = Collections.singletonList("role1");
+        when(roleDAO.getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("scope1"), Collections.emptyList());
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN),
+                Collections.singletonList("scope1"));
+
+        cacheBackedRoleDAO.clearPermissionListOfRolesCache(SUPER_TENANT_DOMAIN);
+
+        assertEquals(cacheBackedRoleDAO.getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN),
+                Collections.emptyList());
+        verify(roleDAO, times(2)).getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUpdateRoleNameClearsRoleName() throws Exception {
+
+        when(roleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN)).thenReturn("Role 1", "Renamed Role 1");
+        when(roleDAO.getSharedHybridRoles(anyString(), anyInt())).thenReturn(Collections.emptyList());
+        assertEquals(cacheBackedRoleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN), "Role 1");
+        assertEquals(cacheBackedRoleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN), "Role 1");
+
+        cacheBackedRoleDAO.updateRoleName("role1", "Renamed Role 1", SUPER_TENANT_DOMAIN);
+
+        assertEquals(cacheBackedRoleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN), "Renamed Role 1");
+        verify(roleDAO, times(2)).getRoleNameByID("role1", SUPER_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testV1UserListOfRoleUpdateClearsRolesOfUpdatedUsers() throws Exception {
+
+        when(roleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN)).thenReturn(new ArrayList<>(),
+                new ArrayList<>(Collections.singletonList(new RoleBasicInfo("role1", "Role 1"))));
+        when(roleDAO.getRoleListOfUser("user2", SUPER_TENANT_DOMAIN)).thenReturn(new ArrayList<>());
+        cacheBackedRoleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfUser("user2", SUPER_TENANT_DOMAIN);
+
+        RoleChangeListener roleChangeListener = new RoleCacheRoleChangeListener(cacheBackedRoleDAO);
+        roleChangeListener.onUserListOfRoleUpdated(Collections.singletonList("user1"), SUPER_TENANT_ID);
+        List<RoleBasicInfo> roles = cacheBackedRoleDAO.getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getRoleListOfUser("user2", SUPER_TENANT_DOMAIN);
+
+        assertEquals(roles.size(), 1);
+        assertEquals(roles.get(0).getId(), "role1");
+        verify(roleDAO, times(2)).getRoleListOfUser("user1", SUPER_TENANT_DOMAIN);
+        verify(roleDAO, times(1)).getRoleListOfUser("user2", SUPER_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testV1RoleUpdateClearsTenantCaches() throws Exception {
+
+        List<String> roleIds = Collections.singletonList("role1");
+        when(roleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN)).thenReturn("Role 1", "Renamed Role 1");
+        when(roleDAO.getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN))
+                .thenReturn(Collections.singletonList("scope1"));
+        cacheBackedRoleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN);
+        cacheBackedRoleDAO.getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN);
+
+        new RoleCacheRoleChangeListener(cacheBackedRoleDAO).onRolesUpdated(SUPER_TENANT_ID);
+
+        assertEquals(cacheBackedRoleDAO.getRoleNameByID("role1", SUPER_TENANT_DOMAIN), "Renamed Role 1");
+        cacheBackedRoleDAO.getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN);
+        verify(roleDAO, times(2)).getRoleNameByID("role1", SUPER_TENANT_DOMAIN);
+        verify(roleDAO, times(2)).getPermissionListOfRoles(roleIds, SUPER_TENANT_DOMAIN);
+    }
+}
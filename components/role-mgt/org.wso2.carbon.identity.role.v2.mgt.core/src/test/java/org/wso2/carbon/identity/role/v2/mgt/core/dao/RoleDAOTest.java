@@ -36,6 +36,7 @@ import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.model.CursorPage;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
@@ -348,6 +349,50 @@ public class RoleDAOTest {
         Assert.assertEquals(getRoleNamesList(roles), expectedRoles);
     }
 
+    @Test
+    public void testGetRolesWithCursor() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        addRole(roleNamesList.get(2), ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        identityUtil.when(IdentityUtil::getDefaultItemsPerPage)
+                .thenReturn(IdentityCoreConstants.DEFAULT_ITEMS_PRE_PAGE);
+        identityUtil.when(IdentityUtil::getMaximumItemPerPage)
+                .thenReturn(IdentityCoreConstants.DEFAULT_MAXIMUM_ITEMS_PRE_PAGE);
+
+        CursorPage<RoleBasicInfo> firstPage = roleDAO.getRoles(new ArrayList<>(), null, 2, SAMPLE_TENANT_DOMAIN,
+                true);
+        assertEquals(firstPage.getItems().size(), 2);
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(firstPage.getTotalCount(), Integer.valueOf(3));
+
+        CursorPage<RoleBasicInfo> lastPage = roleDAO.getRoles(new ArrayList<>(), firstPage.getNextCursor(), 2,
+                SAMPLE_TENANT_DOMAIN, false);
+        assertEquals(lastPage.getItems().size(), 1);
+        Assert.assertNull(lastPage.getNextCursor());
+        Assert.assertNull(lastPage.getTotalCount());
+
+        List<RoleBasicInfo> roles = new ArrayList<>(firstPage.getItems());
+        roles.addAll(lastPage.getItems());
+        assertEquals(getRoleNamesList(roles), roleNamesList.subList(0, 3).stream().sorted()
+                .collect(Collectors.toList()));
+        assertThrows(IdentityRoleManagementClientException.class, () -> roleDAO.getRoles(new ArrayList<>(),
+                "invalid-cursor", 2, SAMPLE_TENANT_DOMAIN, false));
+    }
+
     @Test
     public void testGetRolesWithRequiredAttributes() throws Exception {
 
@@ -583,6 +628,45 @@ public class RoleDAOTest {
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
     }
 
+    @Test
+    public void testGetPermissionListOfManyRolesInSingleQuery() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+
+        // A user with 50 roles which share the same permissions.
+        List<String> roleIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            roleIds.add(addRole("many-roles-role-" + i, APPLICATION_AUD, SAMPLE_APP_ID, roleDAO).getId());
+        }
+
+        AtomicInteger connectionCount = new AtomicInteger();
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> {
+                    connectionCount.incrementAndGet();
+                    return getConnection();
+                });
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> {
+                    connectionCount.incrementAndGet();
+                    return getConnection();
+                });
+        List<String> rolePermissions = roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN);
+        Assert.assertEquals(rolePermissions.stream().sorted().collect(Collectors.toList()),
+                getPermissionNameList(permissions));
+        Assert.assertEquals(connectionCount.get(), 1);
+    }
+
     @Test
     public void testGetPermissionListOfSharedRolesInSubOrganization() throws Exception {
 
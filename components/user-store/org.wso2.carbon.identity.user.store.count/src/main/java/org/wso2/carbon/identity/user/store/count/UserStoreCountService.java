@@ -20,23 +20,50 @@ package org.wso2.carbon.identity.user.store.count;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.user.store.count.dto.PairDTO;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
+import org.wso2.carbon.identity.user.store.count.internal.UserCountTracker;
+import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountCache;
 import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDSComponent;
+import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDataHolder;
 import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalStoreCountConstants;
 import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service class that expose count functionality for underline user stores on users, roles and claims.
+ * <p>
+ * The user stores are counted in parallel and the count of each user store is waited for at most the configured
+ * domain timeout, so a slow user store does not hold back the counts of the others. Counts are cached for a short
+ * time, and the unfiltered user count of a domain can be maintained incrementally from the user operations instead
+ * of being counted in the user store.
+ * <p>
+ * A count which is not complete at the deadline is cancelled, but the user store query itself is only bounded by the
+ * search time limit of the user store (MaxSearchQueryTime), which the JDBC and LDAP user store managers apply as the
+ * query timeout. The count executor is bounded, so the queries outliving the deadline cannot hold more than its
+ * threads, and the counts it rejects fail instead of running in the calling thread.
  */
 public class UserStoreCountService {
 
     private static final Log log = LogFactory.getLog(UserStoreCountService.class);
+    private static final String USER_COUNT = "users";
+    private static final String ROLE_COUNT = "roles";
     int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
 
     /**
@@ -47,23 +74,19 @@ public class UserStoreCountService {
      */
     public PairDTO[] countUsers(String filter) throws UserStoreCounterException {
 
-        Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
-        PairDTO[] userCounts = new PairDTO[userStoreDomains.size()];
-        int i = 0;
+        Map<String, CountQuery> userCountQueries = new LinkedHashMap<>();
+        for (String userStoreDomain : UserStoreCountUtils.getCountEnabledUserStores()) {
+            userCountQueries.put(userStoreDomain, () -> getUserCount(userStoreDomain, filter));
+        }
+        Map<String, Long> userCounts = countDomains(userCountQueries, getDeadline(), "user count");
 
-        for (String userStoreDomain : userStoreDomains) {
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, filter);
-            long count = -1L;
-            try {
-                count = getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
-                userCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
-            } catch (UserStoreCounterException e) {
-                userCounts[i] = new PairDTO(userStoreDomain, "Error while getting user count");
-                log.error("Error while getting user count from user store domain : " + userStoreDomain, e);
-            }
-            i++;
+        PairDTO[] userCountPairs = new PairDTO[userCounts.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> userCount : userCounts.entrySet()) {
+            userCountPairs[i++] = new PairDTO(userCount.getKey(), userCount.getValue() != null ?
+                    Long.toString(userCount.getValue()) : "Error while getting user count");
         }
-        return userCounts;
+        return userCountPairs;
     }
 
     /**
@@ -74,32 +97,32 @@ public class UserStoreCountService {
      */
     public PairDTO[] countRoles(String filter) throws UserStoreCounterException {
 
-        Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
-        // Add 2 more for the counts of Internal, Application domains.
-        PairDTO[] roleCounts = new PairDTO[userStoreDomains.size() + 2];
-        int i = 0;
-
-        for (String userStoreDomain : userStoreDomains) {
-            long count = -1L;
+        Map<String, CountQuery> roleCountQueries = new LinkedHashMap<>();
+        for (String userStoreDomain : UserStoreCountUtils.getCountEnabledUserStores()) {
             String filterWithDomain = getFilterWithDomain(userStoreDomain, filter);
-            try {
-                count = getRoleCount(filterWithDomain);
-                roleCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
-            } catch (UserStoreCounterException e) {
-                roleCounts[i] = new PairDTO(userStoreDomain, "Error while getting role count");
-                log.error("Error while getting role count from user store domain : " + userStoreDomain, e);
-            }
-            i++;
+            roleCountQueries.put(userStoreDomain, () -> getCachedRoleCount(filterWithDomain));
         }
+        int userStoreDomainCount = roleCountQueries.size();
+        // Count the roles of the Internal, Application domains along with the user store domains.
         String internalDomainFilter = UserCoreConstants.INTERNAL_DOMAIN + UserCoreConstants.DOMAIN_SEPARATOR + filter;
         String applicationDomainFilter = InternalStoreCountConstants.APPLICATION_DOMAIN +
                 UserCoreConstants.DOMAIN_SEPARATOR + filter;
-        roleCounts[i] = new PairDTO(UserCoreConstants.INTERNAL_DOMAIN, String.valueOf(
-                getRoleCount(internalDomainFilter)));
-        roleCounts[++i] = new PairDTO(InternalStoreCountConstants.APPLICATION_DOMAIN, String.valueOf(
-                getRoleCount(applicationDomainFilter)));
+        roleCountQueries.put(UserCoreConstants.INTERNAL_DOMAIN, () -> getCachedRoleCount(internalDomainFilter));
+        roleCountQueries.put(InternalStoreCountConstants.APPLICATION_DOMAIN,
+                () -> getCachedRoleCount(applicationDomainFilter));
+        Map<String, Long> roleCounts = countDomains(roleCountQueries, getDeadline(), "role count");
 
-        return roleCounts;
+        PairDTO[] roleCountPairs = new PairDTO[roleCounts.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> roleCount : roleCounts.entrySet()) {
+            if (roleCount.getValue() == null && i >= userStoreDomainCount) {
+                throw new UserStoreCounterException("Error while getting role count of the domain : "
+                        + roleCount.getKey());
+            }
+            roleCountPairs[i++] = new PairDTO(roleCount.getKey(), roleCount.getValue() != null ?
+                    Long.toString(roleCount.getValue()) : "Error while getting role count");
+        }
+        return roleCountPairs;
     }
 
     /**
@@ -111,23 +134,21 @@ public class UserStoreCountService {
      */
     public PairDTO[] countClaim(String claimURI, String valueFilter) throws UserStoreCounterException {
 
-        Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
-        PairDTO[] claimCounts = new PairDTO[userStoreDomains.size()];
-        int i = 0;
-
-        for (String userStoreDomain : userStoreDomains) {
-            long count = -1L;
+        Map<String, CountQuery> claimCountQueries = new LinkedHashMap<>();
+        for (String userStoreDomain : UserStoreCountUtils.getCountEnabledUserStores()) {
             String filterWithDomain = getFilterWithDomain(userStoreDomain, valueFilter);
-            try {
-                count = getUserCountWithClaims(claimURI, filterWithDomain);
-            } catch (UserStoreCounterException e) {
-                log.error("Error while getting user count with claim : " + claimURI + ", from user store domain : "
-                        + userStoreDomain, e);
-            }
-            claimCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
-            i++;
+            claimCountQueries.put(userStoreDomain, () -> getCachedUserCountWithClaims(claimURI, filterWithDomain));
+        }
+        Map<String, Long> claimCounts = countDomains(claimCountQueries, getDeadline(),
+                "user count with claim : " + claimURI + ",");
+
+        PairDTO[] claimCountPairs = new PairDTO[claimCounts.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> claimCount : claimCounts.entrySet()) {
+            long count = claimCount.getValue() != null ? claimCount.getValue() : -1L;
+            claimCountPairs[i++] = new PairDTO(claimCount.getKey(), Long.toString(count));
         }
-        return claimCounts;
+        return claimCountPairs;
     }
 
     /**
@@ -138,8 +159,7 @@ public class UserStoreCountService {
      */
     public long countUsersInDomain(String filter, String domain) throws UserStoreCounterException {
 
-        String filterWithDomain = getFilterWithDomain(domain, filter);
-        return getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
+        return getUserCount(domain, filter);
     }
 
     /**
@@ -151,7 +171,7 @@ public class UserStoreCountService {
     public long countRolesInDomain(String filter, String domain) throws UserStoreCounterException {
 
         String filterWithDomain = getFilterWithDomain(domain, filter);
-        return getRoleCount(filterWithDomain);
+        return getCachedRoleCount(filterWithDomain);
     }
 
     /**
@@ -165,7 +185,7 @@ public class UserStoreCountService {
             throws UserStoreCounterException {
 
         String filterWithDomain = getFilterWithDomain(domain, valueFilter);
-        return getUserCountWithClaims(claimURI, filterWithDomain);
+        return getCachedUserCountWithClaims(claimURI, filterWithDomain);
     }
 
     /**
@@ -181,6 +201,182 @@ public class UserStoreCountService {
 
     }
 
+    /**
+     * Get the number of users of a domain matching a user name filter. When the incremental user count is enabled,
+     * the unfiltered count is served from the tracked total of the domain, which is seeded from the user store.
+     *
+     * @param domain user store domain.
+     * @param filter filter for the user name.
+     * @return user count.
+     * @throws UserStoreCounterException UserStoreCounterException.
+     */
+    private long getUserCount(String domain, String filter) throws UserStoreCounterException {
+
+        String filterWithDomain = getFilterWithDomain(domain, filter);
+        if (!UserStoreCountUtils.ALL_FILTER.equals(filter) || !UserStoreCountUtils.isIncrementalUserCountEnabled()) {
+            return getCachedUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
+        }
+
+        UserCountTracker userCountTracker = UserCountTracker.getInstance();
+        long resyncInterval = UserStoreCountUtils.getCountConfig(
+                UserStoreCountUtils.INCREMENTAL_USER_COUNT_RESYNC_INTERVAL,
+                UserStoreCountUtils.DEFAULT_INCREMENTAL_USER_COUNT_RESYNC_INTERVAL);
+        long count = userCountTracker.getCount(tenantId, domain, resyncInterval);
+        if (count >= 0) {
+            return count;
+        }
+        // The users added or deleted while the user store is counted are applied to the count once it completes.
+        UserCountTracker.PendingSeed pendingSeed = userCountTracker.startSeed(tenantId, domain);
+        boolean isSeeded = false;
+        try {
+            count = userCountTracker.completeSeed(pendingSeed,
+                    getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain));
+            isSeeded = true;
+            return count;
+        } finally {
+            if (!isSeeded) {
+                userCountTracker.abortSeed(pendingSeed);
+            }
+        }
+    }
+
+    private long getCachedUserCountWithClaims(String claimURI, String valueFilter)
+            throws UserStoreCounterException {
+
+        return getCachedCount(USER_COUNT, claimURI, valueFilter, () -> getUserCountWithClaims(claimURI, valueFilter));
+    }
+
+    private long getCachedRoleCount(String filter) throws UserStoreCounterException {
+
+        return getCachedCount(ROLE_COUNT, null, filter, () -> getRoleCount(filter));
+    }
+
+    private long getCachedCount(String type, String claimURI, String filter, CountQuery countQuery)
+            throws UserStoreCounterException {
+
+        long cacheTimeout = UserStoreCountUtils.getCountConfig(UserStoreCountUtils.COUNT_CACHE_TIMEOUT,
+                UserStoreCountUtils.DEFAULT_COUNT_CACHE_TIMEOUT);
+        if (cacheTimeout <= 0) {
+            return countQuery.count();
+        }
+
+        UserStoreCountCache userStoreCountCache = UserStoreCountCache.getInstance();
+        String key = UserStoreCountCache.getKey(tenantId, type, claimURI, filter);
+        Long cachedCount = userStoreCountCache.getCount(key);
+        if (cachedCount != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Serving the " + type + " count of tenant Id : " + tenantId + ", and the filter : "
+                        + filter + " from the cache.");
+            }
+            return cachedCount;
+        }
+        long count = countQuery.count();
+        userStoreCountCache.addCount(key, count, cacheTimeout);
+        return count;
+    }
+
+    /**
+     * Count each domain in parallel and wait for the counts until the given deadline.
+     *
+     * @param countQueries count of each domain.
+     * @param deadline     time in milliseconds to wait until.
+     * @param countType    type of the counts, used in the logs.
+     * @return the count of each domain, in the order of the given queries, or null for a domain whose count failed,
+     * was rejected or did not complete before the deadline.
+     */
+    Map<String, Long> countDomains(Map<String, CountQuery> countQueries, long deadline, String countType) {
+
+        Map<String, Future<Long>> countResults = new LinkedHashMap<>();
+        for (Map.Entry<String, CountQuery> countQuery : countQueries.entrySet()) {
+            countResults.put(countQuery.getKey(), submitCount(countQuery.getValue()));
+        }
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<Long>> countResult : countResults.entrySet()) {
+            String domain = countResult.getKey();
+            try {
+                counts.put(domain, getCount(countResult.getValue(), deadline));
+            } catch (UserStoreCounterException e) {
+                counts.put(domain, null);
+                log.error("Error while getting " + countType + " from user store domain : " + domain, e);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Run a count in the tenant of this service on the shared count executor, or in the calling thread if the
+     * executor is not available. A count rejected by the executor fails, so that a saturated executor does not hold
+     * the calling thread on a user store query which cannot be timed out.
+     *
+     * @param countQuery the count to run.
+     * @return result of the count.
+     */
+    private Future<Long> submitCount(CountQuery countQuery) {
+
+        Callable<Long> countTask = () -> {
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(tenantId, true);
+                return countQuery.count();
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        };
+
+        ExecutorService countExecutor = UserStoreCountDataHolder.getInstance().getCountExecutor();
+        if (countExecutor != null) {
+            try {
+                return countExecutor.submit(countTask);
+            } catch (RejectedExecutionException e) {
+                CompletableFuture<Long> rejectedCount = new CompletableFuture<>();
+                rejectedCount.completeExceptionally(new UserStoreCounterException(
+                        "Count executor is saturated. Count of tenant Id : " + tenantId + " is rejected", e));
+                return rejectedCount;
+            }
+        }
+        FutureTask<Long> countResult = new FutureTask<>(countTask);
+        countResult.run();
+        return countResult;
+    }
+
+    /**
+     * Wait for the result of a count until the given deadline.
+     *
+     * @param countResult result of the count.
+     * @param deadline    time in milliseconds to wait until.
+     * @return the count.
+     * @throws UserStoreCounterException if the count failed or did not complete before the deadline.
+     */
+    private long getCount(Future<Long> countResult, long deadline) throws UserStoreCounterException {
+
+        try {
+            return countResult.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            countResult.cancel(true);
+            throw new UserStoreCounterException("Timed out while retrieving the count", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            countResult.cancel(true);
+            throw new UserStoreCounterException("Interrupted while retrieving the count", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UserStoreCounterException) {
+                throw (UserStoreCounterException) e.getCause();
+            }
+            throw new UserStoreCounterException("Error occurred while retrieving the count", e.getCause());
+        }
+    }
+
+    private long getDeadline() {
+
+        long domainTimeout = UserStoreCountUtils.getCountConfig(UserStoreCountUtils.COUNT_DOMAIN_TIMEOUT,
+                UserStoreCountUtils.DEFAULT_COUNT_DOMAIN_TIMEOUT);
+        if (domainTimeout <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return System.currentTimeMillis() + domainTimeout;
+    }
+
     /**
      * Get User count.
      *
@@ -253,4 +449,13 @@ public class UserStoreCountService {
             throw new UserStoreCounterException("Error while retrieving userStoreManager");
         }
     }
+
+    /**
+     * A count of users or roles in a user store.
+     */
+    @FunctionalInterface
+    interface CountQuery {
+
+        long count() throws UserStoreCounterException;
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.internal;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the total number of users of each user store domain, so the unfiltered user count does not scan the user
+ * store on each request.
+ * <p>
+ * The total of a domain is seeded by counting the user store, and is then moved by one on each user added or deleted
+ * through this node. Users added or deleted while the user store is being counted are kept as a pending change and
+ * applied to the seeded total, so they are not lost. A user added or deleted right as the count reads the user store
+ * may be included in both, and users added or deleted on other nodes of a cluster, or directly in the user store, are
+ * not seen, so the total is counted again once it is older than the resync interval.
+ */
+public class UserCountTracker {
+
+    private static final UserCountTracker instance = new UserCountTracker();
+
+    private final Map<String, TrackedCount> counts = new ConcurrentHashMap<>();
+
+    UserCountTracker() {
+
+    }
+
+    public static UserCountTracker getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the tracked total of a domain.
+     *
+     * @param tenantId Tenant id.
+     * @param domain   User store domain.
+     * @param maxAge   Maximum time in milliseconds since the total was seeded.
+     * @return The total, or -1 if the total is not seeded or is older than the given age.
+     */
+    public long getCount(int tenantId, String domain, long maxAge) {
+
+        TrackedCount trackedCount = counts.get(getKey(tenantId, domain));
+        if (trackedCount == null || !trackedCount.isSeeded()
+                || currentTimeMillis() - trackedCount.seededTime > maxAge) {
+            return -1L;
+        }
+        return Math.max(0L, trackedCount.count.get());
+    }
+
+    /**
+     * Start seeding the total of a domain. The users added or deleted from now on are kept as a pending change until
+     * the seed is completed with the count read from the user store.
+     *
+     * @param tenantId Tenant id.
+     * @param domain   User store domain.
+     * @return Pending seed to complete or abort once the user store is counted.
+     */
+    public PendingSeed startSeed(int tenantId, String domain) {
+
+        String key = getKey(tenantId, domain);
+        TrackedCount pendingCount = counts.compute(key, (k, trackedCount) ->
+                trackedCount != null && !trackedCount.isSeeded() ? trackedCount : new TrackedCount(0L, -1L));
+        return new PendingSeed(key, pendingCount);
+    }
+
+    /**
+     * Complete seeding the total of a domain with a count read from the user store. The pending change recorded since
+     * the seed was started is added to the count.
+     *
+     * @param pendingSeed Pending seed returned when the seed was started.
+     * @param count       Number of users in the domain, as read from the user store.
+     * @return The seeded total.
+     */
+    public long completeSeed(PendingSeed pendingSeed, long count) {
+
+        TrackedCount seededCount = counts.computeIfPresent(pendingSeed.key, (k, trackedCount) ->
+                trackedCount == pendingSeed.pendingCount ?
+                        new TrackedCount(count + trackedCount.count.get(), currentTimeMillis()) : trackedCount);
+        if (seededCount == null || !seededCount.isSeeded()) {
+            return count;
+        }
+        return Math.max(0L, seededCount.count.get());
+    }
+
+    /**
+     * Abort seeding the total of a domain, when the user store could not be counted.
+     *
+     * @param pendingSeed Pending seed returned when the seed was started.
+     */
+    public void abortSeed(PendingSeed pendingSeed) {
+
+        counts.remove(pendingSeed.key, pendingSeed.pendingCount);
+    }
+
+    /**
+     * Record a user added to a domain. Ignored if the total of the domain is not seeded or being seeded.
+     *
+     * @param tenantId Tenant id.
+     * @param domain   User store domain.
+     */
+    public void userAdded(int tenantId, String domain) {
+
+        counts.computeIfPresent(getKey(tenantId, domain), (key, trackedCount) -> {
+            trackedCount.count.incrementAndGet();
+            return trackedCount;
+        });
+    }
+
+    /**
+     * Record a user deleted from a domain. Ignored if the total of the domain is not seeded or being seeded.
+     *
+     * @param tenantId Tenant id.
+     * @param domain   User store domain.
+     */
+    public void userDeleted(int tenantId, String domain) {
+
+        counts.computeIfPresent(getKey(tenantId, domain), (key, trackedCount) -> {
+            trackedCount.count.decrementAndGet();
+            return trackedCount;
+        });
+    }
+
+    /**
+     * Remove the tracked totals of all the domains of a tenant.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void clear(int tenantId) {
+
+        String prefix = tenantId + ":";
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    long currentTimeMillis() {
+
+        return System.currentTimeMillis();
+    }
+
+    private static String getKey(int tenantId, String domain) {
+
+        if (StringUtils.isBlank(domain)) {
+            domain = IdentityUtil.getPrimaryDomainName();
+        }
+        return tenantId + ":" + domain.toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Seed of the total of a domain, started before counting the user store.
+     */
+    public static class PendingSeed {
+
+        private final String key;
+        private final TrackedCount pendingCount;
+
+        private PendingSeed(String key, TrackedCount pendingCount) {
+
+            this.key = key;
+            this.pendingCount = pendingCount;
+        }
+    }
+
+    /**
+     * Total of a domain, or the pending change of a domain being seeded.
+     */
+    private static class TrackedCount {
+
+        private final AtomicLong count;
+        private final long seededTime;
+
+        TrackedCount(long count, long seededTime) {
+
+            this.count = new AtomicLong(count);
+            this.seededTime = seededTime;
+        }
+
+        boolean isSeeded() {
+
+            return seededTime >= 0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short lived cache of the user, role and claim counts served by the user store count service.
+ * <p>
+ * Counting a user store is a full scan of the store in most cases, while the dashboards which display the counts
+ * reload them often. The counts are cached for a few seconds, which is enough to serve such reloads from memory while
+ * keeping the counts close to the state of the user store.
+ */
+public class UserStoreCountCache {
+
+    private static final int MAX_CACHED_COUNTS = 10000;
+    private static final UserStoreCountCache instance = new UserStoreCountCache();
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final int maxCachedCounts;
+
+    private UserStoreCountCache() {
+
+        this(MAX_CACHED_COUNTS);
+    }
+
+    UserStoreCountCache(int maxCachedCounts) {
+
+        this.maxCachedCounts = maxCachedCounts;
+    }
+
+    public static UserStoreCountCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Build the cache key of a count.
+     *
+     * @param tenantId Tenant id.
+     * @param type     Type of the count, e.g. users or roles.
+     * @param claimURI Claim URI of a claim count, or null.
+     * @param filter   Filter of the count, prefixed with the user store domain.
+     * @return Cache key.
+     */
+    public static String getKey(int tenantId, String type, String claimURI, String filter) {
+
+        return tenantId + ":" + type + ":" + claimURI + ":" + filter;
+    }
+
+    /**
+     * Get a cached count.
+     *
+     * @param key Cache key.
+     * @return The count, or null if the count is not cached or has expired.
+     */
+    public Long getCount(String key) {
+
+        CachedCount cachedCount = counts.get(key);
+        if (cachedCount == null) {
+            return null;
+        }
+        if (cachedCount.isExpired(currentTimeMillis())) {
+            counts.remove(key, cachedCount);
+            return null;
+        }
+        return cachedCount.count;
+    }
+
+    /**
+     * Cache a count.
+     *
+     * @param key     Cache key.
+     * @param count   The count.
+     * @param timeout Time in milliseconds to cache the count for.
+     */
+    public void addCount(String key, long count, long timeout) {
+
+        long currentTime = currentTimeMillis();
+        if (counts.size() >= maxCachedCounts && !counts.containsKey(key)) {
+            removeExpiredCounts(currentTime);
+            if (counts.size() >= maxCachedCounts) {
+                return;
+            }
+        }
+        counts.put(key, new CachedCount(count, currentTime + timeout));
+    }
+
+    /**
+     * Remove all the cached counts of a tenant.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void clear(int tenantId) {
+
+        String prefix = tenantId + ":";
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    long currentTimeMillis() {
+
+        return System.currentTimeMillis();
+    }
+
+    private void removeExpiredCounts(long currentTime) {
+
+        Iterator<CachedCount> iterator = counts.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired(currentTime)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class CachedCount {
+
+        private final long count;
+        private final long expiryTime;
+
+        CachedCount(long count, long expiryTime) {
+
+            this.count = count;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired(long currentTime) {
+
+            return currentTime >= expiryTime;
+        }
+    }
+}
@@ -32,8 +32,20 @@ import org.wso2.carbon.identity.user.store.count.AbstractCountRetrieverFactory;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
 import org.wso2.carbon.identity.user.store.count.jdbc.JDBCCountRetrieverFactory;
 import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalCountRetrieverFactory;
+import org.wso2.carbon.identity.user.store.count.listener.UserStoreCountListener;
+import org.wso2.carbon.identity.user.store.count.listener.UserStoreCountTenantMgtListener;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * User store count OSGi service component.
  */
@@ -102,6 +114,25 @@ public class UserStoreCountDSComponent {
         } else {
             log.error("Identity User Store Count -  JDBCUserStoreCountRetriever could not be registered.");
         }
+
+        int poolSize = (int) UserStoreCountUtils.getCountConfig(UserStoreCountUtils.COUNT_POOL_SIZE,
+                UserStoreCountUtils.DEFAULT_COUNT_POOL_SIZE);
+        if (poolSize > 0) {
+            int queueSize = (int) Math.max(1L, UserStoreCountUtils.getCountConfig(
+                    UserStoreCountUtils.COUNT_QUEUE_SIZE, UserStoreCountUtils.DEFAULT_COUNT_QUEUE_SIZE));
+            // Counts exceeding the bounded queue are rejected, and reported as failed for their user store domain.
+            UserStoreCountDataHolder.getInstance().setCountExecutor(new ThreadPoolExecutor(poolSize, poolSize, 0L,
+                    TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), new CountThreadFactory()));
+        }
+        bundleContext.registerService(TenantMgtListener.class.getName(), new UserStoreCountTenantMgtListener(),
+                null);
+        if (UserStoreCountUtils.isIncrementalUserCountEnabled()) {
+            bundleContext.registerService(UserOperationEventListener.class.getName(), new UserStoreCountListener(),
+                    null);
+            if (log.isDebugEnabled()) {
+                log.debug("Identity User Store Count - UserStoreCountListener registered.");
+            }
+        }
     }
 
     protected void deactivate(ComponentContext ctxt) {
@@ -110,6 +141,11 @@ public class UserStoreCountDSComponent {
         }
 
         UserStoreCountDataHolder.getInstance().setBundleContext(null);
+        ExecutorService countExecutor = UserStoreCountDataHolder.getInstance().getCountExecutor();
+        if (countExecutor != null) {
+            countExecutor.shutdownNow();
+            UserStoreCountDataHolder.getInstance().setCountExecutor(null);
+        }
     }
 
     @Reference(
@@ -156,4 +192,16 @@ public class UserStoreCountDSComponent {
          is started */
     }
 
+    private static class CountThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "UserStoreCount-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
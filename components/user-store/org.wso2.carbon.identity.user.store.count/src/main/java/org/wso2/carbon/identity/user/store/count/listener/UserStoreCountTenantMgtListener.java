@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.listener;
+
+import org.wso2.carbon.identity.core.AbstractIdentityTenantMgtListener;
+import org.wso2.carbon.identity.user.store.count.internal.UserCountTracker;
+import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountCache;
+
+/**
+ * Removes the cached counts and the tracked user totals of a tenant which is deactivated or deleted.
+ */
+public class UserStoreCountTenantMgtListener extends AbstractIdentityTenantMgtListener {
+
+    @Override
+    public void onTenantDeactivation(int tenantId) {
+
+        clearCounts(tenantId);
+    }
+
+    @Override
+    public void onPreDelete(int tenantId) {
+
+        clearCounts(tenantId);
+    }
+
+    private void clearCounts(int tenantId) {
+
+        if (!isEnable()) {
+            return;
+        }
+        UserStoreCountCache.getInstance().clear(tenantId);
+        UserCountTracker.getInstance().clear(tenantId);
+    }
+}
@@ -45,6 +45,21 @@ public class UserStoreCountUtils {
     public static final String COUNT_RETRIEVER_CLASS = "CountRetrieverClass";
     private static final Log log = LogFactory.getLog(UserStoreCountUtils.class);
     public static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+    public static final String ALL_FILTER = "*";
+
+    public static final String COUNT_POOL_SIZE = "UserStoreCount.PoolSize";
+    public static final String COUNT_QUEUE_SIZE = "UserStoreCount.QueueSize";
+    public static final String COUNT_DOMAIN_TIMEOUT = "UserStoreCount.DomainTimeout";
+    public static final String COUNT_CACHE_TIMEOUT = "UserStoreCount.CacheTimeout";
+    public static final String INCREMENTAL_USER_COUNT_ENABLED = "UserStoreCount.IncrementalUserCount.Enable";
+    public static final String INCREMENTAL_USER_COUNT_RESYNC_INTERVAL =
+            "UserStoreCount.IncrementalUserCount.ResyncInterval";
+
+    public static final int DEFAULT_COUNT_POOL_SIZE = 4;
+    public static final int DEFAULT_COUNT_QUEUE_SIZE = 100;
+    public static final long DEFAULT_COUNT_DOMAIN_TIMEOUT = 30000L;
+    public static final long DEFAULT_COUNT_CACHE_TIMEOUT = 30000L;
+    public static final long DEFAULT_INCREMENTAL_USER_COUNT_RESYNC_INTERVAL = 3600000L;
 
     /**
      * Get the available list of user store domains
@@ -236,4 +251,37 @@ public class UserStoreCountUtils {
         }
         return isEnabled;
     }
+
+    /**
+     * Whether the unfiltered user count of each domain is maintained incrementally from the user operations, instead
+     * of being counted in the user store on each request.
+     *
+     * @return true if the incremental user count is enabled.
+     */
+    public static boolean isIncrementalUserCountEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(INCREMENTAL_USER_COUNT_ENABLED));
+    }
+
+    /**
+     * Read a numeric count configuration from identity.xml.
+     *
+     * @param property     Property name.
+     * @param defaultValue Value to return if the property is not configured or is not a valid number.
+     * @return Configured value.
+     */
+    public static long getCountConfig(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for: " + property + ". Using the default value: "
+                    + defaultValue);
+            return defaultValue;
+        }
+    }
 }
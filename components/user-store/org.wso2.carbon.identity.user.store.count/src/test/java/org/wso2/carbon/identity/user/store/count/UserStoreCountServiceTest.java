@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
+import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDataHolder;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for counting the user store domains in parallel in {@link UserStoreCountService}.
+ */
+public class UserStoreCountServiceTest {
+
+    private static final long DOMAIN_TIMEOUT = 500L;
+
+    private CountDownLatch slowCountLatch;
+    private ThreadPoolExecutor countExecutor;
+    private UserStoreCountService userStoreCountService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                Paths.get(System.getProperty("user.dir"), "src", "test", "resources").toString());
+        slowCountLatch = new CountDownLatch(1);
+        userStoreCountService = new UserStoreCountService();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        slowCountLatch.countDown();
+        if (countExecutor != null) {
+            countExecutor.shutdownNow();
+            countExecutor = null;
+        }
+        UserStoreCountDataHolder.getInstance().setCountExecutor(null);
+    }
+
+    @Test
+    public void testCountDomainsReturnsPartialResultsWhenDomainTimesOut() {
+
+        setCountExecutor(3, 3);
+        Map<String, UserStoreCountService.CountQuery> countQueries = new LinkedHashMap<>();
+        countQueries.put("PRIMARY", () -> 10L);
+        countQueries.put("SLOW", this::getSlowCount);
+        countQueries.put("FAILING", () -> {
+            throw new UserStoreCounterException("Error while counting");
+        });
+        countQueries.put("SECONDARY", () -> 5L);
+
+        long startTime = System.currentTimeMillis();
+        Map<String, Long> counts = userStoreCountService.countDomains(countQueries,
+                startTime + DOMAIN_TIMEOUT, "user count");
+
+        assertEquals(counts.keySet().toArray(), new String[]{"PRIMARY", "SLOW", "FAILING", "SECONDARY"});
+        assertEquals(counts.get("PRIMARY"), Long.valueOf(10L));
+        assertNull(counts.get("SLOW"));
+        assertNull(counts.get("FAILING"));
+        assertEquals(counts.get("SECONDARY"), Long.valueOf(5L));
+        // The slow domain is only waited for until the deadline.
+        assertTrue(System.currentTimeMillis() - startTime < DOMAIN_TIMEOUT * 4);
+    }
+
+    @Test
+    public void testCountDomainsFailsCountsRejectedByExecutor() {
+
+        setCountExecutor(1, 1);
+        Map<String, UserStoreCountService.CountQuery> countQueries = new LinkedHashMap<>();
+        countQueries.put("SLOW", this::getSlowCount);
+        countQueries.put("QUEUED", () -> 10L);
+        countQueries.put("REJECTED", () -> 5L);
+
+        Map<String, Long> counts = userStoreCountService.countDomains(countQueries,
+                System.currentTimeMillis() + DOMAIN_TIMEOUT, "user count");
+
+        assertNull(counts.get("SLOW"));
+        assertNull(counts.get("QUEUED"));
+        assertNull(counts.get("REJECTED"));
+        // The slow count still holds the only thread of the executor after the deadline.
+        assertEquals(countExecutor.getActiveCount(), 1);
+    }
+
+    @Test
+    public void testCountDomainsWithoutExecutor() {
+
+        Map<String, UserStoreCountService.CountQuery> countQueries = new LinkedHashMap<>();
+        countQueries.put("PRIMARY", () -> 10L);
+        countQueries.put("SECONDARY", () -> 5L);
+
+        Map<String, Long> counts = userStoreCountService.countDomains(countQueries,
+                System.currentTimeMillis() + DOMAIN_TIMEOUT, "user count");
+
+        assertEquals(counts.get("PRIMARY"), Long.valueOf(10L));
+        assertEquals(counts.get("SECONDARY"), Long.valueOf(5L));
+    }
+
+    private void setCountExecutor(int poolSize, int queueSize) {
+
+        countExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize));
+        UserStoreCountDataHolder.getInstance().setCountExecutor(countExecutor);
+    }
+
+    private long getSlowCount() {
+
+        // A user store query is not stopped by the cancellation of the count, so the interrupts are ignored.
+        boolean isCompleted = false;
+        while (!isCompleted) {
+            try {
+                slowCountLatch.await();
+                isCompleted = true;
+            } catch (InterruptedException e) {
+                // Keep waiting until the test completes.
+            }
+        }
+        return 1L;
+    }
+}
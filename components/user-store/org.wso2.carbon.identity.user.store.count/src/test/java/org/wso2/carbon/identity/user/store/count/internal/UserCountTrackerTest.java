@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.internal;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link UserCountTracker}.
+ */
+public class UserCountTrackerTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String DOMAIN = "PRIMARY";
+    private static final long RESYNC_INTERVAL = 1000L;
+
+    private long currentTime;
+    private UserCountTracker userCountTracker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        currentTime = 10000L;
+        userCountTracker = new UserCountTracker() {
+
+            @Override
+            long currentTimeMillis() {
+
+                return currentTime;
+            }
+        };
+    }
+
+    @Test
+    public void testSeedCount() {
+
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), -1L);
+
+        UserCountTracker.PendingSeed pendingSeed = userCountTracker.startSeed(TENANT_ID, DOMAIN);
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), -1L);
+        assertEquals(userCountTracker.completeSeed(pendingSeed, 10L), 10L);
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), 10L);
+        assertEquals(userCountTracker.getCount(TENANT_ID, "primary", RESYNC_INTERVAL), 10L);
+    }
+
+    @Test
+    public void testUserAddedAndDeleted() {
+
+        // Users added or deleted before the total is seeded are not tracked.
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        userCountTracker.completeSeed(userCountTracker.startSeed(TENANT_ID, DOMAIN), 10L);
+
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        userCountTracker.userDeleted(TENANT_ID, DOMAIN);
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), 11L);
+
+        userCountTracker.userAdded(TENANT_ID, "SECONDARY");
+        assertEquals(userCountTracker.getCount(TENANT_ID, "SECONDARY", RESYNC_INTERVAL), -1L);
+    }
+
+    @Test
+    public void testUsersChangedWhileSeedingAreApplied() {
+
+        UserCountTracker.PendingSeed pendingSeed = userCountTracker.startSeed(TENANT_ID, DOMAIN);
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        userCountTracker.userDeleted(TENANT_ID, DOMAIN);
+
+        assertEquals(userCountTracker.completeSeed(pendingSeed, 10L), 11L);
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), 11L);
+    }
+
+    @Test
+    public void testConcurrentSeedsShareThePendingChange() {
+
+        UserCountTracker.PendingSeed firstSeed = userCountTracker.startSeed(TENANT_ID, DOMAIN);
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        UserCountTracker.PendingSeed secondSeed = userCountTracker.startSeed(TENANT_ID, DOMAIN);
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+
+        assertEquals(userCountTracker.completeSeed(firstSeed, 10L), 12L);
+        // The second seed completes after the total is seeded, so the seeded total is kept.
+        assertEquals(userCountTracker.completeSeed(secondSeed, 20L), 12L);
+    }
+
+    @Test
+    public void testAbortSeed() {
+
+        UserCountTracker.PendingSeed pendingSeed = userCountTracker.startSeed(TENANT_ID, DOMAIN);
+        userCountTracker.userAdded(TENANT_ID, DOMAIN);
+        userCountTracker.abortSeed(pendingSeed);
+
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), -1L);
+        pendingSeed = userCountTracker.startSeed(TENANT_ID, DOMAIN);
+        assertEquals(userCountTracker.completeSeed(pendingSeed, 10L), 10L);
+    }
+
+    @Test
+    public void testCountExpiresAfterResyncInterval() {
+
+        userCountTracker.completeSeed(userCountTracker.startSeed(TENANT_ID, DOMAIN), 10L);
+
+        currentTime += RESYNC_INTERVAL;
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), 10L);
+        currentTime += 1;
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), -1L);
+
+        // The total is seeded again from the user store once it has expired.
+        userCountTracker.completeSeed(userCountTracker.startSeed(TENANT_ID, DOMAIN), 15L);
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), 15L);
+    }
+
+    @Test
+    public void testClearTenant() {
+
+        userCountTracker.completeSeed(userCountTracker.startSeed(TENANT_ID, DOMAIN), 10L);
+        userCountTracker.completeSeed(userCountTracker.startSeed(11, DOMAIN), 20L);
+
+        userCountTracker.clear(TENANT_ID);
+
+        assertEquals(userCountTracker.getCount(TENANT_ID, DOMAIN, RESYNC_INTERVAL), -1L);
+        assertEquals(userCountTracker.getCount(11, DOMAIN, RESYNC_INTERVAL), 20L);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.internal;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link UserStoreCountCache}.
+ */
+public class UserStoreCountCacheTest {
+
+    private static final int TENANT_ID = 1;
+    private static final long TIMEOUT = 1000L;
+    private static final String USER_KEY = UserStoreCountCache.getKey(TENANT_ID, "users", null, "PRIMARY/*");
+    private static final String ROLE_KEY = UserStoreCountCache.getKey(TENANT_ID, "roles", null, "PRIMARY/*");
+    private static final String CLAIM_KEY = UserStoreCountCache.getKey(TENANT_ID, "users",
+            "http://wso2.org/claims/country", "PRIMARY/LK");
+
+    private long currentTime;
+    private UserStoreCountCache userStoreCountCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        currentTime = 10000L;
+        userStoreCountCache = new UserStoreCountCache(2) {
+
+            @Override
+            long currentTimeMillis() {
+
+                return currentTime;
+            }
+        };
+    }
+
+    @Test
+    public void testCountExpiresAfterTimeout() {
+
+        userStoreCountCache.addCount(USER_KEY, 10L, TIMEOUT);
+        assertEquals(userStoreCountCache.getCount(USER_KEY), Long.valueOf(10L));
+
+        currentTime += TIMEOUT - 1;
+        assertEquals(userStoreCountCache.getCount(USER_KEY), Long.valueOf(10L));
+        currentTime += 1;
+        assertNull(userStoreCountCache.getCount(USER_KEY));
+    }
+
+    @Test
+    public void testCacheSizeIsBounded() {
+
+        userStoreCountCache.addCount(USER_KEY, 10L, TIMEOUT);
+        userStoreCountCache.addCount(ROLE_KEY, 5L, TIMEOUT);
+        userStoreCountCache.addCount(CLAIM_KEY, 3L, TIMEOUT);
+        assertNull(userStoreCountCache.getCount(CLAIM_KEY));
+
+        // A cached count can be refreshed while the cache is full.
+        userStoreCountCache.addCount(USER_KEY, 11L, TIMEOUT);
+        assertEquals(userStoreCountCache.getCount(USER_KEY), Long.valueOf(11L));
+
+        // Expired counts are removed to make room for new counts.
+        currentTime += TIMEOUT;
+        userStoreCountCache.addCount(CLAIM_KEY, 3L, TIMEOUT);
+        assertEquals(userStoreCountCache.getCount(CLAIM_KEY), Long.valueOf(3L));
+    }
+
+    @Test
+    public void testClearTenant() {
+
+        String otherTenantKey = UserStoreCountCache.getKey(11, "users", null, "PRIMARY/*");
+        userStoreCountCache.addCount(USER_KEY, 10L, TIMEOUT);
+        userStoreCountCache.addCount(otherTenantKey, 20L, TIMEOUT);
+
+        userStoreCountCache.clear(TENANT_ID);
+
+        assertNull(userStoreCountCache.getCount(USER_KEY));
+        assertEquals(userStoreCountCache.getCount(otherTenantKey), Long.valueOf(20L));
+    }
+}
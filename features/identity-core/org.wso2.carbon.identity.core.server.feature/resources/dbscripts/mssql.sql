@@ -754,6 +754,22 @@ CREATE TABLE IDP_PROVISIONING_ENTITY (
   FOREIGN KEY (PROVISIONING_CONFIG_ID) REFERENCES IDP_PROVISIONING_CONFIG(ID) ON DELETE CASCADE
 );
 
+IF NOT  EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[IDP_PROVISIONING_OUTBOX]') AND TYPE IN (N'U'))
+CREATE TABLE IDP_PROVISIONING_OUTBOX (
+  ID VARCHAR(255) NOT NULL,
+  TENANT_ID INTEGER NOT NULL,
+  IDP_NAME VARCHAR(254) NOT NULL,
+  CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+  ENTITY_TENANT_DOMAIN VARCHAR(255),
+  ENTITY_TYPE VARCHAR(255) NOT NULL,
+  ENTITY_NAME VARCHAR(255) NOT NULL,
+  ENTITY VARBINARY(MAX) NOT NULL,
+  ATTEMPTS INTEGER DEFAULT 0,
+  NEXT_ATTEMPT_TIME BIGINT NOT NULL,
+  TIME_CREATED BIGINT NOT NULL,
+  PRIMARY KEY (ID)
+);
+
 IF NOT  EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[IDP_LOCAL_CLAIM]') AND TYPE IN (N'U'))
 CREATE TABLE IDP_LOCAL_CLAIM (
   ID INTEGER IDENTITY,
@@ -1593,6 +1609,10 @@ CREATE INDEX IDX_IDN_AUTH_SESSION_TIME ON IDN_AUTH_SESSION_STORE (TIME_CREATED);
 CREATE INDEX IDX_IDN_AUTH_SSTR_ST_OP_ID_TM ON IDN_AUTH_SESSION_STORE (OPERATION, SESSION_TYPE, SESSION_ID, TIME_CREATED);
 CREATE INDEX IDX_IDN_AUTH_SSTR_ET_ID ON IDN_AUTH_SESSION_STORE (EXPIRY_TIME, SESSION_ID);
 
+-- IDP_PROVISIONING_OUTBOX --
+CREATE INDEX IDX_IDP_PRO_OUTBOX_NAT ON IDP_PROVISIONING_OUTBOX (NEXT_ATTEMPT_TIME);
+CREATE INDEX IDX_IDP_PRO_OUTBOX_ENT ON IDP_PROVISIONING_OUTBOX (TENANT_ID, IDP_NAME, ENTITY_TYPE, ENTITY_NAME);
+
 -- IDN_AUTH_TEMP_SESSION_STORE --
 CREATE INDEX IDX_IDN_AUTH_TMP_SESSION_TIME ON IDN_AUTH_TEMP_SESSION_STORE (TIME_CREATED);
 
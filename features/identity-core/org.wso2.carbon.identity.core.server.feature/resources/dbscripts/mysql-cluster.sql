@@ -799,6 +799,22 @@ CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_ENTITY (
 )
   ENGINE NDB;
 
+CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_OUTBOX (
+  ID                   VARCHAR(255) NOT NULL,
+  TENANT_ID            INTEGER      NOT NULL,
+  IDP_NAME             VARCHAR(254) NOT NULL,
+  CONNECTOR_TYPE       VARCHAR(255) NOT NULL,
+  ENTITY_TENANT_DOMAIN VARCHAR(255),
+  ENTITY_TYPE          VARCHAR(255) NOT NULL,
+  ENTITY_NAME          VARCHAR(255) NOT NULL,
+  ENTITY               BLOB         NOT NULL,
+  ATTEMPTS             INTEGER DEFAULT 0,
+  NEXT_ATTEMPT_TIME    BIGINT       NOT NULL,
+  TIME_CREATED         BIGINT       NOT NULL,
+  PRIMARY KEY (ID)
+)
+  ENGINE NDB;
+
 CREATE TABLE IF NOT EXISTS IDP_LOCAL_CLAIM (
   ID            INTEGER      AUTO_INCREMENT,
   TENANT_ID     INTEGER,
@@ -1621,6 +1637,12 @@ CREATE INDEX IDX_IDN_AUTH_SSTR_ST_OP_ID_TM
 CREATE INDEX IDX_IDN_AUTH_SSTR_ET_ID
   ON IDN_AUTH_SESSION_STORE (EXPIRY_TIME, SESSION_ID);
 
+CREATE INDEX IDX_IDP_PRO_OUTBOX_NAT
+  ON IDP_PROVISIONING_OUTBOX (NEXT_ATTEMPT_TIME);
+
+CREATE INDEX IDX_IDP_PRO_OUTBOX_ENT
+  ON IDP_PROVISIONING_OUTBOX (TENANT_ID, IDP_NAME, ENTITY_TYPE, ENTITY_NAME);
+
 -- IDN_AUTH_TEMP_SESSION_STORE --
 CREATE INDEX IDX_IDN_AUTH_TMP_SESSION_TIME
   ON IDN_AUTH_TEMP_SESSION_STORE (TIME_CREATED);